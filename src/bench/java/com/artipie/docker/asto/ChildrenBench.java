@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extraction of repository names from listing of repositories root,
+ * as catalog is built from storage keys.
+ * Every repository contributes several keys, like storage listing returns them.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ChildrenBench {
+
+    /**
+     * Number of listed keys.
+     */
+    @Param({"10000", "100000", "1000000"})
+    public int keys;
+
+    /**
+     * Repositories root.
+     */
+    private Key root;
+
+    /**
+     * Listed keys.
+     */
+    private Collection<Key> listed;
+
+    /**
+     * Create keys.
+     */
+    @Setup
+    public void setup() {
+        this.root = new Key.From("repositories");
+        final List<Key> all = new ArrayList<>(this.keys);
+        for (int idx = 0; idx < this.keys; idx += 1) {
+            all.add(
+                new Key.From(
+                    this.root,
+                    "library",
+                    String.format("repo-%06d", idx / 4),
+                    "_manifests",
+                    "tags",
+                    String.format("tag-%d", idx % 4),
+                    "current",
+                    "link"
+                )
+            );
+        }
+        Collections.shuffle(all, new Random(0));
+        this.listed = all;
+    }
+
+    /**
+     * Extract child names.
+     *
+     * @return Number of names.
+     */
+    @Benchmark
+    public int names() {
+        return new Children(this.root, this.listed).names().size();
+    }
+}
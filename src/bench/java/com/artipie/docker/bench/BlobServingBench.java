@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Storage;
+import com.artipie.asto.fs.FileStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.MappedFileStorage;
+import com.artipie.docker.asto.TrustedBlobSource;
+import com.artipie.docker.http.DockerSlice;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Large layer read through {@link DockerSlice} from file storage
+ * and from memory-mapped file storage.
+ * Response body is copied to direct buffer, so benchmark measures reading blob
+ * from storage by the slice, not serving it over HTTP: Vert.x server copies every
+ * chunk to heap array, that cost is the same for both storages and is not included.
+ * Run with {@code -prof gc} to compare allocation rate and GC counts.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BlobServingBench {
+
+    /**
+     * Size of buffer response body is copied to.
+     */
+    private static final int SINK = 64 * 1024;
+
+    /**
+     * Storage kind.
+     */
+    @Param({"file", "mapped"})
+    public String storage;
+
+    /**
+     * Layer size in megabytes.
+     */
+    @Param("64")
+    public int size;
+
+    /**
+     * Storage directory.
+     */
+    private Path dir;
+
+    /**
+     * Docker slice.
+     */
+    private Slice slice;
+
+    /**
+     * Request line of layer download.
+     */
+    private String line;
+
+    /**
+     * Direct buffer response body is copied to.
+     */
+    private ByteBuffer sink;
+
+    /**
+     * Store layer.
+     *
+     * @throws IOException On failure.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.dir = Files.createTempDirectory("bench");
+        final Storage asto;
+        if ("mapped".equals(this.storage)) {
+            asto = new MappedFileStorage(this.dir);
+        } else {
+            asto = new FileStorage(this.dir);
+        }
+        final byte[] data = new byte[this.size * 1024 * 1024];
+        new Random(0).nextBytes(data);
+        final Digest digest = new Digest.Sha256(data);
+        final RepoName name = new RepoName.Simple("bench");
+        final AstoDocker docker = new AstoDocker(asto);
+        docker.repo(name).layers()
+            .put(new TrustedBlobSource(new Content.From(data), digest))
+            .toCompletableFuture().join();
+        this.slice = new DockerSlice(docker);
+        this.sink = ByteBuffer.allocateDirect(BlobServingBench.SINK);
+        this.line = new RequestLine(
+            RqMethod.GET, String.format("/v2/%s/blobs/%s", name.value(), digest.string())
+        ).toString();
+    }
+
+    /**
+     * Remove storage directory.
+     *
+     * @throws IOException On failure.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.dir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(f -> f.delete());
+        }
+    }
+
+    /**
+     * Read layer copying it to direct buffer.
+     *
+     * @return Number of received bytes.
+     */
+    @Benchmark
+    public long download() {
+        final AtomicLong received = new AtomicLong();
+        this.slice.response(this.line, Headers.EMPTY, Flowable.empty()).send(
+            (status, headers, body) -> Flowable.fromPublisher(body)
+                .doOnNext(buf -> received.addAndGet(this.send(buf)))
+                .ignoreElements()
+                .to(CompletableInterop.await())
+        ).toCompletableFuture().join();
+        return received.get();
+    }
+
+    /**
+     * Copy buffer to sink.
+     *
+     * @param buf Buffer to send.
+     * @return Number of sent bytes.
+     */
+    private int send(final ByteBuffer buf) {
+        final ByteBuffer src = buf.duplicate();
+        final int len = src.remaining();
+        while (src.hasRemaining()) {
+            this.sink.clear();
+            final ByteBuffer part = src.slice();
+            part.limit(Math.min(part.remaining(), this.sink.remaining()));
+            this.sink.put(part);
+            src.position(src.position() + part.limit());
+        }
+        return len;
+    }
+}
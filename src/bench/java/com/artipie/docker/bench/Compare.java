@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * Comparison of two JMH JSON result files, e.g. of benchmarks run on two commits.
+ * Prints every benchmark present in both files, with its parameters,
+ * baseline and current scores with errors and relative change of score.
+ * Change is marked significant when error intervals of scores do not overlap.
+ *
+ * @since 0.17
+ */
+public final class Compare {
+
+    /**
+     * Baseline results.
+     */
+    private final Map<String, JsonObject> baseline;
+
+    /**
+     * Current results.
+     */
+    private final Map<String, JsonObject> current;
+
+    /**
+     * Ctor.
+     *
+     * @param baseline Baseline results.
+     * @param current Current results.
+     */
+    public Compare(final JsonArray baseline, final JsonArray current) {
+        this.baseline = Compare.byName(baseline);
+        this.current = Compare.byName(current);
+    }
+
+    /**
+     * Print comparison.
+     *
+     * @param out Output.
+     */
+    public void print(final PrintStream out) {
+        out.printf(
+            "%-70s %14s %14s %8s%n", "Benchmark", "Baseline", "Current", "Change"
+        );
+        for (final Map.Entry<String, JsonObject> entry : this.current.entrySet()) {
+            final JsonObject before = this.baseline.get(entry.getKey());
+            if (before != null) {
+                final JsonObject was = before.getJsonObject("primaryMetric");
+                final JsonObject now = entry.getValue().getJsonObject("primaryMetric");
+                final double score = now.getJsonNumber("score").doubleValue();
+                final double base = was.getJsonNumber("score").doubleValue();
+                final double error = Compare.error(now);
+                final double berror = Compare.error(was);
+                final String mark;
+                if (score - error > base + berror || score + error < base - berror) {
+                    mark = "*";
+                } else {
+                    mark = "";
+                }
+                out.printf(
+                    "%-70s %14.3f %14.3f %+7.1f%%%s %s%n",
+                    entry.getKey(), base, score, (score - base) * 100 / base,
+                    mark, now.getString("scoreUnit")
+                );
+            }
+        }
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args Paths of baseline and current JMH JSON result files.
+     * @throws IOException If files can not be read.
+     */
+    public static void main(final String... args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: Compare baseline.json current.json");
+        }
+        new Compare(Compare.read(args[0]), Compare.read(args[1])).print(System.out);
+    }
+
+    /**
+     * Read JMH JSON results.
+     *
+     * @param path File path.
+     * @return Results array.
+     * @throws IOException If file can not be read.
+     */
+    private static JsonArray read(final String path) throws IOException {
+        try (
+            Reader input = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8);
+            JsonReader reader = Json.createReader(input)
+        ) {
+            return reader.readArray();
+        }
+    }
+
+    /**
+     * Index results by benchmark name and parameters.
+     *
+     * @param results Results array.
+     * @return Results by name in alphabetical order.
+     */
+    private static Map<String, JsonObject> byName(final JsonArray results) {
+        final Map<String, JsonObject> map = new TreeMap<>();
+        for (final JsonValue value : results) {
+            final JsonObject result = value.asJsonObject();
+            final String name = result.getString("benchmark");
+            final StringBuilder key = new StringBuilder(
+                name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1)
+            );
+            final Map<String, String> params = new LinkedHashMap<>();
+            if (result.containsKey("params")) {
+                final JsonObject obj = result.getJsonObject("params");
+                for (final String param : obj.keySet()) {
+                    params.put(param, obj.getString(param));
+                }
+            }
+            if (!params.isEmpty()) {
+                key.append(params);
+            }
+            map.put(key.toString(), result);
+        }
+        return map;
+    }
+
+    /**
+     * Score error, zero if JMH could not estimate it.
+     *
+     * @param metric Primary metric.
+     * @return Score error.
+     */
+    private static double error(final JsonObject metric) {
+        final double error;
+        if (metric.get("scoreError").getValueType() == JsonValue.ValueType.NUMBER) {
+            error = metric.getJsonNumber("scoreError").doubleValue();
+        } else {
+            error = 0;
+        }
+        return error;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Tag;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.TrustedBlobSource;
+import com.artipie.docker.http.DockerSlice;
+import com.artipie.docker.ref.ManifestRef;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serving Docker API requests by {@link DockerSlice} from in-memory storage,
+ * from routing to the last byte of response body.
+ * Measures cost of request handling itself, without network and disk.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DockerSliceBench {
+
+    /**
+     * Repository name.
+     */
+    private static final String NAME = "library/bench";
+
+    /**
+     * Layer size in kilobytes.
+     */
+    @Param("64")
+    public int kilobytes;
+
+    /**
+     * Docker slice.
+     */
+    private Slice slice;
+
+    /**
+     * Layer content.
+     */
+    private byte[] layer;
+
+    /**
+     * Layer digest.
+     */
+    private Digest digest;
+
+    /**
+     * Manifest accept header.
+     */
+    private Headers accept;
+
+    /**
+     * Push image.
+     */
+    @Setup
+    public void setup() {
+        final AstoDocker docker = new AstoDocker(new InMemoryStorage());
+        final Repo repo = docker.repo(new RepoName.Simple(DockerSliceBench.NAME));
+        this.layer = new byte[this.kilobytes * 1024];
+        new Random(0).nextBytes(this.layer);
+        this.digest = new Digest.Sha256(this.layer);
+        final byte[] config = "{}".getBytes(StandardCharsets.UTF_8);
+        repo.layers().put(new TrustedBlobSource(this.layer)).toCompletableFuture().join();
+        repo.layers().put(new TrustedBlobSource(config)).toCompletableFuture().join();
+        final String type = "application/vnd.docker.distribution.manifest.v2+json";
+        repo.manifests().put(
+            new ManifestRef.FromTag(new Tag.Valid("latest")),
+            new Content.From(
+                Json.createObjectBuilder()
+                    .add("schemaVersion", 2)
+                    .add("mediaType", type)
+                    .add(
+                        "config",
+                        Json.createObjectBuilder()
+                            .add("size", config.length)
+                            .add("digest", new Digest.Sha256(config).string())
+                    )
+                    .add(
+                        "layers",
+                        Json.createArrayBuilder().add(
+                            Json.createObjectBuilder()
+                                .add("size", this.layer.length)
+                                .add("digest", this.digest.string())
+                        )
+                    )
+                    .build().toString().getBytes(StandardCharsets.UTF_8)
+            )
+        ).toCompletableFuture().join();
+        this.slice = new DockerSlice(docker);
+        this.accept = new Headers.From(new Header("Accept", type));
+    }
+
+    /**
+     * Get manifest by tag.
+     *
+     * @return Response body size.
+     */
+    @Benchmark
+    public long manifest() {
+        return this.serve(
+            RqMethod.GET,
+            String.format("/v2/%s/manifests/latest", DockerSliceBench.NAME),
+            this.accept,
+            Flowable.empty()
+        );
+    }
+
+    /**
+     * Check blob exists.
+     *
+     * @return Response body size.
+     */
+    @Benchmark
+    public long head() {
+        return this.serve(
+            RqMethod.HEAD,
+            String.format("/v2/%s/blobs/%s", DockerSliceBench.NAME, this.digest.string()),
+            Headers.EMPTY,
+            Flowable.empty()
+        );
+    }
+
+    /**
+     * Download blob.
+     *
+     * @return Response body size.
+     */
+    @Benchmark
+    public long blob() {
+        return this.serve(
+            RqMethod.GET,
+            String.format("/v2/%s/blobs/%s", DockerSliceBench.NAME, this.digest.string()),
+            Headers.EMPTY,
+            Flowable.empty()
+        );
+    }
+
+    /**
+     * List tags.
+     *
+     * @return Response body size.
+     */
+    @Benchmark
+    public long tags() {
+        return this.serve(
+            RqMethod.GET,
+            String.format("/v2/%s/tags/list", DockerSliceBench.NAME),
+            Headers.EMPTY,
+            Flowable.empty()
+        );
+    }
+
+    /**
+     * Upload layer in one chunk: start upload, send chunk and commit it.
+     *
+     * @return Response body size.
+     */
+    @Benchmark
+    public long upload() {
+        final AtomicReference<String> location = new AtomicReference<>();
+        this.slice.response(
+            new RequestLine(
+                RqMethod.POST, String.format("/v2/%s/blobs/uploads/", DockerSliceBench.NAME)
+            ).toString(),
+            Headers.EMPTY,
+            Flowable.empty()
+        ).send(
+            (status, headers, body) -> {
+                for (final Map.Entry<String, String> header : headers) {
+                    if ("Location".equalsIgnoreCase(header.getKey())) {
+                        location.set(header.getValue());
+                    }
+                }
+                return Flowable.fromPublisher(body).ignoreElements()
+                    .to(CompletableInterop.await());
+            }
+        ).toCompletableFuture().join();
+        this.serve(
+            RqMethod.PATCH,
+            location.get(),
+            Headers.EMPTY,
+            Flowable.just(ByteBuffer.wrap(this.layer))
+        );
+        return this.serve(
+            RqMethod.PUT,
+            String.format("%s?digest=%s", location.get(), this.digest.string()),
+            Headers.EMPTY,
+            Flowable.empty()
+        );
+    }
+
+    /**
+     * Serve request and read response body.
+     *
+     * @param method Request method.
+     * @param path Request path.
+     * @param headers Request headers.
+     * @param body Request body.
+     * @return Response body size.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private long serve(final RqMethod method, final String path, final Headers headers,
+        final Flowable<ByteBuffer> body) {
+        final AtomicLong size = new AtomicLong();
+        this.slice.response(new RequestLine(method, path).toString(), headers, body).send(
+            (status, rsheaders, rsbody) -> {
+                if (status.code().charAt(0) != '2') {
+                    throw new IllegalStateException(
+                        String.format("%s %s: %s", method, path, status)
+                    );
+                }
+                return Flowable.fromPublisher(rsbody)
+                    .doOnNext(buf -> size.addAndGet(buf.remaining()))
+                    .ignoreElements()
+                    .to(CompletableInterop.await());
+            }
+        ).toCompletableFuture().join();
+        return size.get();
+    }
+}
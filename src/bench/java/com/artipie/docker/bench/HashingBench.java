@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.docker.misc.DigestedFlowable;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hashing of layer content passing through {@link DigestedFlowable},
+ * as blob is checked against its digest on upload.
+ * Content is emitted in chunks of request body size.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HashingBench {
+
+    /**
+     * Content size in megabytes.
+     */
+    @Param({"1", "16"})
+    public int size;
+
+    /**
+     * Chunk size in bytes.
+     */
+    @Param({"8192", "65536"})
+    public int chunk;
+
+    /**
+     * Content chunks.
+     */
+    private ByteBuffer[] chunks;
+
+    /**
+     * Create content.
+     */
+    @Setup
+    public void setup() {
+        final byte[] data = new byte[this.size * 1024 * 1024];
+        new Random(0).nextBytes(data);
+        this.chunks = new ByteBuffer[data.length / this.chunk];
+        for (int idx = 0; idx < this.chunks.length; idx += 1) {
+            this.chunks[idx] = ByteBuffer.wrap(data, idx * this.chunk, this.chunk).slice();
+        }
+    }
+
+    /**
+     * Hash content.
+     *
+     * @return Digest hex.
+     */
+    @Benchmark
+    public String digest() {
+        final DigestedFlowable digested = new DigestedFlowable(
+            Flowable.fromArray(this.chunks).map(ByteBuffer::duplicate)
+        );
+        digested.blockingSubscribe();
+        return digested.digest().hex();
+    }
+}
@@ -0,0 +1,618 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.http.DockerSlice;
+import com.artipie.vertx.VertxSliceServer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.reactivex.core.Vertx;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+/**
+ * Load generator pushing and pulling images through Docker Registry HTTP API
+ * served by {@link DockerSlice} on {@link VertxSliceServer} over in-memory storage,
+ * all in one JVM over loopback, clients use Vert.x HTTP client.
+ * Every client pushes images to its own repository, uploading layers
+ * in chunks the way Docker client does, then pulls every pushed image back.
+ * Layer sizes follow distribution of real image layers: most layers are small,
+ * few large layers hold most of the bytes.
+ * Reports throughput, latency percentiles by endpoint, heap usage, GC and
+ * allocated bytes, allocation is counted for threads alive at the end of the run.
+ * Run with:
+ * {@code mvn -Pbench test-compile exec:exec -Dbench.main=com.artipie.docker.bench.LoadGenerator
+ * -Dbench.args= -Dbench="clients=8 images=4 layers=5 chunk=1048576 scale=1"}.
+ *
+ * @since 0.17
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class LoadGenerator {
+
+    /**
+     * Layer size buckets in bytes, lower and upper bounds.
+     */
+    private static final long[][] SIZES = {
+        {1024, 64 * 1024},
+        {64 * 1024, 2 * 1024 * 1024},
+        {2 * 1024 * 1024, 16 * 1024 * 1024},
+        {16 * 1024 * 1024, 64 * 1024 * 1024},
+    };
+
+    /**
+     * Cumulative probability of layer size buckets, in percents.
+     */
+    private static final int[] WEIGHTS = {30, 70, 95, 100};
+
+    /**
+     * Manifest media type.
+     */
+    private static final String MANIFEST =
+        "application/vnd.docker.distribution.manifest.v2+json";
+
+    /**
+     * Number of concurrent clients.
+     */
+    private final int clients;
+
+    /**
+     * Images pushed and pulled by every client.
+     */
+    private final int images;
+
+    /**
+     * Layers in every image.
+     */
+    private final int layers;
+
+    /**
+     * Upload chunk size in bytes.
+     */
+    private final int chunk;
+
+    /**
+     * Layer size scale factor.
+     */
+    private final double scale;
+
+    /**
+     * Latencies in nanoseconds by endpoint.
+     */
+    private final ConcurrentMap<String, Latencies> latencies;
+
+    /**
+     * Ctor.
+     *
+     * @param clients Number of concurrent clients.
+     * @param images Images pushed and pulled by every client.
+     * @param layers Layers in every image.
+     * @param chunk Upload chunk size in bytes.
+     * @param scale Layer size scale factor.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public LoadGenerator(final int clients, final int images, final int layers,
+        final int chunk, final double scale) {
+        this.clients = clients;
+        this.images = images;
+        this.layers = layers;
+        this.chunk = chunk;
+        this.scale = scale;
+        this.latencies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args Options as {@code name=value}: clients, images, layers, chunk and scale.
+     * @throws Exception If load run failed.
+     */
+    public static void main(final String... args) throws Exception {
+        final Map<String, String> opts = new HashMap<>();
+        for (final String arg : args) {
+            final String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException(String.format("Bad option: %s", arg));
+            }
+            opts.put(pair[0], pair[1]);
+        }
+        new LoadGenerator(
+            Integer.parseInt(opts.getOrDefault("clients", "8")),
+            Integer.parseInt(opts.getOrDefault("images", "4")),
+            Integer.parseInt(opts.getOrDefault("layers", "5")),
+            Integer.parseInt(opts.getOrDefault("chunk", "1048576")),
+            Double.parseDouble(opts.getOrDefault("scale", "0.25"))
+        ).run(System.out);
+    }
+
+    /**
+     * Start registry, run clients and print report.
+     *
+     * @param out Report output.
+     * @throws Exception If load run failed.
+     */
+    public void run(final PrintStream out) throws Exception {
+        final Vertx vertx = Vertx.vertx();
+        final VertxSliceServer server = new VertxSliceServer(
+            vertx, new DockerSlice(new AstoDocker(new InMemoryStorage()))
+        );
+        final HttpClient http = vertx.getDelegate().createHttpClient(
+            new HttpClientOptions().setMaxPoolSize(this.clients)
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(this.clients);
+        try {
+            final int port = server.start();
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            final Map<Long, Long> allocated = LoadGenerator.allocated(threads);
+            final long[] gcs = LoadGenerator.gc();
+            final long start = System.nanoTime();
+            final List<Future<Long>> results = new ArrayList<>(this.clients);
+            for (int idx = 0; idx < this.clients; idx += 1) {
+                final Client client = new Client(
+                    http, port, String.format("load/client-%d", idx), idx
+                );
+                results.add(pool.submit(client::call));
+            }
+            long bytes = 0;
+            for (final Future<Long> result : results) {
+                bytes += result.get();
+            }
+            final long elapsed = System.nanoTime() - start;
+            final long[] gcafter = LoadGenerator.gc();
+            long alloc = 0;
+            for (final Map.Entry<Long, Long> entry : LoadGenerator.allocated(threads).entrySet()) {
+                alloc += entry.getValue() - allocated.getOrDefault(entry.getKey(), 0L);
+            }
+            this.report(out, elapsed, bytes);
+            out.printf(
+                "heap used: %d MB, allocated: %d MB, GC: %d collections, %d ms%n",
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() >> 20,
+                alloc >> 20, gcafter[0] - gcs[0], gcafter[1] - gcs[1]
+            );
+        } finally {
+            pool.shutdownNow();
+            http.close();
+            server.stop();
+            vertx.close();
+        }
+    }
+
+    /**
+     * Print throughput and latencies.
+     *
+     * @param out Output.
+     * @param elapsed Run time in nanoseconds.
+     * @param bytes Bytes pushed and pulled.
+     */
+    private void report(final PrintStream out, final long elapsed, final long bytes) {
+        final double seconds = elapsed / 1e9;
+        long requests = 0;
+        for (final Latencies lat : this.latencies.values()) {
+            requests += lat.count();
+        }
+        out.printf(
+            "%d clients, %d images of %d layers each: %.1f s, %.1f requests/s, %.1f MB/s%n",
+            this.clients, this.images, this.layers, seconds,
+            requests / seconds, bytes / seconds / (1 << 20)
+        );
+        out.printf("%-14s %8s %10s %10s %10s%n", "Endpoint", "Count", "p50 ms", "p99 ms", "max ms");
+        for (final Map.Entry<String, Latencies> entry : new TreeMap<>(this.latencies).entrySet()) {
+            final Latencies lat = entry.getValue();
+            out.printf(
+                "%-14s %8d %10.2f %10.2f %10.2f%n",
+                entry.getKey(), lat.count(),
+                lat.percentile(50) / 1e6, lat.percentile(99) / 1e6, lat.percentile(100) / 1e6
+            );
+        }
+    }
+
+    /**
+     * Allocated bytes by live thread.
+     *
+     * @param threads Thread MX bean.
+     * @return Allocated bytes by thread ID.
+     */
+    private static Map<Long, Long> allocated(final ThreadMXBean threads) {
+        final Map<Long, Long> result = new HashMap<>();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final long[] ids = threads.getAllThreadIds();
+            final long[] bytes = ((com.sun.management.ThreadMXBean) threads)
+                .getThreadAllocatedBytes(ids);
+            for (int idx = 0; idx < ids.length; idx += 1) {
+                if (bytes[idx] >= 0) {
+                    result.put(ids[idx], bytes[idx]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Garbage collections count and time.
+     *
+     * @return Collections count and time in milliseconds.
+     */
+    private static long[] gc() {
+        final long[] result = new long[2];
+        for (final GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result[0] += Math.max(bean.getCollectionCount(), 0);
+            result[1] += Math.max(bean.getCollectionTime(), 0);
+        }
+        return result;
+    }
+
+    /**
+     * Client pushing and pulling images.
+     *
+     * @since 0.17
+     */
+    private final class Client {
+
+        /**
+         * HTTP client.
+         */
+        private final HttpClient http;
+
+        /**
+         * Registry port.
+         */
+        private final int port;
+
+        /**
+         * Repository name.
+         */
+        private final String repo;
+
+        /**
+         * Random layer sizes and contents.
+         */
+        private final Random random;
+
+        /**
+         * Ctor.
+         *
+         * @param http HTTP client.
+         * @param port Registry port.
+         * @param repo Repository name.
+         * @param seed Random seed.
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Client(final HttpClient http, final int port, final String repo, final long seed) {
+            this.http = http;
+            this.port = port;
+            this.repo = repo;
+            this.random = new Random(seed);
+        }
+
+        /**
+         * Push all images, then pull them.
+         *
+         * @return Bytes pushed and pulled.
+         * @throws IOException On failure.
+         */
+        long call() throws IOException {
+            long bytes = 0;
+            for (int img = 0; img < LoadGenerator.this.images; img += 1) {
+                bytes += this.push(String.format("v%d", img));
+            }
+            for (int img = 0; img < LoadGenerator.this.images; img += 1) {
+                bytes += this.pull(String.format("v%d", img));
+            }
+            return bytes;
+        }
+
+        /**
+         * Push image: upload layers and config, put manifest.
+         *
+         * @param tag Image tag.
+         * @return Bytes pushed.
+         * @throws IOException On failure.
+         */
+        private long push(final String tag) throws IOException {
+            long bytes = 0;
+            final JsonArrayBuilder refs = Json.createArrayBuilder();
+            for (int idx = 0; idx < LoadGenerator.this.layers; idx += 1) {
+                final byte[] layer = this.layer();
+                final Digest digest = new Digest.Sha256(layer);
+                this.upload(layer, digest);
+                refs.add(
+                    Json.createObjectBuilder()
+                        .add("mediaType", "application/vnd.docker.image.rootfs.diff.tar.gzip")
+                        .add("size", layer.length)
+                        .add("digest", digest.string())
+                );
+                bytes += layer.length;
+            }
+            final byte[] config = String.format(
+                "{\"architecture\":\"amd64\",\"os\":\"linux\",\"tag\":\"%s\",\"seed\":%d}",
+                tag, this.random.nextLong()
+            ).getBytes(StandardCharsets.UTF_8);
+            final Digest cfg = new Digest.Sha256(config);
+            this.upload(config, cfg);
+            final byte[] manifest = Json.createObjectBuilder()
+                .add("schemaVersion", 2)
+                .add("mediaType", LoadGenerator.MANIFEST)
+                .add(
+                    "config",
+                    Json.createObjectBuilder()
+                        .add("mediaType", "application/vnd.docker.container.image.v1+json")
+                        .add("size", config.length)
+                        .add("digest", cfg.string())
+                )
+                .add("layers", refs)
+                .build().toString().getBytes(StandardCharsets.UTF_8);
+            this.request(
+                "PUT manifest", "PUT",
+                String.format("/v2/%s/manifests/%s", this.repo, tag),
+                LoadGenerator.MANIFEST, manifest, 0, manifest.length
+            );
+            return bytes + config.length + manifest.length;
+        }
+
+        /**
+         * Pull image: get manifest, check and download every blob it references.
+         *
+         * @param tag Image tag.
+         * @return Bytes pulled.
+         * @throws IOException On failure.
+         */
+        private long pull(final String tag) throws IOException {
+            final Reply manifest = this.request(
+                "GET manifest", "GET",
+                String.format("/v2/%s/manifests/%s", this.repo, tag),
+                LoadGenerator.MANIFEST, new byte[0], 0, 0
+            );
+            long bytes = manifest.body.length;
+            final JsonObject json = Json.createReader(
+                new ByteArrayInputStream(manifest.body)
+            ).readObject();
+            final List<String> digests = new ArrayList<>(LoadGenerator.this.layers + 1);
+            digests.add(json.getJsonObject("config").getString("digest"));
+            json.getJsonArray("layers").getValuesAs(JsonObject.class).forEach(
+                layer -> digests.add(layer.getString("digest"))
+            );
+            for (final String digest : digests) {
+                final String path = String.format("/v2/%s/blobs/%s", this.repo, digest);
+                this.request("HEAD blob", "HEAD", path, null, new byte[0], 0, 0);
+                bytes += this.request("GET blob", "GET", path, null, new byte[0], 0, 0)
+                    .body.length;
+            }
+            return bytes;
+        }
+
+        /**
+         * Upload blob in chunks.
+         *
+         * @param blob Blob content.
+         * @param digest Blob digest.
+         * @throws IOException On failure.
+         */
+        private void upload(final byte[] blob, final Digest digest) throws IOException {
+            String location = this.request(
+                "POST upload", "POST", String.format("/v2/%s/blobs/uploads/", this.repo),
+                null, new byte[0], 0, 0
+            ).location;
+            for (int off = 0; off < blob.length; off += LoadGenerator.this.chunk) {
+                location = this.request(
+                    "PATCH upload", "PATCH", location, "application/octet-stream",
+                    blob, off, Math.min(LoadGenerator.this.chunk, blob.length - off)
+                ).location;
+            }
+            this.request(
+                "PUT upload", "PUT",
+                String.format("%s?digest=%s", location, digest.string()),
+                null, new byte[0], 0, 0
+            );
+        }
+
+        /**
+         * Random layer of size drawn from layer sizes distribution.
+         *
+         * @return Layer content.
+         */
+        private byte[] layer() {
+            final int pick = this.random.nextInt(100);
+            int bucket = 0;
+            while (LoadGenerator.WEIGHTS[bucket] <= pick) {
+                bucket += 1;
+            }
+            final long low = LoadGenerator.SIZES[bucket][0];
+            final long high = LoadGenerator.SIZES[bucket][1];
+            final double size = low + this.random.nextDouble() * (high - low);
+            final byte[] layer = new byte[(int) Math.max(1, size * LoadGenerator.this.scale)];
+            this.random.nextBytes(layer);
+            return layer;
+        }
+
+        /**
+         * Send request, read whole response and record its latency.
+         * Response handler API is deprecated in Vert.x 3.9 without replacement until 4.0.
+         *
+         * @param endpoint Endpoint name for report.
+         * @param method Method.
+         * @param path Path with query.
+         * @param type Content type for body, accepted type for GET, may be null.
+         * @param body Body buffer.
+         * @param off Body offset.
+         * @param len Body length.
+         * @return Reply.
+         * @throws IOException On failure or unexpected status.
+         * @checkstyle ParameterNumberCheck (4 lines)
+         */
+        @SuppressWarnings("deprecation")
+        private Reply request(final String endpoint, final String method, final String path,
+            final String type, final byte[] body, final int off, final int len)
+            throws IOException {
+            final long start = System.nanoTime();
+            final CompletableFuture<Reply> future = new CompletableFuture<>();
+            final HttpClientRequest req = this.http.request(
+                HttpMethod.valueOf(method), this.port, "localhost", path,
+                rsp -> {
+                    rsp.exceptionHandler(future::completeExceptionally);
+                    rsp.bodyHandler(
+                        buf -> {
+                            if (rsp.statusCode() >= 400) {
+                                future.completeExceptionally(
+                                    new IOException(
+                                        String.format(
+                                            "%s %s: %d %s",
+                                            method, path, rsp.statusCode(), buf.toString()
+                                        )
+                                    )
+                                );
+                            } else {
+                                future.complete(
+                                    new Reply(rsp.getHeader("Location"), buf.getBytes())
+                                );
+                            }
+                        }
+                    );
+                }
+            );
+            req.exceptionHandler(future::completeExceptionally);
+            if (type != null) {
+                if ("GET".equals(method)) {
+                    req.putHeader("Accept", type);
+                } else {
+                    req.putHeader("Content-Type", type);
+                }
+            }
+            if ("PATCH".equals(method)) {
+                req.setChunked(true);
+            }
+            req.end(Buffer.buffer(len).appendBytes(body, off, len));
+            final Reply reply;
+            try {
+                reply = future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            } catch (final ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+            LoadGenerator.this.latencies.computeIfAbsent(endpoint, key -> new Latencies())
+                .add(System.nanoTime() - start);
+            return reply;
+        }
+    }
+
+    /**
+     * HTTP reply.
+     *
+     * @since 0.17
+     */
+    private static final class Reply {
+
+        /**
+         * Location header, may be null.
+         */
+        private final String location;
+
+        /**
+         * Response body.
+         */
+        private final byte[] body;
+
+        /**
+         * Ctor.
+         *
+         * @param location Location header, may be null.
+         * @param body Response body.
+         */
+        Reply(final String location, final byte[] body) {
+            this.location = location;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Recorded latencies of one endpoint.
+     *
+     * @since 0.17
+     */
+    private static final class Latencies {
+
+        /**
+         * Latencies in nanoseconds.
+         */
+        private long[] values;
+
+        /**
+         * Number of recorded values.
+         */
+        private int size;
+
+        /**
+         * Ctor.
+         */
+        Latencies() {
+            this.values = new long[1024];
+        }
+
+        /**
+         * Record latency.
+         *
+         * @param nanos Latency in nanoseconds.
+         */
+        synchronized void add(final long nanos) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size] = nanos;
+            this.size += 1;
+        }
+
+        /**
+         * Number of recorded latencies.
+         *
+         * @return Count.
+         */
+        synchronized int count() {
+            return this.size;
+        }
+
+        /**
+         * Latency percentile.
+         *
+         * @param pct Percentile, 100 for maximum.
+         * @return Latency in nanoseconds.
+         */
+        synchronized long percentile(final int pct) {
+            final long[] sorted = Arrays.copyOf(this.values, this.size);
+            Arrays.sort(sorted);
+            final int idx = (int) Math.ceil(pct / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+        }
+    }
+}
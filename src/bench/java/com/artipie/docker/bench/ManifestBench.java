@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.docker.Digest;
+import com.artipie.docker.manifest.JsonManifest;
+import com.artipie.docker.manifest.Layer;
+import com.artipie.docker.manifest.Manifest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing of image manifest read by {@link JsonManifest} accessors
+ * the way manifest is validated on push and converted on pull.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ManifestBench {
+
+    /**
+     * Number of layers in manifest.
+     */
+    @Param({"5", "100"})
+    public int layers;
+
+    /**
+     * Manifest digest.
+     */
+    private Digest digest;
+
+    /**
+     * Manifest JSON.
+     */
+    private byte[] json;
+
+    /**
+     * Create manifest.
+     */
+    @Setup
+    public void setup() {
+        final JsonArrayBuilder array = Json.createArrayBuilder();
+        for (int idx = 0; idx < this.layers; idx += 1) {
+            array.add(
+                Json.createObjectBuilder()
+                    .add("mediaType", "application/vnd.docker.image.rootfs.diff.tar.gzip")
+                    .add("size", 1024 * idx)
+                    .add("digest", ManifestBench.digest(idx).string())
+            );
+        }
+        this.json = Json.createObjectBuilder()
+            .add("schemaVersion", 2)
+            .add("mediaType", "application/vnd.docker.distribution.manifest.v2+json")
+            .add(
+                "config",
+                Json.createObjectBuilder()
+                    .add("mediaType", "application/vnd.docker.container.image.v1+json")
+                    .add("size", 1024)
+                    .add("digest", ManifestBench.digest(-1).string())
+            )
+            .add("layers", array)
+            .build().toString().getBytes(StandardCharsets.UTF_8);
+        this.digest = new Digest.Sha256(this.json);
+    }
+
+    /**
+     * Read manifest as it is validated on push.
+     *
+     * @param bhl Blackhole.
+     */
+    @Benchmark
+    public void validate(final Blackhole bhl) {
+        final Manifest manifest = new JsonManifest(this.digest, this.json);
+        bhl.consume(manifest.config().hex());
+        for (final Layer layer : manifest.layers()) {
+            bhl.consume(layer.digest().hex());
+            bhl.consume(layer.urls());
+        }
+        bhl.consume(manifest.mediaType());
+    }
+
+    /**
+     * Read manifest as it is converted on pull.
+     *
+     * @param bhl Blackhole.
+     */
+    @Benchmark
+    public void convert(final Blackhole bhl) {
+        final Manifest manifest = new JsonManifest(this.digest, this.json);
+        bhl.consume(manifest.mediaType());
+        bhl.consume(manifest.size());
+    }
+
+    /**
+     * Digest of layer.
+     *
+     * @param idx Layer index.
+     * @return Digest.
+     */
+    private static Digest digest(final int idx) {
+        return new Digest.Sha256(Integer.toString(idx).getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Tag;
+import com.artipie.docker.misc.CatalogPage;
+import com.artipie.docker.misc.TagsPage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of catalog and tags pages from large registries.
+ * Names are shuffled, the way storage listing does not guarantee order,
+ * and page starts in the middle of the names.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PagesBench {
+
+    /**
+     * Number of names.
+     */
+    @Param({"10000", "100000", "1000000"})
+    public int names;
+
+    /**
+     * Page size.
+     */
+    @Param({"100", "1000000"})
+    public int limit;
+
+    /**
+     * Repository names.
+     */
+    private Collection<RepoName> repos;
+
+    /**
+     * Tags.
+     */
+    private Collection<Tag> tags;
+
+    /**
+     * Name to start from.
+     */
+    private String from;
+
+    /**
+     * Create names.
+     */
+    @Setup
+    public void setup() {
+        final List<String> all = new ArrayList<>(this.names);
+        for (int idx = 0; idx < this.names; idx += 1) {
+            all.add(String.format("name-%07d", idx));
+        }
+        this.from = all.get(this.names / 2);
+        Collections.shuffle(all, new Random(0));
+        this.repos = new ArrayList<>(this.names);
+        this.tags = new ArrayList<>(this.names);
+        for (final String name : all) {
+            this.repos.add(new RepoName.Simple(String.format("library/%s", name)));
+            this.tags.add(new Tag.Valid(name));
+        }
+    }
+
+    /**
+     * Render catalog page.
+     *
+     * @return Page size in bytes.
+     */
+    @Benchmark
+    public int catalog() {
+        return new PublisherAs(
+            new CatalogPage(
+                this.repos,
+                Optional.of(new RepoName.Simple(String.format("library/%s", this.from))),
+                this.limit
+            ).json()
+        ).bytes().toCompletableFuture().join().length;
+    }
+
+    /**
+     * Render tags page.
+     *
+     * @return Page size in bytes.
+     */
+    @Benchmark
+    public int tags() {
+        return new PublisherAs(
+            new TagsPage(
+                new RepoName.Simple("library/bench"),
+                this.tags,
+                Optional.of(new Tag.Valid(this.from)),
+                this.limit
+            ).json()
+        ).bytes().toCompletableFuture().join().length;
+    }
+}
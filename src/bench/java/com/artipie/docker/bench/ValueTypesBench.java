@@ -0,0 +1,280 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.bench;
+
+import com.artipie.asto.Key;
+import com.artipie.docker.Digest;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.ref.ManifestRef;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of value types built from parsed request path and read the way request is served:
+ * repository name is read for scope, repository and storage keys,
+ * manifest reference link and blob digest parts are read for storage keys and headers.
+ * Values validated and parsed on every read, as they were,
+ * are compared to values validated once on construction.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValueTypesBench {
+
+    /**
+     * Repository name from request path.
+     */
+    private static final String NAME = "library/alpine";
+
+    /**
+     * Manifest tag from request path.
+     */
+    private static final String TAG = "3.12";
+
+    /**
+     * Blob digest from request path.
+     */
+    private static final String DIGEST =
+        "sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221";
+
+    /**
+     * Times repository name is read per request.
+     */
+    private static final int NAME_READS = 4;
+
+    /**
+     * Times reference or digest is read per request.
+     */
+    private static final int REF_READS = 2;
+
+    /**
+     * Value types kind.
+     */
+    @Param({"lazy", "validated"})
+    public String values;
+
+    /**
+     * Serve manifest request.
+     *
+     * @param bhl Blackhole.
+     */
+    @Benchmark
+    public void manifest(final Blackhole bhl) {
+        final RepoName name = this.name();
+        final ManifestRef ref;
+        if ("lazy".equals(this.values)) {
+            ref = new LazyRef(ValueTypesBench.TAG);
+        } else {
+            ref = new ManifestRef.FromString(ValueTypesBench.TAG);
+        }
+        for (int idx = 0; idx < ValueTypesBench.NAME_READS; idx += 1) {
+            bhl.consume(name.value());
+        }
+        for (int idx = 0; idx < ValueTypesBench.REF_READS; idx += 1) {
+            bhl.consume(ref.link());
+        }
+    }
+
+    /**
+     * Serve blob request.
+     *
+     * @param bhl Blackhole.
+     */
+    @Benchmark
+    public void blob(final Blackhole bhl) {
+        final RepoName name = this.name();
+        final Digest digest;
+        if ("lazy".equals(this.values)) {
+            digest = new LazyDigest(ValueTypesBench.DIGEST);
+        } else {
+            digest = new Digest.FromString(ValueTypesBench.DIGEST);
+        }
+        for (int idx = 0; idx < ValueTypesBench.NAME_READS; idx += 1) {
+            bhl.consume(name.value());
+        }
+        for (int idx = 0; idx < ValueTypesBench.REF_READS; idx += 1) {
+            bhl.consume(digest.alg());
+            bhl.consume(digest.hex());
+            bhl.consume(digest.string());
+        }
+    }
+
+    /**
+     * Repository name of benchmarked kind.
+     *
+     * @return Repository name.
+     */
+    private RepoName name() {
+        final RepoName name;
+        if ("lazy".equals(this.values)) {
+            name = new LazyName(ValueTypesBench.NAME);
+        } else {
+            name = new RepoName.Valid(ValueTypesBench.NAME);
+        }
+        return name;
+    }
+
+    /**
+     * Repository name validated on every read.
+     *
+     * @since 0.17
+     */
+    private static final class LazyName implements RepoName {
+
+        /**
+         * Part pattern.
+         */
+        private static final Pattern PART = Pattern.compile("[a-z0-9]+(?:[._-][a-z0-9]+)*");
+
+        /**
+         * Name string.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         *
+         * @param name Name string.
+         */
+        LazyName(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String value() {
+            final int len = this.name.length();
+            if (len < 1 || len >= 256 || this.name.charAt(len - 1) == '/') {
+                throw new IllegalStateException("Bad length");
+            }
+            for (final String part : this.name.split("/")) {
+                if (!LazyName.PART.matcher(part).matches()) {
+                    throw new IllegalStateException("Bad part");
+                }
+            }
+            return this.name;
+        }
+    }
+
+    /**
+     * Digest split on every read.
+     *
+     * @since 0.17
+     */
+    private static final class LazyDigest implements Digest {
+
+        /**
+         * Digest string.
+         */
+        private final String original;
+
+        /**
+         * Ctor.
+         *
+         * @param original Digest string.
+         */
+        LazyDigest(final String original) {
+            this.original = original;
+        }
+
+        @Override
+        public String alg() {
+            return this.part(0);
+        }
+
+        @Override
+        public String hex() {
+            return this.part(1);
+        }
+
+        /**
+         * Validates digest string.
+         *
+         * @return True if valid.
+         */
+        boolean valid() {
+            return this.original.split(":").length == 2;
+        }
+
+        /**
+         * Part of digest string.
+         *
+         * @param pos Part position.
+         * @return Part.
+         */
+        private String part(final int pos) {
+            if (!this.valid()) {
+                throw new IllegalStateException("Bad digest");
+            }
+            return this.original.split(":")[pos];
+        }
+    }
+
+    /**
+     * Manifest reference classified on every read.
+     *
+     * @since 0.17
+     */
+    private static final class LazyRef implements ManifestRef {
+
+        /**
+         * Tag pattern.
+         */
+        private static final Pattern TAG = Pattern.compile("^[a-zA-Z0-9_][a-zA-Z0-9_.-]{0,127}$");
+
+        /**
+         * Reference string.
+         */
+        private final String value;
+
+        /**
+         * Ctor.
+         *
+         * @param value Reference string.
+         */
+        LazyRef(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Key link() {
+            final LazyDigest digest = new LazyDigest(this.value);
+            final Key key;
+            if (digest.valid()) {
+                key = new Key.From(Arrays.asList("revisions", digest.alg(), digest.hex(), "link"));
+            } else if (LazyRef.TAG.matcher(this.value).matches()
+                // tag was matched to classify reference and once more to read its value
+                && LazyRef.TAG.matcher(this.value).matches()) {
+                key = new Key.From(Arrays.asList("tags", this.value, "current", "link"));
+            } else {
+                throw new IllegalStateException("Bad reference");
+            }
+            return key;
+        }
+
+        @Override
+        public String string() {
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.misc.RqByRegex;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.StandardRs;
+import com.artipie.http.rt.ByMethodsRule;
+import com.artipie.http.rt.RtRule;
+import com.artipie.http.rt.RtRulePath;
+import com.artipie.http.rt.SliceRoute;
+import io.reactivex.Flowable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of dispatching requests to Docker API entities and reading repository name and reference:
+ * chain of path patterns with regex groups re-matched by entity,
+ * compared to {@link EntityRoute} with path parsed by {@link ApiRequest}.
+ * Every invocation routes one request to each entity kind.
+ *
+ * @since 0.17
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RoutingBench {
+
+    /**
+     * Request lines routed, from first to last rule of the chain.
+     */
+    private static final String[] LINES = {
+        new RequestLine(RqMethod.GET, "/v2/").toString(),
+        new RequestLine(RqMethod.GET, "/v2/library/alpine/manifests/3.12").toString(),
+        new RequestLine(RqMethod.GET, "/v2/library/alpine/tags/list?n=100").toString(),
+        new RequestLine(
+            RqMethod.HEAD,
+            "/v2/library/alpine/blobs/sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221"
+        ).toString(),
+        new RequestLine(
+            RqMethod.PATCH,
+            "/v2/library/alpine/blobs/uploads/a9e48d2a-c939-441d-bb53-b3ad9ab67709"
+        ).toString(),
+        new RequestLine(RqMethod.GET, "/v2/_catalog").toString(),
+    };
+
+    /**
+     * Router kind.
+     */
+    @Param({"regex", "parsed"})
+    public String router;
+
+    /**
+     * Router.
+     */
+    private Slice slice;
+
+    /**
+     * Create router.
+     */
+    @Setup
+    public void setup() {
+        if ("regex".equals(this.router)) {
+            this.slice = RoutingBench.regex();
+        } else {
+            this.slice = RoutingBench.parsed();
+        }
+    }
+
+    /**
+     * Route all request lines.
+     *
+     * @param bhl Blackhole.
+     */
+    @Benchmark
+    public void route(final Blackhole bhl) {
+        for (final String line : RoutingBench.LINES) {
+            bhl.consume(this.slice.response(line, Headers.EMPTY, Flowable.empty()));
+        }
+    }
+
+    /**
+     * Chain of path patterns, entity reads request by regex groups.
+     *
+     * @return Router.
+     */
+    private static Slice regex() {
+        return new SliceRoute(
+            RoutingBench.rule(BaseEntity.PATH, RqMethod.GET, line -> StandardRs.OK),
+            RoutingBench.rule(
+                ManifestEntity.PATH, RqMethod.HEAD, RoutingBench.groups(ManifestEntity.PATH)
+            ),
+            RoutingBench.rule(
+                ManifestEntity.PATH, RqMethod.GET, RoutingBench.groups(ManifestEntity.PATH)
+            ),
+            RoutingBench.rule(
+                ManifestEntity.PATH, RqMethod.PUT, RoutingBench.groups(ManifestEntity.PATH)
+            ),
+            RoutingBench.rule(
+                TagsEntity.PATH,
+                RqMethod.GET,
+                line -> RoutingBench.consumed(
+                    new RqByRegex(line, TagsEntity.PATH).path().group("name"), ""
+                )
+            ),
+            RoutingBench.rule(BlobEntity.PATH, RqMethod.HEAD, RoutingBench.blobs()),
+            RoutingBench.rule(BlobEntity.PATH, RqMethod.GET, RoutingBench.blobs()),
+            RoutingBench.rule(UploadEntity.PATH, RqMethod.POST, RoutingBench.uploads()),
+            RoutingBench.rule(UploadEntity.PATH, RqMethod.PATCH, RoutingBench.uploads()),
+            RoutingBench.rule(UploadEntity.PATH, RqMethod.PUT, RoutingBench.uploads()),
+            RoutingBench.rule(UploadEntity.PATH, RqMethod.GET, RoutingBench.uploads()),
+            RoutingBench.rule(CatalogEntity.PATH, RqMethod.GET, line -> StandardRs.OK)
+        );
+    }
+
+    /**
+     * Entity route, entity reads parsed request.
+     *
+     * @return Router.
+     */
+    private static Slice parsed() {
+        final Slice entity = (line, headers, body) -> {
+            final ApiRequest request = new ApiRequest(line);
+            return RoutingBench.consumed(request.name().value(), request.reference());
+        };
+        final Slice tags = (line, headers, body) -> RoutingBench.consumed(
+            new ApiRequest(line).name().value(), ""
+        );
+        final Slice simple = (line, headers, body) -> StandardRs.OK;
+        return new EntityRoute(
+            new EntityRoute.Rule(ApiRequest.Kind.BASE, RqMethod.GET, simple),
+            new EntityRoute.Rule(ApiRequest.Kind.MANIFEST, RqMethod.HEAD, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.MANIFEST, RqMethod.GET, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.MANIFEST, RqMethod.PUT, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.TAGS, RqMethod.GET, tags),
+            new EntityRoute.Rule(ApiRequest.Kind.BLOB, RqMethod.HEAD, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.BLOB, RqMethod.GET, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.UPLOAD, RqMethod.POST, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.UPLOAD, RqMethod.PATCH, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.UPLOAD, RqMethod.PUT, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.UPLOAD, RqMethod.GET, entity),
+            new EntityRoute.Rule(ApiRequest.Kind.CATALOG, RqMethod.GET, simple)
+        );
+    }
+
+    /**
+     * Routing rule by path pattern and method.
+     *
+     * @param path Path pattern.
+     * @param method Method.
+     * @param target Target reading request line.
+     * @return Rule.
+     */
+    private static RtRulePath rule(
+        final Pattern path,
+        final RqMethod method,
+        final Function<String, Response> target
+    ) {
+        return new RtRulePath(
+            new RtRule.All(new RtRule.ByPath(path), new ByMethodsRule(method)),
+            (line, headers, body) -> target.apply(line)
+        );
+    }
+
+    /**
+     * Target reading name and reference the way manifest entity did.
+     *
+     * @param path Path pattern.
+     * @return Target.
+     */
+    private static Function<String, Response> groups(final Pattern path) {
+        return line -> RoutingBench.consumed(
+            new RqByRegex(line, path).path().group("name"),
+            new RqByRegex(line, path).path().group("reference")
+        );
+    }
+
+    /**
+     * Target reading name and digest the way blob entity did.
+     *
+     * @return Target.
+     */
+    private static Function<String, Response> blobs() {
+        return line -> RoutingBench.consumed(
+            new RqByRegex(line, BlobEntity.PATH).path().group("name"),
+            new RqByRegex(line, BlobEntity.PATH).path().group("digest")
+        );
+    }
+
+    /**
+     * Target reading name and UUID the way upload entity did.
+     *
+     * @return Target.
+     */
+    private static Function<String, Response> uploads() {
+        return line -> RoutingBench.consumed(
+            new RqByRegex(line, UploadEntity.PATH).path().group("name"),
+            new RqByRegex(line, UploadEntity.PATH).path().group("uuid")
+        );
+    }
+
+    /**
+     * Response depending on read values, so they are not eliminated.
+     *
+     * @param name Repository name.
+     * @param ref Reference.
+     * @return Response.
+     */
+    private static Response consumed(final String name, final String ref) {
+        final Response res;
+        if (name.length() + ref.length() > 0) {
+            res = StandardRs.OK;
+        } else {
+            res = StandardRs.EMPTY;
+        }
+        return res;
+    }
+}
@@ -5,6 +5,9 @@
 package com.artipie.docker;
 
 import com.artipie.asto.Content;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -34,4 +37,14 @@ public interface Blob {
      * @return Content.
      */
     CompletionStage<Content> content();
+
+    /**
+     * Location blob content can be downloaded from directly, bypassing the registry.
+     * Location is usually valid for limited time only.
+     *
+     * @return URL of blob content, empty if blob should be read with {@link #content()}.
+     */
+    default CompletionStage<Optional<URI>> location() {
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
 }
@@ -5,6 +5,9 @@
 
 package com.artipie.docker;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /**
@@ -96,13 +99,26 @@ public interface Digest {
          */
         private final String original;
 
+        /**
+         * Algorithm and hex parts, null if digest string is not valid.
+         */
+        private final String[] parts;
+
         /**
          * Ctor.
+         * Digest string is split once on construction.
          *
          * @param original Digest string.
          */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
         public FromString(final String original) {
             this.original = original;
+            final String[] split = original.split(":");
+            if (split.length == 2) {
+                this.parts = split;
+            } else {
+                this.parts = null;
+            }
         }
 
         @Override
@@ -115,6 +131,18 @@ public interface Digest {
             return this.part(1);
         }
 
+        @Override
+        public String string() {
+            final String res;
+            if (this.parts != null
+                && this.original.length() == this.parts[0].length() + this.parts[1].length() + 1) {
+                res = this.original;
+            } else {
+                res = Digest.super.string();
+            }
+            return res;
+        }
+
         @Override
         public String toString() {
             return this.original;
@@ -126,7 +154,7 @@ public interface Digest {
          * @return True if string is valid digest, false otherwise.
          */
         public boolean valid() {
-            return this.original.split(":").length == 2;
+            return this.parts != null;
         }
 
         /**
@@ -135,14 +163,135 @@ public interface Digest {
          * @return Part
          */
         private String part(final int pos) {
-            if (!this.valid()) {
+            if (this.parts == null) {
                 throw new IllegalStateException(
                     String.format(
                         "Expected two parts separated by `:`, but was `%s`", this.original
                     )
                 );
             }
-            return this.original.split(":")[pos];
+            return this.parts[pos];
+        }
+    }
+
+    /**
+     * SHA256 digest kept as 32 bytes instead of hex string.
+     * Digest is validated once on construction and compared by bytes,
+     * so it is cheap to keep in memory and to use as map key.
+     *
+     * @since 0.17
+     */
+    final class Compact implements Digest {
+
+        /**
+         * Algorithm name.
+         */
+        private static final String SHA256 = "sha256";
+
+        /**
+         * Digest size in bytes.
+         */
+        private static final int SIZE = 32;
+
+        /**
+         * Digest bytes.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Ctor.
+         *
+         * @param digest SHA256 digest.
+         * @throws IllegalArgumentException If digest is not SHA256 digest with lowercase hex.
+         */
+        public Compact(final Digest digest) {
+            this(Digest.Compact.decode(digest));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param bytes SHA256 digest bytes.
+         * @throws IllegalArgumentException If there are not 32 bytes.
+         */
+        public Compact(final byte[] bytes) {
+            if (bytes.length != Digest.Compact.SIZE) {
+                throw new IllegalArgumentException(
+                    String.format("Expected %d bytes of SHA256 digest", Digest.Compact.SIZE)
+                );
+            }
+            this.bytes = bytes.clone();
+        }
+
+        @Override
+        public String alg() {
+            return Digest.Compact.SHA256;
+        }
+
+        @Override
+        public String hex() {
+            return Hex.encodeHexString(this.bytes);
+        }
+
+        @Override
+        public String string() {
+            return String.join(":", Digest.Compact.SHA256, this.hex());
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof Digest.Compact
+                && Arrays.equals(this.bytes, ((Digest.Compact) other).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return ByteBuffer.wrap(this.bytes).getInt();
+        }
+
+        @Override
+        public String toString() {
+            return this.string();
+        }
+
+        /**
+         * Check digest can be kept compact.
+         *
+         * @param digest Digest.
+         * @return True if it is SHA256 digest with lowercase hex.
+         */
+        public static boolean supports(final Digest digest) {
+            boolean res = Digest.Compact.SHA256.equals(digest.alg())
+                && digest.hex().length() == Digest.Compact.SIZE * 2;
+            if (res) {
+                final String hex = digest.hex();
+                for (int idx = 0; res && idx < hex.length(); idx += 1) {
+                    final char chr = hex.charAt(idx);
+                    res = chr >= '0' && chr <= '9' || chr >= 'a' && chr <= 'f';
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Decode digest hex.
+         *
+         * @param digest SHA256 digest.
+         * @return Digest bytes.
+         */
+        private static byte[] decode(final Digest digest) {
+            if (!Digest.Compact.supports(digest)) {
+                throw new IllegalArgumentException(
+                    String.format("Not a SHA256 digest: `%s`", digest.string())
+                );
+            }
+            final String hex = digest.hex();
+            final byte[] res = new byte[Digest.Compact.SIZE];
+            for (int idx = 0; idx < res.length; idx += 1) {
+                res[idx] = (byte) (Character.digit(hex.charAt(idx * 2), 16) << 4
+                    | Character.digit(hex.charAt(idx * 2 + 1), 16));
+            }
+            return res;
         }
     }
 }
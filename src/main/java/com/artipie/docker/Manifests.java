@@ -35,6 +35,17 @@ public interface Manifests {
      */
     CompletionStage<Optional<Manifest>> get(ManifestRef ref);
 
+    /**
+     * Check manifest exists by reference.
+     * Implementations should check it without reading manifest content if possible.
+     *
+     * @param ref Manifest reference.
+     * @return True if manifest exists.
+     */
+    default CompletionStage<Boolean> exists(ManifestRef ref) {
+        return this.get(ref).thenApply(Optional::isPresent);
+    }
+
     /**
      * List manifest tags.
      *
@@ -75,6 +86,11 @@ public interface Manifests {
             return this.manifests.get(ref);
         }
 
+        @Override
+        public final CompletionStage<Boolean> exists(final ManifestRef ref) {
+            return this.manifests.exists(ref);
+        }
+
         @Override
         public final CompletionStage<Tags> tags(final Optional<Tag> from, final int limit) {
             return this.manifests.tags(from, limit);
@@ -6,6 +6,7 @@
 package com.artipie.docker;
 
 import com.artipie.docker.error.InvalidRepoNameException;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 /**
@@ -44,6 +45,63 @@ public interface RepoName {
      */
     final class Valid implements RepoName {
 
+        /**
+         * Validated name string.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param name Repo name string
+         */
+        public Valid(final String name) {
+            this(new RepoName.Simple(name));
+        }
+
+        /**
+         * Ctor.
+         * Name is validated once on construction, so it is cheap to read it many times.
+         * @param origin Origin repo name
+         * @throws InvalidRepoNameException If name is not valid.
+         */
+        public Valid(final RepoName origin) {
+            final String src = origin.value();
+            final Optional<String> problem = new RepoName.Check(src).problem();
+            if (problem.isPresent()) {
+                throw new InvalidRepoNameException(problem.get());
+            }
+            this.name = src;
+        }
+
+        @Override
+        public String value() {
+            return this.name;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof RepoName.Valid
+                && this.name.equals(((RepoName.Valid) other).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+    /**
+     * Check of repository name against rules of {@link Valid} name,
+     * telling why name is not valid instead of throwing.
+     * @since 0.17
+     */
+    final class Check {
+
         /**
          * Repository name part pattern.
          */
@@ -56,56 +114,50 @@ public interface RepoName {
         private static final int MAX_NAME_LEN = 256;
 
         /**
-         * Source string.
+         * Name string.
          */
-        private final RepoName origin;
+        private final String name;
 
         /**
          * Ctor.
-         * @param name Repo name string
+         * @param name Name string
          */
-        public Valid(final String name) {
-            this(new RepoName.Simple(name));
+        public Check(final String name) {
+            this.name = name;
         }
 
         /**
-         * Ctor.
-         * @param origin Origin repo name
+         * Check name.
+         * @return Why name is not valid, empty if name is valid
+         * @checkstyle ReturnCountCheck (30 lines)
          */
-        public Valid(final RepoName origin) {
-            this.origin = origin;
-        }
-
-        @Override
-        @SuppressWarnings("PMD.CyclomaticComplexity")
-        public String value() {
-            final String src = this.origin.value();
-            final int len = src.length();
-            if (len < 1 || len >= RepoName.Valid.MAX_NAME_LEN) {
-                throw new InvalidRepoNameException(
+        @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.OnlyOneReturn"})
+        public Optional<String> problem() {
+            final int len = this.name.length();
+            if (len < 1 || len >= RepoName.Check.MAX_NAME_LEN) {
+                return Optional.of(
                     String.format(
                         "repo name must be between 1 and %d chars long",
-                        RepoName.Valid.MAX_NAME_LEN
+                        RepoName.Check.MAX_NAME_LEN
                     )
                 );
             }
-            if (src.charAt(len - 1) == '/') {
-                throw new InvalidRepoNameException(
-                    "repo name can't end with a slash"
-                );
-            }
-            final String[] parts = src.split("/");
-            if (parts.length == 0) {
-                throw new InvalidRepoNameException("repo name can't be empty");
+            if (this.name.charAt(len - 1) == '/') {
+                return Optional.of("repo name can't end with a slash");
             }
-            for (final String part : parts) {
-                if (!RepoName.Valid.PART_PTN.matcher(part).matches()) {
-                    throw new InvalidRepoNameException(
-                        String.format("invalid repo name part: %s", part)
-                    );
+            int start = 0;
+            while (start <= len) {
+                int end = this.name.indexOf('/', start);
+                if (end < 0) {
+                    end = len;
+                }
+                final String part = this.name.substring(start, end);
+                if (!RepoName.Check.PART_PTN.matcher(part).matches()) {
+                    return Optional.of(String.format("invalid repo name part: %s", part));
                 }
+                start = end + 1;
             }
-            return src;
+            return Optional.empty();
         }
     }
 
@@ -47,6 +47,11 @@ public interface Tag {
          */
         private final String original;
 
+        /**
+         * Whether value is valid, checked once on construction.
+         */
+        private final boolean correct;
+
         /**
          * Ctor.
          *
@@ -54,11 +59,12 @@ public interface Tag {
          */
         public Valid(final String original) {
             this.original = original;
+            this.correct = Tag.Valid.PATTERN.matcher(original).matches();
         }
 
         @Override
         public String value() {
-            if (!this.valid()) {
+            if (!this.correct) {
                 throw new InvalidTagNameException(
                     String.format("Invalid tag: '%s'", this.original)
                 );
@@ -72,7 +78,18 @@ public interface Tag {
          * @return True if string is valid digest, false otherwise.
          */
         public boolean valid() {
-            return Tag.Valid.PATTERN.matcher(this.original).matches();
+            return this.correct;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof Tag.Valid
+                && this.original.equals(((Tag.Valid) other).original);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.original.hashCode();
         }
     }
 }
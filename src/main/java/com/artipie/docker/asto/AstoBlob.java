@@ -9,6 +9,9 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -33,6 +36,16 @@ public final class AstoBlob implements Blob {
      */
     private final Digest dig;
 
+    /**
+     * Blob size if it is known.
+     */
+    private final Optional<Long> known;
+
+    /**
+     * Issuer of download URLs, empty if blob is not served by redirect.
+     */
+    private final Optional<SignedUrlStorage> urls;
+
     /**
      * Ctor.
      *
@@ -41,9 +54,40 @@ public final class AstoBlob implements Blob {
      * @param digest Blob digest.
      */
     public AstoBlob(final Storage storage, final Key key, final Digest digest) {
+        this(storage, key, digest, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param key Blob key.
+     * @param digest Blob digest.
+     * @param size Blob size if it is known.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AstoBlob(final Storage storage, final Key key, final Digest digest,
+        final Optional<Long> size) {
+        this(storage, key, digest, size, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param key Blob key.
+     * @param digest Blob digest.
+     * @param size Blob size if it is known.
+     * @param urls Issuer of download URLs, empty if blob is not served by redirect.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AstoBlob(final Storage storage, final Key key, final Digest digest,
+        final Optional<Long> size, final Optional<SignedUrlStorage> urls) {
         this.storage = storage;
         this.key = key;
         this.dig = digest;
+        this.known = size;
+        this.urls = urls;
     }
 
     @Override
@@ -53,11 +97,19 @@ public final class AstoBlob implements Blob {
 
     @Override
     public CompletionStage<Long> size() {
-        return this.storage.size(this.key);
+        return this.known.<CompletionStage<Long>>map(CompletableFuture::completedFuture)
+            .orElseGet(() -> this.storage.size(this.key));
     }
 
     @Override
     public CompletionStage<Content> content() {
         return this.storage.value(this.key);
     }
+
+    @Override
+    public CompletionStage<Optional<URI>> location() {
+        return this.urls.<CompletionStage<Optional<URI>>>map(
+            issuer -> issuer.url(this.key).thenApply(Optional::of)
+        ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()));
+    }
 }
@@ -10,15 +10,29 @@ import com.artipie.asto.Storage;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
  * Asto {@link BlobStore} implementation.
+ * Sizes of blobs put by this registry are remembered, so looking such blob up costs
+ * one existence check, and validating manifest referencing blobs just uploaded
+ * to this registry costs no storage operations.
  * @since 0.1
  */
 public final class AstoBlobs implements BlobStore {
 
+    /**
+     * Maximum number of concurrent storage checks of one lookup of missing blobs.
+     */
+    private static final int CHECKS = 16;
+
     /**
      * Storage.
      */
@@ -34,6 +48,16 @@ public final class AstoBlobs implements BlobStore {
      */
     private final RepoName name;
 
+    /**
+     * Known blob sizes.
+     */
+    private final BlobSizes sizes;
+
+    /**
+     * Issuer of blob download URLs, empty if blobs are not served by redirect.
+     */
+    private final Optional<SignedUrlStorage> urls;
+
     /**
      * Ctor.
      * @param asto Storage
@@ -41,9 +65,25 @@ public final class AstoBlobs implements BlobStore {
      * @param name Repository name.
      */
     public AstoBlobs(final Storage asto, final BlobsLayout layout, final RepoName name) {
+        this(asto, layout, name, new BlobSizes(), Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param asto Storage
+     * @param layout Blobs layout.
+     * @param name Repository name.
+     * @param sizes Known blob sizes.
+     * @param urls Issuer of blob download URLs, empty if blobs are not served by redirect.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AstoBlobs(final Storage asto, final BlobsLayout layout, final RepoName name,
+        final BlobSizes sizes, final Optional<SignedUrlStorage> urls) {
         this.asto = asto;
         this.layout = layout;
         this.name = name;
+        this.sizes = sizes;
+        this.urls = urls;
     }
 
     @Override
@@ -53,8 +93,11 @@ public final class AstoBlobs implements BlobStore {
             exists -> {
                 final Optional<Blob> blob;
                 if (exists) {
-                    blob = Optional.of(new AstoBlob(this.asto, key, digest));
+                    blob = Optional.of(
+                        new AstoBlob(this.asto, key, digest, this.sizes.get(key), this.urls)
+                    );
                 } else {
+                    this.sizes.remove(key);
                     blob = Optional.empty();
                 }
                 return blob;
@@ -66,8 +109,35 @@ public final class AstoBlobs implements BlobStore {
     public CompletionStage<Blob> put(final BlobSource source) {
         final Digest digest = source.digest();
         final Key key = this.layout.blob(this.name, digest);
-        return source.saveTo(this.asto, key).thenApply(
-            nothing -> new AstoBlob(this.asto, key, digest)
+        return source.saveTo(this.asto, key).thenCompose(
+            nothing -> this.sizes.get(key).<CompletionStage<Long>>map(
+                CompletableFuture::completedFuture
+            ).orElseGet(
+                () -> this.asto.size(key).thenApply(
+                    size -> {
+                        this.sizes.put(key, size);
+                        return size;
+                    }
+                )
+            )
+        ).thenApply(size -> new AstoBlob(this.asto, key, digest, Optional.of(size), this.urls)
         );
     }
+
+    @Override
+    public CompletionStage<List<Digest>> missing(final Collection<Digest> digests) {
+        final List<Digest> unknown = new ArrayList<>(0);
+        for (final Digest digest : digests) {
+            if (!this.sizes.get(this.layout.blob(this.name, digest)).isPresent()) {
+                unknown.add(digest);
+            }
+        }
+        return Flowable.fromIterable(unknown).concatMapEager(
+            digest -> SingleInterop.fromFuture(
+                this.asto.exists(this.layout.blob(this.name, digest))
+            ).filter(exists -> !exists).map(nothing -> digest).toFlowable(),
+            AstoBlobs.CHECKS,
+            1
+        ).toList().to(SingleInterop.get());
+    }
 }
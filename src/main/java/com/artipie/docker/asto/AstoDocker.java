@@ -11,8 +11,10 @@ import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
+import com.artipie.docker.misc.WorkPools;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.UnaryOperator;
 
 /**
  * Asto {@link Docker} implementation.
@@ -30,6 +32,31 @@ public final class AstoDocker implements Docker {
      */
     private final Layout layout;
 
+    /**
+     * Upload sessions registry shared by all repositories.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Decorator of repository blob stores.
+     */
+    private final UnaryOperator<BlobStore> decorator;
+
+    /**
+     * Known blob sizes shared by all repositories.
+     */
+    private final BlobSizes sizes;
+
+    /**
+     * Executors for CPU-bound and blocking work shared by all repositories.
+     */
+    private final WorkPools pools;
+
+    /**
+     * Issuer of blob download URLs, empty if blobs are not served by redirect.
+     */
+    private final Optional<SignedUrlStorage> urls;
+
     /**
      * Ctor.
      * @param asto Asto storage
@@ -45,13 +72,44 @@ public final class AstoDocker implements Docker {
      * @param layout Storage layout.
      */
     public AstoDocker(final Storage asto, final Layout layout) {
+        this(
+            asto, layout, new UploadSessions(), UnaryOperator.identity(), new BlobSizes(),
+            new WorkPools(), Optional.empty()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Storage.
+     * @param layout Storage layout.
+     * @param sessions Upload sessions registry.
+     * @param decorator Decorator of repository blob stores,
+     *  e.g. {@code blobs -> new TieredBlobs(blobs, tier)} to serve blobs from local hot tier.
+     * @param sizes Known blob sizes.
+     * @param pools Executors for CPU-bound work, measured per pool.
+     * @param urls Issuer of blob download URLs, blobs are served by redirect if present.
+     *  It is usually the storage wrapped by {@code asto}, e.g. by metering decorator.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public AstoDocker(final Storage asto, final Layout layout, final UploadSessions sessions,
+        final UnaryOperator<BlobStore> decorator, final BlobSizes sizes, final WorkPools pools,
+        final Optional<SignedUrlStorage> urls) {
         this.asto = asto;
         this.layout = layout;
+        this.sessions = sessions;
+        this.decorator = decorator;
+        this.sizes = sizes;
+        this.pools = pools;
+        this.urls = urls;
     }
 
     @Override
     public Repo repo(final RepoName name) {
-        return new AstoRepo(this.asto, this.layout, name);
+        return new AstoRepo(
+            this.asto, this.layout, name, this.sessions, this.decorator, this.sizes, this.pools,
+            this.urls
+        );
     }
 
     @Override
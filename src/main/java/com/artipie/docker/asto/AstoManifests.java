@@ -19,9 +19,12 @@ import com.artipie.docker.manifest.Layer;
 import com.artipie.docker.manifest.Manifest;
 import com.artipie.docker.ref.ManifestRef;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.json.JsonException;
 
@@ -52,6 +55,11 @@ public final class AstoManifests implements Manifests {
      */
     private final RepoName name;
 
+    /**
+     * Executor parsing and validating manifests.
+     */
+    private final Executor cpu;
+
     /**
      * Ctor.
      *
@@ -66,11 +74,32 @@ public final class AstoManifests implements Manifests {
         final BlobStore blobs,
         final ManifestsLayout layout,
         final RepoName name
+    ) {
+        this(asto, blobs, layout, name, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param blobs Blobs storage.
+     * @param layout Manifests layout.
+     * @param name Repository name
+     * @param cpu Executor parsing and validating manifests.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoManifests(
+        final Storage asto,
+        final BlobStore blobs,
+        final ManifestsLayout layout,
+        final RepoName name,
+        final Executor cpu
     ) {
         this.asto = asto;
         this.blobs = blobs;
         this.layout = layout;
         this.name = name;
+        this.cpu = cpu;
     }
 
     @Override
@@ -79,7 +108,9 @@ public final class AstoManifests implements Manifests {
             bytes -> this.blobs.put(new TrustedBlobSource(bytes))
                 .thenApply(blob -> new JsonManifest(blob.digest(), bytes))
                 .thenCompose(
-                    manifest -> this.validate(manifest)
+                    manifest -> CompletableFuture.supplyAsync(
+                        () -> AstoManifests.references(manifest), this.cpu
+                    ).thenCompose(this::validate)
                         .thenCompose(nothing -> this.addManifestLinks(ref, manifest.digest()))
                         .thenApply(nothing -> manifest)
                 )
@@ -97,8 +128,9 @@ public final class AstoManifests implements Manifests {
                                 blob -> blob.content()
                                     .thenApply(PublisherAs::new)
                                     .thenCompose(PublisherAs::bytes)
-                                    .<Manifest>thenApply(
-                                        bytes -> new JsonManifest(blob.digest(), bytes)
+                                    .<Manifest>thenApplyAsync(
+                                        bytes -> new JsonManifest(blob.digest(), bytes).parse(),
+                                        this.cpu
                                     )
                                     .thenApply(Optional::of)
                             )
@@ -108,6 +140,11 @@ public final class AstoManifests implements Manifests {
         );
     }
 
+    @Override
+    public CompletionStage<Boolean> exists(final ManifestRef ref) {
+        return this.asto.exists(this.layout.manifest(this.name, ref));
+    }
+
     @Override
     public CompletionStage<Tags> tags(final Optional<Tag> from, final int limit) {
         final Key root = this.layout.tags(this.name);
@@ -117,53 +154,48 @@ public final class AstoManifests implements Manifests {
     }
 
     /**
-     * Validates manifest by checking all referenced blobs exist.
+     * Validates manifest by checking all referenced blobs exist with one bulk query.
      *
-     * @param manifest Manifest.
+     * @param digests Digests of blobs referenced by manifest.
      * @return Validation completion.
      */
-    private CompletionStage<Void> validate(final Manifest manifest) {
-        final Stream<Digest> digests;
+    private CompletionStage<Void> validate(final List<Digest> digests) {
+        return this.blobs.missing(digests).thenAccept(
+            missing -> {
+                if (!missing.isEmpty()) {
+                    throw new InvalidManifestException(
+                        String.format("Blob does not exist: %s", missing.get(0))
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Parse manifest and collect blobs it references.
+     *
+     * @param manifest Manifest.
+     * @return Digests of config and local layers.
+     */
+    private static List<Digest> references(final Manifest manifest) {
+        final List<Digest> digests;
         try {
             digests = Stream.concat(
                 Stream.of(manifest.config()),
                 manifest.layers().stream()
                     .filter(layer -> layer.urls().isEmpty())
                     .map(Layer::digest)
-            );
+            ).collect(Collectors.toList());
         } catch (final JsonException ex) {
             throw new InvalidManifestException(
                 String.format("Failed to parse manifest: %s", ex.getMessage()),
                 ex
             );
         }
-        return CompletableFuture.allOf(
-            Stream.concat(
-                digests.map(
-                    digest -> this.blobs.blob(digest).thenCompose(
-                        opt -> {
-                            if (!opt.isPresent()) {
-                                throw new InvalidManifestException(
-                                    String.format("Blob does not exist: %s", digest)
-                                );
-                            }
-                            return CompletableFuture.allOf();
-                        }
-                    ).toCompletableFuture()
-                ),
-                Stream.of(
-                    CompletableFuture.runAsync(
-                        () -> {
-                            if (manifest.mediaType().isEmpty()) {
-                                throw new InvalidManifestException(
-                                    "Required field `mediaType` is empty"
-                                );
-                            }
-                        }
-                    )
-                )
-            ).toArray(CompletableFuture[]::new)
-        );
+        if (manifest.mediaType().isEmpty()) {
+            throw new InvalidManifestException("Required field `mediaType` is empty");
+        }
+        return digests;
     }
 
     /**
@@ -11,6 +11,9 @@ import com.artipie.docker.Manifests;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Uploads;
+import com.artipie.docker.misc.WorkPools;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 /**
  * Asto implementation of {@link Repo}.
@@ -35,6 +38,31 @@ public final class AstoRepo implements Repo {
      */
     private final Layout layout;
 
+    /**
+     * Upload sessions registry.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Decorator of repository blob store.
+     */
+    private final UnaryOperator<BlobStore> decorator;
+
+    /**
+     * Known blob sizes.
+     */
+    private final BlobSizes sizes;
+
+    /**
+     * Executors for CPU-bound work.
+     */
+    private final WorkPools pools;
+
+    /**
+     * Issuer of blob download URLs, empty if blobs are not served by redirect.
+     */
+    private final Optional<SignedUrlStorage> urls;
+
     /**
      * Ctor.
      *
@@ -43,9 +71,36 @@ public final class AstoRepo implements Repo {
      * @param name Repository name
      */
     public AstoRepo(final Storage asto, final Layout layout, final RepoName name) {
+        this(
+            asto, layout, name, new UploadSessions(), UnaryOperator.identity(), new BlobSizes(),
+            new WorkPools(), Optional.empty()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param layout Storage layout.
+     * @param name Repository name
+     * @param sessions Upload sessions registry.
+     * @param decorator Decorator of repository blob store, e.g. {@link TieredBlobs}.
+     * @param sizes Known blob sizes.
+     * @param pools Executors hashing uploads and parsing manifests.
+     * @param urls Issuer of blob download URLs, empty if blobs are not served by redirect.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public AstoRepo(final Storage asto, final Layout layout, final RepoName name,
+        final UploadSessions sessions, final UnaryOperator<BlobStore> decorator,
+        final BlobSizes sizes, final WorkPools pools, final Optional<SignedUrlStorage> urls) {
         this.asto = asto;
         this.layout = layout;
         this.name = name;
+        this.sessions = sessions;
+        this.decorator = decorator;
+        this.sizes = sizes;
+        this.pools = pools;
+        this.urls = urls;
     }
 
     @Override
@@ -55,12 +110,16 @@ public final class AstoRepo implements Repo {
 
     @Override
     public Manifests manifests() {
-        return new AstoManifests(this.asto, this.blobs(), this.layout, this.name);
+        return new AstoManifests(
+            this.asto, this.blobs(), this.layout, this.name, this.pools.cpu()
+        );
     }
 
     @Override
     public Uploads uploads() {
-        return new AstoUploads(this.asto, this.layout, this.name);
+        return new AstoUploads(
+            this.asto, this.layout, this.name, this.sessions, this.pools.cpu()
+        );
     }
 
     /**
@@ -68,7 +127,9 @@ public final class AstoRepo implements Repo {
      *
      * @return Blobs storage.
      */
-    private AstoBlobs blobs() {
-        return new AstoBlobs(this.asto, this.layout, this.name);
+    private BlobStore blobs() {
+        return this.decorator.apply(
+            new AstoBlobs(this.asto, this.layout, this.name, this.sizes, this.urls)
+        );
     }
 }
@@ -8,26 +8,42 @@ import com.artipie.asto.Content;
 import com.artipie.asto.FailedCompletionStage;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.KeyLastPart;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Upload;
 import com.artipie.docker.error.InvalidDigestException;
-import com.artipie.docker.misc.DigestedFlowable;
-import java.util.Collection;
-import java.util.UUID;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Asto implementation of {@link Upload}.
+ * Upload state is tracked in {@link UploadSessions} and written through to storage,
+ * so storage is listed only when state is not known yet.
+ * Every appended chunk is stored as separate part, parts are composed into blob on commit.
  *
  * @since 0.2
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
 public final class AstoUpload implements Upload {
 
+    /**
+     * Prefix of upload part key name.
+     */
+    private static final String PART = "part_";
+
     /**
      * Storage.
      */
@@ -49,6 +65,16 @@ public final class AstoUpload implements Upload {
     @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
     private final String uuid;
 
+    /**
+     * Upload sessions registry.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Executor hashing uploaded data.
+     */
+    private final Executor cpu;
+
     /**
      * Ctor.
      *
@@ -63,11 +89,55 @@ public final class AstoUpload implements Upload {
         final UploadsLayout layout,
         final RepoName name,
         final String uuid
+    ) {
+        this(storage, layout, name, uuid, new UploadSessions());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param layout Uploads layout.
+     * @param name Repository name.
+     * @param uuid Upload UUID.
+     * @param sessions Upload sessions registry.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoUpload(
+        final Storage storage,
+        final UploadsLayout layout,
+        final RepoName name,
+        final String uuid,
+        final UploadSessions sessions
+    ) {
+        this(storage, layout, name, uuid, sessions, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     * @param layout Uploads layout.
+     * @param name Repository name.
+     * @param uuid Upload UUID.
+     * @param sessions Upload sessions registry.
+     * @param cpu Executor hashing uploaded data.
+     * @checkstyle ParameterNumberCheck (2 lines)
+     */
+    public AstoUpload(
+        final Storage storage,
+        final UploadsLayout layout,
+        final RepoName name,
+        final String uuid,
+        final UploadSessions sessions,
+        final Executor cpu
     ) {
         this.storage = storage;
         this.layout = layout;
         this.name = name;
         this.uuid = uuid;
+        this.sessions = sessions;
+        this.cpu = cpu;
     }
 
     @Override
@@ -77,78 +147,101 @@ public final class AstoUpload implements Upload {
 
     @Override
     public CompletionStage<Void> start() {
-        return this.storage.save(this.started(), new Content.From(new byte[0]));
+        return this.storage.save(this.started(), new Content.From(new byte[0])).thenRun(
+            () -> this.sessions.update(this.root(), new UploadState())
+        );
     }
 
     @Override
     public CompletionStage<Long> append(final Content chunk) {
-        return this.chunks().thenCompose(
-            chunks -> {
-                if (chunks.size() > 0) {
-                    throw new UnsupportedOperationException("Multiple chunks are not supported");
-                }
-                final Key tmp = new Key.From(this.root(), UUID.randomUUID().toString());
-                final DigestedFlowable data = new DigestedFlowable(chunk);
-                return this.storage.save(tmp, new Content.From(chunk.size(), data)).thenCompose(
-                    nothing -> {
-                        final Key key = this.chunk(data.digest());
-                        return this.storage.move(tmp, key).thenApply(ignored -> key);
-                    }
-                ).thenCompose(
-                    key -> this.storage.size(key).thenApply(updated -> updated - 1)
-                );
-            }
-        );
+        return this.sessions.serial(this.root(), () -> this.appended(chunk));
     }
 
     @Override
     public CompletionStage<Long> offset() {
-        return this.chunks().thenCompose(
-            chunks -> {
-                final CompletionStage<Long> result;
-                if (chunks.isEmpty()) {
-                    result = CompletableFuture.completedFuture(0L);
-                } else {
-                    final Key key = chunks.iterator().next();
-                    result = this.storage.size(key).thenApply(size -> Math.max(size - 1, 0));
-                }
-                return result;
-            }
-        );
+        return this.current().thenApply(state -> Math.max(state.size() - 1, 0));
     }
 
     @Override
     public CompletionStage<Blob> putTo(final Layers layers, final Digest digest) {
-        final Key source = this.chunk(digest);
-        return this.storage.exists(source).thenCompose(
-            exists -> {
+        return this.sessions.serial(this.root(), () -> this.committed(layers, digest));
+    }
+
+    /**
+     * Compose uploaded parts into blob and put it to layers.
+     *
+     * @param layers Target layers.
+     * @param digest Expected blob digest.
+     * @return Added blob.
+     */
+    private CompletionStage<Blob> committed(final Layers layers, final Digest digest) {
+        return this.current().thenCompose(
+            state -> {
+                final Optional<Digest> calculated = state.digest();
                 final CompletionStage<Blob> result;
-                if (exists) {
-                    result = layers.put(
-                        new BlobSource() {
-                            @Override
-                            public Digest digest() {
-                                return digest;
-                            }
-
-                            @Override
-                            public CompletionStage<Void> saveTo(final Storage asto, final Key key) {
-                                return asto.move(source, key);
-                            }
-                        }
-                    ).thenCompose(
-                        blob -> this.delete().thenApply(nothing -> blob)
-                    );
-                } else {
+                if (calculated.isPresent()
+                    && !calculated.get().string().equals(digest.string())) {
                     result = new FailedCompletionStage<>(
                         new InvalidDigestException(digest.toString())
                     );
+                } else {
+                    final BlobSource source;
+                    if (calculated.isPresent()) {
+                        source = new ComposedBlobSource(state.chunks(), digest);
+                    } else {
+                        source = new CheckedBlobSource(
+                            new Composition(this.storage).content(state.chunks()),
+                            digest,
+                            this.cpu
+                        );
+                    }
+                    result = layers.put(source).thenCompose(
+                        blob -> this.delete(state).thenApply(nothing -> blob)
+                    );
                 }
                 return result;
             }
         );
     }
 
+    /**
+     * Save chunk as next part and update upload state.
+     * Part number and running digest come from current state,
+     * so appends to one upload should not run concurrently.
+     *
+     * @param chunk Chunk.
+     * @return Offset of last uploaded byte.
+     */
+    private CompletionStage<Long> appended(final Content chunk) {
+        return this.current().thenCompose(
+            state -> {
+                final Key part = this.part(state.chunks().size());
+                final Optional<MessageDigest> sha = state.sha();
+                final AtomicLong length = new AtomicLong();
+                return this.storage.save(
+                    part,
+                    new Content.From(
+                        chunk.size(),
+                        Flowable.fromPublisher(chunk)
+                            .observeOn(Schedulers.from(this.cpu))
+                            .doOnNext(
+                                buf -> {
+                                    sha.ifPresent(dgst -> dgst.update(buf.asReadOnlyBuffer()));
+                                    length.addAndGet(buf.remaining());
+                                }
+                            )
+                    )
+                ).thenApply(
+                    nothing -> {
+                        final UploadState updated = state.append(part, length.get(), sha);
+                        this.sessions.update(this.root(), updated);
+                        return updated.size() - 1;
+                    }
+                );
+            }
+        );
+    }
+
     /**
      * Root key for upload chunks.
      *
@@ -158,6 +251,63 @@ public final class AstoUpload implements Upload {
         return this.layout.upload(this.name, this.uuid);
     }
 
+    /**
+     * Read upload state from sessions registry, loading it from storage if absent.
+     *
+     * @return Upload state, empty if upload does not exist.
+     */
+    CompletionStage<Optional<UploadState>> state() {
+        return this.sessions.state(this.root(), this::load);
+    }
+
+    /**
+     * Read current upload state, considering upload is just started if it is unknown.
+     *
+     * @return Upload state.
+     */
+    private CompletionStage<UploadState> current() {
+        return this.state().thenApply(state -> state.orElseGet(UploadState::new));
+    }
+
+    /**
+     * Load upload state from storage.
+     * Running digest cannot be restored from storage, so it is unknown for loaded state
+     * having some parts and uploaded data is verified on commit.
+     *
+     * @return Upload state, empty if upload does not exist.
+     */
+    private CompletionStage<Optional<UploadState>> load() {
+        return this.storage.list(this.root()).thenCompose(
+            keys -> {
+                final CompletionStage<Optional<UploadState>> result;
+                final List<Key> parts = keys.stream()
+                    .filter(key -> new KeyLastPart(key).get().startsWith(AstoUpload.PART))
+                    .sorted(Comparator.comparingLong(AstoUpload::number))
+                    .collect(Collectors.toList());
+                if (keys.isEmpty()) {
+                    result = CompletableFuture.completedFuture(Optional.empty());
+                } else if (parts.isEmpty()) {
+                    result = CompletableFuture.completedFuture(Optional.of(new UploadState()));
+                } else {
+                    final List<CompletableFuture<Long>> sizes = parts.stream()
+                        .map(this.storage::size)
+                        .collect(Collectors.toList());
+                    result = CompletableFuture.allOf(sizes.toArray(new CompletableFuture<?>[0]))
+                        .thenApply(
+                            nothing -> Optional.of(
+                                new UploadState(
+                                    parts,
+                                    sizes.stream().mapToLong(CompletableFuture::join).sum(),
+                                    Optional.empty()
+                                )
+                            )
+                        );
+                }
+                return result;
+            }
+        );
+    }
+
     /**
      * Upload started marker key.
      *
@@ -168,40 +318,47 @@ public final class AstoUpload implements Upload {
     }
 
     /**
-     * Build upload chunk key for given digest.
+     * Build upload part key for given part number.
      *
-     * @param digest Digest.
-     * @return Chunk key.
+     * @param num Part number.
+     * @return Part key.
      */
-    private Key chunk(final Digest digest) {
-        return new Key.From(this.root(), String.format("%s_%s", digest.alg(), digest.hex()));
+    private Key part(final int num) {
+        return new Key.From(this.root(), String.format("%s%05d", AstoUpload.PART, num));
     }
 
     /**
-     * List all chunk keys.
+     * Number of upload part, parts are ordered numerically since number
+     * may take more digits than key is padded to.
      *
-     * @return Chunk keys.
+     * @param part Part key.
+     * @return Part number.
      */
-    private CompletableFuture<Collection<Key>> chunks() {
-        return this.storage.list(this.root()).thenApply(
-            keys -> keys.stream()
-                .filter(key -> !key.string().equals(this.started().string()))
-                .collect(Collectors.toList())
-        );
+    private static long number(final Key part) {
+        return Long.parseLong(new KeyLastPart(part).get().substring(AstoUpload.PART.length()));
     }
 
     /**
      * Deletes upload blob data.
      *
+     * @param state Upload state.
      * @return Completion or error signal.
      */
-    private CompletionStage<Void> delete() {
-        return this.storage.list(this.root())
-            .thenCompose(
-                list -> CompletableFuture.allOf(
-                    list.stream().map(file -> this.storage.delete(file).toCompletableFuture())
-                        .toArray(CompletableFuture[]::new)
+    private CompletionStage<Void> delete(final UploadState state) {
+        return CompletableFuture.allOf(
+            Stream.concat(Stream.of(this.started()), state.chunks().stream()).map(
+                key -> this.storage.exists(key).thenCompose(
+                    exists -> {
+                        final CompletableFuture<Void> res;
+                        if (exists) {
+                            res = this.storage.delete(key);
+                        } else {
+                            res = CompletableFuture.allOf();
+                        }
+                        return res;
+                    }
                 )
-            );
+            ).toArray(CompletableFuture[]::new)
+        ).thenRun(() -> this.sessions.remove(this.root()));
     }
 }
@@ -12,6 +12,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * Asto implementation of {@link Uploads}.
@@ -35,6 +36,16 @@ public final class AstoUploads implements Uploads {
      */
     private final RepoName name;
 
+    /**
+     * Upload sessions registry.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Executor hashing uploaded data.
+     */
+    private final Executor cpu;
+
     /**
      * Ctor.
      *
@@ -43,15 +54,46 @@ public final class AstoUploads implements Uploads {
      * @param name Repository name
      */
     public AstoUploads(final Storage asto, final UploadsLayout layout, final RepoName name) {
+        this(asto, layout, name, new UploadSessions());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param layout Uploads layout.
+     * @param name Repository name
+     * @param sessions Upload sessions registry.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AstoUploads(final Storage asto, final UploadsLayout layout, final RepoName name,
+        final UploadSessions sessions) {
+        this(asto, layout, name, sessions, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param asto Asto storage
+     * @param layout Uploads layout.
+     * @param name Repository name
+     * @param sessions Upload sessions registry.
+     * @param cpu Executor hashing uploaded data.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public AstoUploads(final Storage asto, final UploadsLayout layout, final RepoName name,
+        final UploadSessions sessions, final Executor cpu) {
         this.asto = asto;
         this.layout = layout;
         this.name = name;
+        this.sessions = sessions;
+        this.cpu = cpu;
     }
 
     @Override
     public CompletionStage<Upload> start() {
         final String uuid = UUID.randomUUID().toString();
-        final AstoUpload upload = new AstoUpload(this.asto, this.layout, this.name, uuid);
+        final AstoUpload upload = this.upload(uuid);
         return upload.start().thenApply(ignored -> upload);
     }
 
@@ -61,20 +103,23 @@ public final class AstoUploads implements Uploads {
         if (uuid.isEmpty()) {
             result = CompletableFuture.completedFuture(Optional.empty());
         } else {
-            result = this.asto.list(this.layout.upload(this.name, uuid)).thenApply(
-                list -> {
-                    final Optional<Upload> upload;
-                    if (list.isEmpty()) {
-                        upload = Optional.empty();
-                    } else {
-                        upload = Optional.of(
-                            new AstoUpload(this.asto, this.layout, this.name, uuid)
-                        );
-                    }
-                    return upload;
-                }
-            );
+            final AstoUpload upload = this.upload(uuid);
+            result = upload.state().thenApply(
+                state -> state.<Upload>map(ignored -> upload)
+            ).toCompletableFuture();
         }
         return result;
     }
+
+    /**
+     * Create upload instance by UUID.
+     *
+     * @param uuid Upload UUID.
+     * @return Upload.
+     */
+    private AstoUpload upload(final String uuid) {
+        return new AstoUpload(
+            this.asto, this.layout, this.name, uuid, this.sessions, this.cpu
+        );
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory registry of sizes of blobs put to storage by this registry.
+ * Blob content never changes, so known size is not read from storage again.
+ * Blob may still be deleted from storage, so lookups check it exists
+ * and forget sizes of deleted blobs.
+ *
+ * @since 0.17
+ */
+public final class BlobSizes {
+
+    /**
+     * Default maximum number of remembered blobs.
+     */
+    private static final int DEFAULT_MAX = 100_000;
+
+    /**
+     * Blob sizes by blob key.
+     */
+    private final ConcurrentMap<String, Long> sizes;
+
+    /**
+     * Maximum number of remembered blobs.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     */
+    public BlobSizes() {
+        this(BlobSizes.DEFAULT_MAX);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param max Maximum number of remembered blobs.
+     */
+    public BlobSizes(final int max) {
+        this.sizes = new ConcurrentHashMap<>();
+        this.max = max;
+    }
+
+    /**
+     * Get remembered blob size.
+     *
+     * @param key Blob key.
+     * @return Blob size, empty if not known.
+     */
+    Optional<Long> get(final Key key) {
+        return Optional.ofNullable(this.sizes.get(key.string()));
+    }
+
+    /**
+     * Remember blob size.
+     *
+     * @param key Blob key.
+     * @param size Blob size.
+     */
+    void put(final Key key, final long size) {
+        if (this.sizes.size() >= this.max && !this.sizes.containsKey(key.string())) {
+            final Iterator<String> iter = this.sizes.keySet().iterator();
+            if (iter.hasNext()) {
+                this.sizes.remove(iter.next());
+            }
+        }
+        this.sizes.put(key.string(), size);
+    }
+
+    /**
+     * Forget size of blob deleted from storage.
+     *
+     * @param key Blob key.
+     */
+    void remove(final Key key) {
+        this.sizes.remove(key.string());
+    }
+}
@@ -7,8 +7,14 @@ package com.artipie.docker.asto;
 
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 /**
  * Docker registry blob store.
@@ -30,5 +36,32 @@ public interface BlobStore {
      * @return Added blob.
      */
     CompletionStage<Blob> put(BlobSource source);
+
+    /**
+     * Find which of blobs are not in the store.
+     * Default implementation looks up all blobs concurrently,
+     * stores able to answer for many blobs at once should override it.
+     *
+     * @param digests Blob digests.
+     * @return Digests of missing blobs, in order of given digests.
+     */
+    default CompletionStage<List<Digest>> missing(final Collection<Digest> digests) {
+        final List<CompletableFuture<Optional<Blob>>> found = digests.stream()
+            .map(digest -> this.blob(digest).toCompletableFuture())
+            .collect(Collectors.toList());
+        return CompletableFuture.allOf(found.toArray(new CompletableFuture<?>[0])).thenApply(
+            nothing -> {
+                final List<Digest> missing = new ArrayList<>(0);
+                final Iterator<Digest> iter = digests.iterator();
+                for (final CompletableFuture<Optional<Blob>> blob : found) {
+                    final Digest digest = iter.next();
+                    if (!blob.join().isPresent()) {
+                        missing.add(digest);
+                    }
+                }
+                return missing;
+            }
+        );
+    }
 }
 
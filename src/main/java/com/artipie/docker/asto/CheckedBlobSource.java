@@ -11,6 +11,7 @@ import com.artipie.docker.Digest;
 import com.artipie.docker.error.InvalidDigestException;
 import com.artipie.docker.misc.DigestedFlowable;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * BlobSource which content is checked against digest on saving.
@@ -29,6 +30,11 @@ public final class CheckedBlobSource implements BlobSource {
      */
     private final Digest dig;
 
+    /**
+     * Executor hashing content.
+     */
+    private final Executor executor;
+
     /**
      * Ctor.
      *
@@ -36,8 +42,20 @@ public final class CheckedBlobSource implements BlobSource {
      * @param dig Blob digest.
      */
     public CheckedBlobSource(final Content content, final Digest dig) {
+        this(content, dig, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param content Blob content.
+     * @param dig Blob digest.
+     * @param executor Executor hashing content, so it is not hashed on storage threads.
+     */
+    public CheckedBlobSource(final Content content, final Digest dig, final Executor executor) {
         this.content = content;
         this.dig = dig;
+        this.executor = executor;
     }
 
     @Override
@@ -47,7 +65,7 @@ public final class CheckedBlobSource implements BlobSource {
 
     @Override
     public CompletionStage<Void> saveTo(final Storage storage, final Key key) {
-        final DigestedFlowable digested = new DigestedFlowable(this.content);
+        final DigestedFlowable digested = new DigestedFlowable(this.content, this.executor);
         final Content checked = new Content.From(
             this.content.size(),
             digested.doOnComplete(
@@ -0,0 +1,28 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage able to assemble value from parts on storage side,
+ * e.g. object store with multipart upload or compose operation.
+ *
+ * @since 0.17
+ */
+public interface ComposableStorage extends Storage {
+
+    /**
+     * Compose value from parts. Parts remain in storage after composition.
+     *
+     * @param parts Keys of parts in order of composition.
+     * @param target Destination key.
+     * @return Completion of compose operation.
+     */
+    CompletableFuture<Void> compose(List<Key> parts, Key target);
+}
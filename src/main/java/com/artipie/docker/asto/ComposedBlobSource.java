@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.docker.Digest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * BlobSource composed from parts already stored in storage.
+ * Parts content is trusted and does not require digest validation.
+ *
+ * @since 0.17
+ */
+public final class ComposedBlobSource implements BlobSource {
+
+    /**
+     * Keys of parts in order of composition.
+     */
+    private final List<Key> parts;
+
+    /**
+     * Blob digest.
+     */
+    private final Digest dig;
+
+    /**
+     * Ctor.
+     *
+     * @param parts Keys of parts in order of composition.
+     * @param dig Blob digest.
+     */
+    public ComposedBlobSource(final List<Key> parts, final Digest dig) {
+        this.parts = new ArrayList<>(parts);
+        this.dig = dig;
+    }
+
+    @Override
+    public Digest digest() {
+        return this.dig;
+    }
+
+    @Override
+    public CompletionStage<Void> saveTo(final Storage storage, final Key key) {
+        return storage.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Void> result;
+                if (exists) {
+                    result = CompletableFuture.allOf();
+                } else {
+                    result = new Composition(storage).compose(this.parts, key);
+                }
+                return result;
+            }
+        );
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Composition of storage value from parts.
+ * Uses native composition if storage is {@link ComposableStorage},
+ * falls back to streaming concatenation of parts otherwise.
+ *
+ * @since 0.17
+ */
+public final class Composition {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Ctor.
+     *
+     * @param storage Storage.
+     */
+    public Composition(final Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Compose parts into target key.
+     * Single part is moved to target, in other cases parts remain in storage.
+     *
+     * @param parts Keys of parts in order of composition.
+     * @param target Destination key.
+     * @return Completion of compose operation.
+     */
+    public CompletionStage<Void> compose(final List<Key> parts, final Key target) {
+        final CompletionStage<Void> result;
+        if (parts.size() == 1) {
+            result = this.storage.move(parts.get(0), target);
+        } else if (!parts.isEmpty() && this.storage instanceof ComposableStorage) {
+            result = ((ComposableStorage) this.storage).compose(parts, target);
+        } else {
+            result = this.storage.save(target, this.content(parts));
+        }
+        return result;
+    }
+
+    /**
+     * Content of parts concatenated, parts are read one by one while content is consumed.
+     *
+     * @param parts Keys of parts in order of composition.
+     * @return Concatenated content.
+     */
+    public Content content(final List<Key> parts) {
+        return new Content.From(
+            Flowable.fromIterable(parts).concatMap(
+                key -> SingleInterop.fromFuture(this.storage.value(key))
+                    .flatMapPublisher(content -> content)
+            )
+        );
+    }
+}
@@ -0,0 +1,538 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.Digests;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.misc.FileMapping;
+import com.artipie.docker.misc.WorkPools;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Size-bounded local disk tier of blobs.
+ * Blobs are stored in {@code <dir>/<alg>/<hex>} files and evicted in least recently used
+ * order when total size exceeds the budget. Tier is filled on read: content of origin blob
+ * is copied to temporary file while it is being consumed, checked against blob digest
+ * and moved to the tier only if it matches.
+ * Index of the tier is loaded from disk on first access, so tier survives restarts,
+ * temporary files left by fills interrupted by restart are removed then.
+ * File system operations of the tier run on blocking executor: filling content is copied
+ * and written to file there, so reading content does not wait for disk.
+ *
+ * @since 0.17
+ */
+public final class HotTier {
+
+    /**
+     * Directory for partially filled blobs.
+     */
+    private static final String TMP = "tmp";
+
+    /**
+     * Maximum number of bytes of one fill waiting to be written to disk,
+     * fill is abandoned if disk does not keep up with content consumer.
+     */
+    private static final long BACKLOG = 64L * 1024 * 1024;
+
+    /**
+     * Tier root directory.
+     */
+    private final Path dir;
+
+    /**
+     * Maximum total size of blobs in bytes.
+     */
+    private final long max;
+
+    /**
+     * Executor of file system operations.
+     */
+    private final Executor blocking;
+
+    /**
+     * Blob sizes by digest, in access order.
+     */
+    private final Map<Digest.Compact, Long> index;
+
+    /**
+     * Total size of indexed blobs.
+     */
+    private long used;
+
+    /**
+     * Whether index was loaded from disk.
+     */
+    private boolean loaded;
+
+    /**
+     * Ctor.
+     *
+     * @param dir Tier root directory.
+     * @param max Maximum total size of blobs in bytes.
+     */
+    public HotTier(final Path dir, final long max) {
+        this(dir, max, new WorkPools().blocking());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param dir Tier root directory.
+     * @param max Maximum total size of blobs in bytes.
+     * @param blocking Executor of file system operations.
+     */
+    public HotTier(final Path dir, final long max, final Executor blocking) {
+        this.dir = dir;
+        this.max = max;
+        this.blocking = blocking;
+        this.index = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Find blob in tier.
+     *
+     * @param digest Blob digest.
+     * @return Blob if it is present in tier, empty otherwise.
+     */
+    public CompletionStage<Optional<Blob>> find(final Digest digest) {
+        return Single.fromCallable(
+            () -> {
+                Optional<Long> size = Optional.empty();
+                if (Digest.Compact.supports(digest)) {
+                    final Digest.Compact key = new Digest.Compact(digest);
+                    synchronized (this.index) {
+                        this.load();
+                        size = Optional.ofNullable(this.index.get(key));
+                    }
+                }
+                return size.<Blob>map(len -> new LocalBlob(digest, this.path(digest), len));
+            }
+        ).subscribeOn(Schedulers.from(this.blocking)).to(SingleInterop.get());
+    }
+
+    /**
+     * Fill tier with blob content while it is consumed.
+     * Content is put to the tier when it is fully read and matches the digest,
+     * consumer gets origin bytes regardless of the tier state.
+     *
+     * @param digest Blob digest.
+     * @param origin Origin content.
+     * @return Content filling the tier.
+     */
+    public Content fill(final Digest digest, final Content origin) {
+        final Content result;
+        if (origin.size().map(size -> size > this.max).orElse(false)
+            || !"sha256".equals(digest.alg())) {
+            result = origin;
+        } else {
+            result = new Content.From(
+                origin.size(),
+                Flowable.using(
+                    () -> new Filling(this.dir.resolve(HotTier.TMP), digest),
+                    filling -> Flowable.fromPublisher(origin)
+                        .doOnNext(filling::write)
+                        .doOnComplete(filling::complete),
+                    Filling::close
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Total size of blobs in tier.
+     *
+     * @return Size in bytes.
+     */
+    public long size() {
+        synchronized (this.index) {
+            this.load();
+            return this.used;
+        }
+    }
+
+    /**
+     * Put filled blob file to the tier and evict blobs exceeding the budget.
+     * Files are moved and deleted holding index lock, so eviction of a blob
+     * does not remove file of the same blob being added concurrently.
+     *
+     * @param digest Blob digest.
+     * @param file Filled blob file.
+     * @param size Blob size.
+     * @throws IOException On failure.
+     */
+    private void add(final Digest digest, final Path file, final long size) throws IOException {
+        final Path target = this.path(digest);
+        Files.createDirectories(target.getParent());
+        synchronized (this.index) {
+            this.load();
+            Files.move(
+                file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING
+            );
+            final Long prev = this.index.put(new Digest.Compact(digest), size);
+            if (prev != null) {
+                this.used -= prev;
+            }
+            this.used += size;
+            final Iterator<Map.Entry<Digest.Compact, Long>> iter =
+                this.index.entrySet().iterator();
+            while (this.used > this.max && iter.hasNext()) {
+                final Map.Entry<Digest.Compact, Long> eldest = iter.next();
+                iter.remove();
+                this.used -= eldest.getValue();
+                Files.deleteIfExists(this.path(eldest.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Load index from disk if not loaded yet and remove temporary files of interrupted fills.
+     * Should be called holding index lock, fills load index before they start.
+     */
+    private void load() {
+        if (!this.loaded) {
+            this.loaded = true;
+            if (Files.isDirectory(this.dir)) {
+                try (Stream<Path> algs = Files.list(this.dir)) {
+                    final List<Path> files = new ArrayList<>(0);
+                    for (final Path alg : algs.collect(Collectors.toList())) {
+                        try (Stream<Path> blobs = Files.list(alg)) {
+                            if (alg.getFileName().toString().equals(HotTier.TMP)) {
+                                for (final Path tmp : blobs.collect(Collectors.toList())) {
+                                    Files.deleteIfExists(tmp);
+                                }
+                            } else {
+                                files.addAll(blobs.collect(Collectors.toList()));
+                            }
+                        }
+                    }
+                    files.sort(Comparator.comparing(HotTier::modified));
+                    for (final Path file : files) {
+                        final Digest digest = new Digest.FromString(
+                            String.format(
+                                "%s:%s", file.getParent().getFileName(), file.getFileName()
+                            )
+                        );
+                        if (Digest.Compact.supports(digest)) {
+                            final long size = Files.size(file);
+                            this.index.put(new Digest.Compact(digest), size);
+                            this.used += size;
+                        }
+                    }
+                } catch (final IOException ex) {
+                    throw new ArtipieIOException(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Path to blob file.
+     *
+     * @param digest Blob digest.
+     * @return File path.
+     */
+    private Path path(final Digest digest) {
+        return this.dir.resolve(digest.alg()).resolve(digest.hex());
+    }
+
+    /**
+     * Last modified time of file.
+     *
+     * @param file File.
+     * @return Modified time in millis.
+     */
+    private static long modified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Blob stored in tier.
+     *
+     * @since 0.17
+     */
+    private static final class LocalBlob implements Blob {
+
+        /**
+         * Blob digest.
+         */
+        private final Digest dig;
+
+        /**
+         * Blob file.
+         */
+        private final Path file;
+
+        /**
+         * Blob size.
+         */
+        private final long len;
+
+        /**
+         * Ctor.
+         *
+         * @param dig Blob digest.
+         * @param file Blob file.
+         * @param len Blob size.
+         */
+        LocalBlob(final Digest dig, final Path file, final long len) {
+            this.dig = dig;
+            this.file = file;
+            this.len = len;
+        }
+
+        @Override
+        public Digest digest() {
+            return this.dig;
+        }
+
+        @Override
+        public CompletionStage<Long> size() {
+            return CompletableFuture.completedFuture(this.len);
+        }
+
+        @Override
+        public CompletionStage<Content> content() {
+            return new FileMapping(this.file).content();
+        }
+    }
+
+    /**
+     * Blob being copied to temporary file.
+     * Chunks of content are copied and written to file one after another on blocking
+     * executor, copying is abandoned on any failure, so it never affects reading
+     * of origin content. Methods are called by content stream one at a time,
+     * file channel, digest and written size are used only by executor tasks.
+     *
+     * @since 0.17
+     */
+    private final class Filling {
+
+        /**
+         * Directory for temporary files.
+         */
+        private final Path parent;
+
+        /**
+         * Temporary file.
+         */
+        private final Path tmp;
+
+        /**
+         * Blob digest.
+         */
+        private final Digest digest;
+
+        /**
+         * Running digest of written data.
+         */
+        private final MessageDigest sha;
+
+        /**
+         * Number of bytes copied and not yet written.
+         */
+        private final AtomicLong pending;
+
+        /**
+         * Last queued file operation.
+         */
+        private CompletableFuture<Void> tail;
+
+        /**
+         * Whether content is no longer copied.
+         */
+        private boolean dropped;
+
+        /**
+         * File channel, null if copying is abandoned.
+         */
+        private FileChannel channel;
+
+        /**
+         * Number of written bytes.
+         */
+        private long written;
+
+        /**
+         * Ctor.
+         *
+         * @param tmp Directory for temporary files.
+         * @param digest Blob digest.
+         */
+        Filling(final Path tmp, final Digest digest) {
+            this.parent = tmp;
+            this.tmp = tmp.resolve(UUID.randomUUID().toString());
+            this.digest = digest;
+            this.sha = Digests.SHA256.get();
+            this.pending = new AtomicLong();
+            this.tail = CompletableFuture.allOf();
+            this.then(this::open);
+        }
+
+        /**
+         * Copy chunk of content to be written to temporary file.
+         *
+         * @param buf Chunk of content.
+         */
+        void write(final ByteBuffer buf) {
+            if (!this.dropped) {
+                if (this.pending.addAndGet(buf.remaining()) > HotTier.BACKLOG) {
+                    this.dropped = true;
+                    this.then(this::abandon);
+                } else {
+                    final ByteBuffer copy = ByteBuffer.allocate(buf.remaining());
+                    copy.put(buf.asReadOnlyBuffer()).flip();
+                    this.then(() -> this.store(copy));
+                }
+            }
+        }
+
+        /**
+         * Put file to tier if content matches digest.
+         */
+        void complete() {
+            this.then(this::finish);
+        }
+
+        /**
+         * Release file channel and remove temporary file.
+         */
+        void close() {
+            this.then(
+                () -> {
+                    this.abandon();
+                    try {
+                        Files.deleteIfExists(this.tmp);
+                    } catch (final IOException ignored) {
+                        // temporary file is removed on next load of the tier
+                    }
+                }
+            );
+        }
+
+        /**
+         * Queue file operation after previous ones, regardless of their result.
+         *
+         * @param task File operation.
+         */
+        private void then(final Runnable task) {
+            this.tail = this.tail.handleAsync(
+                (nothing, err) -> {
+                    task.run();
+                    return null;
+                },
+                HotTier.this.blocking
+            );
+        }
+
+        /**
+         * Open temporary file.
+         */
+        private void open() {
+            try {
+                synchronized (HotTier.this.index) {
+                    HotTier.this.load();
+                }
+                Files.createDirectories(this.parent);
+                this.channel = FileChannel.open(
+                    this.tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE
+                );
+            } catch (final IOException | ArtipieIOException ex) {
+                this.channel = null;
+            }
+        }
+
+        /**
+         * Write copied chunk to temporary file.
+         *
+         * @param copy Copied chunk.
+         */
+        private void store(final ByteBuffer copy) {
+            final int len = copy.remaining();
+            if (this.channel != null) {
+                this.written += len;
+                if (this.written > HotTier.this.max) {
+                    this.abandon();
+                } else {
+                    try {
+                        this.sha.update(copy.duplicate());
+                        while (copy.hasRemaining()) {
+                            this.channel.write(copy);
+                        }
+                    } catch (final IOException ex) {
+                        this.abandon();
+                    }
+                }
+            }
+            this.pending.addAndGet(-len);
+        }
+
+        /**
+         * Close file and put it to tier if content matches digest.
+         */
+        private void finish() {
+            if (this.channel != null) {
+                try {
+                    this.channel.close();
+                    this.channel = null;
+                    if (Hex.encodeHexString(this.sha.digest()).equals(this.digest.hex())) {
+                        HotTier.this.add(this.digest, this.tmp, this.written);
+                    }
+                } catch (final IOException ex) {
+                    this.abandon();
+                }
+            }
+        }
+
+        /**
+         * Abandon copying.
+         */
+        private void abandon() {
+            final FileChannel open = this.channel;
+            this.channel = null;
+            if (open != null) {
+                try {
+                    open.close();
+                } catch (final IOException ignored) {
+                    // temporary file is removed on close, nothing to recover here
+                }
+            }
+        }
+    }
+}
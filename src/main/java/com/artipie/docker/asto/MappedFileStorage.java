@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.fs.FileStorage;
+import com.artipie.docker.misc.FileMapping;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * File system storage serving large values from memory-mapped files.
+ * Values not smaller than threshold (blobs, in practice) are published as slices of
+ * memory-mapped file, so reading them does not allocate and fill heap buffers.
+ * HTTP server still copies bytes it sends, see {@link FileMapping} about it and about
+ * lifetime of mapped regions. Value size is checked by the same blocking task that
+ * maps the file, so mapping costs no extra storage call. Smaller and absent values
+ * and all other operations are delegated to {@link FileStorage}.
+ *
+ * @since 0.17
+ */
+public final class MappedFileStorage implements Storage {
+
+    /**
+     * Default minimal size of mapped value.
+     */
+    private static final long DEFAULT_THRESHOLD = 1024 * 1024;
+
+    /**
+     * Storage root directory.
+     */
+    private final Path dir;
+
+    /**
+     * Minimal size of value to be mapped.
+     */
+    private final long threshold;
+
+    /**
+     * File storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Ctor.
+     *
+     * @param dir Storage root directory.
+     */
+    public MappedFileStorage(final Path dir) {
+        this(dir, MappedFileStorage.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param dir Storage root directory.
+     * @param threshold Minimal size of value to be mapped.
+     */
+    public MappedFileStorage(final Path dir, final long threshold) {
+        this.dir = dir;
+        this.threshold = threshold;
+        this.origin = new FileStorage(dir);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.origin.exists(key);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.origin.save(key, content);
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.origin.move(source, destination);
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.origin.size(key);
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return new FileMapping(Paths.get(this.dir.toString(), key.string()))
+            .content(this.threshold)
+            .thenCompose(
+                mapped -> mapped.<CompletionStage<Content>>map(
+                    CompletableFuture::completedFuture
+                ).orElseGet(() -> this.origin.value(key))
+            ).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(key, operation);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import io.reactivex.Flowable;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Storage recording every operation, its latency and transferred bytes to {@link StorageMeter}.
+ * Latency is measured from operation call to completion of its future,
+ * bytes are counted while value content is read or saved content is consumed.
+ * Storage is metered as plain {@link Storage}, see {@link Composing} and {@link Signing}
+ * to keep origin able to compose values or issue download URLs.
+ *
+ * @since 0.17
+ */
+public final class MeteredStorage implements Storage {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Meter.
+     */
+    private final StorageMeter meter;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin storage.
+     * @param meter Meter.
+     */
+    public MeteredStorage(final Storage origin, final StorageMeter meter) {
+        this.origin = origin;
+        this.meter = meter;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.measured(StorageMeter.Operation.EXISTS, () -> this.origin.exists(key));
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.measured(StorageMeter.Operation.LIST, () -> this.origin.list(prefix));
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.measured(
+            StorageMeter.Operation.SAVE,
+            () -> this.origin.save(
+                key,
+                new Content.From(
+                    content.size(),
+                    Flowable.fromPublisher(content)
+                        .doOnNext(buf -> this.meter.written(buf.remaining()))
+                )
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.measured(
+            StorageMeter.Operation.MOVE, () -> this.origin.move(source, destination)
+        );
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.measured(StorageMeter.Operation.SIZE, () -> this.origin.size(key));
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.measured(
+            StorageMeter.Operation.VALUE,
+            () -> this.origin.value(key).thenApply(
+                content -> new Content.From(
+                    content.size(),
+                    Flowable.fromPublisher(content)
+                        .doOnNext(buf -> this.meter.read(buf.remaining()))
+                )
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.measured(StorageMeter.Operation.DELETE, () -> this.origin.delete(key));
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.measured(
+            StorageMeter.Operation.EXCLUSIVELY,
+            () -> this.origin.exclusively(
+                key, storage -> operation.apply(new MeteredStorage(storage, this.meter))
+            ).toCompletableFuture()
+        );
+    }
+
+    /**
+     * Record operation when it completes.
+     *
+     * @param operation Operation.
+     * @param call Call of origin storage operation.
+     * @param <T> Result type.
+     * @return Future completed after operation is recorded.
+     */
+    private <T> CompletableFuture<T> measured(
+        final StorageMeter.Operation operation,
+        final Supplier<CompletableFuture<T>> call
+    ) {
+        final long start = System.nanoTime();
+        return call.get().whenComplete(
+            (res, err) -> this.meter.operation(operation, System.nanoTime() - start)
+        );
+    }
+
+    /**
+     * Metered storage composing values from parts by origin storage.
+     *
+     * @since 0.17
+     */
+    public static final class Composing extends Storage.Wrap implements ComposableStorage {
+
+        /**
+         * Origin storage.
+         */
+        private final ComposableStorage origin;
+
+        /**
+         * Metered origin storage.
+         */
+        private final MeteredStorage metered;
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin storage.
+         * @param meter Meter.
+         */
+        public Composing(final ComposableStorage origin, final StorageMeter meter) {
+            this(origin, new MeteredStorage(origin, meter));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin storage.
+         * @param metered Metered origin storage.
+         */
+        private Composing(final ComposableStorage origin, final MeteredStorage metered) {
+            super(metered);
+            this.origin = origin;
+            this.metered = metered;
+        }
+
+        @Override
+        public CompletableFuture<Void> compose(final List<Key> parts, final Key target) {
+            return this.metered.measured(
+                StorageMeter.Operation.COMPOSE, () -> this.origin.compose(parts, target)
+            );
+        }
+    }
+
+    /**
+     * Metered storage issuing download URLs by origin storage.
+     *
+     * @since 0.17
+     */
+    public static final class Signing extends Storage.Wrap implements SignedUrlStorage {
+
+        /**
+         * Origin storage.
+         */
+        private final SignedUrlStorage origin;
+
+        /**
+         * Metered origin storage.
+         */
+        private final MeteredStorage metered;
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin storage.
+         * @param meter Meter.
+         */
+        public Signing(final SignedUrlStorage origin, final StorageMeter meter) {
+            this(origin, new MeteredStorage(origin, meter));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin storage.
+         * @param metered Metered origin storage.
+         */
+        private Signing(final SignedUrlStorage origin, final MeteredStorage metered) {
+            super(metered);
+            this.origin = origin;
+            this.metered = metered;
+        }
+
+        @Override
+        public CompletableFuture<URI> url(final Key key) {
+            return this.metered.measured(StorageMeter.Operation.URL, () -> this.origin.url(key));
+        }
+    }
+}
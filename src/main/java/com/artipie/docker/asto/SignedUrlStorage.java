@@ -0,0 +1,29 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage able to issue time-limited URLs for direct download of values,
+ * e.g. object store with pre-signed URLs.
+ * Blobs are served by redirecting clients to issued URLs when storage is passed
+ * to {@link AstoDocker} as URL issuer explicitly, storage type alone does not enable it.
+ *
+ * @since 0.17
+ */
+public interface SignedUrlStorage extends Storage {
+
+    /**
+     * Issue URL to download value directly from storage.
+     *
+     * @param key Value key.
+     * @return Signed URL valid for limited time.
+     */
+    CompletableFuture<URI> url(Key key);
+}
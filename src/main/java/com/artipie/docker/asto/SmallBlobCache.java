@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.Digest;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Byte-budgeted in-memory cache of small blobs, like image configs and manifests.
+ * Blobs are addressed by digest, so they never change and entries need no invalidation:
+ * least recently used entries are evicted when total size exceeds the budget.
+ *
+ * @since 0.17
+ */
+public final class SmallBlobCache {
+
+    /**
+     * Default maximum size of cached blob.
+     */
+    private static final long DEFAULT_THRESHOLD = 64 * 1024;
+
+    /**
+     * Maximum total size of cached blobs.
+     */
+    private final long budget;
+
+    /**
+     * Maximum size of cached blob.
+     */
+    private final long threshold;
+
+    /**
+     * Blob bytes by digest string, in access order.
+     */
+    private final Map<String, byte[]> entries;
+
+    /**
+     * Total size of cached blobs.
+     */
+    private long used;
+
+    /**
+     * Ctor.
+     *
+     * @param budget Maximum total size of cached blobs.
+     */
+    public SmallBlobCache(final long budget) {
+        this(budget, SmallBlobCache.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param budget Maximum total size of cached blobs.
+     * @param threshold Maximum size of cached blob.
+     */
+    public SmallBlobCache(final long budget, final long threshold) {
+        this.budget = budget;
+        this.threshold = Math.min(budget, threshold);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Get cached blob bytes.
+     *
+     * @param digest Blob digest.
+     * @return Blob bytes, empty if blob is not cached.
+     */
+    public Optional<byte[]> get(final Digest digest) {
+        synchronized (this.entries) {
+            return Optional.ofNullable(this.entries.get(digest.string()));
+        }
+    }
+
+    /**
+     * Fill cache with blob content while it is consumed.
+     * Content of unknown size or larger than threshold is not cached.
+     *
+     * @param digest Blob digest.
+     * @param origin Origin content.
+     * @return Content filling the cache.
+     */
+    public Content fill(final Digest digest, final Content origin) {
+        final Content result;
+        if (origin.size().map(size -> size <= this.threshold).orElse(false)) {
+            final int size = origin.size().get().intValue();
+            result = new Content.From(
+                origin.size(),
+                Flowable.defer(
+                    () -> {
+                        final ByteBuffer acc = ByteBuffer.allocate(size);
+                        return Flowable.fromPublisher(origin)
+                            .doOnNext(
+                                buf -> {
+                                    if (buf.remaining() <= acc.remaining()) {
+                                        acc.put(buf.duplicate());
+                                    }
+                                }
+                            )
+                            .doOnComplete(
+                                () -> {
+                                    if (!acc.hasRemaining()) {
+                                        this.put(digest, acc.array());
+                                    }
+                                }
+                            );
+                    }
+                )
+            );
+        } else {
+            result = origin;
+        }
+        return result;
+    }
+
+    /**
+     * Total size of cached blobs.
+     *
+     * @return Size in bytes.
+     */
+    public long size() {
+        synchronized (this.entries) {
+            return this.used;
+        }
+    }
+
+    /**
+     * Put blob bytes to cache, evicting least recently used entries over budget.
+     *
+     * @param digest Blob digest.
+     * @param bytes Blob bytes.
+     */
+    private void put(final Digest digest, final byte[] bytes) {
+        synchronized (this.entries) {
+            final byte[] prev = this.entries.put(digest.string(), bytes);
+            if (prev != null) {
+                this.used -= prev.length;
+            }
+            this.used += bytes.length;
+            final Iterator<byte[]> iter = this.entries.values().iterator();
+            while (this.used > this.budget && iter.hasNext()) {
+                this.used -= iter.next().length;
+                iter.remove();
+            }
+        }
+    }
+}
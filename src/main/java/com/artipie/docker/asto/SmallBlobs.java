@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import io.reactivex.Flowable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Blob store serving small blobs from memory.
+ * Cached blobs are read without touching origin store at all,
+ * other blobs are put to the cache on read if they are small enough.
+ *
+ * @since 0.17
+ */
+public final class SmallBlobs implements BlobStore {
+
+    /**
+     * Origin blob store.
+     */
+    private final BlobStore origin;
+
+    /**
+     * Small blobs cache.
+     */
+    private final SmallBlobCache cache;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin blob store.
+     * @param cache Small blobs cache.
+     */
+    public SmallBlobs(final BlobStore origin, final SmallBlobCache cache) {
+        this.origin = origin;
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletionStage<Optional<Blob>> blob(final Digest digest) {
+        return this.cache.get(digest).<CompletionStage<Optional<Blob>>>map(
+            bytes -> CompletableFuture.completedFuture(Optional.of(new MemoryBlob(digest, bytes)))
+        ).orElseGet(
+            () -> this.origin.blob(digest).thenApply(blob -> blob.map(FillingBlob::new))
+        );
+    }
+
+    @Override
+    public CompletionStage<Blob> put(final BlobSource source) {
+        return this.origin.put(source);
+    }
+
+    @Override
+    public CompletionStage<List<Digest>> missing(final Collection<Digest> digests) {
+        return this.origin.missing(digests);
+    }
+
+    /**
+     * Blob served from memory.
+     *
+     * @since 0.17
+     */
+    private static final class MemoryBlob implements Blob {
+
+        /**
+         * Blob digest.
+         */
+        private final Digest dig;
+
+        /**
+         * Blob bytes.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Ctor.
+         *
+         * @param dig Blob digest.
+         * @param bytes Blob bytes.
+         */
+        MemoryBlob(final Digest dig, final byte[] bytes) {
+            this.dig = dig;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Digest digest() {
+            return this.dig;
+        }
+
+        @Override
+        public CompletionStage<Long> size() {
+            return CompletableFuture.completedFuture((long) this.bytes.length);
+        }
+
+        @Override
+        public CompletionStage<Content> content() {
+            return CompletableFuture.completedFuture(
+                new Content.From(
+                    Optional.of((long) this.bytes.length),
+                    Flowable.fromCallable(() -> ByteBuffer.wrap(this.bytes).asReadOnlyBuffer())
+                )
+            );
+        }
+    }
+
+    /**
+     * Origin blob filling the cache on read.
+     *
+     * @since 0.17
+     */
+    private final class FillingBlob implements Blob {
+
+        /**
+         * Origin blob.
+         */
+        private final Blob blob;
+
+        /**
+         * Ctor.
+         *
+         * @param blob Origin blob.
+         */
+        FillingBlob(final Blob blob) {
+            this.blob = blob;
+        }
+
+        @Override
+        public Digest digest() {
+            return this.blob.digest();
+        }
+
+        @Override
+        public CompletionStage<Long> size() {
+            return this.blob.size();
+        }
+
+        @Override
+        public CompletionStage<Content> content() {
+            return this.blob.content().thenApply(
+                content -> SmallBlobs.this.cache.fill(this.digest(), content)
+            );
+        }
+
+        @Override
+        public CompletionStage<Optional<URI>> location() {
+            return this.blob.location();
+        }
+    }
+}
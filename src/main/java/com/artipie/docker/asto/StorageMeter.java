@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of storage operations, transferred bytes and operations latency.
+ *
+ * @since 0.17
+ */
+public final class StorageMeter {
+
+    /**
+     * Number of operations by operation ordinal.
+     */
+    private final LongAdder[] counts;
+
+    /**
+     * Total latency of operations in nanoseconds.
+     */
+    private final LongAdder nanos;
+
+    /**
+     * Bytes read from storage.
+     */
+    private final LongAdder read;
+
+    /**
+     * Bytes written to storage.
+     */
+    private final LongAdder written;
+
+    /**
+     * Ctor.
+     */
+    public StorageMeter() {
+        this.counts = new LongAdder[Operation.values().length];
+        Arrays.setAll(this.counts, idx -> new LongAdder());
+        this.nanos = new LongAdder();
+        this.read = new LongAdder();
+        this.written = new LongAdder();
+    }
+
+    /**
+     * Record completed operation.
+     *
+     * @param operation Operation.
+     * @param latency Time from operation call to its completion in nanoseconds.
+     */
+    public void operation(final Operation operation, final long latency) {
+        this.counts[operation.ordinal()].increment();
+        this.nanos.add(latency);
+    }
+
+    /**
+     * Record bytes read from storage.
+     *
+     * @param bytes Number of bytes.
+     */
+    public void read(final long bytes) {
+        this.read.add(bytes);
+    }
+
+    /**
+     * Record bytes written to storage.
+     *
+     * @param bytes Number of bytes.
+     */
+    public void written(final long bytes) {
+        this.written.add(bytes);
+    }
+
+    /**
+     * Number of completed operations of given kind.
+     *
+     * @param operation Operation.
+     * @return Operations count.
+     */
+    public long count(final Operation operation) {
+        return this.counts[operation.ordinal()].sum();
+    }
+
+    /**
+     * Number of all completed operations.
+     *
+     * @return Operations count.
+     */
+    public long operations() {
+        long total = 0;
+        for (final LongAdder count : this.counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Total latency of all completed operations.
+     *
+     * @return Latency.
+     */
+    public Duration latency() {
+        return Duration.ofNanos(this.nanos.sum());
+    }
+
+    /**
+     * Bytes read from storage.
+     *
+     * @return Number of bytes.
+     */
+    public long bytesRead() {
+        return this.read.sum();
+    }
+
+    /**
+     * Bytes written to storage.
+     *
+     * @return Number of bytes.
+     */
+    public long bytesWritten() {
+        return this.written.sum();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder();
+        for (final Operation operation : Operation.values()) {
+            str.append(operation.name().toLowerCase(Locale.ROOT)).append('=')
+                .append(this.count(operation)).append(' ');
+        }
+        return str.append("read=").append(this.bytesRead())
+            .append(" written=").append(this.bytesWritten())
+            .append(" latency=").append(this.latency())
+            .toString();
+    }
+
+    /**
+     * Storage operation.
+     *
+     * @since 0.17
+     */
+    public enum Operation {
+        /**
+         * Check key exists.
+         */
+        EXISTS,
+
+        /**
+         * List keys by prefix.
+         */
+        LIST,
+
+        /**
+         * Save value.
+         */
+        SAVE,
+
+        /**
+         * Move value.
+         */
+        MOVE,
+
+        /**
+         * Read value size.
+         */
+        SIZE,
+
+        /**
+         * Read value.
+         */
+        VALUE,
+
+        /**
+         * Delete value.
+         */
+        DELETE,
+
+        /**
+         * Run operations exclusively.
+         */
+        EXCLUSIVELY,
+
+        /**
+         * Compose value from parts, see {@link ComposableStorage}.
+         */
+        COMPOSE,
+
+        /**
+         * Issue download URL, see {@link SignedUrlStorage}.
+         */
+        URL
+    }
+}
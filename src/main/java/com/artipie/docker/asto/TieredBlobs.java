@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.FailedCompletionStage;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Blob store with local hot tier in front of origin store.
+ * Blobs found in the tier are served from local disk,
+ * other blobs are read from origin and put to the tier on read.
+ * Tier is addressed by digest only, so sharing one tier between repositories is safe
+ * with layouts storing blobs by digest, like {@link DefaultLayout}.
+ * Tier is preferred to redirects of origin: blobs missing in the tier are streamed
+ * through it to fill it, so they are not served by redirect even if origin issues URLs.
+ *
+ * @since 0.17
+ */
+public final class TieredBlobs implements BlobStore {
+
+    /**
+     * Origin blob store.
+     */
+    private final BlobStore origin;
+
+    /**
+     * Hot tier.
+     */
+    private final HotTier tier;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin blob store.
+     * @param tier Hot tier.
+     */
+    public TieredBlobs(final BlobStore origin, final HotTier tier) {
+        this.origin = origin;
+        this.tier = tier;
+    }
+
+    @Override
+    public CompletionStage<Optional<Blob>> blob(final Digest digest) {
+        return this.tier.find(digest).thenCompose(
+            found -> {
+                final CompletionStage<Optional<Blob>> result;
+                if (found.isPresent()) {
+                    result = CompletableFuture.completedFuture(
+                        Optional.of(new HotBlob(found.get(), this.origin))
+                    );
+                } else {
+                    result = this.origin.blob(digest).thenApply(
+                        blob -> blob.map(ColdBlob::new)
+                    );
+                }
+                return result;
+            }
+        );
+    }
+
+    @Override
+    public CompletionStage<Blob> put(final BlobSource source) {
+        return this.origin.put(source);
+    }
+
+    @Override
+    public CompletionStage<List<Digest>> missing(final Collection<Digest> digests) {
+        return this.origin.missing(digests);
+    }
+
+    /**
+     * Blob found in hot tier, falling back to origin if it was evicted.
+     *
+     * @since 0.17
+     */
+    private static final class HotBlob implements Blob {
+
+        /**
+         * Blob in hot tier.
+         */
+        private final Blob local;
+
+        /**
+         * Origin blob store.
+         */
+        private final BlobStore origin;
+
+        /**
+         * Ctor.
+         *
+         * @param local Blob in hot tier.
+         * @param origin Origin blob store.
+         */
+        HotBlob(final Blob local, final BlobStore origin) {
+            this.local = local;
+            this.origin = origin;
+        }
+
+        @Override
+        public Digest digest() {
+            return this.local.digest();
+        }
+
+        @Override
+        public CompletionStage<Long> size() {
+            return this.local.size();
+        }
+
+        @Override
+        public CompletionStage<Content> content() {
+            return this.local.content().handle(
+                (content, err) -> {
+                    final CompletionStage<Content> result;
+                    if (err == null) {
+                        result = CompletableFuture.completedFuture(content);
+                    } else {
+                        result = this.origin.blob(this.digest()).thenCompose(
+                            blob -> blob.map(Blob::content).orElseGet(
+                                () -> new FailedCompletionStage<>(
+                                    new ArtipieIOException(
+                                        String.format("Blob %s is lost", this.digest().string())
+                                    )
+                                )
+                            )
+                        );
+                    }
+                    return result;
+                }
+            ).thenCompose(stage -> stage);
+        }
+    }
+
+    /**
+     * Origin blob filling hot tier on read.
+     *
+     * @since 0.17
+     */
+    private final class ColdBlob implements Blob {
+
+        /**
+         * Origin blob.
+         */
+        private final Blob blob;
+
+        /**
+         * Ctor.
+         *
+         * @param blob Origin blob.
+         */
+        ColdBlob(final Blob blob) {
+            this.blob = blob;
+        }
+
+        @Override
+        public Digest digest() {
+            return this.blob.digest();
+        }
+
+        @Override
+        public CompletionStage<Long> size() {
+            return this.blob.size();
+        }
+
+        @Override
+        public CompletionStage<Content> content() {
+            return this.blob.content().thenApply(
+                content -> TieredBlobs.this.tier.fill(this.digest(), content)
+            );
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory registry of blob upload sessions.
+ * Keeps state of every known upload so that upload requests do not need
+ * to list storage. Registry is a write-through cache: storage stays the source of truth,
+ * so state missing in registry (e.g. after restart or eviction) is loaded from storage lazily.
+ * Operations changing upload state are run one after another per upload,
+ * so concurrent appends to one upload do not start from the same state.
+ *
+ * @since 0.17
+ */
+public final class UploadSessions {
+
+    /**
+     * Default maximum number of sessions kept in memory.
+     */
+    private static final int DEFAULT_MAX = 10_000;
+
+    /**
+     * Upload states by upload root key.
+     */
+    private final ConcurrentMap<String, UploadState> states;
+
+    /**
+     * Last queued state changing operation by upload root key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<?>> tails;
+
+    /**
+     * Maximum number of sessions kept in memory.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     */
+    public UploadSessions() {
+        this(UploadSessions.DEFAULT_MAX);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param max Maximum number of sessions kept in memory.
+     */
+    public UploadSessions(final int max) {
+        this.states = new ConcurrentHashMap<>();
+        this.tails = new ConcurrentHashMap<>();
+        this.max = max;
+    }
+
+    /**
+     * Get upload state, loading it if absent in memory.
+     *
+     * @param root Upload root key.
+     * @param load Loads state from storage, empty if upload does not exist.
+     * @return Upload state, empty if upload does not exist.
+     */
+    CompletionStage<Optional<UploadState>> state(
+        final Key root,
+        final Supplier<CompletionStage<Optional<UploadState>>> load
+    ) {
+        final UploadState cached = this.states.get(root.string());
+        final CompletionStage<Optional<UploadState>> result;
+        if (cached == null) {
+            result = load.get().thenApply(
+                loaded -> {
+                    loaded.ifPresent(state -> this.update(root, state));
+                    return loaded;
+                }
+            );
+        } else {
+            result = CompletableFuture.completedFuture(Optional.of(cached));
+        }
+        return result;
+    }
+
+    /**
+     * Run operation changing upload state after previously queued operations
+     * of the same upload complete, successfully or not.
+     *
+     * @param root Upload root key.
+     * @param operation Operation.
+     * @param <T> Operation result type.
+     * @return Operation result.
+     */
+    public <T> CompletionStage<T> serial(final Key root,
+        final Supplier<CompletionStage<T>> operation) {
+        final String key = root.string();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final CompletableFuture<?> previous = this.tails.put(key, result);
+        final Runnable run = () -> {
+            CompletionStage<T> stage;
+            try {
+                stage = operation.get();
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final RuntimeException ex) {
+                final CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(ex);
+                stage = failed;
+            }
+            stage.whenComplete(
+                (res, err) -> {
+                    this.tails.remove(key, result);
+                    if (err == null) {
+                        result.complete(res);
+                    } else {
+                        result.completeExceptionally(err);
+                    }
+                }
+            );
+        };
+        if (previous == null) {
+            run.run();
+        } else {
+            previous.whenComplete((res, err) -> run.run());
+        }
+        return result;
+    }
+
+    /**
+     * Update upload state. Should be called after state is written to storage.
+     *
+     * @param root Upload root key.
+     * @param state Upload state.
+     */
+    void update(final Key root, final UploadState state) {
+        if (this.states.size() >= this.max && !this.states.containsKey(root.string())) {
+            final Iterator<String> iter = this.states.keySet().iterator();
+            if (iter.hasNext()) {
+                this.states.remove(iter.next());
+            }
+        }
+        this.states.put(root.string(), state);
+    }
+
+    /**
+     * Forget upload state.
+     *
+     * @param root Upload root key.
+     */
+    void remove(final Key root) {
+        this.states.remove(root.string());
+    }
+}
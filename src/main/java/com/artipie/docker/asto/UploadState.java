@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.ext.Digests;
+import com.artipie.docker.Digest;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Immutable state of blob upload session: stored chunks, uploaded size and running digest.
+ *
+ * @since 0.17
+ */
+final class UploadState {
+
+    /**
+     * Chunk keys in storage.
+     */
+    private final List<Key> keys;
+
+    /**
+     * Number of uploaded bytes.
+     */
+    private final long bytes;
+
+    /**
+     * Running SHA-256 digest of uploaded data, empty if unknown.
+     */
+    private final Optional<MessageDigest> running;
+
+    /**
+     * Ctor for just started upload.
+     */
+    UploadState() {
+        this(Collections.emptyList(), 0L, Optional.of(Digests.SHA256.get()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param keys Chunk keys in storage.
+     * @param bytes Number of uploaded bytes.
+     * @param running Running digest of uploaded data, empty if unknown.
+     */
+    UploadState(final List<Key> keys, final long bytes, final Optional<MessageDigest> running) {
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        this.bytes = bytes;
+        this.running = running;
+    }
+
+    /**
+     * Chunk keys in storage.
+     *
+     * @return Chunk keys.
+     */
+    List<Key> chunks() {
+        return this.keys;
+    }
+
+    /**
+     * Number of uploaded bytes.
+     *
+     * @return Size in bytes.
+     */
+    long size() {
+        return this.bytes;
+    }
+
+    /**
+     * Digest of uploaded data.
+     *
+     * @return Digest, empty if it is not known.
+     */
+    Optional<Digest> digest() {
+        return this.sha().map(sha -> new Digest.Sha256(Hex.encodeHexString(sha.digest())));
+    }
+
+    /**
+     * Copy of running digest to continue hashing from.
+     *
+     * @return Running digest, empty if it is not known.
+     */
+    Optional<MessageDigest> sha() {
+        return this.running.map(UploadState::copy);
+    }
+
+    /**
+     * Create new state with chunk appended.
+     *
+     * @param chunk Chunk key.
+     * @param length Chunk size in bytes.
+     * @param sha Running digest updated with chunk data, empty if unknown.
+     * @return Updated state.
+     */
+    UploadState append(final Key chunk, final long length, final Optional<MessageDigest> sha) {
+        final List<Key> updated = new ArrayList<>(this.keys);
+        updated.add(chunk);
+        return new UploadState(updated, this.bytes + length, sha.map(UploadState::copy));
+    }
+
+    /**
+     * Copy message digest state.
+     *
+     * @param sha Message digest.
+     * @return Copy.
+     */
+    private static MessageDigest copy(final MessageDigest sha) {
+        try {
+            return (MessageDigest) sha.clone();
+        } catch (final CloneNotSupportedException ex) {
+            throw new IllegalStateException("Message digest is not cloneable", ex);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
+import com.artipie.docker.metrics.CacheMetrics;
+import com.artipie.docker.metrics.Metrics;
 import com.artipie.docker.misc.JoinedCatalogSource;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
@@ -29,6 +31,11 @@ public final class CacheDocker implements Docker {
      */
     private final Docker cache;
 
+    /**
+     * Cache metrics.
+     */
+    private final CacheMetrics metrics;
+
     /**
      * Ctor.
      *
@@ -36,13 +43,27 @@ public final class CacheDocker implements Docker {
      * @param cache Cache repository.
      */
     public CacheDocker(final Docker origin, final Docker cache) {
+        this(origin, cache, new CacheMetrics(new Metrics()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin repository.
+     * @param cache Cache repository.
+     * @param metrics Cache metrics.
+     */
+    public CacheDocker(final Docker origin, final Docker cache, final CacheMetrics metrics) {
         this.origin = origin;
         this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
     public Repo repo(final RepoName name) {
-        return new CacheRepo(name, this.origin.repo(name), this.cache.repo(name));
+        return new CacheRepo(
+            name, this.origin.repo(name), this.cache.repo(name), this.metrics
+        );
     }
 
     @Override
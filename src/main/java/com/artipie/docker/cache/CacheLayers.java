@@ -8,6 +8,8 @@ import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
 import com.artipie.docker.asto.BlobSource;
+import com.artipie.docker.metrics.CacheMetrics;
+import com.artipie.docker.metrics.Metrics;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -30,6 +32,11 @@ public final class CacheLayers implements Layers {
      */
     private final Layers cache;
 
+    /**
+     * Cache metrics.
+     */
+    private final CacheMetrics metrics;
+
     /**
      * Ctor.
      *
@@ -37,8 +44,20 @@ public final class CacheLayers implements Layers {
      * @param cache Cache layers.
      */
     public CacheLayers(final Layers origin, final Layers cache) {
+        this(origin, cache, new CacheMetrics(new Metrics()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin layers.
+     * @param cache Cache layers.
+     * @param metrics Cache metrics.
+     */
+    public CacheLayers(final Layers origin, final Layers cache, final CacheMetrics metrics) {
         this.origin = origin;
         this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
@@ -58,11 +77,14 @@ public final class CacheLayers implements Layers {
                 final CompletionStage<Optional<Blob>> result;
                 if (throwable == null) {
                     if (cached.isPresent()) {
+                        this.metrics.record(CacheMetrics.Entity.LAYER, CacheMetrics.Event.HIT);
                         result = CompletableFuture.completedFuture(cached);
                     } else {
+                        this.metrics.record(CacheMetrics.Entity.LAYER, CacheMetrics.Event.MISS);
                         result = this.origin.get(digest).exceptionally(ignored -> cached);
                     }
                 } else {
+                    this.metrics.record(CacheMetrics.Entity.LAYER, CacheMetrics.Event.MISS);
                     result = this.origin.get(digest);
                 }
                 return result;
@@ -13,6 +13,8 @@ import com.artipie.docker.Tag;
 import com.artipie.docker.Tags;
 import com.artipie.docker.asto.CheckedBlobSource;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.metrics.CacheMetrics;
+import com.artipie.docker.metrics.Metrics;
 import com.artipie.docker.misc.JoinedTagsSource;
 import com.artipie.docker.ref.ManifestRef;
 import com.jcabi.log.Logger;
@@ -43,6 +45,11 @@ public final class CacheManifests implements Manifests {
      */
     private final Repo cache;
 
+    /**
+     * Cache metrics.
+     */
+    private final CacheMetrics metrics;
+
     /**
      * Ctor.
      *
@@ -51,9 +58,23 @@ public final class CacheManifests implements Manifests {
      * @param cache Cache repository.
      */
     public CacheManifests(final RepoName name, final Repo origin, final Repo cache) {
+        this(name, origin, cache, new CacheMetrics(new Metrics()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name Repository name.
+     * @param origin Origin repository.
+     * @param cache Cache repository.
+     * @param metrics Cache metrics.
+     */
+    public CacheManifests(final RepoName name, final Repo origin, final Repo cache,
+        final CacheMetrics metrics) {
         this.name = name;
         this.origin = origin;
         this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
@@ -71,10 +92,10 @@ public final class CacheManifests implements Manifests {
                         this.copy(ref);
                         result = CompletableFuture.completedFuture(original);
                     } else {
-                        result = this.cache.manifests().get(ref).exceptionally(ignored -> original);
+                        result = this.cached(ref).exceptionally(ignored -> original);
                     }
                 } else {
-                    result = this.cache.manifests().get(ref);
+                    result = this.cached(ref);
                 }
                 return result;
             }
@@ -109,7 +130,12 @@ public final class CacheManifests implements Manifests {
             )
         ).handle(
             (ignored, ex) -> {
-                if (ex != null) {
+                if (ex == null) {
+                    this.metrics.record(CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.FILL);
+                } else {
+                    this.metrics.record(
+                        CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.FILL_ERROR
+                    );
                     Logger.error(
                         this, "Failed to cache manifest %s: %[exception]s", ref.string(), ex
                     );
@@ -137,8 +163,34 @@ public final class CacheManifests implements Manifests {
             }
         ).thenCompose(
             content -> this.cache.layers().put(new CheckedBlobSource(content, digest))
+        ).whenComplete(
+            (blob, ex) -> {
+                if (ex == null) {
+                    this.metrics.record(CacheMetrics.Entity.LAYER, CacheMetrics.Event.FILL);
+                } else {
+                    this.metrics.record(CacheMetrics.Entity.LAYER, CacheMetrics.Event.FILL_ERROR);
+                }
+            }
         ).thenCompose(
             blob -> CompletableFuture.allOf()
         );
     }
+
+    /**
+     * Get manifest from cache, recording whether it is found.
+     *
+     * @param ref Manifest reference.
+     * @return Manifest from cache, empty if not cached.
+     */
+    private CompletionStage<Optional<Manifest>> cached(final ManifestRef ref) {
+        return this.cache.manifests().get(ref).whenComplete(
+            (cached, ex) -> {
+                if (ex == null && cached.isPresent()) {
+                    this.metrics.record(CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.HIT);
+                } else {
+                    this.metrics.record(CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.MISS);
+                }
+            }
+        );
+    }
 }
@@ -9,6 +9,8 @@ import com.artipie.docker.Manifests;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Uploads;
+import com.artipie.docker.metrics.CacheMetrics;
+import com.artipie.docker.metrics.Metrics;
 
 /**
  * Cache implementation of {@link Repo}.
@@ -32,6 +34,11 @@ public final class CacheRepo implements Repo {
      */
     private final Repo cache;
 
+    /**
+     * Cache metrics.
+     */
+    private final CacheMetrics metrics;
+
     /**
      * Ctor.
      *
@@ -40,19 +47,33 @@ public final class CacheRepo implements Repo {
      * @param cache Cache repository.
      */
     public CacheRepo(final RepoName name, final Repo origin, final Repo cache) {
+        this(name, origin, cache, new CacheMetrics(new Metrics()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name Repository name.
+     * @param origin Origin repository.
+     * @param cache Cache repository.
+     * @param metrics Cache metrics.
+     */
+    public CacheRepo(final RepoName name, final Repo origin, final Repo cache,
+        final CacheMetrics metrics) {
         this.name = name;
         this.origin = origin;
         this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
     public Layers layers() {
-        return new CacheLayers(this.origin.layers(), this.cache.layers());
+        return new CacheLayers(this.origin.layers(), this.cache.layers(), this.metrics);
     }
 
     @Override
     public Manifests manifests() {
-        return new CacheManifests(this.name, this.origin, this.cache);
+        return new CacheManifests(this.name, this.origin, this.cache, this.metrics);
     }
 
     @Override
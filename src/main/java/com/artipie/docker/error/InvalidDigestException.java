@@ -13,6 +13,7 @@ import java.util.Optional;
  * including the invalid digest string.
  * This error may also be returned when a manifest includes an invalid layer digest.
  * See <a href="https://docs.docker.com/registry/spec/api/#errors-2">Errors</a>.
+ * Stack trace is not filled in, since error is reported to client.
  *
  * @since 0.9
  */
@@ -25,7 +26,7 @@ public final class InvalidDigestException extends RuntimeException implements Do
      * @param details Error details.
      */
     public InvalidDigestException(final String details) {
-        super(details);
+        super(details, null, false, false);
     }
 
     @Override
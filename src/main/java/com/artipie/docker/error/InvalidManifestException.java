@@ -9,6 +9,7 @@ import java.util.Optional;
 /**
  * Invalid manifest encountered during a manifest upload or any API operation.
  * See <a href="https://docs.docker.com/registry/spec/api/#errors-2">Errors</a>.
+ * Stack trace is not filled in, since error is reported to client.
  *
  * @since 0.5
  */
@@ -21,7 +22,7 @@ public final class InvalidManifestException extends RuntimeException implements
      * @param details Error details.
      */
     public InvalidManifestException(final String details) {
-        super(details);
+        super(details, null, false, false);
     }
 
     /**
@@ -31,7 +32,7 @@ public final class InvalidManifestException extends RuntimeException implements
      * @param cause Original cause.
      */
     public InvalidManifestException(final String details, final Throwable cause) {
-        super(details, cause);
+        super(details, cause, false, false);
     }
 
     @Override
@@ -8,6 +8,7 @@ import java.util.Optional;
 
 /**
  * Invalid repository name encountered either during manifest validation or any API operation.
+ * Stack trace is not filled in, since error is reported to client.
  *
  * @since 0.5
  */
@@ -20,7 +21,7 @@ public final class InvalidRepoNameException extends RuntimeException implements
      * @param details Error details.
      */
     public InvalidRepoNameException(final String details) {
-        super(details);
+        super(details, null, false, false);
     }
 
     @Override
@@ -9,6 +9,7 @@ import java.util.Optional;
 /**
  * Invalid tag name encountered during a manifest upload or any API operation.
  * See <a href="https://docs.docker.com/registry/spec/api/#errors-2">Errors</a>.
+ * Stack trace is not filled in, since error is reported to client.
  *
  * @since 0.5
  */
@@ -21,7 +22,7 @@ public final class InvalidTagNameException extends RuntimeException implements D
      * @param details Error details.
      */
     public InvalidTagNameException(final String details) {
-        super(details);
+        super(details, null, false, false);
     }
 
     @Override
@@ -0,0 +1,45 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.error;
+
+import java.util.Optional;
+
+/**
+ * Invalid repository name found while checking request, reported without throwing.
+ * Same error as {@link InvalidRepoNameException}.
+ *
+ * @since 0.17
+ */
+public final class NameInvalidError implements DockerError {
+
+    /**
+     * Error details.
+     */
+    private final String details;
+
+    /**
+     * Ctor.
+     *
+     * @param details Error details.
+     */
+    public NameInvalidError(final String details) {
+        this.details = details;
+    }
+
+    @Override
+    public String code() {
+        return "NAME_INVALID";
+    }
+
+    @Override
+    public String message() {
+        return "invalid repository name";
+    }
+
+    @Override
+    public Optional<String> detail() {
+        return Optional.of(this.details);
+    }
+}
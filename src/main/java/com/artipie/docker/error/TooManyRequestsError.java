@@ -0,0 +1,30 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.error;
+
+import java.util.Optional;
+
+/**
+ * Returned when a client exceeds the rate the registry is willing to serve.
+ *
+ * @since 0.17
+ */
+public final class TooManyRequestsError implements DockerError {
+
+    @Override
+    public String code() {
+        return "TOOMANYREQUESTS";
+    }
+
+    @Override
+    public String message() {
+        return "too many requests";
+    }
+
+    @Override
+    public Optional<String> detail() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.RepoName;
+import com.artipie.docker.error.DockerError;
+import com.artipie.docker.error.NameInvalidError;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqParams;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Docker Registry HTTP API request parsed from request line.
+ * Repository name may consist of any number of path segments,
+ * so entity is recognized by trailing segments of the path: path is scanned once
+ * from the end, in the same precedence as entity path patterns are tried by the slice.
+ *
+ * @since 0.17
+ */
+final class ApiRequest {
+
+    /**
+     * API version prefix.
+     */
+    private static final String PREFIX = "/v2/";
+
+    /**
+     * Manifests path segment.
+     */
+    private static final String MANIFESTS = "/manifests/";
+
+    /**
+     * Tags path suffix.
+     */
+    private static final String TAGS = "/tags/list";
+
+    /**
+     * Blobs path segment.
+     */
+    private static final String BLOBS = "/blobs/";
+
+    /**
+     * Uploads path segment.
+     */
+    private static final String UPLOADS = "/blobs/uploads/";
+
+    /**
+     * Request path.
+     */
+    private final String path;
+
+    /**
+     * Entity kind.
+     */
+    private final Kind knd;
+
+    /**
+     * Whether there are no path segments after entity reference.
+     */
+    private final boolean routed;
+
+    /**
+     * Repository name, empty for base and catalog.
+     */
+    private final String repo;
+
+    /**
+     * Manifest reference, blob digest or upload UUID, empty for other entities.
+     */
+    private final String ref;
+
+    /**
+     * Decoded query, might be null.
+     */
+    private final String qry;
+
+    /**
+     * Validated repository name, null until name is requested.
+     */
+    private volatile RepoName valid;
+
+    /**
+     * Ctor.
+     *
+     * @param line HTTP request line.
+     */
+    ApiRequest(final String line) {
+        this(new RequestLineFrom(line).uri());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param uri Request URI.
+     * @checkstyle ExecutableStatementCountCheck (100 lines)
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    ApiRequest(final URI uri) {
+        final String path = uri.getPath();
+        final int start = ApiRequest.PREFIX.length();
+        Kind kind = Kind.UNKNOWN;
+        boolean routed = true;
+        int end = 0;
+        int from = 0;
+        int until = 0;
+        if (path.startsWith(ApiRequest.PREFIX)) {
+            final int manifests = path.lastIndexOf(ApiRequest.MANIFESTS);
+            final int blobs = ApiRequest.blobs(path);
+            final int uploads = path.lastIndexOf(ApiRequest.UPLOADS);
+            if (path.length() == start) {
+                kind = Kind.BASE;
+            } else if (manifests >= start) {
+                kind = Kind.MANIFEST;
+                end = manifests;
+                from = manifests + ApiRequest.MANIFESTS.length();
+                until = path.length();
+            } else if (path.endsWith(ApiRequest.TAGS)
+                && path.length() - ApiRequest.TAGS.length() >= start) {
+                kind = Kind.TAGS;
+                end = path.length() - ApiRequest.TAGS.length();
+            } else if (blobs >= start) {
+                kind = Kind.BLOB;
+                end = blobs;
+                from = blobs + ApiRequest.BLOBS.length();
+                until = path.length();
+            } else if (uploads >= start) {
+                kind = Kind.UPLOAD;
+                routed = ApiRequest.single(path, uploads);
+                end = uploads;
+                from = uploads + ApiRequest.UPLOADS.length();
+                until = path.indexOf('/', from);
+                if (until < 0) {
+                    until = path.length();
+                }
+            } else if ("/v2/_catalog".equals(path)) {
+                kind = Kind.CATALOG;
+            }
+        }
+        this.path = path;
+        this.knd = kind;
+        this.routed = routed;
+        if (end > 0) {
+            this.repo = path.substring(start, end);
+        } else {
+            this.repo = "";
+        }
+        this.ref = path.substring(from, until);
+        this.qry = uri.getQuery();
+    }
+
+    /**
+     * Entity kind to route request by.
+     * Upload path with segments after upload UUID is not routed to upload entity,
+     * though UUID is still parsed from it.
+     *
+     * @return Kind of requested entity.
+     */
+    Kind kind() {
+        final Kind kind;
+        if (this.routed) {
+            kind = this.knd;
+        } else {
+            kind = Kind.UNKNOWN;
+        }
+        return kind;
+    }
+
+    /**
+     * Repository name, validated once for request.
+     *
+     * @return Valid repository name.
+     * @throws IllegalArgumentException If path does not address repository entity.
+     */
+    RepoName name() {
+        this.require(Kind.MANIFEST, Kind.TAGS, Kind.BLOB, Kind.UPLOAD);
+        RepoName name = this.valid;
+        if (name == null) {
+            name = new RepoName.Valid(this.repo);
+            this.valid = name;
+        }
+        return name;
+    }
+
+    /**
+     * Manifest reference, blob digest or upload UUID, depending on entity kind.
+     *
+     * @return Reference string.
+     * @throws IllegalArgumentException If path does not address referenced entity.
+     */
+    String reference() {
+        this.require(Kind.MANIFEST, Kind.BLOB, Kind.UPLOAD);
+        return this.ref;
+    }
+
+    /**
+     * Check repository name without throwing, so invalid names are rejected cheaply.
+     *
+     * @return Error if request addresses repository with invalid name, empty otherwise.
+     */
+    Optional<DockerError> error() {
+        final Optional<DockerError> error;
+        if (this.knd == Kind.MANIFEST || this.knd == Kind.TAGS
+            || this.knd == Kind.BLOB || this.knd == Kind.UPLOAD) {
+            error = new RepoName.Check(this.repo).problem().map(NameInvalidError::new);
+        } else {
+            error = Optional.empty();
+        }
+        return error;
+    }
+
+    /**
+     * Query parameters.
+     *
+     * @return Request query parameters.
+     */
+    RqParams params() {
+        return new RqParams(this.qry);
+    }
+
+    /**
+     * Check request addresses entity of one of expected kinds.
+     *
+     * @param kinds Expected kinds.
+     */
+    private void require(final Kind... kinds) {
+        if (!Arrays.asList(kinds).contains(this.knd)) {
+            throw new IllegalArgumentException(String.format("Unexpected path: %s", this.path));
+        }
+    }
+
+    /**
+     * Check upload UUID is the last path segment, followed by at most trailing slash.
+     *
+     * @param path Request path.
+     * @param uploads Index of uploads segment in path.
+     * @return True if there are no segments after upload UUID.
+     */
+    private static boolean single(final String path, final int uploads) {
+        final int slash = path.indexOf('/', uploads + ApiRequest.UPLOADS.length());
+        return slash < 0 || slash == path.length() - 1;
+    }
+
+    /**
+     * Find last blobs segment not followed by uploads.
+     *
+     * @param path Request path.
+     * @return Index of blobs segment, negative if not found.
+     */
+    private static int blobs(final String path) {
+        int idx = path.lastIndexOf(ApiRequest.BLOBS);
+        while (idx >= 0 && path.startsWith("uploads/", idx + ApiRequest.BLOBS.length())) {
+            idx = path.lastIndexOf(ApiRequest.BLOBS, idx - 1);
+        }
+        return idx;
+    }
+
+    /**
+     * Kind of API entity.
+     *
+     * @since 0.17
+     */
+    enum Kind {
+        /**
+         * API version check.
+         */
+        BASE,
+
+        /**
+         * Manifest.
+         */
+        MANIFEST,
+
+        /**
+         * Tags list.
+         */
+        TAGS,
+
+        /**
+         * Blob.
+         */
+        BLOB,
+
+        /**
+         * Blob upload.
+         */
+        UPLOAD,
+
+        /**
+         * Repositories catalog.
+         */
+        CATALOG,
+
+        /**
+         * Not an API entity.
+         */
+        UNKNOWN
+    }
+}
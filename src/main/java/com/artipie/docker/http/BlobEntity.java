@@ -5,15 +5,16 @@
 package com.artipie.docker.http;
 
 import com.artipie.asto.Content;
+import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.error.BlobUnknownError;
-import com.artipie.docker.misc.RqByRegex;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Location;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithHeaders;
@@ -22,6 +23,7 @@ import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import org.reactivestreams.Publisher;
 
@@ -49,6 +51,8 @@ final class BlobEntity {
 
     /**
      * Slice for GET method.
+     * Redirects to blob location if it is available, e.g. to pre-signed URL of storage,
+     * streams blob content otherwise.
      *
      * @since 0.2
      */
@@ -59,18 +63,34 @@ final class BlobEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Get(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Get(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Pull(new Request(line).name());
+            return new Scope.Repository.Pull(new Request(this.requests.apply(line)).name());
         }
 
         @Override
@@ -79,22 +99,22 @@ final class BlobEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(this.requests.apply(line));
             final Digest digest = request.digest();
             return new AsyncResponse(
                 this.docker.repo(request.name()).layers().get(digest).thenApply(
                     found -> found.<Response>map(
                         blob -> new AsyncResponse(
-                            blob.content().thenCompose(
-                                content -> content.size()
-                                    .<CompletionStage<Long>>map(CompletableFuture::completedFuture)
-                                    .orElseGet(blob::size)
-                                    .thenApply(
-                                        size -> new RsWithBody(
-                                            new BaseResponse(digest),
-                                            new Content.From(size, content)
+                            blob.location().thenCompose(
+                                location -> location.<CompletionStage<Response>>map(
+                                    uri -> CompletableFuture.completedFuture(
+                                        new RsWithHeaders(
+                                            new RsWithStatus(RsStatus.TEMPORARY_REDIRECT),
+                                            new DigestHeader(digest),
+                                            new Location(uri.toString())
                                         )
                                     )
+                                ).orElseGet(() -> Get.stream(blob, digest))
                             )
                         )
                     ).orElseGet(
@@ -103,6 +123,27 @@ final class BlobEntity {
                 )
             );
         }
+
+        /**
+         * Response streaming blob content.
+         *
+         * @param blob Blob.
+         * @param digest Blob digest.
+         * @return Response.
+         */
+        private static CompletionStage<Response> stream(final Blob blob, final Digest digest) {
+            return blob.content().thenCompose(
+                content -> content.size()
+                    .<CompletionStage<Long>>map(CompletableFuture::completedFuture)
+                    .orElseGet(blob::size)
+                    .thenApply(
+                        size -> new RsWithBody(
+                            new BaseResponse(digest),
+                            new Content.From(size, content)
+                        )
+                    )
+            );
+        }
     }
 
     /**
@@ -117,18 +158,34 @@ final class BlobEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Head(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Head(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Pull(new Request(line).name());
+            return new Scope.Repository.Pull(new Request(this.requests.apply(line)).name());
         }
 
         @Override
@@ -137,7 +194,7 @@ final class BlobEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(this.requests.apply(line));
             final Digest digest = request.digest();
             return new AsyncResponse(
                 this.docker.repo(request.name()).layers().get(digest).thenApply(
@@ -175,7 +232,8 @@ final class BlobEntity {
                 new RsWithHeaders(
                     new RsWithStatus(RsStatus.OK),
                     new DigestHeader(digest),
-                    new ContentType("application/octet-stream")
+                    new ContentType("application/octet-stream"),
+                    new ImmutableHeader()
                 )
             );
         }
@@ -189,9 +247,9 @@ final class BlobEntity {
     static final class Request {
 
         /**
-         * HTTP request line.
+         * Parsed API request.
          */
-        private final RqByRegex rqregex;
+        private final ApiRequest rqst;
 
         /**
          * Ctor.
@@ -199,7 +257,16 @@ final class BlobEntity {
          * @param line HTTP request line.
          */
         Request(final String line) {
-            this.rqregex = new RqByRegex(line, BlobEntity.PATH);
+            this(new ApiRequest(line));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param rqst Parsed API request.
+         */
+        Request(final ApiRequest rqst) {
+            this.rqst = rqst;
         }
 
         /**
@@ -208,7 +275,7 @@ final class BlobEntity {
          * @return Repository name.
          */
         RepoName name() {
-            return new RepoName.Valid(this.rqregex.path().group("name"));
+            return this.rqst.name();
         }
 
         /**
@@ -217,7 +284,7 @@ final class BlobEntity {
          * @return Digest.
          */
         Digest digest() {
-            return new Digest.FromString(this.rqregex.path().group("digest"));
+            return new Digest.FromString(this.rqst.reference());
         }
 
     }
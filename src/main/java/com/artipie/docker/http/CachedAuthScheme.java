@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.ext.Digests;
+import com.artipie.http.auth.AuthScheme;
+import com.artipie.http.rq.RqHeaders;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Authentication scheme remembering successful authentications for a while,
+ * so that e.g. pulling many layers with same credentials authenticates user once.
+ * Credentials are kept in memory only as SHA-256 hashes and compared in constant time.
+ * Authentication with bearer token is remembered no longer than until token expires.
+ * Failed authentications are not cached.
+ *
+ * @since 0.17
+ */
+public final class CachedAuthScheme implements AuthScheme {
+
+    /**
+     * Authorization header name.
+     */
+    private static final String AUTHORIZATION = "Authorization";
+
+    /**
+     * Origin scheme.
+     */
+    private final AuthScheme origin;
+
+    /**
+     * Authentication results by credentials hash.
+     */
+    private final ExpiringCache<String, Authenticated> cache;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin scheme.
+     */
+    public CachedAuthScheme(final AuthScheme origin) {
+        this(origin, Duration.ofMinutes(1), 10_000);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin scheme.
+     * @param ttl Time authentication result is remembered for.
+     * @param max Maximum number of remembered credentials.
+     */
+    public CachedAuthScheme(final AuthScheme origin, final Duration ttl, final int max) {
+        this(origin, ttl, max, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin scheme.
+     * @param ttl Time authentication result is remembered for.
+     * @param max Maximum number of remembered credentials.
+     * @param clock Clock.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    CachedAuthScheme(
+        final AuthScheme origin, final Duration ttl, final int max, final Clock clock
+    ) {
+        this.origin = origin;
+        this.cache = new ExpiringCache<>(ttl, max, clock);
+    }
+
+    @Override
+    public CompletionStage<Result> authenticate(
+        final Iterable<Map.Entry<String, String>> headers
+    ) {
+        final List<String> credentials = new RqHeaders(headers, CachedAuthScheme.AUTHORIZATION);
+        final CompletionStage<Result> result;
+        if (credentials.isEmpty()) {
+            result = this.origin.authenticate(headers);
+        } else {
+            final byte[] hash = CachedAuthScheme.hash(credentials);
+            final String key = Hex.encodeHexString(hash);
+            final Optional<Result> cached = this.cache.get(key)
+                .filter(auth -> MessageDigest.isEqual(auth.hash, hash))
+                .map(auth -> auth.result);
+            if (cached.isPresent()) {
+                result = CompletableFuture.completedFuture(cached.get());
+            } else {
+                result = this.origin.authenticate(headers).thenApply(
+                    res -> {
+                        if (res.user().isPresent()) {
+                            this.cache.put(
+                                key,
+                                new Authenticated(hash, res),
+                                JwtAuthScheme.expiry(headers).orElse(Instant.MAX)
+                            );
+                        }
+                        return res;
+                    }
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forget all remembered authentications,
+     * e.g. after user credentials were changed or revoked.
+     */
+    public void invalidate() {
+        this.cache.remove(key -> true);
+    }
+
+    /**
+     * Hash credentials.
+     *
+     * @param credentials Authorization header values.
+     * @return SHA-256 hash.
+     */
+    private static byte[] hash(final List<String> credentials) {
+        final MessageDigest sha = Digests.SHA256.get();
+        for (final String value : credentials) {
+            sha.update(value.getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+        }
+        return sha.digest();
+    }
+
+    /**
+     * Successful authentication result.
+     *
+     * @since 0.17
+     */
+    private static final class Authenticated {
+
+        /**
+         * Credentials hash.
+         */
+        private final byte[] hash;
+
+        /**
+         * Authentication result.
+         */
+        private final Result result;
+
+        /**
+         * Ctor.
+         *
+         * @param hash Credentials hash.
+         * @param result Authentication result.
+         */
+        Authenticated(final byte[] hash, final Result result) {
+            this.hash = hash.clone();
+            this.result = result;
+        }
+    }
+}
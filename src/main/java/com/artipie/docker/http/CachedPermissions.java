@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.auth.Permissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Map;
+
+/**
+ * Permissions remembering authorization decisions for user and action for a while.
+ *
+ * @since 0.17
+ */
+public final class CachedPermissions implements Permissions {
+
+    /**
+     * Origin permissions.
+     */
+    private final Permissions origin;
+
+    /**
+     * Decisions by user and action.
+     */
+    private final ExpiringCache<Map.Entry<Authentication.User, String>, Boolean> cache;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin permissions.
+     */
+    public CachedPermissions(final Permissions origin) {
+        this(origin, Duration.ofMinutes(1), 10_000);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin permissions.
+     * @param ttl Time decision is remembered for.
+     * @param max Maximum number of remembered decisions.
+     */
+    public CachedPermissions(final Permissions origin, final Duration ttl, final int max) {
+        this(origin, ttl, max, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin permissions.
+     * @param ttl Time decision is remembered for.
+     * @param max Maximum number of remembered decisions.
+     * @param clock Clock.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    CachedPermissions(
+        final Permissions origin, final Duration ttl, final int max, final Clock clock
+    ) {
+        this.origin = origin;
+        this.cache = new ExpiringCache<>(ttl, max, clock);
+    }
+
+    @Override
+    public boolean allowed(final Authentication.User user, final String action) {
+        final Map.Entry<Authentication.User, String> key =
+            new AbstractMap.SimpleImmutableEntry<>(user, action);
+        return this.cache.get(key).orElseGet(
+            () -> {
+                final boolean allowed = this.origin.allowed(user, action);
+                this.cache.put(key, allowed);
+                return allowed;
+            }
+        );
+    }
+
+    /**
+     * Forget all remembered decisions, e.g. after permissions were changed.
+     */
+    public void invalidate() {
+        this.cache.remove(key -> true);
+    }
+
+    /**
+     * Forget remembered decisions for user.
+     *
+     * @param name User name.
+     */
+    public void invalidate(final String name) {
+        this.cache.remove(key -> key.getKey().name().equals(name));
+    }
+}
@@ -4,6 +4,9 @@
  */
 package com.artipie.docker.http;
 
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.RepoName;
 import com.artipie.http.Response;
@@ -76,13 +79,22 @@ final class CatalogEntity {
                 this.docker.catalog(
                     params.value("last").map(RepoName.Simple::new),
                     params.value("n").map(Integer::parseInt).orElse(Integer.MAX_VALUE)
+                ).thenCompose(
+                    catalog -> new PublisherAs(catalog.json()).bytes()
                 ).thenApply(
-                    catalog -> new RsWithBody(
-                        new RsWithHeaders(
-                            new RsWithStatus(RsStatus.OK),
-                            new JsonContentType()
-                        ),
-                        catalog.json()
+                    bytes -> new GzipResponse(
+                        headers,
+                        new ConditionalResponse(
+                            headers,
+                            new Digest.Sha256(bytes).string(),
+                            () -> new RsWithBody(
+                                new RsWithHeaders(
+                                    new RsWithStatus(RsStatus.OK),
+                                    new JsonContentType()
+                                ),
+                                new Content.From(bytes)
+                            )
+                        )
                     )
                 )
             );
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.misc.IfNoneMatch;
+import com.artipie.http.Connection;
+import com.artipie.http.Response;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Response to request which may be conditional on entity tag.
+ * Responds with {@code 304 Not Modified} if client has actual representation,
+ * full response is not created in that case.
+ *
+ * @since 0.17
+ */
+final class ConditionalResponse implements Response {
+
+    /**
+     * Request headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Entity tag of actual representation.
+     */
+    private final String etag;
+
+    /**
+     * Response telling client its representation is actual.
+     */
+    private final Supplier<Response> unmodified;
+
+    /**
+     * Full response.
+     */
+    private final Supplier<Response> full;
+
+    /**
+     * Ctor.
+     *
+     * @param headers Request headers.
+     * @param etag Entity tag of actual representation.
+     * @param full Full response.
+     */
+    ConditionalResponse(
+        final Iterable<Map.Entry<String, String>> headers,
+        final String etag,
+        final Supplier<Response> full
+    ) {
+        this(
+            headers,
+            etag,
+            () -> new RsWithHeaders(new RsWithStatus(RsStatus.NOT_MODIFIED), new EtagHeader(etag)),
+            full
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param headers Request headers.
+     * @param etag Entity tag of actual representation.
+     * @param unmodified Not modified response, should carry entity tag.
+     * @param full Full response.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    ConditionalResponse(
+        final Iterable<Map.Entry<String, String>> headers,
+        final String etag,
+        final Supplier<Response> unmodified,
+        final Supplier<Response> full
+    ) {
+        this.headers = headers;
+        this.etag = etag;
+        this.unmodified = unmodified;
+        this.full = full;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection connection) {
+        final Response rsp;
+        if (new IfNoneMatch(this.headers).matches(this.etag)) {
+            rsp = this.unmodified.get();
+        } else {
+            rsp = new RsWithHeaders(this.full.get(), new EtagHeader(this.etag));
+        }
+        return rsp.send(connection);
+    }
+}
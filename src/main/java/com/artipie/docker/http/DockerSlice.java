@@ -11,10 +11,6 @@ import com.artipie.http.auth.Authentication;
 import com.artipie.http.auth.BasicAuthScheme;
 import com.artipie.http.auth.Permissions;
 import com.artipie.http.rq.RqMethod;
-import com.artipie.http.rt.ByMethodsRule;
-import com.artipie.http.rt.RtRule;
-import com.artipie.http.rt.RtRulePath;
-import com.artipie.http.rt.SliceRoute;
 
 /**
  * Slice implementing Docker Registry HTTP API.
@@ -57,91 +53,86 @@ public final class DockerSlice extends Slice.Wrap {
     public DockerSlice(final Docker docker, final Permissions perms, final AuthScheme auth) {
         super(
             new ErrorHandlingSlice(
-                new SliceRoute(
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(BaseEntity.PATH),
-                            ByMethodsRule.Standard.GET
-                        ),
+                new EntityRoute(
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.BASE,
+                        RqMethod.GET,
                         auth(new BaseEntity(), perms, auth)
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(ManifestEntity.PATH),
-                            new ByMethodsRule(RqMethod.HEAD)
-                        ),
-                        auth(new ManifestEntity.Head(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.MANIFEST,
+                        RqMethod.HEAD,
+                        request -> auth(
+                            new ManifestEntity.Head(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(ManifestEntity.PATH),
-                            ByMethodsRule.Standard.GET
-                        ),
-                        auth(new ManifestEntity.Get(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.MANIFEST,
+                        RqMethod.GET,
+                        request -> auth(
+                            new ManifestEntity.Get(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(ManifestEntity.PATH),
-                            ByMethodsRule.Standard.PUT
-                        ),
-                        new ManifestEntity.PutAuth(
-                            docker, new ManifestEntity.Put(docker), auth, perms
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.MANIFEST,
+                        RqMethod.PUT,
+                        request -> new ManifestEntity.PutAuth(
+                            docker, line -> request,
+                            new ManifestEntity.Put(docker, line -> request), auth, perms
                         )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(TagsEntity.PATH),
-                            ByMethodsRule.Standard.GET
-                        ),
-                        auth(new TagsEntity.Get(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.TAGS,
+                        RqMethod.GET,
+                        request -> auth(
+                            new TagsEntity.Get(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(BlobEntity.PATH),
-                            new ByMethodsRule(RqMethod.HEAD)
-                        ),
-                        auth(new BlobEntity.Head(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.BLOB,
+                        RqMethod.HEAD,
+                        request -> auth(
+                            new BlobEntity.Head(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(BlobEntity.PATH),
-                            ByMethodsRule.Standard.GET
-                        ),
-                        auth(new BlobEntity.Get(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.BLOB,
+                        RqMethod.GET,
+                        request -> auth(
+                            new BlobEntity.Get(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(UploadEntity.PATH),
-                            ByMethodsRule.Standard.POST
-                        ),
-                        auth(new UploadEntity.Post(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.UPLOAD,
+                        RqMethod.POST,
+                        request -> auth(
+                            new UploadEntity.Post(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(UploadEntity.PATH),
-                            new ByMethodsRule(RqMethod.PATCH)
-                        ),
-                        auth(new UploadEntity.Patch(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.UPLOAD,
+                        RqMethod.PATCH,
+                        request -> auth(
+                            new UploadEntity.Patch(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(UploadEntity.PATH),
-                            ByMethodsRule.Standard.PUT
-                        ),
-                        auth(new UploadEntity.Put(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.UPLOAD,
+                        RqMethod.PUT,
+                        request -> auth(
+                            new UploadEntity.Put(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(UploadEntity.PATH),
-                            ByMethodsRule.Standard.GET
-                        ),
-                        auth(new UploadEntity.Get(docker), perms, auth)
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.UPLOAD,
+                        RqMethod.GET,
+                        request -> auth(
+                            new UploadEntity.Get(docker, line -> request), perms, auth
+                        )
                     ),
-                    new RtRulePath(
-                        new RtRule.All(
-                            new RtRule.ByPath(CatalogEntity.PATH),
-                            ByMethodsRule.Standard.GET
-                        ),
+                    new EntityRoute.Rule(
+                        ApiRequest.Kind.CATALOG,
+                        RqMethod.GET,
                         auth(new CatalogEntity.Get(docker), perms, auth)
                     )
                 )
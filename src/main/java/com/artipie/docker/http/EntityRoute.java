@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.error.DockerError;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithStatus;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice routing requests to Docker API entities.
+ * Request path is parsed once with {@link ApiRequest} and slice is looked up
+ * by entity kind and method, instead of trying path patterns one by one.
+ * Parsed request is passed to slice factory of the rule, so entity slices
+ * do not parse request line again.
+ * Requests to repositories with invalid names are answered with error
+ * without reaching the slice.
+ *
+ * @since 0.17
+ */
+final class EntityRoute implements Slice {
+
+    /**
+     * Slice factories by entity kind and method.
+     */
+    private final Map<ApiRequest.Kind, Map<RqMethod, Function<ApiRequest, Slice>>> slices;
+
+    /**
+     * Ctor.
+     *
+     * @param rules Routing rules, first rule wins if several rules route same request.
+     */
+    EntityRoute(final Rule... rules) {
+        this.slices = new EnumMap<>(ApiRequest.Kind.class);
+        for (final Rule rule : rules) {
+            this.slices.computeIfAbsent(rule.kind, kind -> new EnumMap<>(RqMethod.class))
+                .putIfAbsent(rule.method, rule.slices);
+        }
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        final ApiRequest request = new ApiRequest(rql.uri());
+        final Map<RqMethod, Function<ApiRequest, Slice>> methods =
+            this.slices.get(request.kind());
+        Function<ApiRequest, Slice> slices = null;
+        if (methods != null) {
+            slices = methods.get(rql.method());
+        }
+        final Response response;
+        if (slices == null) {
+            response = new RsWithBody(
+                new RsWithStatus(RsStatus.NOT_FOUND), "not found", StandardCharsets.UTF_8
+            );
+        } else {
+            final Optional<DockerError> error = request.error();
+            if (error.isPresent()) {
+                response = new ErrorsResponse(RsStatus.BAD_REQUEST, error.get());
+            } else {
+                response = slices.apply(request).response(line, headers, body);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Routing rule.
+     *
+     * @since 0.17
+     */
+    static final class Rule {
+
+        /**
+         * Entity kind.
+         */
+        private final ApiRequest.Kind kind;
+
+        /**
+         * Request method.
+         */
+        private final RqMethod method;
+
+        /**
+         * Target slice factory, accepting parsed request.
+         */
+        private final Function<ApiRequest, Slice> slices;
+
+        /**
+         * Ctor.
+         *
+         * @param kind Entity kind.
+         * @param method Request method.
+         * @param slice Target slice.
+         */
+        Rule(final ApiRequest.Kind kind, final RqMethod method, final Slice slice) {
+            this(kind, method, request -> slice);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param kind Entity kind.
+         * @param method Request method.
+         * @param slices Target slice factory, accepting parsed request.
+         */
+        Rule(final ApiRequest.Kind kind, final RqMethod method,
+            final Function<ApiRequest, Slice> slices) {
+            this.kind = kind;
+            this.method = method;
+            this.slices = slices;
+        }
+    }
+}
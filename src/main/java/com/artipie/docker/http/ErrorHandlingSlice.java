@@ -81,26 +81,26 @@ final class ErrorHandlingSlice implements Slice {
 
     /**
      * Translates throwable to error response.
+     * Completion exceptions are unwrapped in a loop, without recursion.
      *
      * @param throwable Throwable to translate.
      * @return Result response, empty that throwable cannot be handled.
-     * @checkstyle ReturnCountCheck (3 lines)
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
     private static Optional<Response> handle(final Throwable throwable) {
-        if (throwable instanceof DockerError) {
-            return Optional.of(
-                new ErrorsResponse(RsStatus.BAD_REQUEST, (DockerError) throwable)
-            );
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
-        if (throwable instanceof UnsupportedOperationException) {
-            return Optional.of(
+        final Optional<Response> response;
+        if (cause instanceof DockerError) {
+            response = Optional.of(new ErrorsResponse(RsStatus.BAD_REQUEST, (DockerError) cause));
+        } else if (cause instanceof UnsupportedOperationException) {
+            response = Optional.of(
                 new ErrorsResponse(RsStatus.METHOD_NOT_ALLOWED, new UnsupportedError())
             );
+        } else {
+            response = Optional.empty();
         }
-        if (throwable instanceof CompletionException) {
-            return Optional.ofNullable(throwable.getCause()).flatMap(ErrorHandlingSlice::handle);
-        }
-        return Optional.empty();
+        return response;
     }
 }
@@ -14,6 +14,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObjectBuilder;
@@ -30,6 +32,17 @@ final class ErrorsResponse extends Response.Wrap {
      */
     private static final Charset CHARSET = StandardCharsets.UTF_8;
 
+    /**
+     * Maximum number of pre-serialized bodies.
+     */
+    private static final int MAX_BODIES = 64;
+
+    /**
+     * Pre-serialized bodies of single errors without details, by code and message.
+     * Such errors, e.g. authentication failures, are the same for every request.
+     */
+    private static final Map<String, byte[]> BODIES = new ConcurrentHashMap<>();
+
     /**
      * Ctor.
      *
@@ -53,12 +66,38 @@ final class ErrorsResponse extends Response.Wrap {
                     new RsWithStatus(status),
                     new JsonContentType(ErrorsResponse.CHARSET)
                 ),
-                json(errors),
-                ErrorsResponse.CHARSET
+                ErrorsResponse.body(errors)
             )
         );
     }
 
+    /**
+     * Response body, pre-serialized for single error without details.
+     *
+     * @param errors Errors.
+     * @return Body bytes.
+     */
+    private static byte[] body(final Collection<DockerError> errors) {
+        byte[] body = null;
+        if (errors.size() == 1) {
+            final DockerError error = errors.iterator().next();
+            if (!error.detail().isPresent()) {
+                final String key = String.join("\n", error.code(), error.message());
+                body = ErrorsResponse.BODIES.get(key);
+                if (body == null) {
+                    body = ErrorsResponse.json(errors).getBytes(ErrorsResponse.CHARSET);
+                    if (ErrorsResponse.BODIES.size() < ErrorsResponse.MAX_BODIES) {
+                        ErrorsResponse.BODIES.put(key, body);
+                    }
+                }
+            }
+        }
+        if (body == null) {
+            body = ErrorsResponse.json(errors).getBytes(ErrorsResponse.CHARSET);
+        }
+        return body;
+    }
+
     /**
      * Represent error in JSON format.
      *
@@ -0,0 +1,24 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.headers.Header;
+
+/**
+ * ETag header.
+ *
+ * @since 0.17
+ */
+public final class EtagHeader extends Header.Wrap {
+
+    /**
+     * Ctor.
+     *
+     * @param etag Entity tag value without quotes.
+     */
+    public EtagHeader(final String etag) {
+        super(new Header("ETag", String.format("\"%s\"", etag)));
+    }
+}
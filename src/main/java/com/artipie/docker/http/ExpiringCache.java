@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory cache with entries expiring after fixed time to live.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 0.17
+ */
+final class ExpiringCache<K, V> {
+
+    /**
+     * Cached values by key.
+     */
+    private final ConcurrentMap<K, Expiring<V>> entries;
+
+    /**
+     * Time to live of an entry.
+     */
+    private final Duration ttl;
+
+    /**
+     * Maximum number of entries.
+     */
+    private final int max;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Ctor.
+     *
+     * @param ttl Time to live of an entry.
+     * @param max Maximum number of entries.
+     * @param clock Clock.
+     */
+    ExpiringCache(final Duration ttl, final int max, final Clock clock) {
+        this.entries = new ConcurrentHashMap<>();
+        this.ttl = ttl;
+        this.max = max;
+        this.clock = clock;
+    }
+
+    /**
+     * Get value which is not expired yet.
+     *
+     * @param key Key.
+     * @return Value, empty if absent or expired.
+     */
+    Optional<V> get(final K key) {
+        final Expiring<V> entry = this.entries.get(key);
+        final Optional<V> result;
+        if (entry == null) {
+            result = Optional.empty();
+        } else if (entry.expired(this.clock.instant())) {
+            this.entries.remove(key, entry);
+            result = Optional.empty();
+        } else {
+            result = Optional.of(entry.value);
+        }
+        return result;
+    }
+
+    /**
+     * Put value, evicting expired or arbitrary entries if cache is full.
+     *
+     * @param key Key.
+     * @param value Value.
+     */
+    void put(final K key, final V value) {
+        this.put(key, value, Instant.MAX);
+    }
+
+    /**
+     * Put value expiring after time to live or at given time, whichever comes first.
+     *
+     * @param key Key.
+     * @param value Value.
+     * @param limit Latest expiration time.
+     */
+    void put(final K key, final V value, final Instant limit) {
+        final Instant now = this.clock.instant();
+        if (this.entries.size() >= this.max && !this.entries.containsKey(key)) {
+            this.entries.values().removeIf(entry -> entry.expired(now));
+            final Iterator<K> iter = this.entries.keySet().iterator();
+            while (this.entries.size() >= this.max && iter.hasNext()) {
+                this.entries.remove(iter.next());
+            }
+        }
+        Instant until = now.plus(this.ttl);
+        if (limit.isBefore(until)) {
+            until = limit;
+        }
+        this.entries.put(key, new Expiring<>(value, until));
+    }
+
+    /**
+     * Remove entries with matching keys.
+     *
+     * @param keys Predicate selecting keys to remove.
+     */
+    void remove(final Predicate<K> keys) {
+        this.entries.keySet().removeIf(keys);
+    }
+
+    /**
+     * Number of cached entries, including expired but not yet removed ones.
+     *
+     * @return Number of entries.
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Value with expiration time.
+     *
+     * @param <V> Value type.
+     * @since 0.17
+     */
+    private static final class Expiring<V> {
+
+        /**
+         * Value.
+         */
+        private final V value;
+
+        /**
+         * Expiration time.
+         */
+        private final Instant until;
+
+        /**
+         * Ctor.
+         *
+         * @param value Value.
+         * @param until Expiration time.
+         */
+        Expiring(final V value, final Instant until) {
+            this.value = value;
+            this.until = until;
+        }
+
+        /**
+         * Check entry is expired.
+         *
+         * @param now Current time.
+         * @return True if expired.
+         */
+        boolean expired(final Instant now) {
+            return !now.isBefore(this.until);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.misc.AcceptEncoding;
+import com.artipie.docker.misc.GzipContent;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Response compressed with gzip if client accepts it.
+ * Body is compressed while it is sent, so `Content-Length` is dropped,
+ * and entity tag becomes weak as compressed bytes are not the same representation.
+ *
+ * @since 0.17
+ */
+final class GzipResponse implements Response {
+
+    /**
+     * Minimal body size worth compressing.
+     */
+    private static final long MIN_SIZE = 1024;
+
+    /**
+     * Request headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Origin response.
+     */
+    private final Response origin;
+
+    /**
+     * Ctor.
+     *
+     * @param headers Request headers.
+     * @param origin Origin response.
+     */
+    GzipResponse(final Iterable<Map.Entry<String, String>> headers, final Response origin) {
+        this.headers = headers;
+        this.origin = origin;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection connection) {
+        final Response rsp = new RsWithHeaders(this.origin, "Vary", "Accept-Encoding");
+        final CompletionStage<Void> result;
+        if (new AcceptEncoding(this.headers).accepts("gzip")) {
+            result = rsp.send(new GzipConnection(connection));
+        } else {
+            result = rsp.send(connection);
+        }
+        return result;
+    }
+
+    /**
+     * Connection compressing successful response body.
+     *
+     * @since 0.17
+     */
+    private static final class GzipConnection implements Connection {
+
+        /**
+         * Origin connection.
+         */
+        private final Connection origin;
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin connection.
+         */
+        GzipConnection(final Connection origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public CompletionStage<Void> accept(
+            final RsStatus status,
+            final Headers hdrs,
+            final Publisher<ByteBuffer> body
+        ) {
+            final CompletionStage<Void> result;
+            if (status == RsStatus.OK && GzipConnection.large(hdrs)) {
+                final List<Map.Entry<String, String>> compressed = new ArrayList<>(0);
+                for (final Map.Entry<String, String> header : hdrs) {
+                    if ("ETag".equalsIgnoreCase(header.getKey())
+                        && !header.getValue().startsWith("W/")) {
+                        compressed.add(
+                            new Header(header.getKey(), String.format("W/%s", header.getValue()))
+                        );
+                    } else if (!"Content-Length".equalsIgnoreCase(header.getKey())) {
+                        compressed.add(header);
+                    }
+                }
+                compressed.add(new Header("Content-Encoding", "gzip"));
+                result = this.origin.accept(
+                    status, new Headers.From(compressed), new GzipContent(body)
+                );
+            } else {
+                result = this.origin.accept(status, hdrs, body);
+            }
+            return result;
+        }
+
+        /**
+         * Check body is not known to be too small to compress.
+         *
+         * @param hdrs Response headers.
+         * @return True if body is large or its size is unknown.
+         */
+        private static boolean large(final Headers hdrs) {
+            boolean large = true;
+            for (final Map.Entry<String, String> header : hdrs) {
+                if ("Content-Length".equalsIgnoreCase(header.getKey())) {
+                    large = Long.parseLong(header.getValue()) >= GzipResponse.MIN_SIZE;
+                }
+            }
+            return large;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.headers.Header;
+
+/**
+ * Cache-Control header for content addressed by digest, which never changes,
+ * so clients may cache it for a year without revalidation.
+ * Content is private: it is served to authorized clients only,
+ * so shared caches must not store it and serve it to other clients.
+ *
+ * @since 0.17
+ */
+public final class ImmutableHeader extends Header.Wrap {
+
+    /**
+     * Ctor.
+     */
+    public ImmutableHeader() {
+        super(new Header("Cache-Control", "private, max-age=31536000, immutable"));
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.auth.AuthScheme;
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.rq.RqHeaders;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+
+/**
+ * Bearer authentication scheme verifying tokens issued by {@link JwtIssuer} locally,
+ * with no I/O: token signature is checked with public key kept in memory.
+ * Authenticated user has scopes granted by the token as groups,
+ * use {@link TokenPermissions} to authorize requests by them.
+ *
+ * @since 0.17
+ */
+public final class JwtAuthScheme implements AuthScheme {
+
+    /**
+     * Signature verification key.
+     */
+    private final PublicKey key;
+
+    /**
+     * Expected token issuer.
+     */
+    private final String issuer;
+
+    /**
+     * Service name, expected token audience.
+     */
+    private final String service;
+
+    /**
+     * Token endpoint URL.
+     */
+    private final String realm;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Ctor.
+     *
+     * @param key RSA signature verification key.
+     * @param issuer Expected token issuer.
+     * @param service Service name.
+     * @param realm Token endpoint URL.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public JwtAuthScheme(
+        final PublicKey key, final String issuer, final String service, final String realm
+    ) {
+        this(key, issuer, service, realm, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param key RSA signature verification key.
+     * @param issuer Expected token issuer.
+     * @param service Service name.
+     * @param realm Token endpoint URL.
+     * @param clock Clock.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    JwtAuthScheme(final PublicKey key, final String issuer, final String service,
+        final String realm, final Clock clock) {
+        this.key = key;
+        this.issuer = issuer;
+        this.service = service;
+        this.realm = realm;
+        this.clock = clock;
+    }
+
+    @Override
+    public CompletionStage<Result> authenticate(
+        final Iterable<Map.Entry<String, String>> headers
+    ) {
+        final Optional<Authentication.User> user = JwtAuthScheme.token(headers)
+            .flatMap(this::verified);
+        final String challenge = String.format(
+            "Bearer realm=\"%s\",service=\"%s\"", this.realm, this.service
+        );
+        return CompletableFuture.completedFuture(
+            new Result() {
+                @Override
+                public Optional<Authentication.User> user() {
+                    return user;
+                }
+
+                @Override
+                public String challenge() {
+                    return challenge;
+                }
+            }
+        );
+    }
+
+    /**
+     * Expiration time of bearer token from request headers.
+     * Token signature is not verified, so expiration should be read
+     * only from token already authenticated.
+     *
+     * @param headers Request headers.
+     * @return Expiration time, empty if there is no bearer token with expiration claim.
+     */
+    static Optional<Instant> expiry(final Iterable<Map.Entry<String, String>> headers) {
+        return JwtAuthScheme.token(headers).flatMap(
+            token -> {
+                final String[] parts = token.split("\\.", -1);
+                Optional<Instant> expiry = Optional.empty();
+                if (parts.length == 3) {
+                    try {
+                        final JsonNumber exp = JwtAuthScheme.json(
+                            Base64.getUrlDecoder().decode(parts[1])
+                        ).getJsonNumber("exp");
+                        if (exp != null) {
+                            expiry = Optional.of(Instant.ofEpochSecond(exp.longValue()));
+                        }
+                    } catch (final IllegalArgumentException | JsonException
+                        | ClassCastException ex) {
+                        expiry = Optional.empty();
+                    }
+                }
+                return expiry;
+            }
+        );
+    }
+
+    /**
+     * Read bearer token from request headers.
+     *
+     * @param headers Request headers.
+     * @return Token, empty if there is no bearer authorization header.
+     */
+    private static Optional<String> token(final Iterable<Map.Entry<String, String>> headers) {
+        return new RqHeaders(headers, "Authorization")
+            .stream()
+            .filter(value -> value.regionMatches(true, 0, "Bearer ", 0, "Bearer ".length()))
+            .map(value -> value.substring("Bearer ".length()).trim())
+            .findFirst();
+    }
+
+    /**
+     * Verify token and read user from it.
+     *
+     * @param token Token.
+     * @return User with granted scopes as groups, empty if token is not valid.
+     */
+    private Optional<Authentication.User> verified(final String token) {
+        final String[] parts = token.split("\\.", -1);
+        Optional<Authentication.User> user = Optional.empty();
+        if (parts.length == 3) {
+            try {
+                final Base64.Decoder decoder = Base64.getUrlDecoder();
+                final JsonObject header = JwtAuthScheme.json(decoder.decode(parts[0]));
+                final Signature sig = Signature.getInstance("SHA256withRSA");
+                sig.initVerify(this.key);
+                sig.update(
+                    String.format("%s.%s", parts[0], parts[1]).getBytes(StandardCharsets.US_ASCII)
+                );
+                if ("RS256".equals(header.getString("alg", ""))
+                    && sig.verify(decoder.decode(parts[2]))) {
+                    user = this.user(JwtAuthScheme.json(decoder.decode(parts[1])));
+                }
+            } catch (final GeneralSecurityException | IllegalArgumentException
+                | JsonException | ClassCastException ex) {
+                user = Optional.empty();
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Read user from verified token claims.
+     *
+     * @param claims Token claims.
+     * @return User, empty if claims are not valid for this service at this time.
+     */
+    private Optional<Authentication.User> user(final JsonObject claims) {
+        final long now = this.clock.instant().getEpochSecond();
+        final JsonNumber nbf = claims.getJsonNumber("nbf");
+        final JsonNumber exp = claims.getJsonNumber("exp");
+        final String sub = claims.getString("sub", "");
+        final Optional<Authentication.User> user;
+        if (this.issuer.equals(claims.getString("iss", ""))
+            && this.service.equals(claims.getString("aud", ""))
+            && !sub.isEmpty() && nbf != null && exp != null
+            && nbf.longValue() <= now && now < exp.longValue()) {
+            final Collection<String> scopes = new ArrayList<>(0);
+            final JsonArray access = claims.getJsonArray("access");
+            if (access != null) {
+                for (final JsonObject item : access.getValuesAs(JsonObject.class)) {
+                    final JsonArray actions = item.getJsonArray("actions");
+                    if (actions != null) {
+                        for (final JsonString action : actions.getValuesAs(JsonString.class)) {
+                            scopes.add(
+                                String.format(
+                                    "%s:%s:%s",
+                                    item.getString("type", ""),
+                                    item.getString("name", ""),
+                                    action.getString()
+                                )
+                            );
+                        }
+                    }
+                }
+            }
+            user = Optional.of(new Authentication.User(sub, scopes));
+        } else {
+            user = Optional.empty();
+        }
+        return user;
+    }
+
+    /**
+     * Parse JSON object.
+     *
+     * @param bytes JSON bytes.
+     * @return JSON object.
+     */
+    private static JsonObject json(final byte[] bytes) {
+        try (JsonReader reader = Json.createReader(
+            new StringReader(new String(bytes, StandardCharsets.UTF_8))
+        )) {
+            return reader.readObject();
+        }
+    }
+}
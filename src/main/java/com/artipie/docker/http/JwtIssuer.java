@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+/**
+ * Issuer of JSON Web Tokens for Docker token authentication.
+ * Tokens are signed with RS256 and carry granted scopes in `access` claim,
+ * see <a href="https://docs.docker.com/registry/spec/auth/jwt/">Token Authentication Implementation</a>.
+ *
+ * @since 0.17
+ */
+public final class JwtIssuer {
+
+    /**
+     * Signing key.
+     */
+    private final PrivateKey key;
+
+    /**
+     * Token issuer name.
+     */
+    private final String issuer;
+
+    /**
+     * Service the token is issued for, audience of the token.
+     */
+    private final String service;
+
+    /**
+     * Token time to live.
+     */
+    private final Duration ttl;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Ctor.
+     *
+     * @param key RSA signing key.
+     * @param issuer Token issuer name.
+     * @param service Service the token is issued for.
+     * @param ttl Token time to live.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public JwtIssuer(
+        final PrivateKey key, final String issuer, final String service, final Duration ttl
+    ) {
+        this(key, issuer, service, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param key RSA signing key.
+     * @param issuer Token issuer name.
+     * @param service Service the token is issued for.
+     * @param ttl Token time to live.
+     * @param clock Clock.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    JwtIssuer(final PrivateKey key, final String issuer, final String service,
+        final Duration ttl, final Clock clock) {
+        this.key = key;
+        this.issuer = issuer;
+        this.service = service;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Issue token.
+     *
+     * @param subject User name.
+     * @param access Granted scopes.
+     * @return Token response, containing `token`, `access_token`, `expires_in`
+     *  and `issued_at` fields.
+     */
+    public JsonObject token(final String subject, final Collection<Scope> access) {
+        final Instant now = this.clock.instant();
+        final String token = JwtIssuer.signed(
+            this.key,
+            Json.createObjectBuilder()
+                .add("alg", "RS256")
+                .add("typ", "JWT")
+                .build(),
+            Json.createObjectBuilder()
+                .add("iss", this.issuer)
+                .add("sub", subject)
+                .add("aud", this.service)
+                .add("iat", now.getEpochSecond())
+                .add("nbf", now.getEpochSecond())
+                .add("exp", now.plus(this.ttl).getEpochSecond())
+                .add("jti", UUID.randomUUID().toString())
+                .add("access", JwtIssuer.access(access))
+                .build()
+        );
+        return Json.createObjectBuilder()
+            .add("token", token)
+            .add("access_token", token)
+            .add("expires_in", this.ttl.getSeconds())
+            .add("issued_at", now.toString())
+            .build();
+    }
+
+    /**
+     * Create `access` claim grouping scope actions by resource.
+     *
+     * @param scopes Scopes.
+     * @return Access claim.
+     */
+    private static JsonArrayBuilder access(final Collection<Scope> scopes) {
+        final Map<String, JsonArrayBuilder> actions = new LinkedHashMap<>();
+        final Map<String, Scope> resources = new LinkedHashMap<>();
+        for (final Scope scope : scopes) {
+            final String resource = String.format("%s:%s", scope.type(), scope.name());
+            resources.putIfAbsent(resource, scope);
+            actions.computeIfAbsent(resource, res -> Json.createArrayBuilder())
+                .add(scope.action());
+        }
+        final JsonArrayBuilder access = Json.createArrayBuilder();
+        for (final Map.Entry<String, Scope> resource : resources.entrySet()) {
+            access.add(
+                Json.createObjectBuilder()
+                    .add("type", resource.getValue().type())
+                    .add("name", resource.getValue().name())
+                    .add("actions", actions.get(resource.getKey()))
+            );
+        }
+        return access;
+    }
+
+    /**
+     * Create signed token.
+     *
+     * @param key Signing key.
+     * @param header Token header.
+     * @param claims Token claims.
+     * @return Token in compact serialization.
+     */
+    private static String signed(
+        final PrivateKey key, final JsonObject header, final JsonObject claims
+    ) {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        final String content = String.format(
+            "%s.%s",
+            encoder.encodeToString(header.toString().getBytes(StandardCharsets.UTF_8)),
+            encoder.encodeToString(claims.toString().getBytes(StandardCharsets.UTF_8))
+        );
+        try {
+            final Signature sig = Signature.getInstance("SHA256withRSA");
+            sig.initSign(key);
+            sig.update(content.getBytes(StandardCharsets.US_ASCII));
+            return String.format("%s.%s", content, encoder.encodeToString(sig.sign()));
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to sign token", ex);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Execution lane admitting limited number of concurrent tasks.
+ * Tasks over the limit wait in bounded queue, tasks over the queue capacity are rejected.
+ * Admitted tasks are started on lane executor and hold their slot until completed.
+ *
+ * @since 0.17
+ */
+public final class Lane {
+
+    /**
+     * Maximum number of running tasks.
+     */
+    private final int limit;
+
+    /**
+     * Maximum number of waiting tasks.
+     */
+    private final int capacity;
+
+    /**
+     * Executor starting tasks.
+     */
+    private final Executor executor;
+
+    /**
+     * Waiting tasks.
+     */
+    private final Deque<Runnable> queue;
+
+    /**
+     * Number of running tasks, guarded by queue.
+     */
+    private int running;
+
+    /**
+     * Number of released slots not yet passed to waiting tasks, guarded by queue.
+     */
+    private int released;
+
+    /**
+     * Whether some thread passes released slots to waiting tasks, guarded by queue.
+     */
+    private boolean draining;
+
+    /**
+     * Ctor.
+     * Tasks are started on the thread admitting them or the thread completing previous task.
+     *
+     * @param limit Maximum number of running tasks.
+     * @param capacity Maximum number of waiting tasks.
+     */
+    public Lane(final int limit, final int capacity) {
+        this(limit, capacity, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param limit Maximum number of running tasks.
+     * @param capacity Maximum number of waiting tasks.
+     * @param executor Executor starting tasks.
+     */
+    public Lane(final int limit, final int capacity, final Executor executor) {
+        this.limit = limit;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * Run task in the lane.
+     *
+     * @param task Task started when slot is available.
+     * @param <T> Result type.
+     * @return Task result, empty if lane is full and task is rejected.
+     */
+    public <T> Optional<CompletionStage<T>> run(final Supplier<CompletionStage<T>> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Runnable start = () -> {
+            try {
+                this.executor.execute(() -> this.start(task, result));
+            } catch (final RejectedExecutionException ex) {
+                this.release();
+                result.completeExceptionally(ex);
+            }
+        };
+        final Optional<CompletionStage<T>> admitted;
+        boolean now = false;
+        synchronized (this.queue) {
+            if (this.running < this.limit) {
+                this.running += 1;
+                now = true;
+                admitted = Optional.of(result);
+            } else if (this.queue.size() < this.capacity) {
+                this.queue.addLast(start);
+                admitted = Optional.of(result);
+            } else {
+                admitted = Optional.empty();
+            }
+        }
+        if (now) {
+            start.run();
+        }
+        return admitted;
+    }
+
+    /**
+     * Number of running tasks.
+     *
+     * @return Number of tasks holding slots.
+     */
+    public int running() {
+        synchronized (this.queue) {
+            return this.running;
+        }
+    }
+
+    /**
+     * Number of waiting tasks.
+     *
+     * @return Number of queued tasks.
+     */
+    public int waiting() {
+        synchronized (this.queue) {
+            return this.queue.size();
+        }
+    }
+
+    /**
+     * Start task and release slot on completion.
+     *
+     * @param task Task.
+     * @param result Task result.
+     * @param <T> Result type.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> void start(final Supplier<CompletionStage<T>> task,
+        final CompletableFuture<T> result) {
+        CompletionStage<T> stage;
+        try {
+            stage = task.get();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            stage = failed;
+        }
+        stage.whenComplete(
+            (value, err) -> {
+                this.release();
+                if (err == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(err);
+                }
+            }
+        );
+    }
+
+    /**
+     * Release slot, passing it to next waiting task if any.
+     * Slots are passed in a loop by one thread at a time: task completed
+     * synchronously while it is started releases its slot to the loop,
+     * so long queue of such tasks does not grow the stack.
+     */
+    private void release() {
+        boolean drain;
+        synchronized (this.queue) {
+            this.released += 1;
+            drain = !this.draining;
+            this.draining = true;
+        }
+        while (drain) {
+            Runnable next = null;
+            synchronized (this.queue) {
+                if (this.released == 0) {
+                    this.draining = false;
+                    drain = false;
+                } else {
+                    this.released -= 1;
+                    next = this.queue.pollFirst();
+                    if (next == null) {
+                        this.running -= 1;
+                    }
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.error.TooManyRequestsError;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice admitting requests through separate lanes for metadata and bulk traffic.
+ * Blob downloads and uploads go to bulk lane, all other requests, like manifest and
+ * blob checks, tags, catalog and auth checks, go to metadata lane.
+ * So heavy blob traffic does not hold up small requests.
+ * Request rejected by full lane is answered with {@code 429 Too Many Requests}
+ * and {@code Retry-After} header.
+ *
+ * @since 0.17
+ */
+public final class LanesSlice implements Slice {
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Metadata lane.
+     */
+    private final Lane metadata;
+
+    /**
+     * Bulk lane.
+     */
+    private final Lane bulk;
+
+    /**
+     * Time client should wait before retrying rejected request.
+     */
+    private final Duration retry;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin slice.
+     * @param metadata Metadata lane.
+     * @param bulk Bulk lane.
+     */
+    public LanesSlice(final Slice origin, final Lane metadata, final Lane bulk) {
+        this(origin, metadata, bulk, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin slice.
+     * @param metadata Metadata lane.
+     * @param bulk Bulk lane.
+     * @param retry Time client should wait before retrying rejected request.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public LanesSlice(final Slice origin, final Lane metadata, final Lane bulk,
+        final Duration retry) {
+        this.origin = origin;
+        this.metadata = metadata;
+        this.bulk = bulk;
+        this.retry = retry;
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final Lane lane;
+        if (LanesSlice.bulk(line)) {
+            lane = this.bulk;
+        } else {
+            lane = this.metadata;
+        }
+        return connection -> lane.run(
+            () -> this.origin.response(line, headers, body).send(connection)
+        ).orElseGet(
+            () -> new RsWithHeaders(
+                new ErrorsResponse(RsStatus.TOO_MANY_REQUESTS, new TooManyRequestsError()),
+                new Header(
+                    "Retry-After", String.valueOf(Math.max(1L, this.retry.getSeconds()))
+                )
+            ).send(connection)
+        );
+    }
+
+    /**
+     * Check request transfers blob content.
+     *
+     * @param line Request line.
+     * @return True for blob download and upload requests.
+     */
+    private static boolean bulk(final String line) {
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        final ApiRequest.Kind kind = new ApiRequest(rql.uri()).kind();
+        return kind == ApiRequest.Kind.BLOB && rql.method() == RqMethod.GET
+            || kind == ApiRequest.Kind.UPLOAD && rql.method() != RqMethod.GET;
+    }
+}
@@ -5,22 +5,23 @@
 package com.artipie.docker.http;
 
 import com.artipie.asto.Content;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.error.ManifestError;
 import com.artipie.docker.manifest.Manifest;
 import com.artipie.docker.misc.AcceptHeader;
-import com.artipie.docker.misc.RqByRegex;
+import com.artipie.docker.misc.IfNoneMatch;
 import com.artipie.docker.ref.ManifestRef;
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.auth.AuthScheme;
-import com.artipie.http.auth.AuthSlice;
-import com.artipie.http.auth.Permission;
 import com.artipie.http.auth.Permissions;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.ContentType;
 import com.artipie.http.headers.Location;
+import com.artipie.http.headers.WwwAuthenticate;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithHeaders;
@@ -29,6 +30,9 @@ import com.artipie.http.rs.StandardRs;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import org.reactivestreams.Publisher;
 
@@ -66,18 +70,34 @@ final class ManifestEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Head(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Head(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Pull(new Request(line).name());
+            return new Scope.Repository.Pull(new Request(this.requests.apply(line)).name());
         }
 
         @Override
@@ -85,15 +105,26 @@ final class ManifestEntity {
             final String line,
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body) {
-            final Request request = new Request(line);
+            final Request request = new Request(this.requests.apply(line));
             final ManifestRef ref = request.reference();
             return new AsyncResponse(
                 this.docker.repo(request.name()).manifests().get(ref).thenApply(
                     manifest -> manifest.<Response>map(
-                        found -> new RsWithHeaders(
-                            new BaseResponse(found.convert(Head.acceptHeader(headers))),
-                            new ContentLength(found.size())
-                        )
+                        found -> {
+                            final Manifest mnf = found.convert(Head.acceptHeader(headers));
+                            return new Cacheable(
+                                ref,
+                                new ConditionalResponse(
+                                    headers,
+                                    mnf.digest().string(),
+                                    () -> new NotModified(mnf.digest()),
+                                    () -> new RsWithHeaders(
+                                        new BaseResponse(mnf),
+                                        new ContentLength(found.size())
+                                    )
+                                )
+                            );
+                        }
                     ).orElseGet(
                         () -> new ErrorsResponse(RsStatus.NOT_FOUND, new ManifestError(ref))
                     )
@@ -123,18 +154,34 @@ final class ManifestEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Get(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Get(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Pull(new Request(line).name());
+            return new Scope.Repository.Pull(new Request(this.requests.apply(line)).name());
         }
 
         @Override
@@ -143,21 +190,50 @@ final class ManifestEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(this.requests.apply(line));
             final RepoName name = request.name();
             final ManifestRef ref = request.reference();
-            return new AsyncResponse(
-                this.docker.repo(name).manifests().get(ref).thenApply(
-                    manifest -> manifest.<Response>map(
-                        found -> {
-                            final Manifest mnf = found.convert(Head.acceptHeader(headers));
-                            return new RsWithBody(new BaseResponse(mnf), mnf.content());
+            final Digest.FromString direct = new Digest.FromString(ref.string());
+            final Response result;
+            if (direct.valid() && new IfNoneMatch(headers).lists(direct.string())) {
+                result = new AsyncResponse(
+                    this.docker.repo(name).manifests().exists(ref).thenApply(
+                        exists -> {
+                            final Response rsp;
+                            if (exists) {
+                                rsp = new Cacheable(ref, new NotModified(direct));
+                            } else {
+                                rsp = new ErrorsResponse(
+                                    RsStatus.NOT_FOUND, new ManifestError(ref)
+                                );
+                            }
+                            return rsp;
                         }
-                    ).orElseGet(
-                        () -> new ErrorsResponse(RsStatus.NOT_FOUND, new ManifestError(ref))
                     )
-                )
-            );
+                );
+            } else {
+                result = new AsyncResponse(
+                    this.docker.repo(name).manifests().get(ref).thenApply(
+                        manifest -> manifest.<Response>map(
+                            found -> {
+                                final Manifest mnf = found.convert(Head.acceptHeader(headers));
+                                return new Cacheable(
+                                    ref,
+                                    new ConditionalResponse(
+                                        headers,
+                                        mnf.digest().string(),
+                                        () -> new NotModified(mnf.digest()),
+                                        () -> new RsWithBody(new BaseResponse(mnf), mnf.content())
+                                    )
+                                );
+                            }
+                        ).orElseGet(
+                            () -> new ErrorsResponse(RsStatus.NOT_FOUND, new ManifestError(ref))
+                        )
+                    )
+                );
+            }
+            return result;
         }
 
     }
@@ -174,18 +250,34 @@ final class ManifestEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Put(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Put(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Push(new Request(line).name());
+            return new Scope.Repository.Push(new Request(this.requests.apply(line)).name());
         }
 
         @Override
@@ -194,7 +286,7 @@ final class ManifestEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(this.requests.apply(line));
             final RepoName name = request.name();
             final ManifestRef ref = request.reference();
             return new AsyncResponse(
@@ -224,6 +316,11 @@ final class ManifestEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Origin.
          */
@@ -249,7 +346,22 @@ final class ManifestEntity {
          */
         PutAuth(final Docker docker, final ScopeSlice origin,
             final AuthScheme auth, final Permissions perms) {
+            this(docker, ApiRequest::new, origin, auth, perms);
+        }
+
+        /**
+         * Ctor.
+         * @param docker Docker
+         * @param requests Request parser, may return request already parsed by router
+         * @param origin Origin slice
+         * @param auth Authentication
+         * @param perms Permission
+         * @checkstyle ParameterNumberCheck (4 lines)
+         */
+        PutAuth(final Docker docker, final Function<String, ApiRequest> requests,
+            final ScopeSlice origin, final AuthScheme auth, final Permissions perms) {
             this.docker = docker;
+            this.requests = requests;
             this.origin = origin;
             this.perms = perms;
             this.auth = auth;
@@ -260,35 +372,106 @@ final class ManifestEntity {
             final String line, final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
-            final RepoName name = request.name();
-            final ManifestRef ref = request.reference();
-            return new AsyncResponse(
-                this.docker.repo(name).manifests().get(ref).thenApply(
-                    manifest -> {
-                        final Permission perm;
-                        if (manifest.isPresent()) {
-                            perm = user -> this.perms.allowed(user, this.scope(line).string());
+            final String push = this.origin.scope(line).string();
+            final String overwrite = this.scope(line).string();
+            return new DockerAuthSlice(
+                (rqline, rqheaders, rqbody) -> {
+                    final CompletionStage<Response> res;
+                    if (this.perms.allowed(Permissions.ANY_USER, overwrite)) {
+                        res = CompletableFuture.completedFuture(
+                            this.origin.response(line, headers, body)
+                        );
+                    } else if (this.perms.allowed(Permissions.ANY_USER, push)) {
+                        res = this.exists(line).thenCompose(
+                            exists -> {
+                                final CompletionStage<Response> anon;
+                                if (exists) {
+                                    anon = this.authenticated(line, headers, body);
+                                } else {
+                                    anon = CompletableFuture.completedFuture(
+                                        this.origin.response(line, headers, body)
+                                    );
+                                }
+                                return anon;
+                            }
+                        );
+                    } else {
+                        res = this.authenticated(line, headers, body);
+                    }
+                    return new AsyncResponse(res);
+                }
+            ).response(line, headers, body);
+        }
+
+        @Override
+        public Scope scope(final String line) {
+            return new Scope.Repository.OverwriteTags(
+                new Request(this.requests.apply(line)).name()
+            );
+        }
+
+        /**
+         * Authenticate user and authorize push.
+         * Overwrite permission allows push in any case, push permission allows
+         * push only if manifest does not exist yet. Manifest existence is checked
+         * only after user is authenticated and has push permission.
+         *
+         * @param line Request line.
+         * @param headers Request headers.
+         * @param body Request body.
+         * @return Response.
+         */
+        private CompletionStage<Response> authenticated(
+            final String line, final Iterable<Map.Entry<String, String>> headers,
+            final Publisher<ByteBuffer> body
+        ) {
+            return this.auth.authenticate(headers).thenCompose(
+                result -> result.user().<CompletionStage<Response>>map(
+                    user -> {
+                        final CompletionStage<Response> res;
+                        if (this.perms.allowed(user, this.scope(line).string())) {
+                            res = CompletableFuture.completedFuture(
+                                this.origin.response(line, headers, body)
+                            );
+                        } else if (this.perms.allowed(user, this.origin.scope(line).string())) {
+                            res = this.exists(line).thenApply(
+                                exists -> {
+                                    final Response rsp;
+                                    if (exists) {
+                                        rsp = new RsWithStatus(RsStatus.FORBIDDEN);
+                                    } else {
+                                        rsp = this.origin.response(line, headers, body);
+                                    }
+                                    return rsp;
+                                }
+                            );
                         } else {
-                            perm = user -> this.perms.allowed(
-                                user, this.origin.scope(line).string()
-                            ) || this.perms.allowed(user, this.scope(line).string());
+                            res = CompletableFuture.completedFuture(
+                                new RsWithStatus(RsStatus.FORBIDDEN)
+                            );
                         }
-                        return new DockerAuthSlice(
-                            new AuthSlice(
-                                this.origin,
-                                this.auth,
-                                perm
-                            )
-                        ).response(line, headers, body);
+                        return res;
                     }
+                ).orElseGet(
+                    () -> CompletableFuture.completedFuture(
+                        new RsWithHeaders(
+                            new RsWithStatus(RsStatus.UNAUTHORIZED),
+                            new Headers.From(new WwwAuthenticate(result.challenge()))
+                        )
+                    )
                 )
             );
         }
 
-        @Override
-        public Scope scope(final String line) {
-            return new Scope.Repository.OverwriteTags(new Request(line).name());
+        /**
+         * Check manifest exists.
+         *
+         * @param line Request line.
+         * @return True if manifest exists.
+         */
+        private CompletionStage<Boolean> exists(final String line) {
+            final Request request = new Request(this.requests.apply(line));
+            return this.docker.repo(request.name()).manifests().exists(request.reference());
         }
     }
 
@@ -300,9 +483,9 @@ final class ManifestEntity {
     static final class Request {
 
         /**
-         * HTTP request by RegEx.
+         * Parsed API request.
          */
-        private final RqByRegex rqregex;
+        private final ApiRequest rqst;
 
         /**
          * Ctor.
@@ -310,7 +493,16 @@ final class ManifestEntity {
          * @param line HTTP request line.
          */
         Request(final String line) {
-            this.rqregex = new RqByRegex(line, ManifestEntity.PATH);
+            this(new ApiRequest(line));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param rqst Parsed API request.
+         */
+        Request(final ApiRequest rqst) {
+            this.rqst = rqst;
         }
 
         /**
@@ -319,7 +511,7 @@ final class ManifestEntity {
          * @return Repository name.
          */
         RepoName name() {
-            return new RepoName.Valid(this.rqregex.path().group("name"));
+            return this.rqst.name();
         }
 
         /**
@@ -328,11 +520,67 @@ final class ManifestEntity {
          * @return Manifest reference.
          */
         ManifestRef reference() {
-            return new ManifestRef.FromString(this.rqregex.path().group("reference"));
+            return new ManifestRef.FromString(this.rqst.reference());
         }
 
     }
 
+    /**
+     * Manifest response which may be cached as immutable if manifest is referenced by digest.
+     * @since 0.17
+     */
+    static final class Cacheable extends Response.Wrap {
+
+        /**
+         * Ctor.
+         *
+         * @param ref Manifest reference.
+         * @param origin Origin response.
+         */
+        Cacheable(final ManifestRef ref, final Response origin) {
+            super(Cacheable.response(ref, origin));
+        }
+
+        /**
+         * Add Cache-Control header to response if reference is digest.
+         *
+         * @param ref Manifest reference.
+         * @param origin Origin response.
+         * @return Response.
+         */
+        private static Response response(final ManifestRef ref, final Response origin) {
+            final Response result;
+            if (new Digest.FromString(ref.string()).valid()) {
+                result = new RsWithHeaders(origin, new ImmutableHeader());
+            } else {
+                result = origin;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Not modified manifest response, carrying the same digest headers as full response.
+     * @since 0.17
+     */
+    static final class NotModified extends Response.Wrap {
+
+        /**
+         * Ctor.
+         *
+         * @param digest Manifest digest.
+         */
+        NotModified(final Digest digest) {
+            super(
+                new RsWithHeaders(
+                    new RsWithStatus(RsStatus.NOT_MODIFIED),
+                    new EtagHeader(digest.string()),
+                    new DigestHeader(digest)
+                )
+            );
+        }
+    }
+
     /**
      * Manifest base response.
      * @since 0.2
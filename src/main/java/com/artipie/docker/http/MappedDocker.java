@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.Catalog;
+import com.artipie.docker.Docker;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.misc.CatalogPage;
+import com.artipie.docker.misc.ParsedCatalog;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link Docker} serving several registries mapped to repository name prefixes.
+ * Prefixes are matched by whole path segments, the longest mapped prefix wins.
+ * Prefixes are kept in a trie of path segments built once, so routing a name
+ * takes one pass over its segments regardless of the number of mappings.
+ * Empty prefix maps names without any of other prefixes.
+ * Catalog pages of mapped registries are parsed to merge and page names
+ * across registries, so catalog is not streamed.
+ *
+ * @since 0.17
+ */
+public final class MappedDocker implements Docker {
+
+    /**
+     * Registries by prefix without leading and trailing slashes, in prefix order.
+     */
+    private final Map<String, Docker> mappings;
+
+    /**
+     * Root of prefixes trie.
+     */
+    private final Node root;
+
+    /**
+     * Ctor.
+     *
+     * @param mappings Registries by repository name prefix.
+     */
+    public MappedDocker(final Map<String, Docker> mappings) {
+        this.mappings = new TreeMap<>();
+        this.root = new Node();
+        for (final Map.Entry<String, Docker> mapping : mappings.entrySet()) {
+            final String prefix = MappedDocker.normalized(mapping.getKey());
+            this.mappings.put(prefix, mapping.getValue());
+            Node node = this.root;
+            if (!prefix.isEmpty()) {
+                for (final String segment : prefix.split("/")) {
+                    node = node.child(segment);
+                }
+            }
+            node.mapped = true;
+        }
+    }
+
+    @Override
+    public Repo repo(final RepoName name) {
+        final String value = name.value();
+        final int start = this.start(value);
+        if (start < 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid image name: name `%s` does not start with any of `%s`",
+                    value, this.mappings.keySet()
+                )
+            );
+        }
+        return this.mappings.get(MappedDocker.prefix(value, start))
+            .repo(new RepoName.Valid(value.substring(start)));
+    }
+
+    @Override
+    public CompletionStage<Catalog> catalog(final Optional<RepoName> from, final int limit) {
+        final List<CompletableFuture<List<RepoName>>> all = new ArrayList<>(
+            this.mappings.size()
+        );
+        final String last = from.map(RepoName::value).orElse("");
+        for (final Map.Entry<String, Docker> mapping : this.mappings.entrySet()) {
+            final String prefix = mapping.getKey();
+            final String lead;
+            if (prefix.isEmpty()) {
+                lead = "";
+            } else {
+                lead = String.format("%s/", prefix);
+            }
+            if (prefix.isEmpty() || last.compareTo(lead) < 0 || last.startsWith(lead)) {
+                final Optional<RepoName> after;
+                if (last.isEmpty() || !last.startsWith(lead)) {
+                    after = Optional.empty();
+                } else {
+                    after = Optional.of(new RepoName.Simple(last.substring(lead.length())));
+                }
+                all.add(
+                    mapping.getValue().catalog(after, limit)
+                        .thenCompose(catalog -> new ParsedCatalog(catalog).repos())
+                        .thenApply(
+                            names -> names.stream()
+                                .map(name -> lead.concat(name.value()))
+                                .filter(name -> this.start(name) == lead.length())
+                                .<RepoName>map(RepoName.Simple::new)
+                                .collect(Collectors.toList())
+                        ).toCompletableFuture()
+                );
+            }
+        }
+        return CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).thenApply(
+            nothing -> {
+                final Collection<RepoName> names = new ArrayList<>(0);
+                for (final CompletableFuture<List<RepoName>> part : all) {
+                    names.addAll(part.join());
+                }
+                return new CatalogPage(names, from, limit);
+            }
+        );
+    }
+
+    /**
+     * Find where name reminder starts after the longest mapped prefix.
+     *
+     * @param name Repository name.
+     * @return Index of reminder, negative if name does not start with any mapped prefix.
+     */
+    private int start(final String name) {
+        int found;
+        if (this.root.mapped) {
+            found = 0;
+        } else {
+            found = -1;
+        }
+        Node node = this.root;
+        int start = 0;
+        int end = name.indexOf('/');
+        while (end > 0) {
+            node = node.children.get(name.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            start = end + 1;
+            if (node.mapped) {
+                found = start;
+            }
+            end = name.indexOf('/', start);
+        }
+        return found;
+    }
+
+    /**
+     * Prefix of name.
+     *
+     * @param name Repository name.
+     * @param start Index of reminder.
+     * @return Prefix without trailing slash.
+     */
+    private static String prefix(final String name, final int start) {
+        final String prefix;
+        if (start == 0) {
+            prefix = "";
+        } else {
+            prefix = name.substring(0, start - 1);
+        }
+        return prefix;
+    }
+
+    /**
+     * Remove leading and trailing slashes from prefix.
+     *
+     * @param prefix Prefix.
+     * @return Normalized prefix.
+     */
+    private static String normalized(final String prefix) {
+        int start = 0;
+        int end = prefix.length();
+        while (start < end && prefix.charAt(start) == '/') {
+            start += 1;
+        }
+        while (end > start && prefix.charAt(end - 1) == '/') {
+            end -= 1;
+        }
+        return prefix.substring(start, end);
+    }
+
+    /**
+     * Node of prefixes trie.
+     *
+     * @since 0.17
+     */
+    private static final class Node {
+
+        /**
+         * Child nodes by path segment.
+         */
+        private final Map<String, Node> children;
+
+        /**
+         * Whether path to this node is mapped prefix.
+         */
+        private boolean mapped;
+
+        /**
+         * Ctor.
+         */
+        Node() {
+            this.children = new HashMap<>();
+        }
+
+        /**
+         * Get or add child node.
+         *
+         * @param segment Path segment.
+         * @return Child node.
+         */
+        Node child(final String segment) {
+            return this.children.computeIfAbsent(segment, key -> new Node());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.metrics.Counter;
+import com.artipie.docker.metrics.Histogram;
+import com.artipie.docker.metrics.Metrics;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice recording requests to Docker Registry API by endpoint and response status:
+ * request duration until response body is sent, bytes received and sent.
+ * Endpoint is request method and entity kind, the same way for registry served here
+ * and for upstream registry, so slice may decorate both {@link DockerSlice}
+ * and HTTP client slice of proxy with different metric prefixes.
+ * Instruments are registered on first request to endpoint and kept in arrays
+ * indexed by method, entity kind and status.
+ *
+ * @since 0.17
+ */
+public final class MeasuredSlice implements Slice {
+
+    /**
+     * Number of request methods.
+     */
+    private static final int METHODS = RqMethod.values().length;
+
+    /**
+     * Number of entity kinds.
+     */
+    private static final int KINDS = ApiRequest.Kind.values().length;
+
+    /**
+     * Number of response statuses, plus one for responses failed without status.
+     */
+    private static final int STATUSES = RsStatus.values().length + 1;
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Metrics registry.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Metric names prefix.
+     */
+    private final String prefix;
+
+    /**
+     * Request durations by endpoint and status.
+     */
+    private final AtomicReferenceArray<Histogram> durations;
+
+    /**
+     * Received bytes by endpoint.
+     */
+    private final AtomicReferenceArray<Counter> received;
+
+    /**
+     * Sent bytes by endpoint.
+     */
+    private final AtomicReferenceArray<Counter> sent;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin slice.
+     * @param metrics Metrics registry.
+     */
+    public MeasuredSlice(final Slice origin, final Metrics metrics) {
+        this(origin, metrics, "docker_http");
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin slice.
+     * @param metrics Metrics registry.
+     * @param prefix Metric names prefix, e.g. {@code docker_upstream} for proxy client.
+     */
+    public MeasuredSlice(final Slice origin, final Metrics metrics, final String prefix) {
+        this.origin = origin;
+        this.metrics = metrics;
+        this.prefix = prefix;
+        this.durations = new AtomicReferenceArray<>(
+            MeasuredSlice.METHODS * MeasuredSlice.KINDS * MeasuredSlice.STATUSES
+        );
+        this.received = new AtomicReferenceArray<>(MeasuredSlice.METHODS * MeasuredSlice.KINDS);
+        this.sent = new AtomicReferenceArray<>(MeasuredSlice.METHODS * MeasuredSlice.KINDS);
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final long start = System.nanoTime();
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        final RqMethod method = rql.method();
+        final ApiRequest.Kind kind = new ApiRequest(rql.uri()).kind();
+        final int endpoint = method.ordinal() * MeasuredSlice.KINDS + kind.ordinal();
+        final Counter in = this.counter(this.received, "received", method, kind);
+        final Response response = this.origin.response(
+            line, headers, MeasuredSlice.counted(body, in)
+        );
+        return connection -> {
+            final Exchange exchange = new Exchange(
+                connection, this.counter(this.sent, "sent", method, kind)
+            );
+            return response.send(exchange).whenComplete(
+                (nothing, err) -> this.duration(method, kind, endpoint, exchange.status)
+                    .record(System.nanoTime() - start)
+            );
+        };
+    }
+
+    /**
+     * Find or register bytes counter of endpoint.
+     *
+     * @param counters Counters by endpoint.
+     * @param direction Direction, {@code received} or {@code sent}.
+     * @param method Request method.
+     * @param kind Entity kind.
+     * @return Counter.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Counter counter(final AtomicReferenceArray<Counter> counters,
+        final String direction, final RqMethod method, final ApiRequest.Kind kind) {
+        final int idx = method.ordinal() * MeasuredSlice.KINDS + kind.ordinal();
+        Counter counter = counters.get(idx);
+        if (counter == null) {
+            counter = this.metrics.counter(
+                String.format("%s_%s_bytes_total", this.prefix, direction),
+                String.format("Body bytes %s by endpoint", direction),
+                "method", method.value(),
+                "entity", kind.name().toLowerCase(Locale.ROOT)
+            );
+            counters.lazySet(idx, counter);
+        }
+        return counter;
+    }
+
+    /**
+     * Find or register duration histogram of endpoint and status.
+     *
+     * @param method Request method.
+     * @param kind Entity kind.
+     * @param endpoint Endpoint index.
+     * @param status Response status, null if response failed before status was sent.
+     * @return Histogram.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Histogram duration(final RqMethod method, final ApiRequest.Kind kind,
+        final int endpoint, final RsStatus status) {
+        final int code;
+        if (status == null) {
+            code = MeasuredSlice.STATUSES - 1;
+        } else {
+            code = status.ordinal();
+        }
+        final int idx = endpoint * MeasuredSlice.STATUSES + code;
+        Histogram histogram = this.durations.get(idx);
+        if (histogram == null) {
+            final String label;
+            if (status == null) {
+                label = "error";
+            } else {
+                label = status.code();
+            }
+            histogram = this.metrics.histogram(
+                String.format("%s_request_duration_seconds", this.prefix),
+                "Duration of requests by endpoint and response status",
+                "method", method.value(),
+                "entity", kind.name().toLowerCase(Locale.ROOT),
+                "status", label
+            );
+            this.durations.lazySet(idx, histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * Count bytes of body as it is read, keeping known content size.
+     *
+     * @param body Body.
+     * @param counter Bytes counter.
+     * @return Counted body.
+     */
+    private static Publisher<ByteBuffer> counted(final Publisher<ByteBuffer> body,
+        final Counter counter) {
+        final Flowable<ByteBuffer> flow = Flowable.fromPublisher(body)
+            .doOnNext(buf -> counter.add(buf.remaining()));
+        final Publisher<ByteBuffer> result;
+        if (body instanceof Content) {
+            result = new Content.From(((Content) body).size(), flow);
+        } else {
+            result = flow;
+        }
+        return result;
+    }
+
+    /**
+     * Connection remembering response status and counting sent body bytes.
+     *
+     * @since 0.17
+     */
+    private static final class Exchange implements Connection {
+
+        /**
+         * Origin connection.
+         */
+        private final Connection origin;
+
+        /**
+         * Sent bytes counter.
+         */
+        private final Counter out;
+
+        /**
+         * Response status, null until response is accepted.
+         */
+        private volatile RsStatus status;
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin connection.
+         * @param out Sent bytes counter.
+         */
+        Exchange(final Connection origin, final Counter out) {
+            this.origin = origin;
+            this.out = out;
+        }
+
+        @Override
+        public CompletionStage<Void> accept(
+            final RsStatus rsstatus,
+            final Headers headers,
+            final Publisher<ByteBuffer> body
+        ) {
+            this.status = rsstatus;
+            return this.origin.accept(rsstatus, headers, MeasuredSlice.counted(body, this.out));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.Storage;
+import com.artipie.docker.asto.ComposableStorage;
+import com.artipie.docker.asto.MeteredStorage;
+import com.artipie.docker.asto.SignedUrlStorage;
+import com.artipie.docker.asto.StorageMeter;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice accounting storage operations made by requests to every Docker API endpoint.
+ * Endpoint is request method and entity kind, e.g. {@code GET manifest}.
+ * Slice serving request is created for every request on top of storage
+ * recording to meter of request endpoint, so operations made while response
+ * is built and sent are attributed to the endpoint, whatever thread they run on.
+ * Metered storage keeps origin ability to compose values or to issue download URLs,
+ * so request is served the same way as from origin storage; storage able to do both
+ * is metered as composing storage.
+ * Objects shared between requests, like upload sessions, should be created
+ * once outside of slice factory.
+ * Intended for diagnostics and tests rather than production serving.
+ *
+ * @since 0.17
+ */
+public final class MeteredSlice implements Slice {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Factory of slice serving request from given storage.
+     */
+    private final Function<Storage, Slice> slices;
+
+    /**
+     * Storage meters by endpoint.
+     */
+    private final ConcurrentMap<String, StorageMeter> meters;
+
+    /**
+     * Requests counters by endpoint.
+     */
+    private final ConcurrentMap<String, LongAdder> requests;
+
+    /**
+     * Ctor.
+     *
+     * @param storage Origin storage.
+     * @param slices Factory of slice serving request from given storage,
+     *  e.g. {@code asto -> new DockerSlice(new AstoDocker(asto, layout, sessions, ...))}
+     *  with upload sessions and other registry state shared between requests.
+     */
+    public MeteredSlice(final Storage storage, final Function<Storage, Slice> slices) {
+        this.storage = storage;
+        this.slices = slices;
+        this.meters = new ConcurrentHashMap<>();
+        this.requests = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        final String endpoint = String.format(
+            "%s %s",
+            rql.method().value(),
+            new ApiRequest(rql.uri()).kind().name().toLowerCase(Locale.ROOT)
+        );
+        this.requests.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        return this.slices.apply(
+            this.metered(this.meters.computeIfAbsent(endpoint, key -> new StorageMeter()))
+        ).response(line, headers, body);
+    }
+
+    /**
+     * Endpoints requested so far.
+     *
+     * @return Endpoints in alphabetical order.
+     */
+    public Set<String> endpoints() {
+        return new TreeSet<>(this.requests.keySet());
+    }
+
+    /**
+     * Number of requests to endpoint.
+     *
+     * @param endpoint Endpoint, e.g. {@code GET manifest}.
+     * @return Requests count.
+     */
+    public long requests(final String endpoint) {
+        final LongAdder count = this.requests.get(endpoint);
+        final long result;
+        if (count == null) {
+            result = 0;
+        } else {
+            result = count.sum();
+        }
+        return result;
+    }
+
+    /**
+     * Storage meter of endpoint.
+     *
+     * @param endpoint Endpoint, e.g. {@code GET manifest}.
+     * @return Meter, empty if endpoint was not requested.
+     */
+    public StorageMeter meter(final String endpoint) {
+        return this.meters.getOrDefault(endpoint, new StorageMeter());
+    }
+
+    /**
+     * Origin storage recording to meter.
+     *
+     * @param meter Meter.
+     * @return Metered storage of the same capabilities as origin.
+     */
+    private Storage metered(final StorageMeter meter) {
+        final Storage metered;
+        if (this.storage instanceof ComposableStorage) {
+            metered = new MeteredStorage.Composing((ComposableStorage) this.storage, meter);
+        } else if (this.storage instanceof SignedUrlStorage) {
+            metered = new MeteredStorage.Signing((SignedUrlStorage) this.storage, meter);
+        } else {
+            metered = new MeteredStorage(this.storage, meter);
+        }
+        return metered;
+    }
+}
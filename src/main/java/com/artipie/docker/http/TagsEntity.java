@@ -4,13 +4,13 @@
  */
 package com.artipie.docker.http;
 
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
-import com.artipie.docker.RepoName;
 import com.artipie.docker.Tag;
-import com.artipie.docker.misc.RqByRegex;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
-import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqParams;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
@@ -18,6 +18,7 @@ import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import org.reactivestreams.Publisher;
 
@@ -53,18 +54,34 @@ final class TagsEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Get(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Get(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Pull(name(line));
+            return new Scope.Repository.Pull(this.requests.apply(line).name());
         }
 
         @Override
@@ -73,31 +90,31 @@ final class TagsEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final RqParams params = new RqParams(new RequestLineFrom(line).uri().getQuery());
+            final ApiRequest request = this.requests.apply(line);
+            final RqParams params = request.params();
             return new AsyncResponse(
-                this.docker.repo(name(line)).manifests().tags(
+                this.docker.repo(request.name()).manifests().tags(
                     params.value("last").map(Tag.Valid::new),
                     params.value("n").map(Integer::parseInt).orElse(Integer.MAX_VALUE)
+                ).thenCompose(
+                    tags -> new PublisherAs(tags.json()).bytes()
                 ).thenApply(
-                    tags -> new RsWithBody(
-                        new RsWithHeaders(
-                            new RsWithStatus(RsStatus.OK),
-                            new JsonContentType()
-                        ),
-                        tags.json()
+                    bytes -> new GzipResponse(
+                        headers,
+                        new ConditionalResponse(
+                            headers,
+                            new Digest.Sha256(bytes).string(),
+                            () -> new RsWithBody(
+                                new RsWithHeaders(
+                                    new RsWithStatus(RsStatus.OK),
+                                    new JsonContentType()
+                                ),
+                                new Content.From(bytes)
+                            )
+                        )
                     )
                 )
             );
         }
-
-        /**
-         * Extract repository name from HTTP request line.
-         *
-         * @param line Request line.
-         * @return Repository name.
-         */
-        private static RepoName.Valid name(final String line) {
-            return new RepoName.Valid(new RqByRegex(line, TagsEntity.PATH).path().group("name"));
-        }
     }
 }
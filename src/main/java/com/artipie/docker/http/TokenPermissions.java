@@ -0,0 +1,29 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.auth.Permissions;
+import java.util.Collection;
+
+/**
+ * Permissions granted by token to user authenticated with {@link JwtAuthScheme}.
+ * Action is allowed if token grants it or all actions (`*`) on the resource.
+ * API version check is allowed to any authenticated user.
+ *
+ * @since 0.17
+ */
+public final class TokenPermissions implements Permissions {
+
+    @Override
+    public boolean allowed(final Authentication.User user, final String action) {
+        final Collection<String> granted = user.groups();
+        final Scope scope = new Scope.FromString(action);
+        final String base = new Scope.Registry("base", "*").string();
+        return granted.contains(action)
+            || granted.contains(String.format("%s:%s:*", scope.type(), scope.name()))
+            || base.equals(action) && !user.equals(Permissions.ANY_USER);
+    }
+}
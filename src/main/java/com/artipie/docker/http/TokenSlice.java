@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.auth.AuthScheme;
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.auth.Permissions;
+import com.artipie.http.headers.WwwAuthenticate;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+
+/**
+ * Token endpoint of Docker token authentication.
+ * Authenticates user, e.g. with Basic scheme, and issues token granting requested scopes
+ * allowed to the user by permissions. Requests without credentials get token for
+ * actions allowed to anonymous user.
+ * See <a href="https://docs.docker.com/registry/spec/auth/token/">Token Authentication Specification</a>.
+ *
+ * @since 0.17
+ */
+public final class TokenSlice implements Slice {
+
+    /**
+     * User authentication scheme.
+     */
+    private final AuthScheme auth;
+
+    /**
+     * Access permissions.
+     */
+    private final Permissions perms;
+
+    /**
+     * Token issuer.
+     */
+    private final JwtIssuer issuer;
+
+    /**
+     * Ctor.
+     *
+     * @param auth User authentication scheme.
+     * @param perms Access permissions.
+     * @param issuer Token issuer.
+     */
+    public TokenSlice(final AuthScheme auth, final Permissions perms, final JwtIssuer issuer) {
+        this.auth = auth;
+        this.perms = perms;
+        this.issuer = issuer;
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final boolean anonymous = new RqHeaders(headers, "Authorization").isEmpty();
+        return new AsyncResponse(
+            this.auth.authenticate(headers).thenApply(
+                result -> {
+                    final Response rsp;
+                    if (result.user().isPresent() || anonymous) {
+                        final Authentication.User user = result.user()
+                            .orElse(Permissions.ANY_USER);
+                        rsp = new RsWithBody(
+                            new RsWithHeaders(
+                                new RsWithStatus(RsStatus.OK),
+                                new JsonContentType()
+                            ),
+                            this.issuer.token(
+                                user.name(), this.granted(user, TokenSlice.requested(line))
+                            ).toString(),
+                            StandardCharsets.UTF_8
+                        );
+                    } else {
+                        rsp = new RsWithHeaders(
+                            new RsWithStatus(RsStatus.UNAUTHORIZED),
+                            new WwwAuthenticate(result.challenge())
+                        );
+                    }
+                    return rsp;
+                }
+            )
+        );
+    }
+
+    /**
+     * Filter requested scopes allowed to user.
+     * Push to repository also grants overwriting existing tags if it is allowed,
+     * as clients never request it explicitly.
+     *
+     * @param user User.
+     * @param requested Requested scopes.
+     * @return Granted scopes.
+     */
+    private Collection<Scope> granted(
+        final Authentication.User user, final Collection<Scope> requested
+    ) {
+        final Collection<Scope> granted = new ArrayList<>(requested.size());
+        for (final Scope scope : requested) {
+            final List<String> actions = new ArrayList<>(
+                Arrays.asList(scope.action().split(","))
+            );
+            if ("repository".equals(scope.type()) && actions.contains("push")) {
+                actions.add("overwrite");
+            }
+            for (final String action : actions) {
+                final Scope single = new Scope.FromString(
+                    String.format("%s:%s:%s", scope.type(), scope.name(), action)
+                );
+                if (this.perms.allowed(user, single.string())) {
+                    granted.add(single);
+                }
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * Read requested scopes from query, `scope` parameter might be repeated.
+     *
+     * @param line Request line.
+     * @return Requested scopes.
+     */
+    private static Collection<Scope> requested(final String line) {
+        final String query = new RequestLineFrom(line).uri().getRawQuery();
+        final Collection<Scope> scopes = new ArrayList<>(1);
+        if (query != null) {
+            for (final String param : query.split("&")) {
+                if (param.startsWith("scope=")) {
+                    for (final String scope : TokenSlice.decoded(param.substring(6)).split(" ")) {
+                        if (scope.split(":").length == 3) {
+                            scopes.add(new Scope.FromString(scope));
+                        }
+                    }
+                }
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Decode query parameter value.
+     *
+     * @param value Encoded value.
+     * @return Decoded value.
+     */
+    private static String decoded(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
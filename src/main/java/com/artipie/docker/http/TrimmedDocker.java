@@ -8,13 +8,11 @@ import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
-import com.artipie.docker.misc.CatalogPage;
-import com.artipie.docker.misc.ParsedCatalog;
+import com.artipie.docker.misc.PrefixedCatalog;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link Docker} to remove given prefix from repository names.
@@ -32,6 +30,11 @@ public final class TrimmedDocker implements Docker {
      */
     private final String prefix;
 
+    /**
+     * Pattern matching prefixed name, compiled once.
+     */
+    private final Pattern pattern;
+
     /**
      * Ctor.
      * @param origin Docker origin
@@ -40,6 +43,7 @@ public final class TrimmedDocker implements Docker {
     public TrimmedDocker(final Docker origin, final String prefix) {
         this.origin = origin;
         this.prefix = prefix;
+        this.pattern = Pattern.compile(String.format("(?:%s)\\/(.+)", prefix));
     }
 
     @Override
@@ -49,14 +53,9 @@ public final class TrimmedDocker implements Docker {
 
     @Override
     public CompletionStage<Catalog> catalog(final Optional<RepoName> from, final int limit) {
-        return this.origin.catalog(from.map(this::trim), limit).thenCompose(
-            catalog -> new ParsedCatalog(catalog).repos()
-        ).thenApply(
-            names -> names.stream()
-                .map(name -> String.format("%s/%s", this.prefix, name.value()))
-                .<RepoName>map(RepoName.Valid::new)
-                .collect(Collectors.toList())
-        ).thenApply(names -> new CatalogPage(names, from, limit));
+        return this.origin.catalog(from.map(this::trim), limit).thenApply(
+            catalog -> new PrefixedCatalog(catalog, this.prefix)
+        );
     }
 
     /**
@@ -66,8 +65,7 @@ public final class TrimmedDocker implements Docker {
      * @return Name reminder.
      */
     private RepoName trim(final RepoName name) {
-        final Pattern pattern = Pattern.compile(String.format("(?:%s)\\/(.+)", this.prefix));
-        final Matcher matcher = pattern.matcher(name.value());
+        final Matcher matcher = this.pattern.matcher(name.value());
         if (!matcher.matches()) {
             throw new IllegalArgumentException(
                 String.format(
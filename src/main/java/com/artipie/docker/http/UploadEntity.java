@@ -9,14 +9,12 @@ import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.error.UploadUnknownError;
-import com.artipie.docker.misc.RqByRegex;
 import com.artipie.http.Connection;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.Header;
 import com.artipie.http.headers.Location;
-import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqParams;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithHeaders;
@@ -27,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import org.reactivestreams.Publisher;
 
@@ -66,18 +65,34 @@ public final class UploadEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Post(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Post(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Push(new Request(line).name());
+            return new Scope.Repository.Push(new Request(line, this.requests.apply(line)).name());
         }
 
         @Override
@@ -86,7 +101,7 @@ public final class UploadEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(line, this.requests.apply(line));
             final RepoName target = request.name();
             final Optional<Digest> mount = request.mount();
             final Optional<RepoName> from = request.from();
@@ -153,18 +168,34 @@ public final class UploadEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Patch(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Patch(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Push(new Request(line).name());
+            return new Scope.Repository.Push(new Request(line, this.requests.apply(line)).name());
         }
 
         @Override
@@ -173,7 +204,7 @@ public final class UploadEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(line, this.requests.apply(line));
             final RepoName name = request.name();
             final String uuid = request.uuid();
             return new AsyncResponse(
@@ -207,18 +238,34 @@ public final class UploadEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Put(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Put(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Push(new Request(line).name());
+            return new Scope.Repository.Push(new Request(line, this.requests.apply(line)).name());
         }
 
         @Override
@@ -227,7 +274,7 @@ public final class UploadEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(line, this.requests.apply(line));
             final RepoName name = request.name();
             final String uuid = request.uuid();
             final Repo repo = this.docker.repo(name);
@@ -259,18 +306,34 @@ public final class UploadEntity {
          */
         private final Docker docker;
 
+        /**
+         * Request parser.
+         */
+        private final Function<String, ApiRequest> requests;
+
         /**
          * Ctor.
          *
          * @param docker Docker repository.
          */
         Get(final Docker docker) {
+            this(docker, ApiRequest::new);
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param docker Docker repository.
+         * @param requests Request parser, may return request already parsed by router.
+         */
+        Get(final Docker docker, final Function<String, ApiRequest> requests) {
             this.docker = docker;
+            this.requests = requests;
         }
 
         @Override
         public Scope scope(final String line) {
-            return new Scope.Repository.Pull(new Request(line).name());
+            return new Scope.Repository.Pull(new Request(line, this.requests.apply(line)).name());
         }
 
         @Override
@@ -279,7 +342,7 @@ public final class UploadEntity {
             final Iterable<Map.Entry<String, String>> headers,
             final Publisher<ByteBuffer> body
         ) {
-            final Request request = new Request(line);
+            final Request request = new Request(line, this.requests.apply(line));
             final RepoName name = request.name();
             final String uuid = request.uuid();
             return new AsyncResponse(
@@ -315,13 +378,29 @@ public final class UploadEntity {
          */
         private final String line;
 
+        /**
+         * Parsed API request.
+         */
+        private final ApiRequest rqst;
+
         /**
          * Ctor.
          *
          * @param line HTTP request line.
          */
         Request(final String line) {
+            this(line, new ApiRequest(line));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param line HTTP request line.
+         * @param rqst Parsed API request.
+         */
+        Request(final String line, final ApiRequest rqst) {
             this.line = line;
+            this.rqst = rqst;
         }
 
         /**
@@ -330,9 +409,7 @@ public final class UploadEntity {
          * @return Repository name.
          */
         RepoName name() {
-            return new RepoName.Valid(
-                new RqByRegex(this.line, UploadEntity.PATH).path().group("name")
-            );
+            return this.rqst.name();
         }
 
         /**
@@ -341,7 +418,7 @@ public final class UploadEntity {
          * @return Upload UUID.
          */
         String uuid() {
-            return new RqByRegex(this.line, UploadEntity.PATH).path().group("uuid");
+            return this.rqst.reference();
         }
 
         /**
@@ -379,7 +456,7 @@ public final class UploadEntity {
          * @return Request query parameters.
          */
         private RqParams params() {
-            return new RqParams(new RequestLineFrom(this.line).uri().getQuery());
+            return this.rqst.params();
         }
     }
 
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.json.Json;
 import javax.json.JsonObject;
@@ -23,6 +24,7 @@ import javax.json.JsonValue;
 
 /**
  * Image manifest in JSON format.
+ * Content is parsed once on first read, parsed object is shared by all accessors.
  *
  * @since 0.2
  */
@@ -39,6 +41,11 @@ public final class JsonManifest implements Manifest {
      */
     private final byte[] source;
 
+    /**
+     * Parsed JSON object, null until content is read.
+     */
+    private final AtomicReference<JsonObject> parsed;
+
     /**
      * Ctor.
      *
@@ -48,6 +55,19 @@ public final class JsonManifest implements Manifest {
     public JsonManifest(final Digest dgst, final byte[] source) {
         this.dgst = dgst;
         this.source = Arrays.copyOf(source, source.length);
+        this.parsed = new AtomicReference<>();
+    }
+
+    /**
+     * Parse content ahead of reading it, so accessors called later,
+     * possibly on I/O thread, do not parse it.
+     *
+     * @return This manifest.
+     * @throws javax.json.JsonException If content is not valid JSON.
+     */
+    public JsonManifest parse() {
+        this.json();
+        return this;
     }
 
     @Override
@@ -106,9 +126,14 @@ public final class JsonManifest implements Manifest {
      * @return JSON object.
      */
     private JsonObject json() {
-        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(this.source))) {
-            return reader.readObject();
+        JsonObject json = this.parsed.get();
+        if (json == null) {
+            try (JsonReader reader = Json.createReader(new ByteArrayInputStream(this.source))) {
+                json = reader.readObject();
+            }
+            this.parsed.compareAndSet(null, json);
         }
+        return json;
     }
 
     /**
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.util.Locale;
+
+/**
+ * Counters of cache events by cached entity.
+ * Hit ratio is {@code hit / (hit + miss)}, fill ratio is {@code fill / (fill + fill_error)}.
+ *
+ * @since 0.17
+ */
+public final class CacheMetrics {
+
+    /**
+     * Number of events.
+     */
+    private static final int EVENTS = Event.values().length;
+
+    /**
+     * Counters by entity and event ordinals.
+     */
+    private final Counter[] counters;
+
+    /**
+     * Ctor.
+     *
+     * @param metrics Metrics registry.
+     */
+    public CacheMetrics(final Metrics metrics) {
+        this.counters = new Counter[Entity.values().length * CacheMetrics.EVENTS];
+        for (final Entity entity : Entity.values()) {
+            for (final Event event : Event.values()) {
+                this.counters[entity.ordinal() * CacheMetrics.EVENTS + event.ordinal()] =
+                    metrics.counter(
+                        "docker_cache_events_total",
+                        "Cache hits, misses and fills",
+                        "entity", entity.name().toLowerCase(Locale.ROOT),
+                        "event", event.name().toLowerCase(Locale.ROOT)
+                    );
+            }
+        }
+    }
+
+    /**
+     * Record cache event.
+     *
+     * @param entity Cached entity.
+     * @param event Event.
+     */
+    public void record(final Entity entity, final Event event) {
+        this.counters[entity.ordinal() * CacheMetrics.EVENTS + event.ordinal()].inc();
+    }
+
+    /**
+     * Number of recorded events.
+     *
+     * @param entity Cached entity.
+     * @param event Event.
+     * @return Count.
+     */
+    public long count(final Entity entity, final Event event) {
+        return this.counters[entity.ordinal() * CacheMetrics.EVENTS + event.ordinal()].value();
+    }
+
+    /**
+     * Cached entity.
+     *
+     * @since 0.17
+     */
+    public enum Entity {
+        /**
+         * Layer blob.
+         */
+        LAYER,
+
+        /**
+         * Manifest.
+         */
+        MANIFEST
+    }
+
+    /**
+     * Cache event.
+     *
+     * @since 0.17
+     */
+    public enum Event {
+        /**
+         * Entity is served from cache.
+         */
+        HIT,
+
+        /**
+         * Entity is looked up in cache and not found there.
+         */
+        MISS,
+
+        /**
+         * Entity is copied to cache.
+         */
+        FILL,
+
+        /**
+         * Entity failed to be copied to cache.
+         */
+        FILL_ERROR
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing counter.
+ *
+ * @since 0.17
+ */
+public final class Counter implements Metric {
+
+    /**
+     * Value.
+     */
+    private final LongAdder value;
+
+    /**
+     * Ctor.
+     */
+    public Counter() {
+        this.value = new LongAdder();
+    }
+
+    /**
+     * Increment by one.
+     */
+    public void inc() {
+        this.value.increment();
+    }
+
+    /**
+     * Increment by amount.
+     *
+     * @param amount Non-negative amount.
+     */
+    public void add(final long amount) {
+        this.value.add(amount);
+    }
+
+    /**
+     * Current value.
+     *
+     * @return Value.
+     */
+    public long value() {
+        return this.value.sum();
+    }
+
+    @Override
+    public String type() {
+        return "counter";
+    }
+
+    @Override
+    public void export(final String name, final String labels, final StringBuilder out) {
+        Metrics.sample(out, name, labels, "").append(this.value()).append('\n');
+    }
+}
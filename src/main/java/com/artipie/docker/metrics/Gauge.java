@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Value going up and down, like number of operations in progress.
+ *
+ * @since 0.17
+ */
+public final class Gauge implements Metric {
+
+    /**
+     * Value.
+     */
+    private final LongAdder value;
+
+    /**
+     * Ctor.
+     */
+    public Gauge() {
+        this.value = new LongAdder();
+    }
+
+    /**
+     * Increment by one.
+     */
+    public void inc() {
+        this.value.increment();
+    }
+
+    /**
+     * Decrement by one.
+     */
+    public void dec() {
+        this.value.decrement();
+    }
+
+    /**
+     * Current value.
+     *
+     * @return Value.
+     */
+    public long value() {
+        return this.value.sum();
+    }
+
+    @Override
+    public String type() {
+        return "gauge";
+    }
+
+    @Override
+    public void export(final String name, final String labels, final StringBuilder out) {
+        Metrics.sample(out, name, labels, "").append(this.value()).append('\n');
+    }
+}
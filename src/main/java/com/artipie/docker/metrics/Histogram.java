@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with fixed buckets, exported in seconds.
+ * Recording increments one bucket and the sum, buckets are accumulated on export only.
+ *
+ * @since 0.17
+ */
+public final class Histogram implements Metric {
+
+    /**
+     * Default upper bounds of buckets in nanoseconds, from half a millisecond to ten seconds.
+     */
+    private static final long[] LATENCY = {
+        500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L,
+        50_000_000L, 100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L,
+        2_500_000_000L, 5_000_000_000L, 10_000_000_000L,
+    };
+
+    /**
+     * Upper bounds of buckets in nanoseconds, ascending.
+     */
+    private final long[] bounds;
+
+    /**
+     * Number of recorded durations by bucket, last bucket has no upper bound.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * Sum of recorded durations in nanoseconds.
+     */
+    private final LongAdder sum;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this(Histogram.LATENCY);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bounds Upper bounds of buckets in nanoseconds, ascending.
+     */
+    public Histogram(final long... bounds) {
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        Arrays.setAll(this.buckets, idx -> new LongAdder());
+        this.sum = new LongAdder();
+    }
+
+    /**
+     * Record duration.
+     *
+     * @param nanos Duration in nanoseconds.
+     */
+    public void record(final long nanos) {
+        int idx = 0;
+        while (idx < this.bounds.length && nanos > this.bounds[idx]) {
+            idx += 1;
+        }
+        this.buckets[idx].increment();
+        this.sum.add(nanos);
+    }
+
+    /**
+     * Number of recorded durations.
+     *
+     * @return Count.
+     */
+    public long count() {
+        long count = 0;
+        for (final LongAdder bucket : this.buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public String type() {
+        return "histogram";
+    }
+
+    @Override
+    public void export(final String name, final String labels, final StringBuilder out) {
+        final String bucket = name.concat("_bucket");
+        long count = 0;
+        for (int idx = 0; idx < this.buckets.length; idx += 1) {
+            count += this.buckets[idx].sum();
+            final String bound;
+            if (idx < this.bounds.length) {
+                bound = Histogram.seconds(this.bounds[idx]);
+            } else {
+                bound = "+Inf";
+            }
+            Metrics.sample(out, bucket, labels, String.format("le=\"%s\"", bound))
+                .append(count).append('\n');
+        }
+        Metrics.sample(out, name.concat("_sum"), labels, "")
+            .append(Histogram.seconds(this.sum.sum())).append('\n');
+        Metrics.sample(out, name.concat("_count"), labels, "").append(count).append('\n');
+    }
+
+    /**
+     * Format nanoseconds as seconds.
+     *
+     * @param nanos Nanoseconds.
+     * @return Seconds.
+     */
+    private static String seconds(final long nanos) {
+        return Double.toString((double) nanos / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Instruments of registry operations, registered once and shared by decorators
+ * of one registry, so recording an operation does not look instruments up.
+ *
+ * @since 0.17
+ */
+final class Instruments {
+
+    /**
+     * Operation duration metric name.
+     */
+    private static final String DURATION = "docker_operation_duration_seconds";
+
+    /**
+     * Number of operation results, {@code values()} copies array on every call.
+     */
+    private static final int RESULTS = Result.values().length;
+
+    /**
+     * Operation durations by operation and result ordinals,
+     * absent result slots of operations without optional result are empty.
+     */
+    private final Histogram[] durations;
+
+    /**
+     * Uploads started and not yet put to layers.
+     */
+    private final UploadsInFlight uploads;
+
+    /**
+     * Ctor.
+     *
+     * @param metrics Metrics registry.
+     */
+    Instruments(final Metrics metrics) {
+        final Result[] results = Result.values();
+        this.durations = new Histogram[Op.values().length * results.length];
+        for (final Op op : Op.values()) {
+            for (final Result result : results) {
+                if (result != Result.ABSENT || op.optional) {
+                    this.durations[op.ordinal() * results.length + result.ordinal()] =
+                        metrics.histogram(
+                            Instruments.DURATION,
+                            "Duration of registry operations",
+                            "component", op.component,
+                            "operation", op.operation,
+                            "result", result.name().toLowerCase(Locale.ROOT)
+                        );
+                }
+            }
+        }
+        this.uploads = new UploadsInFlight(
+            metrics.gauge(
+                "docker_uploads_in_flight", "Blob uploads started and not yet completed"
+            )
+        );
+    }
+
+    /**
+     * Uploads in flight.
+     *
+     * @return Uploads in flight.
+     */
+    UploadsInFlight uploads() {
+        return this.uploads;
+    }
+
+    /**
+     * Record duration and result of operation.
+     *
+     * @param op Operation.
+     * @param call Call of operation.
+     * @param <T> Result type.
+     * @return Operation result.
+     */
+    <T> CompletionStage<T> measured(final Op op, final Supplier<CompletionStage<T>> call) {
+        final long start = System.nanoTime();
+        return call.get().whenComplete(
+            (res, err) -> this.record(op, Instruments.result(err), start)
+        );
+    }
+
+    /**
+     * Record duration and result of operation with optional result.
+     *
+     * @param op Operation.
+     * @param call Call of operation.
+     * @param <T> Result type.
+     * @return Operation result.
+     */
+    <T> CompletionStage<Optional<T>> found(final Op op,
+        final Supplier<CompletionStage<Optional<T>>> call) {
+        final long start = System.nanoTime();
+        return call.get().whenComplete(
+            (res, err) -> {
+                final Result result;
+                if (err == null && !res.isPresent()) {
+                    result = Result.ABSENT;
+                } else {
+                    result = Instruments.result(err);
+                }
+                this.record(op, result, start);
+            }
+        );
+    }
+
+    /**
+     * Record operation duration.
+     *
+     * @param op Operation.
+     * @param result Result.
+     * @param start Operation start time in nanoseconds.
+     */
+    private void record(final Op op, final Result result, final long start) {
+        this.durations[op.ordinal() * Instruments.RESULTS + result.ordinal()]
+            .record(System.nanoTime() - start);
+    }
+
+    /**
+     * Result of completed operation.
+     *
+     * @param err Error, null if operation succeeded.
+     * @return Result.
+     */
+    private static Result result(final Throwable err) {
+        final Result result;
+        if (err == null) {
+            result = Result.OK;
+        } else {
+            result = Result.ERROR;
+        }
+        return result;
+    }
+
+    /**
+     * Registry operation.
+     *
+     * @since 0.17
+     */
+    enum Op {
+        /**
+         * Read catalog.
+         */
+        CATALOG("docker", "catalog", false),
+
+        /**
+         * Put layer.
+         */
+        LAYERS_PUT("layers", "put", false),
+
+        /**
+         * Mount layer.
+         */
+        LAYERS_MOUNT("layers", "mount", false),
+
+        /**
+         * Get layer.
+         */
+        LAYERS_GET("layers", "get", true),
+
+        /**
+         * Put manifest.
+         */
+        MANIFESTS_PUT("manifests", "put", false),
+
+        /**
+         * Get manifest.
+         */
+        MANIFESTS_GET("manifests", "get", true),
+
+        /**
+         * Check manifest exists.
+         */
+        MANIFESTS_EXISTS("manifests", "exists", false),
+
+        /**
+         * List tags.
+         */
+        MANIFESTS_TAGS("manifests", "tags", false),
+
+        /**
+         * Start upload.
+         */
+        UPLOADS_START("uploads", "start", false),
+
+        /**
+         * Find upload.
+         */
+        UPLOADS_GET("uploads", "get", true),
+
+        /**
+         * Append chunk to upload.
+         */
+        UPLOAD_APPEND("upload", "append", false),
+
+        /**
+         * Put uploaded blob to layers.
+         */
+        UPLOAD_PUT("upload", "put", false);
+
+        /**
+         * Component label.
+         */
+        private final String component;
+
+        /**
+         * Operation label.
+         */
+        private final String operation;
+
+        /**
+         * Whether operation result is optional.
+         */
+        private final boolean optional;
+
+        /**
+         * Ctor.
+         *
+         * @param component Component label.
+         * @param operation Operation label.
+         * @param optional Whether operation result is optional.
+         */
+        Op(final String component, final String operation, final boolean optional) {
+            this.component = component;
+            this.operation = operation;
+            this.optional = optional;
+        }
+    }
+
+    /**
+     * Operation result.
+     *
+     * @since 0.17
+     */
+    private enum Result {
+        /**
+         * Operation succeeded.
+         */
+        OK,
+
+        /**
+         * Operation found nothing.
+         */
+        ABSENT,
+
+        /**
+         * Operation failed.
+         */
+        ERROR
+    }
+}
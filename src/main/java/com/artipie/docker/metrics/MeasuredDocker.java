@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.docker.Catalog;
+import com.artipie.docker.Docker;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Docker recording duration and result of every operation of its repositories,
+ * layers, manifests and uploads, and number of uploads in flight.
+ * Instruments are registered when decorator is created.
+ *
+ * @since 0.17
+ */
+public final class MeasuredDocker implements Docker {
+
+    /**
+     * Origin docker.
+     */
+    private final Docker origin;
+
+    /**
+     * Instruments.
+     */
+    private final Instruments instruments;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin docker.
+     * @param metrics Metrics registry.
+     */
+    public MeasuredDocker(final Docker origin, final Metrics metrics) {
+        this.origin = origin;
+        this.instruments = new Instruments(metrics);
+    }
+
+    @Override
+    public Repo repo(final RepoName name) {
+        return new MeasuredRepo(this.origin.repo(name), this.instruments);
+    }
+
+    @Override
+    public CompletionStage<Catalog> catalog(final Optional<RepoName> from, final int limit) {
+        return this.instruments.measured(
+            Instruments.Op.CATALOG, () -> this.origin.catalog(from, limit)
+        );
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.Layers;
+import com.artipie.docker.asto.BlobSource;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Layers recording duration and result of every operation.
+ *
+ * @since 0.17
+ */
+final class MeasuredLayers implements Layers {
+
+    /**
+     * Origin layers.
+     */
+    private final Layers origin;
+
+    /**
+     * Instruments.
+     */
+    private final Instruments instruments;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin layers.
+     * @param instruments Instruments.
+     */
+    MeasuredLayers(final Layers origin, final Instruments instruments) {
+        this.origin = origin;
+        this.instruments = instruments;
+    }
+
+    @Override
+    public CompletionStage<Blob> put(final BlobSource source) {
+        return this.instruments.measured(
+            Instruments.Op.LAYERS_PUT, () -> this.origin.put(source)
+        );
+    }
+
+    @Override
+    public CompletionStage<Blob> mount(final Blob blob) {
+        return this.instruments.measured(
+            Instruments.Op.LAYERS_MOUNT, () -> this.origin.mount(blob)
+        );
+    }
+
+    @Override
+    public CompletionStage<Optional<Blob>> get(final Digest digest) {
+        return this.instruments.found(
+            Instruments.Op.LAYERS_GET, () -> this.origin.get(digest)
+        );
+    }
+}
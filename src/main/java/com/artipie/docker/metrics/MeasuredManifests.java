@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.Manifests;
+import com.artipie.docker.Tag;
+import com.artipie.docker.Tags;
+import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.ref.ManifestRef;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Manifests recording duration and result of every operation.
+ *
+ * @since 0.17
+ */
+final class MeasuredManifests implements Manifests {
+
+    /**
+     * Origin manifests.
+     */
+    private final Manifests origin;
+
+    /**
+     * Instruments.
+     */
+    private final Instruments instruments;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin manifests.
+     * @param instruments Instruments.
+     */
+    MeasuredManifests(final Manifests origin, final Instruments instruments) {
+        this.origin = origin;
+        this.instruments = instruments;
+    }
+
+    @Override
+    public CompletionStage<Manifest> put(final ManifestRef ref, final Content content) {
+        return this.instruments.measured(
+            Instruments.Op.MANIFESTS_PUT, () -> this.origin.put(ref, content)
+        );
+    }
+
+    @Override
+    public CompletionStage<Optional<Manifest>> get(final ManifestRef ref) {
+        return this.instruments.found(
+            Instruments.Op.MANIFESTS_GET, () -> this.origin.get(ref)
+        );
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(final ManifestRef ref) {
+        return this.instruments.measured(
+            Instruments.Op.MANIFESTS_EXISTS, () -> this.origin.exists(ref)
+        );
+    }
+
+    @Override
+    public CompletionStage<Tags> tags(final Optional<Tag> from, final int limit) {
+        return this.instruments.measured(
+            Instruments.Op.MANIFESTS_TAGS, () -> this.origin.tags(from, limit)
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.docker.Layers;
+import com.artipie.docker.Manifests;
+import com.artipie.docker.Repo;
+import com.artipie.docker.Uploads;
+
+/**
+ * Repository with measured layers, manifests and uploads.
+ *
+ * @since 0.17
+ */
+final class MeasuredRepo implements Repo {
+
+    /**
+     * Origin repository.
+     */
+    private final Repo origin;
+
+    /**
+     * Instruments.
+     */
+    private final Instruments instruments;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin repository.
+     * @param instruments Instruments.
+     */
+    MeasuredRepo(final Repo origin, final Instruments instruments) {
+        this.origin = origin;
+        this.instruments = instruments;
+    }
+
+    @Override
+    public Layers layers() {
+        return new MeasuredLayers(this.origin.layers(), this.instruments);
+    }
+
+    @Override
+    public Manifests manifests() {
+        return new MeasuredManifests(this.origin.manifests(), this.instruments);
+    }
+
+    @Override
+    public Uploads uploads() {
+        return new MeasuredUploads(this.origin.uploads(), this.instruments);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.Layers;
+import com.artipie.docker.Upload;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Upload recording duration and result of appending chunks and putting blob to layers,
+ * upload put to layers, successfully or not, is no longer counted in flight.
+ *
+ * @since 0.17
+ */
+final class MeasuredUpload implements Upload {
+
+    /**
+     * Origin upload.
+     */
+    private final Upload origin;
+
+    /**
+     * Instruments.
+     */
+    private final Instruments instruments;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin upload.
+     * @param instruments Instruments.
+     */
+    MeasuredUpload(final Upload origin, final Instruments instruments) {
+        this.origin = origin;
+        this.instruments = instruments;
+    }
+
+    @Override
+    public String uuid() {
+        return this.origin.uuid();
+    }
+
+    @Override
+    public CompletionStage<Void> start() {
+        return this.origin.start();
+    }
+
+    @Override
+    public CompletionStage<Long> append(final Content chunk) {
+        return this.instruments.measured(
+            Instruments.Op.UPLOAD_APPEND, () -> this.origin.append(chunk)
+        ).whenComplete((offset, err) -> this.instruments.uploads().active(this.uuid()));
+    }
+
+    @Override
+    public CompletionStage<Long> offset() {
+        return this.origin.offset();
+    }
+
+    @Override
+    public CompletionStage<Blob> putTo(final Layers layers, final Digest digest) {
+        return this.instruments.measured(
+            Instruments.Op.UPLOAD_PUT, () -> this.origin.putTo(layers, digest)
+        ).whenComplete((blob, err) -> this.instruments.uploads().finished(this.uuid()));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.docker.Upload;
+import com.artipie.docker.Uploads;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Uploads recording duration and result of every operation,
+ * started upload is counted in flight until it is put to layers or abandoned.
+ *
+ * @since 0.17
+ */
+final class MeasuredUploads implements Uploads {
+
+    /**
+     * Origin uploads.
+     */
+    private final Uploads origin;
+
+    /**
+     * Instruments.
+     */
+    private final Instruments instruments;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin uploads.
+     * @param instruments Instruments.
+     */
+    MeasuredUploads(final Uploads origin, final Instruments instruments) {
+        this.origin = origin;
+        this.instruments = instruments;
+    }
+
+    @Override
+    public CompletionStage<Upload> start() {
+        return this.instruments.measured(Instruments.Op.UPLOADS_START, this.origin::start)
+            .thenApply(
+                upload -> {
+                    this.instruments.uploads().started(upload.uuid());
+                    return new MeasuredUpload(upload, this.instruments);
+                }
+            );
+    }
+
+    @Override
+    public CompletionStage<Optional<Upload>> get(final String uuid) {
+        return this.instruments.found(
+            Instruments.Op.UPLOADS_GET, () -> this.origin.get(uuid)
+        ).thenApply(
+            found -> found.map(upload -> new MeasuredUpload(upload, this.instruments))
+        );
+    }
+}
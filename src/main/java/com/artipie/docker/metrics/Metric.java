@@ -0,0 +1,29 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+/**
+ * Metric instrument exported in Prometheus text format.
+ *
+ * @since 0.17
+ */
+interface Metric {
+
+    /**
+     * Metric type as named in Prometheus text format.
+     *
+     * @return Type, e.g. {@code counter}.
+     */
+    String type();
+
+    /**
+     * Append samples of this instrument.
+     *
+     * @param name Metric name.
+     * @param labels Rendered labels without braces, empty if none.
+     * @param out Output.
+     */
+    void export(String name, String labels, StringBuilder out);
+}
@@ -0,0 +1,218 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of metric instruments exported in Prometheus text format.
+ * Instrument is identified by metric name and labels, registering it again returns
+ * the same instrument. Registration looks instrument up and may allocate,
+ * so instruments are meant to be registered once and kept by their users:
+ * recording to instrument only updates its {@link java.util.concurrent.atomic.LongAdder}s.
+ *
+ * @since 0.17
+ */
+public final class Metrics {
+
+    /**
+     * Valid metric or label name.
+     */
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    /**
+     * Metric families by name.
+     */
+    private final ConcurrentMap<String, Family> families;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this.families = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Register counter.
+     *
+     * @param name Metric name.
+     * @param help Metric description.
+     * @param labels Label names and values, alternating.
+     * @return Counter.
+     */
+    public Counter counter(final String name, final String help, final String... labels) {
+        return this.register(name, help, labels, Counter.class, Counter::new);
+    }
+
+    /**
+     * Register gauge.
+     *
+     * @param name Metric name.
+     * @param help Metric description.
+     * @param labels Label names and values, alternating.
+     * @return Gauge.
+     */
+    public Gauge gauge(final String name, final String help, final String... labels) {
+        return this.register(name, help, labels, Gauge.class, Gauge::new);
+    }
+
+    /**
+     * Register histogram of latencies.
+     *
+     * @param name Metric name, should end with {@code _seconds}.
+     * @param help Metric description.
+     * @param labels Label names and values, alternating.
+     * @return Histogram.
+     */
+    public Histogram histogram(final String name, final String help, final String... labels) {
+        return this.register(name, help, labels, Histogram.class, Histogram::new);
+    }
+
+    /**
+     * Export all metrics in Prometheus text format, version 0.0.4.
+     *
+     * @return Metrics text.
+     */
+    public String prometheus() {
+        final StringBuilder out = new StringBuilder();
+        for (final Map.Entry<String, Family> entry : this.families.entrySet()) {
+            entry.getValue().export(entry.getKey(), out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Append sample name with labels and separating space.
+     *
+     * @param out Output.
+     * @param name Sample name.
+     * @param labels Rendered labels without braces, empty if none.
+     * @param extra Extra rendered label, empty if none.
+     * @return Output to append value to.
+     */
+    static StringBuilder sample(final StringBuilder out, final String name,
+        final String labels, final String extra) {
+        out.append(name);
+        if (!labels.isEmpty() || !extra.isEmpty()) {
+            out.append('{').append(labels);
+            if (!labels.isEmpty() && !extra.isEmpty()) {
+                out.append(',');
+            }
+            out.append(extra).append('}');
+        }
+        return out.append(' ');
+    }
+
+    /**
+     * Find or create instrument.
+     *
+     * @param name Metric name.
+     * @param help Metric description.
+     * @param labels Label names and values, alternating.
+     * @param type Instrument type.
+     * @param create Instrument factory.
+     * @param <T> Instrument type.
+     * @return Instrument.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private <T extends Metric> T register(final String name, final String help,
+        final String[] labels, final Class<T> type, final Supplier<T> create) {
+        if (!Metrics.NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException(String.format("Invalid metric name: %s", name));
+        }
+        final Metric metric = this.families.computeIfAbsent(name, key -> new Family(help))
+            .instruments.computeIfAbsent(Metrics.labels(labels), key -> create.get());
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(
+                String.format("Metric %s is registered as %s", name, metric.type())
+            );
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Render labels.
+     *
+     * @param labels Label names and values, alternating.
+     * @return Labels without braces.
+     */
+    private static String labels(final String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels should be name and value pairs");
+        }
+        final StringBuilder out = new StringBuilder();
+        for (int idx = 0; idx < labels.length; idx += 2) {
+            if (!Metrics.NAME.matcher(labels[idx]).matches()) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid label name: %s", labels[idx])
+                );
+            }
+            if (idx > 0) {
+                out.append(',');
+            }
+            out.append(labels[idx]).append("=\"")
+                .append(
+                    labels[idx + 1].replace("\\", "\\\\")
+                        .replace("\"", "\\\"")
+                        .replace("\n", "\\n")
+                )
+                .append('"');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Instruments of one metric.
+     *
+     * @since 0.17
+     */
+    private static final class Family {
+
+        /**
+         * Metric description.
+         */
+        private final String help;
+
+        /**
+         * Instruments by rendered labels.
+         */
+        private final ConcurrentMap<String, Metric> instruments;
+
+        /**
+         * Ctor.
+         *
+         * @param help Metric description.
+         */
+        Family(final String help) {
+            this.help = help;
+            this.instruments = new ConcurrentSkipListMap<>();
+        }
+
+        /**
+         * Append metric description and samples of all instruments.
+         *
+         * @param name Metric name.
+         * @param out Output.
+         */
+        void export(final String name, final StringBuilder out) {
+            boolean first = true;
+            for (final Map.Entry<String, Metric> entry : this.instruments.entrySet()) {
+                if (first) {
+                    out.append("# HELP ").append(name).append(' ')
+                        .append(this.help.replace("\\", "\\\\").replace("\n", "\\n"))
+                        .append('\n')
+                        .append("# TYPE ").append(name).append(' ')
+                        .append(entry.getValue().type()).append('\n');
+                    first = false;
+                }
+                entry.getValue().export(name, entry.getKey(), out);
+            }
+        }
+    }
+}
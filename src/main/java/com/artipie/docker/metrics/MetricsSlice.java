@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice serving metrics in Prometheus text format for scraping.
+ *
+ * @since 0.17
+ */
+public final class MetricsSlice implements Slice {
+
+    /**
+     * Metrics registry.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     *
+     * @param metrics Metrics registry.
+     */
+    public MetricsSlice(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        return new RsWithHeaders(
+            new RsWithBody(
+                new RsWithStatus(RsStatus.OK),
+                this.metrics.prometheus().getBytes(StandardCharsets.UTF_8)
+            ),
+            new ContentType("text/plain; version=0.0.4; charset=utf-8")
+        );
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Uploads started and not yet completed, counted by gauge.
+ * Upload is counted once by UUID until it is put to layers, successfully or not.
+ * Clients may abandon uploads without completing them, so uploads idle longer
+ * than given time are no longer counted, and arbitrary uploads are dropped
+ * if too many are tracked, the same way upload sessions are evicted from memory.
+ *
+ * @since 0.17
+ */
+final class UploadsInFlight {
+
+    /**
+     * Default idle time after which upload is considered abandoned.
+     */
+    private static final Duration IDLE = Duration.ofHours(1);
+
+    /**
+     * Default maximum number of tracked uploads.
+     */
+    private static final int MAX = 10_000;
+
+    /**
+     * Interval between looking up abandoned uploads.
+     */
+    private static final Duration SWEEP = Duration.ofMinutes(1);
+
+    /**
+     * Uploads in flight gauge.
+     */
+    private final Gauge gauge;
+
+    /**
+     * Last activity time by upload UUID.
+     */
+    private final ConcurrentMap<String, Instant> uploads;
+
+    /**
+     * Idle time after which upload is considered abandoned.
+     */
+    private final Duration idle;
+
+    /**
+     * Maximum number of tracked uploads.
+     */
+    private final int max;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Time of last look up of abandoned uploads.
+     */
+    private final AtomicReference<Instant> swept;
+
+    /**
+     * Ctor.
+     *
+     * @param gauge Uploads in flight gauge.
+     */
+    UploadsInFlight(final Gauge gauge) {
+        this(gauge, UploadsInFlight.IDLE, UploadsInFlight.MAX, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param gauge Uploads in flight gauge.
+     * @param idle Idle time after which upload is considered abandoned.
+     * @param max Maximum number of tracked uploads.
+     * @param clock Clock.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    UploadsInFlight(final Gauge gauge, final Duration idle, final int max,
+        final Clock clock) {
+        this.gauge = gauge;
+        this.uploads = new ConcurrentHashMap<>();
+        this.idle = idle;
+        this.max = max;
+        this.clock = clock;
+        this.swept = new AtomicReference<>(clock.instant());
+    }
+
+    /**
+     * Count started upload.
+     *
+     * @param uuid Upload UUID.
+     */
+    void started(final String uuid) {
+        final Instant now = this.clock.instant();
+        this.sweep(now);
+        if (this.uploads.size() >= this.max) {
+            final Iterator<String> iter = this.uploads.keySet().iterator();
+            if (iter.hasNext()) {
+                this.finished(iter.next());
+            }
+        }
+        if (this.uploads.put(uuid, now) == null) {
+            this.gauge.inc();
+        }
+    }
+
+    /**
+     * Remember activity of upload, so it is not considered abandoned.
+     *
+     * @param uuid Upload UUID.
+     */
+    void active(final String uuid) {
+        this.uploads.computeIfPresent(uuid, (key, last) -> this.clock.instant());
+    }
+
+    /**
+     * Stop counting completed upload.
+     *
+     * @param uuid Upload UUID.
+     */
+    void finished(final String uuid) {
+        if (this.uploads.remove(uuid) != null) {
+            this.gauge.dec();
+        }
+    }
+
+    /**
+     * Stop counting abandoned uploads, at most once per sweep interval.
+     *
+     * @param now Current time.
+     */
+    private void sweep(final Instant now) {
+        final Instant last = this.swept.get();
+        if (!now.isBefore(last.plus(UploadsInFlight.SWEEP))
+            && this.swept.compareAndSet(last, now)) {
+            final Instant limit = now.minus(this.idle);
+            for (final Map.Entry<String, Instant> entry : this.uploads.entrySet()) {
+                if (entry.getValue().isBefore(limit)
+                    && this.uploads.remove(entry.getKey(), entry.getValue())) {
+                    this.gauge.dec();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+
+/**
+ * Registry metrics: instruments, registry exported in Prometheus text format
+ * and decorators recording registry operations.
+ *
+ * @since 0.17
+ */
+package com.artipie.docker.metrics;
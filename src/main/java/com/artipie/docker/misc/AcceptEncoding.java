@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.http.rq.RqHeaders;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Accept-Encoding header of HTTP request.
+ *
+ * @since 0.17
+ */
+public final class AcceptEncoding {
+
+    /**
+     * Headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Ctor.
+     *
+     * @param headers Request headers.
+     */
+    public AcceptEncoding(final Iterable<Map.Entry<String, String>> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Check client accepts content coding.
+     * Coding is accepted if it or `*` is listed with non-zero quality.
+     *
+     * @param coding Content coding, e.g. `gzip`.
+     * @return True if coding is accepted.
+     */
+    public boolean accepts(final String coding) {
+        return new RqHeaders(this.headers, "Accept-Encoding").stream()
+            .flatMap(val -> Arrays.stream(val.split(",")))
+            .map(item -> item.trim().toLowerCase(Locale.US).split(";"))
+            .filter(item -> coding.equals(item[0].trim()) || "*".equals(item[0].trim()))
+            .anyMatch(item -> item.length == 1 || !AcceptEncoding.rejected(item[1]));
+    }
+
+    /**
+     * Check quality parameter rejects coding.
+     *
+     * @param param Parameter, e.g. `q=0`.
+     * @return True if quality is zero.
+     */
+    private static boolean rejected(final String param) {
+        final String[] pair = param.trim().split("=");
+        boolean zero = false;
+        if (pair.length == 2 && "q".equals(pair[0].trim())) {
+            try {
+                zero = Double.parseDouble(pair[1].trim()) == 0;
+            } catch (final NumberFormatException ex) {
+                zero = false;
+            }
+        }
+        return zero;
+    }
+}
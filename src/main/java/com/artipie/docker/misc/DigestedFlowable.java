@@ -8,9 +8,12 @@ import com.artipie.asto.Remaining;
 import com.artipie.asto.ext.Digests;
 import com.artipie.docker.Digest;
 import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.io.BytesOf;
 import org.cactoos.text.HexOf;
@@ -19,6 +22,8 @@ import org.reactivestreams.Subscriber;
 
 /**
  * {@link Flowable} that calculates digest of origin {@link Publisher} bytes when they pass by.
+ * Bytes may be hashed on given executor instead of the thread emitting them,
+ * in that case they are passed downstream from that executor.
  *
  * @since 0.12
  */
@@ -34,20 +39,52 @@ public final class DigestedFlowable extends Flowable<ByteBuffer> {
      */
     private final AtomicReference<Digest> dig;
 
+    /**
+     * Executor hashing bytes, empty to hash on emitting thread.
+     */
+    private final Optional<Executor> executor;
+
     /**
      * Ctor.
      *
      * @param origin Origin publisher.
      */
     public DigestedFlowable(final Publisher<ByteBuffer> origin) {
+        this(origin, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin publisher.
+     * @param executor Executor hashing bytes.
+     */
+    public DigestedFlowable(final Publisher<ByteBuffer> origin, final Executor executor) {
+        this(origin, Optional.of(executor));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin publisher.
+     * @param executor Executor hashing bytes, empty to hash on emitting thread.
+     */
+    private DigestedFlowable(
+        final Publisher<ByteBuffer> origin, final Optional<Executor> executor
+    ) {
         this.dig = new AtomicReference<>();
         this.origin = origin;
+        this.executor = executor;
     }
 
     @Override
     public void subscribeActual(final Subscriber<? super ByteBuffer> subscriber) {
         final MessageDigest sha = Digests.SHA256.get();
-        Flowable.fromPublisher(this.origin).map(
+        Flowable<ByteBuffer> source = Flowable.fromPublisher(this.origin);
+        if (this.executor.isPresent()) {
+            source = source.observeOn(Schedulers.from(this.executor.get()));
+        }
+        source.map(
             buf -> {
                 sha.update(new Remaining(buf, true).bytes());
                 return buf;
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Content of local file read with {@link FileChannel}.
+ * File is opened on subscription and closed when content is consumed or cancelled.
+ *
+ * @since 0.17
+ */
+public final class FileContent implements Content {
+
+    /**
+     * Default size of read buffer.
+     */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /**
+     * File path.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     *
+     * @param path File path.
+     */
+    public FileContent(final Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public Optional<Long> size() {
+        try {
+            return Optional.of(Files.size(this.path));
+        } catch (final IOException ex) {
+            throw new ArtipieIOException(ex);
+        }
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+        Flowable.using(
+            () -> FileChannel.open(this.path, StandardOpenOption.READ),
+            channel -> Flowable.<ByteBuffer>generate(
+                emitter -> {
+                    final ByteBuffer buf = ByteBuffer.allocate(FileContent.BUF_SIZE);
+                    try {
+                        if (channel.read(buf) < 0) {
+                            emitter.onComplete();
+                        } else {
+                            buf.flip();
+                            emitter.onNext(buf);
+                        }
+                    } catch (final IOException ex) {
+                        emitter.onError(new ArtipieIOException(ex));
+                    }
+                }
+            ),
+            FileChannel::close
+        ).subscribe(subscriber);
+    }
+}
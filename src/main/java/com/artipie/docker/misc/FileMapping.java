@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Local file mapped to memory.
+ * File content is published as read-only slices of memory-mapped regions,
+ * so bytes are paged in by the kernel and reading does not allocate buffers for them.
+ * Consumer may still copy the bytes: Vert.x server copies every chunk to byte array
+ * before writing it to socket.
+ * File is mapped eagerly, so content stays readable if file is removed after mapping.
+ * Mapped regions cannot be unmapped explicitly, they stay mapped until content and
+ * its slices are garbage collected, holding address space and, for removed file, its disk space.
+ *
+ * @since 0.17
+ */
+public final class FileMapping {
+
+    /**
+     * Max size of one mapped region.
+     */
+    private static final long REGION = 256L * 1024 * 1024;
+
+    /**
+     * Size of published slice.
+     */
+    private static final int SLICE = 1024 * 1024;
+
+    /**
+     * File path.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     *
+     * @param path File path.
+     */
+    public FileMapping(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Map file and create content reading the mapping.
+     *
+     * @return Content of mapped file.
+     */
+    public CompletionStage<Content> content() {
+        return Single.<Content>fromCallable(
+            () -> {
+                try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                    return FileMapping.mapped(channel, channel.size());
+                }
+            }
+        ).subscribeOn(Schedulers.io()).to(SingleInterop.get());
+    }
+
+    /**
+     * Map file if it is not smaller than threshold.
+     * File size is checked in the same blocking task that maps the file.
+     *
+     * @param threshold Minimal size of file to be mapped.
+     * @return Content of mapped file, empty if file is smaller than threshold or absent.
+     */
+    public CompletionStage<Optional<Content>> content(final long threshold) {
+        return Single.fromCallable(
+            () -> {
+                Optional<Content> content;
+                try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                    final long size = channel.size();
+                    if (size < threshold) {
+                        content = Optional.empty();
+                    } else {
+                        content = Optional.of(FileMapping.mapped(channel, size));
+                    }
+                } catch (final NoSuchFileException ex) {
+                    content = Optional.empty();
+                }
+                return content;
+            }
+        ).subscribeOn(Schedulers.io()).to(SingleInterop.get());
+    }
+
+    /**
+     * Map file regions.
+     *
+     * @param channel File channel.
+     * @param size File size.
+     * @return Content of mapped regions.
+     * @throws IOException If mapping fails.
+     */
+    private static Content mapped(final FileChannel channel, final long size)
+        throws IOException {
+        final List<ByteBuffer> regions = new ArrayList<>(1);
+        for (long pos = 0; pos < size; pos += FileMapping.REGION) {
+            regions.add(
+                channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    pos,
+                    Math.min(FileMapping.REGION, size - pos)
+                )
+            );
+        }
+        return new Mapped(regions, size);
+    }
+
+    /**
+     * Content of mapped regions.
+     *
+     * @since 0.17
+     */
+    private static final class Mapped implements Content {
+
+        /**
+         * Mapped regions.
+         */
+        private final List<ByteBuffer> regions;
+
+        /**
+         * Total size.
+         */
+        private final long length;
+
+        /**
+         * Ctor.
+         *
+         * @param regions Mapped regions.
+         * @param length Total size.
+         */
+        Mapped(final List<ByteBuffer> regions, final long length) {
+            this.regions = Collections.unmodifiableList(regions);
+            this.length = length;
+        }
+
+        @Override
+        public Optional<Long> size() {
+            return Optional.of(this.length);
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+            Flowable.fromIterable(this.regions).concatMap(
+                region -> {
+                    final ByteBuffer src = region.asReadOnlyBuffer();
+                    return Flowable.<ByteBuffer>generate(
+                        emitter -> {
+                            if (src.hasRemaining()) {
+                                final ByteBuffer slice = src.slice();
+                                final int len = Math.min(FileMapping.SLICE, src.remaining());
+                                slice.limit(len);
+                                src.position(src.position() + len);
+                                emitter.onNext(slice);
+                            } else {
+                                emitter.onComplete();
+                            }
+                        }
+                    );
+                }
+            ).subscribe(subscriber);
+        }
+    }
+}
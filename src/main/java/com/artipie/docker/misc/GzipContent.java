@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Content compressed with gzip on the fly.
+ * Every chunk of origin is deflated as soon as it is received,
+ * so whole document is never buffered in memory.
+ *
+ * @since 0.17
+ */
+public final class GzipContent implements Content {
+
+    /**
+     * Gzip member header: magic, deflate method, no flags, no mtime, no extra flags, unknown OS.
+     */
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+    };
+
+    /**
+     * Size of deflater output buffer.
+     */
+    private static final int BUFFER = 8 * 1024;
+
+    /**
+     * Origin content.
+     */
+    private final Publisher<ByteBuffer> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin content.
+     */
+    public GzipContent(final Publisher<ByteBuffer> origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public Optional<Long> size() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+        Flowable.defer(
+            () -> {
+                final Stream stream = new Stream();
+                return Flowable.concat(
+                    Flowable.just(ByteBuffer.wrap(GzipContent.HEADER)),
+                    Flowable.fromPublisher(this.origin)
+                        .map(stream::deflate)
+                        .filter(ByteBuffer::hasRemaining),
+                    Flowable.fromCallable(stream::finish)
+                ).doFinally(stream::close);
+            }
+        ).subscribe(subscriber);
+    }
+
+    /**
+     * State of single compression stream.
+     *
+     * @since 0.17
+     */
+    private static final class Stream {
+
+        /**
+         * Deflater producing raw deflate data.
+         */
+        private final Deflater deflater;
+
+        /**
+         * Checksum of uncompressed data.
+         */
+        private final CRC32 crc;
+
+        /**
+         * Deflater output buffer.
+         */
+        private final byte[] buf;
+
+        /**
+         * Ctor.
+         */
+        Stream() {
+            this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            this.crc = new CRC32();
+            this.buf = new byte[GzipContent.BUFFER];
+        }
+
+        /**
+         * Compress chunk of data.
+         *
+         * @param chunk Uncompressed chunk.
+         * @return Compressed data, might be empty if deflater keeps it buffered.
+         */
+        ByteBuffer deflate(final ByteBuffer chunk) {
+            final byte[] input = new byte[chunk.remaining()];
+            chunk.duplicate().get(input);
+            this.crc.update(input, 0, input.length);
+            this.deflater.setInput(input);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            while (!this.deflater.needsInput()) {
+                this.drain(out);
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+
+        /**
+         * Finish compression.
+         *
+         * @return Remaining compressed data with gzip trailer.
+         */
+        ByteBuffer finish() {
+            this.deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            while (!this.deflater.finished()) {
+                this.drain(out);
+            }
+            Stream.writeInt(out, this.crc.getValue());
+            Stream.writeInt(out, this.deflater.getBytesRead());
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+
+        /**
+         * Release deflater resources.
+         */
+        void close() {
+            this.deflater.end();
+        }
+
+        /**
+         * Move deflater output to stream.
+         *
+         * @param out Output stream.
+         */
+        private void drain(final ByteArrayOutputStream out) {
+            final int len = this.deflater.deflate(this.buf);
+            out.write(this.buf, 0, len);
+        }
+
+        /**
+         * Write lower 32 bits of value in little-endian order.
+         *
+         * @param out Output stream.
+         * @param value Value.
+         * @checkstyle MagicNumberCheck (10 lines)
+         */
+        private static void writeInt(final ByteArrayOutputStream out, final long value) {
+            for (int shift = 0; shift < 32; shift += 8) {
+                out.write((int) (value >>> shift) & 0xff);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.http.rq.RqHeaders;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * If-None-Match request header, see
+ * <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/If-None-Match">
+ * documentation</a>.
+ *
+ * @since 0.17
+ */
+public final class IfNoneMatch {
+
+    /**
+     * Headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Ctor.
+     *
+     * @param headers Request headers.
+     */
+    public IfNoneMatch(final Iterable<Map.Entry<String, String>> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Check entity tag matches the header, so client has actual representation.
+     * Tags are compared weakly, as it is required for If-None-Match.
+     *
+     * @param etag Entity tag value without quotes.
+     * @return True if tag matches.
+     */
+    public boolean matches(final String etag) {
+        return this.tags().anyMatch(
+            tag -> "*".equals(tag) || tag.equals(String.format("\"%s\"", etag))
+        );
+    }
+
+    /**
+     * Check the header lists entity tag itself, wildcard is not considered.
+     * Wildcard matches any existing representation, so it may be answered
+     * only after representation is found.
+     *
+     * @param etag Entity tag value without quotes.
+     * @return True if tag is listed.
+     */
+    public boolean lists(final String etag) {
+        return this.tags().anyMatch(tag -> tag.equals(String.format("\"%s\"", etag)));
+    }
+
+    /**
+     * Tags of the header with weakness indicators removed.
+     *
+     * @return Tags.
+     */
+    private Stream<String> tags() {
+        return new RqHeaders(this.headers, "If-None-Match").stream()
+            .flatMap(val -> Arrays.stream(val.split(",")))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag);
+    }
+}
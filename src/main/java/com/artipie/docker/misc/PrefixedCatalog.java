@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import com.artipie.docker.Catalog;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Catalog with prefix added to every repository name.
+ * Origin catalog JSON is rewritten chunk by chunk as it is read: prefix is inserted
+ * after opening quote of every string in top level {@code repositories} array,
+ * so catalog is neither buffered nor parsed into JSON object model.
+ *
+ * @since 0.17
+ */
+public final class PrefixedCatalog implements Catalog {
+
+    /**
+     * Origin catalog.
+     */
+    private final Catalog origin;
+
+    /**
+     * Prefix joined with names by slash.
+     */
+    private final String prefix;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin catalog.
+     * @param prefix Prefix joined with names by slash.
+     */
+    public PrefixedCatalog(final Catalog origin, final String prefix) {
+        this.origin = origin;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Content json() {
+        return new Content.From(
+            Flowable.defer(
+                () -> {
+                    final Names names = new Names(this.prefix);
+                    return Flowable.fromPublisher(this.origin.json()).map(names::rewrite);
+                }
+            )
+        );
+    }
+
+    /**
+     * Rewriter of catalog JSON chunks, keeping scanner state between chunks.
+     *
+     * @since 0.17
+     */
+    private static final class Names {
+
+        /**
+         * Repositories field name.
+         */
+        private static final byte[] REPOSITORIES =
+            "repositories".getBytes(StandardCharsets.UTF_8);
+
+        /**
+         * JSON escaped prefix with trailing slash.
+         */
+        private final byte[] lead;
+
+        /**
+         * Key being read.
+         */
+        private final ByteArrayOutputStream key;
+
+        /**
+         * Nesting depth of objects and arrays.
+         */
+        private int depth;
+
+        /**
+         * Whether scanner is inside string.
+         */
+        private boolean string;
+
+        /**
+         * Whether previous byte in string was escaping backslash.
+         */
+        private boolean escape;
+
+        /**
+         * Whether next string of top level object is a key.
+         */
+        private boolean expect;
+
+        /**
+         * Whether key string is being read.
+         */
+        private boolean reading;
+
+        /**
+         * Whether last top level key is repositories.
+         */
+        private boolean repos;
+
+        /**
+         * Whether scanner is inside repositories array.
+         */
+        private boolean names;
+
+        /**
+         * Ctor.
+         *
+         * @param prefix Prefix joined with names by slash.
+         */
+        Names(final String prefix) {
+            this.lead = String.format("%s/", prefix)
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .getBytes(StandardCharsets.UTF_8);
+            this.key = new ByteArrayOutputStream();
+        }
+
+        /**
+         * Rewrite next chunk of catalog JSON.
+         *
+         * @param chunk Chunk.
+         * @return Rewritten chunk.
+         * @checkstyle CyclomaticComplexityCheck (60 lines)
+         */
+        ByteBuffer rewrite(final ByteBuffer chunk) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(
+                chunk.remaining() + this.lead.length * 4
+            );
+            for (int idx = chunk.position(); idx < chunk.limit(); idx += 1) {
+                final byte next = chunk.get(idx);
+                out.write(next);
+                if (this.string) {
+                    if (this.escape) {
+                        this.escape = false;
+                    } else if (next == '\\') {
+                        this.escape = true;
+                    } else if (next == '"') {
+                        this.string = false;
+                        if (this.reading) {
+                            this.reading = false;
+                            this.repos = Arrays.equals(
+                                this.key.toByteArray(), Names.REPOSITORIES
+                            );
+                        }
+                    }
+                    if (this.reading && this.string) {
+                        this.key.write(next);
+                    }
+                } else if (next == '"') {
+                    this.string = true;
+                    if (this.names) {
+                        out.write(this.lead, 0, this.lead.length);
+                    } else if (this.depth == 1 && this.expect) {
+                        this.expect = false;
+                        this.reading = true;
+                        this.key.reset();
+                    }
+                } else if (next == '{' || next == '[') {
+                    this.depth += 1;
+                    this.expect = this.depth == 1 && next == '{';
+                    this.names = this.depth == 2 && next == '[' && this.repos;
+                } else if (next == '}' || next == ']') {
+                    this.depth -= 1;
+                    this.names = false;
+                } else if (next == ',' && this.depth == 1) {
+                    this.expect = true;
+                }
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+    }
+}
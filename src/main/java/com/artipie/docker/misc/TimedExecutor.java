@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor measuring how long tasks wait in queue of origin executor and how long they run.
+ * Counters are striped, so recording does not contend between pool threads.
+ *
+ * @since 0.17
+ */
+public final class TimedExecutor implements Executor {
+
+    /**
+     * Origin executor.
+     */
+    private final Executor origin;
+
+    /**
+     * Number of submitted tasks.
+     */
+    private final LongAdder submitted;
+
+    /**
+     * Number of completed tasks.
+     */
+    private final LongAdder completed;
+
+    /**
+     * Total time tasks waited before start, in nanoseconds.
+     */
+    private final LongAdder waited;
+
+    /**
+     * Total time tasks ran, in nanoseconds.
+     */
+    private final LongAdder ran;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin executor.
+     */
+    public TimedExecutor(final Executor origin) {
+        this.origin = origin;
+        this.submitted = new LongAdder();
+        this.completed = new LongAdder();
+        this.waited = new LongAdder();
+        this.ran = new LongAdder();
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final long queued = System.nanoTime();
+        this.submitted.increment();
+        this.origin.execute(
+            () -> {
+                final long start = System.nanoTime();
+                this.waited.add(start - queued);
+                try {
+                    task.run();
+                } finally {
+                    this.ran.add(System.nanoTime() - start);
+                    this.completed.increment();
+                }
+            }
+        );
+    }
+
+    /**
+     * Number of tasks submitted to executor.
+     *
+     * @return Submitted tasks count.
+     */
+    public long submitted() {
+        return this.submitted.sum();
+    }
+
+    /**
+     * Number of tasks finished running, successfully or not.
+     *
+     * @return Completed tasks count.
+     */
+    public long completed() {
+        return this.completed.sum();
+    }
+
+    /**
+     * Total time tasks spent in queue before they were started.
+     *
+     * @return Queue time.
+     */
+    public Duration queueTime() {
+        return Duration.ofNanos(this.waited.sum());
+    }
+
+    /**
+     * Total time tasks spent running.
+     *
+     * @return Run time.
+     */
+    public Duration runTime() {
+        return Duration.ofNanos(this.ran.sum());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import io.reactivex.schedulers.Schedulers;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor starting every task in new virtual thread.
+ * Virtual threads are looked up at runtime, as sources are compiled for older Java,
+ * tasks are passed to fallback executor when runtime does not support them.
+ *
+ * @since 0.17
+ */
+public final class VirtualThreads implements Executor {
+
+    /**
+     * Virtual thread per task executor, empty if not supported.
+     */
+    private final Optional<Executor> virtual;
+
+    /**
+     * Executor used if virtual threads are not supported.
+     */
+    private final Executor fallback;
+
+    /**
+     * Ctor falling back to RxJava IO scheduler.
+     */
+    public VirtualThreads() {
+        this(task -> Schedulers.io().scheduleDirect(task));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fallback Executor used if virtual threads are not supported.
+     */
+    public VirtualThreads(final Executor fallback) {
+        this.virtual = VirtualThreads.lookup();
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.virtual.orElse(this.fallback).execute(task);
+    }
+
+    /**
+     * Whether tasks run in virtual threads.
+     *
+     * @return True if runtime supports virtual threads.
+     */
+    public boolean supported() {
+        return this.virtual.isPresent();
+    }
+
+    /**
+     * Create virtual thread per task executor if runtime supports it.
+     *
+     * @return Executor, empty if not supported.
+     */
+    private static Optional<Executor> lookup() {
+        Optional<Executor> found;
+        try {
+            found = Optional.of(
+                (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+            );
+        } catch (final ReflectiveOperationException ex) {
+            found = Optional.empty();
+        }
+        return found;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import io.reactivex.schedulers.Schedulers;
+import java.util.concurrent.Executor;
+
+/**
+ * Executors the adapter runs its own work on, so it does not occupy threads
+ * completing storage and HTTP futures, which may be event loop threads.
+ * CPU pool runs hashing, JSON parsing and manifest validation,
+ * blocking pool runs local file system operations.
+ * Both pools are measured, see {@link TimedExecutor}.
+ * Pools are owned and shut down by the caller configuring them: the adapter
+ * does not create CPU threads itself and never uses JVM-wide common pool.
+ *
+ * @since 0.17
+ */
+public final class WorkPools {
+
+    /**
+     * Pool for CPU-bound work.
+     */
+    private final TimedExecutor cpu;
+
+    /**
+     * Pool for blocking work.
+     */
+    private final TimedExecutor blocking;
+
+    /**
+     * Ctor running CPU-bound work on the calling thread
+     * and blocking work on RxJava IO scheduler.
+     */
+    public WorkPools() {
+        this(Runnable::run, task -> Schedulers.io().scheduleDirect(task));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param cpu Pool for CPU-bound work, sized by number of processors.
+     * @param blocking Pool for blocking work, e.g. {@link VirtualThreads}.
+     */
+    public WorkPools(final Executor cpu, final Executor blocking) {
+        this.cpu = new TimedExecutor(cpu);
+        this.blocking = new TimedExecutor(blocking);
+    }
+
+    /**
+     * Pool for CPU-bound work.
+     *
+     * @return Measured executor.
+     */
+    public TimedExecutor cpu() {
+        return this.cpu;
+    }
+
+    /**
+     * Pool for blocking work.
+     *
+     * @return Measured executor.
+     */
+    public TimedExecutor blocking() {
+        return this.blocking;
+    }
+}
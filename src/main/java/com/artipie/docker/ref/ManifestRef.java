@@ -117,30 +117,41 @@ public interface ManifestRef {
          */
         private final String value;
 
+        /**
+         * Link key, null if reference is neither digest nor tag.
+         */
+        private final Key key;
+
         /**
          * Ctor.
+         * Reference is classified and its link key is built once on construction.
          *
          * @param value Manifest reference string.
          */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
         public FromString(final String value) {
             this.value = value;
+            final Digest.FromString digest = new Digest.FromString(value);
+            if (digest.valid()) {
+                this.key = new ManifestRef.FromDigest(digest).link();
+            } else {
+                final Tag.Valid tag = new Tag.Valid(value);
+                if (tag.valid()) {
+                    this.key = new ManifestRef.FromTag(tag).link();
+                } else {
+                    this.key = null;
+                }
+            }
         }
 
         @Override
         public Key link() {
-            final ManifestRef ref;
-            final Digest.FromString digest = new Digest.FromString(this.value);
-            final Tag.Valid tag = new Tag.Valid(this.value);
-            if (digest.valid()) {
-                ref = new ManifestRef.FromDigest(digest);
-            } else if (tag.valid()) {
-                ref = new ManifestRef.FromTag(tag);
-            } else {
+            if (this.key == null) {
                 throw new IllegalStateException(
                     String.format("Unsupported reference: `%s`", this.value)
                 );
             }
-            return ref.link();
+            return this.key;
         }
 
         @Override
@@ -149,4 +160,3 @@ public interface ManifestRef {
         }
     }
 }
-
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.spool;
+
+import com.artipie.docker.Catalog;
+import com.artipie.docker.Docker;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.asto.UploadSessions;
+import com.artipie.docker.misc.WorkPools;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link Docker} with blob uploads spooled in local directory.
+ * Upload chunks are written to local disk, so upload latency does not depend on
+ * origin storage latency. Uploaded blob is shipped to origin layers once on commit.
+ * Upload sessions are kept on this node only, so requests of one upload
+ * should be served by the same node.
+ *
+ * @since 0.17
+ */
+public final class SpoolDocker implements Docker {
+
+    /**
+     * Origin docker.
+     */
+    private final Docker origin;
+
+    /**
+     * Spool directory.
+     */
+    private final Path root;
+
+    /**
+     * Running digests of uploads by upload directory.
+     */
+    private final ConcurrentMap<Path, MessageDigest> digests;
+
+    /**
+     * Upload sessions registry, serialising operations of one upload.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Executors, blocking pool runs spool file system operations.
+     */
+    private final WorkPools pools;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin docker.
+     * @param root Spool directory.
+     */
+    public SpoolDocker(final Docker origin, final Path root) {
+        this(origin, root, new WorkPools());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin docker.
+     * @param root Spool directory.
+     * @param pools Executors, blocking pool runs spool file system operations.
+     */
+    public SpoolDocker(final Docker origin, final Path root, final WorkPools pools) {
+        this.origin = origin;
+        this.root = root;
+        this.digests = new ConcurrentHashMap<>();
+        this.sessions = new UploadSessions();
+        this.pools = pools;
+    }
+
+    @Override
+    public Repo repo(final RepoName name) {
+        return new SpoolRepo(
+            this.origin.repo(name), this.root, name, this.digests, this.sessions,
+            this.pools.blocking()
+        );
+    }
+
+    @Override
+    public CompletionStage<Catalog> catalog(final Optional<RepoName> from, final int limit) {
+        return this.origin.catalog(from, limit);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.spool;
+
+import com.artipie.docker.Layers;
+import com.artipie.docker.Manifests;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Uploads;
+import com.artipie.docker.asto.UploadSessions;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link Repo} with uploads spooled in local directory.
+ *
+ * @since 0.17
+ */
+public final class SpoolRepo implements Repo {
+
+    /**
+     * Origin repository.
+     */
+    private final Repo origin;
+
+    /**
+     * Spooled uploads.
+     */
+    private final Uploads spooled;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin repository.
+     * @param root Spool directory.
+     * @param name Repository name.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public SpoolRepo(final Repo origin, final Path root, final RepoName name,
+        final ConcurrentMap<Path, MessageDigest> digests, final UploadSessions sessions) {
+        this(origin, new SpoolUploads(root, name, digests, sessions));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin repository.
+     * @param root Spool directory.
+     * @param name Repository name.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     * @param blocking Executor of spool file system operations.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public SpoolRepo(final Repo origin, final Path root, final RepoName name,
+        final ConcurrentMap<Path, MessageDigest> digests, final UploadSessions sessions,
+        final Executor blocking) {
+        this(origin, new SpoolUploads(root, name, digests, sessions, blocking));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin repository.
+     * @param spooled Spooled uploads.
+     */
+    private SpoolRepo(final Repo origin, final Uploads spooled) {
+        this.origin = origin;
+        this.spooled = spooled;
+    }
+
+    @Override
+    public Layers layers() {
+        return this.origin.layers();
+    }
+
+    @Override
+    public Manifests manifests() {
+        return this.origin.manifests();
+    }
+
+    @Override
+    public Uploads uploads() {
+        return this.spooled;
+    }
+}
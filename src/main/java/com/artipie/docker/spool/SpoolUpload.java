@@ -0,0 +1,367 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.spool;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.FailedCompletionStage;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.Digests;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.Layers;
+import com.artipie.docker.Upload;
+import com.artipie.docker.asto.BlobSource;
+import com.artipie.docker.asto.UploadSessions;
+import com.artipie.docker.error.InvalidDigestException;
+import com.artipie.docker.misc.FileContent;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * {@link Upload} spooled on local disk.
+ * Chunks are appended to local file and hashed as they are written,
+ * uploaded data is shipped to {@link Layers} storage once on commit.
+ * Appends and commit of one upload are run one after another.
+ *
+ * @since 0.17
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class SpoolUpload implements Upload {
+
+    /**
+     * Name of upload data file.
+     */
+    private static final String DATA = "data";
+
+    /**
+     * Upload directory.
+     */
+    private final Path dir;
+
+    /**
+     * Upload UUID.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    private final String uuid;
+
+    /**
+     * Running digests of uploads by upload directory.
+     */
+    private final ConcurrentMap<Path, MessageDigest> digests;
+
+    /**
+     * Upload sessions registry, serialising operations of one upload.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Scheduler of file system operations.
+     */
+    private final Scheduler io;
+
+    /**
+     * Ctor.
+     *
+     * @param dir Upload directory.
+     * @param uuid Upload UUID.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     */
+    public SpoolUpload(
+        final Path dir,
+        final String uuid,
+        final ConcurrentMap<Path, MessageDigest> digests,
+        final UploadSessions sessions
+    ) {
+        this(dir, uuid, digests, sessions, Schedulers.io());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param dir Upload directory.
+     * @param uuid Upload UUID.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     * @param blocking Executor of file system operations.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    public SpoolUpload(
+        final Path dir,
+        final String uuid,
+        final ConcurrentMap<Path, MessageDigest> digests,
+        final UploadSessions sessions,
+        final Executor blocking
+    ) {
+        this(dir, uuid, digests, sessions, Schedulers.from(blocking));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param dir Upload directory.
+     * @param uuid Upload UUID.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     * @param io Scheduler of file system operations.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    private SpoolUpload(
+        final Path dir,
+        final String uuid,
+        final ConcurrentMap<Path, MessageDigest> digests,
+        final UploadSessions sessions,
+        final Scheduler io
+    ) {
+        this.dir = dir;
+        this.uuid = uuid;
+        this.digests = digests;
+        this.sessions = sessions;
+        this.io = io;
+    }
+
+    @Override
+    public String uuid() {
+        return this.uuid;
+    }
+
+    @Override
+    public CompletionStage<Void> start() {
+        return Completable.fromAction(
+            () -> {
+                Files.createDirectories(this.dir);
+                Files.createFile(this.data());
+                this.digests.put(this.dir, Digests.SHA256.get());
+            }
+        ).subscribeOn(this.io).to(CompletableInterop.await());
+    }
+
+    @Override
+    public CompletionStage<Long> append(final Content chunk) {
+        return this.sessions.serial(this.key(), () -> this.appended(chunk));
+    }
+
+    @Override
+    public CompletionStage<Long> offset() {
+        return Single.fromCallable(() -> Math.max(Files.size(this.data()) - 1, 0))
+            .subscribeOn(this.io)
+            .to(SingleInterop.get());
+    }
+
+    @Override
+    public CompletionStage<Blob> putTo(final Layers layers, final Digest digest) {
+        return this.sessions.serial(this.key(), () -> this.committed(layers, digest));
+    }
+
+    /**
+     * Append chunk to upload data file.
+     *
+     * @param chunk Chunk.
+     * @return Offset of last appended byte.
+     */
+    private CompletionStage<Long> appended(final Content chunk) {
+        final Optional<MessageDigest> sha = Optional.ofNullable(this.digests.get(this.dir))
+            .map(SpoolUpload::copy);
+        return Flowable.using(
+            () -> FileChannel.open(this.data(), StandardOpenOption.WRITE),
+            channel -> {
+                final long start = channel.size();
+                channel.position(start);
+                return Flowable.fromPublisher(chunk).observeOn(this.io).doOnNext(
+                    buf -> {
+                        sha.ifPresent(dgst -> dgst.update(buf.asReadOnlyBuffer()));
+                        final ByteBuffer src = buf.duplicate();
+                        while (src.hasRemaining()) {
+                            channel.write(src);
+                        }
+                    }
+                ).doOnError(err -> channel.truncate(start))
+                    .ignoreElements()
+                    .andThen(Single.fromCallable(channel::size))
+                    .toFlowable();
+            },
+            FileChannel::close
+        ).subscribeOn(this.io).singleOrError().doOnSuccess(
+            size -> sha.ifPresent(dgst -> this.digests.put(this.dir, dgst))
+        ).map(size -> size - 1).to(SingleInterop.get());
+    }
+
+    /**
+     * Ship uploaded data to layers if it matches digest.
+     *
+     * @param layers Target layers.
+     * @param digest Expected digest.
+     * @return Created blob.
+     */
+    private CompletionStage<Blob> committed(final Layers layers, final Digest digest) {
+        return this.digest().thenCompose(
+            calculated -> {
+                final CompletionStage<Blob> result;
+                if (calculated.string().equals(digest.string())) {
+                    result = layers.put(new SpooledBlobSource(this.data(), digest)).thenCompose(
+                        blob -> this.delete().thenApply(nothing -> blob)
+                    );
+                } else {
+                    result = new FailedCompletionStage<>(
+                        new InvalidDigestException(digest.toString())
+                    );
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Key serialising operations of this upload.
+     *
+     * @return Key.
+     */
+    private Key key() {
+        return new Key.From(this.uuid);
+    }
+
+    /**
+     * Upload data file.
+     *
+     * @return File path.
+     */
+    private Path data() {
+        return this.dir.resolve(SpoolUpload.DATA);
+    }
+
+    /**
+     * Digest of uploaded data.
+     * Running digest is used if known, otherwise data file is hashed.
+     *
+     * @return Digest.
+     */
+    private CompletionStage<Digest> digest() {
+        final MessageDigest running = this.digests.get(this.dir);
+        final CompletionStage<MessageDigest> sha;
+        if (running == null) {
+            sha = Flowable.fromPublisher(new FileContent(this.data()))
+                .subscribeOn(this.io)
+                .reduce(
+                    Digests.SHA256.get(),
+                    (dgst, buf) -> {
+                        dgst.update(buf);
+                        return dgst;
+                    }
+                ).to(SingleInterop.get());
+        } else {
+            sha = CompletableFuture.completedFuture(SpoolUpload.copy(running));
+        }
+        return sha.thenApply(dgst -> new Digest.Sha256(Hex.encodeHexString(dgst.digest())));
+    }
+
+    /**
+     * Delete upload directory.
+     *
+     * @return Completion.
+     */
+    private CompletionStage<Void> delete() {
+        return Completable.fromAction(
+            () -> {
+                this.digests.remove(this.dir);
+                try (Stream<Path> files = Files.walk(this.dir)) {
+                    files.sorted(Comparator.reverseOrder()).forEach(
+                        file -> {
+                            try {
+                                Files.delete(file);
+                            } catch (final IOException ex) {
+                                throw new ArtipieIOException(ex);
+                            }
+                        }
+                    );
+                }
+            }
+        ).subscribeOn(this.io).to(CompletableInterop.await());
+    }
+
+    /**
+     * Copy message digest state.
+     *
+     * @param sha Message digest.
+     * @return Copy.
+     */
+    private static MessageDigest copy(final MessageDigest sha) {
+        try {
+            return (MessageDigest) sha.clone();
+        } catch (final CloneNotSupportedException ex) {
+            throw new IllegalStateException("Message digest is not cloneable", ex);
+        }
+    }
+
+    /**
+     * Blob source reading spooled file.
+     *
+     * @since 0.17
+     */
+    private static final class SpooledBlobSource implements BlobSource {
+
+        /**
+         * Spooled file.
+         */
+        private final Path file;
+
+        /**
+         * Blob digest.
+         */
+        private final Digest dig;
+
+        /**
+         * Ctor.
+         *
+         * @param file Spooled file.
+         * @param dig Blob digest.
+         */
+        SpooledBlobSource(final Path file, final Digest dig) {
+            this.file = file;
+            this.dig = dig;
+        }
+
+        @Override
+        public Digest digest() {
+            return this.dig;
+        }
+
+        @Override
+        public CompletionStage<Void> saveTo(final Storage storage, final Key key) {
+            return storage.exists(key).thenCompose(
+                exists -> {
+                    final CompletionStage<Void> result;
+                    if (exists) {
+                        result = CompletableFuture.allOf();
+                    } else {
+                        result = storage.save(key, new FileContent(this.file));
+                    }
+                    return result;
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.spool;
+
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Upload;
+import com.artipie.docker.Uploads;
+import com.artipie.docker.asto.UploadSessions;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+/**
+ * {@link Uploads} spooled in local directory.
+ *
+ * @since 0.17
+ */
+public final class SpoolUploads implements Uploads {
+
+    /**
+     * Upload UUID pattern.
+     */
+    private static final Pattern UUID_PTN = Pattern.compile("[0-9a-fA-F-]{36}");
+
+    /**
+     * Spool directory.
+     */
+    private final Path root;
+
+    /**
+     * Repository name.
+     */
+    private final RepoName name;
+
+    /**
+     * Running digests of uploads by upload directory.
+     */
+    private final ConcurrentMap<Path, MessageDigest> digests;
+
+    /**
+     * Upload sessions registry, serialising operations of one upload.
+     */
+    private final UploadSessions sessions;
+
+    /**
+     * Executor of file system operations, empty to use RxJava IO scheduler.
+     */
+    private final Optional<Executor> blocking;
+
+    /**
+     * Ctor.
+     *
+     * @param root Spool directory.
+     * @param name Repository name.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     */
+    public SpoolUploads(
+        final Path root,
+        final RepoName name,
+        final ConcurrentMap<Path, MessageDigest> digests,
+        final UploadSessions sessions
+    ) {
+        this(root, name, digests, sessions, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param root Spool directory.
+     * @param name Repository name.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     * @param blocking Executor of file system operations.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    public SpoolUploads(
+        final Path root,
+        final RepoName name,
+        final ConcurrentMap<Path, MessageDigest> digests,
+        final UploadSessions sessions,
+        final Executor blocking
+    ) {
+        this(root, name, digests, sessions, Optional.of(blocking));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param root Spool directory.
+     * @param name Repository name.
+     * @param digests Running digests of uploads by upload directory.
+     * @param sessions Upload sessions registry, serialising operations of one upload.
+     * @param blocking Executor of file system operations, empty to use RxJava IO scheduler.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    private SpoolUploads(
+        final Path root,
+        final RepoName name,
+        final ConcurrentMap<Path, MessageDigest> digests,
+        final UploadSessions sessions,
+        final Optional<Executor> blocking
+    ) {
+        this.root = root;
+        this.name = name;
+        this.digests = digests;
+        this.sessions = sessions;
+        this.blocking = blocking;
+    }
+
+    @Override
+    public CompletionStage<Upload> start() {
+        final Upload upload = this.upload(UUID.randomUUID().toString());
+        return upload.start().thenApply(nothing -> upload);
+    }
+
+    @Override
+    public CompletionStage<Optional<Upload>> get(final String uuid) {
+        final CompletionStage<Optional<Upload>> result;
+        if (SpoolUploads.UUID_PTN.matcher(uuid).matches()) {
+            final Path dir = this.dir(uuid);
+            result = Single.fromCallable(() -> Files.isDirectory(dir))
+                .subscribeOn(this.io())
+                .to(SingleInterop.get())
+                .thenApply(
+                    exists -> {
+                        final Optional<Upload> upload;
+                        if (exists) {
+                            upload = Optional.of(this.upload(uuid));
+                        } else {
+                            upload = Optional.empty();
+                        }
+                        return upload;
+                    }
+                );
+        } else {
+            result = CompletableFuture.completedFuture(Optional.empty());
+        }
+        return result;
+    }
+
+    /**
+     * Create upload by UUID.
+     *
+     * @param uuid Upload UUID.
+     * @return Upload.
+     */
+    private Upload upload(final String uuid) {
+        return this.blocking.map(
+            executor -> new SpoolUpload(
+                this.dir(uuid), uuid, this.digests, this.sessions, executor
+            )
+        ).orElseGet(() -> new SpoolUpload(this.dir(uuid), uuid, this.digests, this.sessions));
+    }
+
+    /**
+     * Scheduler of file system operations.
+     *
+     * @return Scheduler.
+     */
+    private Scheduler io() {
+        return this.blocking.map(Schedulers::from).orElseGet(Schedulers::io);
+    }
+
+    /**
+     * Upload directory.
+     *
+     * @param uuid Upload UUID.
+     * @return Directory path.
+     */
+    private Path dir(final String uuid) {
+        return this.root.resolve(this.name.value()).resolve(uuid);
+    }
+}
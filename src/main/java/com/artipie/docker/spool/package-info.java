@@ -0,0 +1,11 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+
+/**
+ * Docker registry with blob uploads spooled on local disk.
+ *
+ * @since 0.17
+ */
+package com.artipie.docker.spool;
@@ -10,6 +10,8 @@ import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test case for {@link Digest}.
@@ -47,4 +49,61 @@ public final class DigestTest {
             new IsEqual<>("sha256:6c3c624b58dbbcd3c0dd82b4c53f04194d1247c6eebdaab7c610cf7d66709b3b")
         );
     }
+
+    @Test
+    void shouldKeepCompactDigest() {
+        final String hex = "6c3c624b58dbbcd3c0dd82b4c53f04194d1247c6eebdaab7c610cf7d66709b3b";
+        final Digest.Compact digest = new Digest.Compact(new Digest.FromString("sha256:" + hex));
+        MatcherAssert.assertThat(
+            "bad hex",
+            digest.hex(),
+            new IsEqual<>(hex)
+        );
+        MatcherAssert.assertThat(
+            "not equal to digest with same bytes",
+            digest,
+            new IsEqual<>(new Digest.Compact(new Digest.Sha256(hex)))
+        );
+        MatcherAssert.assertThat(
+            "bad hash code",
+            digest.hashCode(),
+            new IsEqual<>(new Digest.Compact(new Digest.Sha256(hex)).hashCode())
+        );
+    }
+
+    @Test
+    void shouldCompareCompactDigestsByBytes() {
+        MatcherAssert.assertThat(
+            new Digest.Compact(new Digest.Sha256("one".getBytes())),
+            Matchers.not(new IsEqual<>(new Digest.Compact(new Digest.Sha256("two".getBytes()))))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "sha256:1234",
+        "sha512:6c3c624b58dbbcd3c0dd82b4c53f04194d1247c6eebdaab7c610cf7d66709b3b",
+        "sha256:6C3C624B58DBBCD3C0DD82B4C53F04194D1247C6EEBDAAB7C610CF7D66709B3B",
+        "sha256:6c3c624b58dbbcd3c0dd82b4c53f04194d1247c6eebdaab7c610cf7d66709bxx"
+    })
+    void shouldNotCompactUnsupportedDigest(final String digest) {
+        MatcherAssert.assertThat(
+            "supported",
+            Digest.Compact.supports(new Digest.FromString(digest)),
+            new IsEqual<>(false)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Digest.Compact(new Digest.FromString(digest))
+        );
+    }
+
+    @Test
+    void shouldKeepStringOfParsedDigest() {
+        final String digest = "sha256:1234";
+        MatcherAssert.assertThat(
+            new Digest.FromString(digest).string(),
+            Matchers.sameInstance(digest)
+        );
+    }
 }
@@ -6,8 +6,10 @@
 package com.artipie.docker;
 
 import com.artipie.docker.error.InvalidRepoNameException;
+import java.util.Optional;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -42,6 +44,52 @@ final class RepoNameTest {
         );
     }
 
+    @Test
+    void shouldValidateOnConstruction() {
+        Assertions.assertThrows(
+            InvalidRepoNameException.class,
+            () -> new RepoName.Valid("bad//name")
+        );
+    }
+
+    @Test
+    void shouldTellProblemWithoutThrowing() {
+        MatcherAssert.assertThat(
+            new RepoName.Check("asd+zxc").problem(),
+            new IsEqual<>(Optional.of("invalid repo name part: asd+zxc"))
+        );
+    }
+
+    @Test
+    void shouldAcceptValidNameWithCheck() {
+        MatcherAssert.assertThat(
+            new RepoName.Check("library/alpine").problem().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                InvalidRepoNameException.class,
+                () -> new RepoName.Valid("-asd")
+            ).getStackTrace(),
+            Matchers.emptyArray()
+        );
+    }
+
+    @Test
+    void shouldBeEqualByValue() {
+        MatcherAssert.assertThat(
+            new RepoName.Valid("library/alpine"),
+            Matchers.allOf(
+                Matchers.equalTo(new RepoName.Valid("library/alpine")),
+                Matchers.not(Matchers.equalTo(new RepoName.Valid("library/busybox")))
+            )
+        );
+    }
+
     @Test
     void cannotBeGreaterThanMaxLength() {
         Assertions.assertThrows(
@@ -10,11 +10,19 @@ import com.artipie.asto.Storage;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 
@@ -40,7 +48,129 @@ final class AstoBlobsTest {
             .toCompletableFuture().join();
         blobs.put(new TrustedBlobSource(new Content.From(bytes), digest))
             .toCompletableFuture().join();
-        MatcherAssert.assertThat(storage.saves, new IsEqual<>(1));
+        MatcherAssert.assertThat(
+            storage.saves,
+            Matchers.contains(new BlobKey(digest).string())
+        );
+    }
+
+    @Test
+    void shouldFindStoredBlob() {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "legacy".getBytes();
+        final Digest digest = new Digest.Sha256(data);
+        storage.save(new BlobKey(digest), new Content.From(data)).join();
+        MatcherAssert.assertThat(
+            new AstoBlobs(storage, new DefaultLayout(), new RepoName.Simple("legacy"))
+                .blob(digest).toCompletableFuture().join().get()
+                .size().toCompletableFuture().join(),
+            new IsEqual<>((long) data.length)
+        );
+    }
+
+    @Test
+    void shouldRememberPutBlob() {
+        final Storage storage = new InMemoryStorage();
+        final AstoBlobs blobs = new AstoBlobs(
+            storage, new DefaultLayout(), new RepoName.Simple("memory")
+        );
+        final Digest digest = blobs.put(new TrustedBlobSource("known".getBytes()))
+            .toCompletableFuture().join().digest();
+        storage.save(new BlobKey(digest), new Content.From("resized".getBytes())).join();
+        MatcherAssert.assertThat(
+            blobs.blob(digest).toCompletableFuture().join().get()
+                .size().toCompletableFuture().join(),
+            new IsEqual<>(5L)
+        );
+    }
+
+    @Test
+    void shouldFindMissingBlobs() {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "stored".getBytes();
+        final Digest stored = new Digest.Sha256(data);
+        storage.save(new BlobKey(stored), new Content.From(data)).join();
+        final Digest absent = new Digest.Sha256("absent".getBytes());
+        MatcherAssert.assertThat(
+            new AstoBlobs(storage, new DefaultLayout(), new RepoName.Simple("bulk"))
+                .missing(Arrays.asList(stored, absent)).toCompletableFuture().join()
+                .stream().map(Digest::string).collect(Collectors.toList()),
+            Matchers.contains(absent.string())
+        );
+    }
+
+    @Test
+    void shouldFindKnownBlobsWithoutStorageAccess() {
+        final FakeStorage storage = new FakeStorage();
+        final AstoBlobs blobs = new AstoBlobs(
+            storage, new DefaultLayout(), new RepoName.Simple("known")
+        );
+        final List<Digest> digests = new ArrayList<>(10);
+        for (int idx = 0; idx < 10; idx += 1) {
+            digests.add(
+                blobs.put(new TrustedBlobSource(String.format("layer%d", idx).getBytes()))
+                    .toCompletableFuture().join().digest()
+            );
+        }
+        storage.checks.clear();
+        MatcherAssert.assertThat(
+            "Missing blobs found",
+            blobs.missing(digests).toCompletableFuture().join(),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "Storage accessed",
+            storage.checks,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void shouldNotFindDeletedBlobWithKnownSize() {
+        final Storage storage = new InMemoryStorage();
+        final AstoBlobs blobs = new AstoBlobs(
+            storage, new DefaultLayout(), new RepoName.Simple("deleted")
+        );
+        final Digest digest = blobs.put(new TrustedBlobSource("deleted".getBytes()))
+            .toCompletableFuture().join().digest();
+        storage.delete(new BlobKey(digest)).join();
+        MatcherAssert.assertThat(
+            "Deleted blob is found",
+            blobs.blob(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Deleted blob is not missing",
+            blobs.missing(Arrays.asList(digest)).toCompletableFuture().join(),
+            Matchers.contains(digest)
+        );
+    }
+
+    @Test
+    void shouldLimitConcurrentStorageChecks() {
+        final FakeStorage storage = new FakeStorage(true);
+        final AstoBlobs blobs = new AstoBlobs(
+            storage, new DefaultLayout(), new RepoName.Simple("limited")
+        );
+        final List<Digest> digests = new ArrayList<>(100);
+        for (int idx = 0; idx < 100; idx += 1) {
+            digests.add(new Digest.Sha256(String.format("layer%d", idx).getBytes()));
+        }
+        final CompletableFuture<List<Digest>> missing =
+            blobs.missing(digests).toCompletableFuture();
+        while (!storage.pending.isEmpty()) {
+            storage.pending.poll().complete(false);
+        }
+        MatcherAssert.assertThat(
+            "Wrong missing blobs",
+            missing.join(),
+            new IsEqual<>(digests)
+        );
+        MatcherAssert.assertThat(
+            "Too many concurrent checks",
+            storage.max.get(),
+            Matchers.lessThanOrEqualTo(16)
+        );
     }
 
     /**
@@ -56,17 +186,55 @@ final class AstoBlobsTest {
         private final Storage origin;
 
         /**
-         * Save operations counter.
+         * Keys of save operations.
          */
-        private int saves;
+        private final List<String> saves;
+
+        /**
+         * Keys of exists operations.
+         */
+        private final List<String> checks;
+
+        /**
+         * Whether exists operations are held pending until completed by test.
+         */
+        private final boolean hold;
+
+        /**
+         * Pending exists operations.
+         */
+        private final Queue<CompletableFuture<Boolean>> pending;
+
+        /**
+         * Maximum number of pending exists operations.
+         */
+        private final AtomicInteger max;
 
         private FakeStorage() {
+            this(false);
+        }
+
+        private FakeStorage(final boolean hold) {
             this.origin = new InMemoryStorage();
+            this.saves = new ArrayList<>(2);
+            this.checks = new ArrayList<>(2);
+            this.hold = hold;
+            this.pending = new ConcurrentLinkedQueue<>();
+            this.max = new AtomicInteger();
         }
 
         @Override
         public CompletableFuture<Boolean> exists(final Key key) {
-            return this.origin.exists(key);
+            this.checks.add(key.string());
+            final CompletableFuture<Boolean> exists;
+            if (this.hold) {
+                exists = new CompletableFuture<>();
+                this.pending.add(exists);
+                this.max.accumulateAndGet(this.pending.size(), Math::max);
+            } else {
+                exists = this.origin.exists(key);
+            }
+            return exists;
         }
 
         @Override
@@ -76,7 +244,7 @@ final class AstoBlobsTest {
 
         @Override
         public CompletableFuture<Void> save(final Key key, final Content content) {
-            this.saves += 1;
+            this.saves.add(key.string());
             return this.origin.save(key, content);
         }
 
@@ -15,6 +15,7 @@ import com.artipie.docker.Tag;
 import com.artipie.docker.Tags;
 import com.artipie.docker.error.InvalidManifestException;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.misc.TimedExecutor;
 import com.artipie.docker.ref.ManifestRef;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
@@ -29,6 +30,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 /**
  * Tests for {@link AstoManifests}.
@@ -77,6 +80,28 @@ final class AstoManifestsTest {
         MatcherAssert.assertThat(manifest.isPresent(), new IsEqual<>(false));
     }
 
+    @Test
+    void shouldParseManifestOnGivenExecutor() {
+        final Storage storage = new ExampleStorage();
+        final Layout layout = new DefaultLayout();
+        final RepoName name = new RepoName.Simple("my-alpine");
+        final TimedExecutor cpu = new TimedExecutor(Runnable::run);
+        new AstoManifests(storage, new AstoBlobs(storage, layout, name), layout, name, cpu)
+            .get(new ManifestRef.FromTag(new Tag.Valid("1")))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(cpu.submitted(), new IsEqual<>(1L));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,true", "2,false"})
+    void shouldCheckManifestExists(final String tag, final boolean exists) {
+        MatcherAssert.assertThat(
+            this.manifests.exists(new ManifestRef.FromTag(new Tag.Valid(tag)))
+                .toCompletableFuture().join(),
+            new IsEqual<>(exists)
+        );
+    }
+
     @Test
     @Timeout(5)
     void shouldReadAddedManifest() {
@@ -14,6 +14,7 @@ import com.artipie.docker.Digest;
 import com.artipie.docker.Layers;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.Upload;
+import com.artipie.docker.fake.ComposingStorage;
 import io.reactivex.Flowable;
 import java.util.Arrays;
 import java.util.Optional;
@@ -22,13 +23,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.hamcrest.Description;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.collection.IsEmptyCollection;
 import org.hamcrest.core.IsEqual;
-import org.hamcrest.core.IsInstanceOf;
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -91,19 +92,115 @@ class AstoUploadTest {
     }
 
     @Test
-    void shouldFailAppendedSecondChunk() {
+    void shouldReadAppendedChunks() {
         this.upload.start().toCompletableFuture().join();
         this.upload.append(new Content.From("one".getBytes()))
             .toCompletableFuture()
             .join();
+        this.upload.append(new Content.From("two".getBytes()))
+            .toCompletableFuture()
+            .join();
+        MatcherAssert.assertThat(
+            this.upload,
+            new IsUploadWithContent("onetwo".getBytes())
+        );
+    }
+
+    @Test
+    void shouldReturnOffsetOfAllChunks() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.append(new Content.From("abc".getBytes())).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.upload.append(new Content.From("de".getBytes())).toCompletableFuture().join(),
+            new IsEqual<>(4L)
+        );
+    }
+
+    @Test
+    void shouldVerifyDigestOfChunksLoadedFromStorage() {
+        this.upload.start().toCompletableFuture().join();
+        this.upload.append(new Content.From("first".getBytes())).toCompletableFuture().join();
+        this.upload.append(new Content.From("second".getBytes())).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new AstoUpload(
+                this.storage, new DefaultLayout(), new RepoName.Valid("test"),
+                this.upload.uuid(), new UploadSessions()
+            ),
+            new IsUploadWithContent("firstsecond".getBytes())
+        );
+    }
+
+    @Test
+    void shouldComposeChunksInStorage() {
+        final ComposingStorage composing = new ComposingStorage();
+        final AstoUpload parts = new AstoUpload(
+            composing, new DefaultLayout(), new RepoName.Valid("test"), "uuid"
+        );
+        parts.start().toCompletableFuture().join();
+        parts.append(new Content.From("a".getBytes())).toCompletableFuture().join();
+        parts.append(new Content.From("b".getBytes())).toCompletableFuture().join();
+        final Blob blob = parts.putTo(
+            new AstoLayers(
+                new AstoBlobs(composing, new DefaultLayout(), new RepoName.Valid("test"))
+            ),
+            new Digest.Sha256("ab".getBytes())
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Parts are composed by storage",
+            composing.composed(),
+            new IsEqual<>(1)
+        );
+        MatcherAssert.assertThat(
+            "Blob has content of all parts",
+            blob.content().thenApply(PublisherAs::new).thenCompose(PublisherAs::asciiString)
+                .toCompletableFuture().join(),
+            new IsEqual<>("ab")
+        );
+    }
+
+    @Test
+    void shouldAppendConcurrentChunksAsSeparateParts() {
+        final ExecutorService cpu = Executors.newFixedThreadPool(2);
+        try {
+            final AstoUpload concurrent = new AstoUpload(
+                this.storage, new DefaultLayout(), new RepoName.Valid("test"),
+                UUID.randomUUID().toString(), new UploadSessions(), cpu
+            );
+            concurrent.start().toCompletableFuture().join();
+            final CompletableFuture<Long> first = concurrent
+                .append(new Content.From("one".getBytes())).toCompletableFuture();
+            final CompletableFuture<Long> second = concurrent
+                .append(new Content.From("two".getBytes())).toCompletableFuture();
+            MatcherAssert.assertThat(
+                "Appends return offsets one after another",
+                Arrays.asList(first.join(), second.join()),
+                new IsEqual<>(Arrays.asList(2L, 5L))
+            );
+            MatcherAssert.assertThat(
+                "Upload has content of both chunks",
+                concurrent,
+                new IsUploadWithContent("onetwo".getBytes())
+            );
+        } finally {
+            cpu.shutdown();
+        }
+    }
+
+    @Test
+    void shouldOrderLoadedPartsNumerically() {
+        this.upload.start().toCompletableFuture().join();
+        this.storage.save(
+            new Key.From(this.upload.root(), "part_99999"), new Content.From("a".getBytes())
+        ).join();
+        this.storage.save(
+            new Key.From(this.upload.root(), "part_100000"), new Content.From("b".getBytes())
+        ).join();
         MatcherAssert.assertThat(
-            Assertions.assertThrows(
-                CompletionException.class,
-                () -> this.upload.append(new Content.From("two".getBytes()))
-                    .toCompletableFuture()
-                    .join()
-            ).getCause(),
-            new IsInstanceOf(UnsupportedOperationException.class)
+            new AstoUpload(
+                this.storage, new DefaultLayout(), new RepoName.Valid("test"),
+                this.upload.uuid(), new UploadSessions()
+            ),
+            new IsUploadWithContent("ab".getBytes())
         );
     }
 
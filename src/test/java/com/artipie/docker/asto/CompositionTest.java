@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.fake.ComposingStorage;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Composition}.
+ *
+ * @since 0.17
+ */
+final class CompositionTest {
+
+    @Test
+    void concatenatesPartsInOrder() {
+        final Storage storage = new InMemoryStorage();
+        final Key first = new Key.From("part_1");
+        final Key second = new Key.From("part_2");
+        storage.save(first, new Content.From("hello ".getBytes())).join();
+        storage.save(second, new Content.From("world".getBytes())).join();
+        final Key target = new Key.From("target");
+        new Composition(storage).compose(Arrays.asList(first, second), target)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(storage.value(target).join()).asciiString()
+                .toCompletableFuture().join(),
+            new IsEqual<>("hello world")
+        );
+    }
+
+    @Test
+    void usesNativeCompose() {
+        final ComposingStorage storage = new ComposingStorage();
+        final Key first = new Key.From("one");
+        final Key second = new Key.From("two");
+        storage.save(first, new Content.From("1".getBytes())).join();
+        storage.save(second, new Content.From("2".getBytes())).join();
+        new Composition(storage).compose(Arrays.asList(first, second), new Key.From("res"))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(storage.composed(), new IsEqual<>(1));
+    }
+
+    @Test
+    void composesEmptyValueFromNoParts() {
+        final Storage storage = new InMemoryStorage();
+        final Key target = new Key.From("empty");
+        new Composition(storage).compose(Collections.emptyList(), target)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(storage.size(target).join(), new IsEqual<>(0L));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Digest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link HotTier}.
+ *
+ * @since 0.17
+ */
+final class HotTierTest {
+
+    @Test
+    void fillsOnRead(final @TempDir Path dir) {
+        final HotTier tier = new HotTier(dir, 100, Runnable::run);
+        final byte[] data = "hot blob".getBytes();
+        final Digest digest = new Digest.Sha256(data);
+        HotTierTest.read(tier.fill(digest, new Content.From(data)));
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                tier.find(digest).toCompletableFuture().join().get()
+                    .content().toCompletableFuture().join()
+            ).bytes().toCompletableFuture().join(),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void skipsContentNotMatchingDigest(final @TempDir Path dir) {
+        final HotTier tier = new HotTier(dir, 100, Runnable::run);
+        final Digest digest = new Digest.Sha256("expected".getBytes());
+        HotTierTest.read(tier.fill(digest, new Content.From("corrupted".getBytes())));
+        MatcherAssert.assertThat(
+            tier.find(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void servesOriginBytesWhileFilling(final @TempDir Path dir) {
+        final byte[] data = "origin".getBytes();
+        MatcherAssert.assertThat(
+            HotTierTest.read(
+                new HotTier(dir, 100, Runnable::run)
+                    .fill(new Digest.Sha256(data), new Content.From(data))
+            ),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed(final @TempDir Path dir) {
+        final HotTier tier = new HotTier(dir, 10, Runnable::run);
+        final Digest first = HotTierTest.put(tier, "first");
+        final Digest second = HotTierTest.put(tier, "secnd");
+        tier.find(first).toCompletableFuture().join();
+        HotTierTest.put(tier, "third");
+        MatcherAssert.assertThat(
+            tier.find(second).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            tier.find(first).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(tier.size(), new IsEqual<>(10L));
+    }
+
+    @Test
+    void skipsBlobsLargerThanBudget(final @TempDir Path dir) {
+        final HotTier tier = new HotTier(dir, 3, Runnable::run);
+        final Digest digest = HotTierTest.put(tier, "large");
+        MatcherAssert.assertThat(
+            tier.find(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void loadsIndexFromDisk(final @TempDir Path dir) {
+        final Digest digest = HotTierTest.put(
+            new HotTier(dir, 100, Runnable::run), "persisted"
+        );
+        final HotTier tier = new HotTier(dir, 100, Runnable::run);
+        MatcherAssert.assertThat(
+            tier.find(digest).toCompletableFuture().join().get()
+                .size().toCompletableFuture().join(),
+            new IsEqual<>(9L)
+        );
+    }
+
+    @Test
+    void removesInterruptedFillsOnLoad(final @TempDir Path dir) throws Exception {
+        final Path tmp = Files.createDirectories(dir.resolve("tmp")).resolve("interrupted");
+        Files.write(tmp, "partial".getBytes());
+        MatcherAssert.assertThat(
+            "Interrupted fill is not counted",
+            new HotTier(dir, 100, Runnable::run).size(),
+            new IsEqual<>(0L)
+        );
+        MatcherAssert.assertThat(
+            "Temporary file is removed",
+            Files.exists(tmp),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void fillsOnBlockingExecutor(final @TempDir Path dir) throws Exception {
+        final ExecutorService blocking = Executors.newSingleThreadExecutor();
+        try {
+            final HotTier tier = new HotTier(dir, 100, blocking);
+            final Digest digest = HotTierTest.put(tier, "async");
+            final long deadline = System.currentTimeMillis() + 5_000;
+            boolean found = tier.find(digest).toCompletableFuture().join().isPresent();
+            while (!found && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+                found = tier.find(digest).toCompletableFuture().join().isPresent();
+            }
+            MatcherAssert.assertThat(found, new IsEqual<>(true));
+        } finally {
+            blocking.shutdown();
+        }
+    }
+
+    /**
+     * Put data to tier by reading it.
+     *
+     * @param tier Hot tier.
+     * @param data Blob data.
+     * @return Blob digest.
+     */
+    private static Digest put(final HotTier tier, final String data) {
+        final Digest digest = new Digest.Sha256(data.getBytes());
+        HotTierTest.read(tier.fill(digest, new Content.From(data.getBytes())));
+        return digest;
+    }
+
+    /**
+     * Read content.
+     *
+     * @param content Content.
+     * @return Content bytes.
+     */
+    private static byte[] read(final Content content) {
+        return new PublisherAs(content).bytes().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ValueNotFoundException;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.RepoName;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MappedFileStorage}.
+ *
+ * @since 0.17
+ */
+final class MappedFileStorageTest {
+
+    @Test
+    void readsMappedValue(final @TempDir Path dir) {
+        final Storage storage = new MappedFileStorage(dir, 10);
+        final byte[] data = new byte[1024];
+        new Random().nextBytes(data);
+        final Key key = new Key.From("large");
+        storage.save(key, new Content.From(data)).join();
+        final Content content = storage.value(key).join();
+        MatcherAssert.assertThat(content.size(), new IsEqual<>(Optional.of(1024L)));
+        MatcherAssert.assertThat(
+            new PublisherAs(content).bytes().toCompletableFuture().join(),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void readsSmallValue(final @TempDir Path dir) {
+        final Storage storage = new MappedFileStorage(dir, 10);
+        final Key key = new Key.From("small");
+        storage.save(key, new Content.From("tiny".getBytes())).join();
+        MatcherAssert.assertThat(
+            new PublisherAs(storage.value(key).join()).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("tiny")
+        );
+    }
+
+    @Test
+    void failsOnAbsentValue(final @TempDir Path dir) {
+        final CompletionException err = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new MappedFileStorage(dir).value(new Key.From("absent")).join()
+        );
+        MatcherAssert.assertThat(
+            err.getCause(),
+            new IsInstanceOf(ValueNotFoundException.class)
+        );
+    }
+
+    @Test
+    void servesBlobs(final @TempDir Path dir) {
+        final byte[] data = new byte[4096];
+        new Random().nextBytes(data);
+        final AstoBlobs blobs = new AstoBlobs(
+            new MappedFileStorage(dir, 1), new DefaultLayout(), new RepoName.Simple("test")
+        );
+        final Blob blob = blobs.put(
+            new TrustedBlobSource(new Content.From(data), new Digest.Sha256(data))
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(blob.content().toCompletableFuture().join())
+                .bytes().toCompletableFuture().join(),
+            new IsEqual<>(data)
+        );
+    }
+}
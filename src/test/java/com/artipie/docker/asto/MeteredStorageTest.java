@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.fake.ComposingStorage;
+import com.artipie.docker.fake.SigningStorage;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MeteredStorage}.
+ *
+ * @since 0.17
+ */
+final class MeteredStorageTest {
+
+    @Test
+    void countsOperations() {
+        final StorageMeter meter = new StorageMeter();
+        final Storage storage = new MeteredStorage(new InMemoryStorage(), meter);
+        final Key key = new Key.From("a");
+        storage.save(key, new Content.From("abc".getBytes())).join();
+        storage.exists(key).join();
+        storage.exists(new Key.From("b")).join();
+        storage.size(key).join();
+        MatcherAssert.assertThat(
+            "Counts operations of every kind",
+            meter.count(StorageMeter.Operation.EXISTS),
+            new IsEqual<>(2L)
+        );
+        MatcherAssert.assertThat(
+            "Counts all operations",
+            meter.operations(),
+            new IsEqual<>(4L)
+        );
+    }
+
+    @Test
+    void countsComposeByOriginStorage() {
+        final StorageMeter meter = new StorageMeter();
+        final ComposingStorage origin = new ComposingStorage();
+        final ComposableStorage storage = new MeteredStorage.Composing(origin, meter);
+        final Key part = new Key.From("part");
+        final Key target = new Key.From("target");
+        storage.save(part, new Content.From("xyz".getBytes())).join();
+        storage.compose(Collections.singletonList(part), target).join();
+        MatcherAssert.assertThat(
+            "Composes by origin",
+            origin.composed(),
+            new IsEqual<>(1)
+        );
+        MatcherAssert.assertThat(
+            "Counts compose",
+            meter.count(StorageMeter.Operation.COMPOSE),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Composed value is saved",
+            storage.exists(target).join(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void countsIssuedUrls() {
+        final StorageMeter meter = new StorageMeter();
+        final SignedUrlStorage storage = new MeteredStorage.Signing(new SigningStorage(), meter);
+        final Key key = new Key.From("signed");
+        storage.save(key, new Content.From("abc".getBytes())).join();
+        storage.url(key).join();
+        MatcherAssert.assertThat(
+            meter.count(StorageMeter.Operation.URL),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void countsTransferredBytes() {
+        final StorageMeter meter = new StorageMeter();
+        final Storage storage = new MeteredStorage(new InMemoryStorage(), meter);
+        final Key key = new Key.From("data");
+        storage.save(key, new Content.From("12345".getBytes())).join();
+        new PublisherAs(storage.value(key).join()).bytes().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Counts written bytes",
+            meter.bytesWritten(),
+            new IsEqual<>(5L)
+        );
+        MatcherAssert.assertThat(
+            "Counts read bytes",
+            meter.bytesRead(),
+            new IsEqual<>(5L)
+        );
+    }
+
+    @Test
+    void countsOperationsRunExclusively() {
+        final StorageMeter meter = new StorageMeter();
+        final Key key = new Key.From("locked");
+        new MeteredStorage(new InMemoryStorage(), meter).exclusively(
+            key, storage -> storage.exists(key)
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            meter.operations(),
+            new IsEqual<>(2L)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Digest;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SmallBlobCache}.
+ *
+ * @since 0.17
+ */
+final class SmallBlobCacheTest {
+
+    @Test
+    void cachesConsumedContent() {
+        final SmallBlobCache cache = new SmallBlobCache(100);
+        final byte[] data = "abc".getBytes();
+        final Digest digest = SmallBlobCacheTest.fill(cache, data);
+        MatcherAssert.assertThat(cache.get(digest).get(), new IsEqual<>(data));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final SmallBlobCache cache = new SmallBlobCache(6);
+        final Digest first = SmallBlobCacheTest.fill(cache, "one".getBytes());
+        final Digest second = SmallBlobCacheTest.fill(cache, "two".getBytes());
+        cache.get(first);
+        SmallBlobCacheTest.fill(cache, "six".getBytes());
+        MatcherAssert.assertThat(cache.get(second).isPresent(), new IsEqual<>(false));
+        MatcherAssert.assertThat(cache.get(first).isPresent(), new IsEqual<>(true));
+        MatcherAssert.assertThat(cache.size(), new IsEqual<>(6L));
+    }
+
+    @Test
+    void skipsContentOfUnknownSize() {
+        final SmallBlobCache cache = new SmallBlobCache(100);
+        final byte[] data = "unknown".getBytes();
+        final Digest digest = new Digest.Sha256(data);
+        new PublisherAs(
+            cache.fill(digest, new Content.From(Flowable.just(ByteBuffer.wrap(data))))
+        ).bytes().toCompletableFuture().join();
+        MatcherAssert.assertThat(cache.get(digest), new IsEqual<>(Optional.empty()));
+    }
+
+    @Test
+    void collectsContentOfManyChunks() {
+        final SmallBlobCache cache = new SmallBlobCache(100);
+        final Digest digest = new Digest.Sha256("chunks".getBytes());
+        new PublisherAs(
+            cache.fill(
+                digest,
+                new Content.From(
+                    Optional.of(6L),
+                    Flowable.just(
+                        ByteBuffer.wrap("chu".getBytes()), ByteBuffer.wrap("nks".getBytes())
+                    )
+                )
+            )
+        ).bytes().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new String(cache.get(digest).get()),
+            new IsEqual<>("chunks")
+        );
+    }
+
+    /**
+     * Fill cache with data by reading it.
+     *
+     * @param cache Cache.
+     * @param data Data.
+     * @return Digest of data.
+     */
+    private static Digest fill(final SmallBlobCache cache, final byte[] data) {
+        final Digest digest = new Digest.Sha256(data);
+        new PublisherAs(cache.fill(digest, new Content.From(data)))
+            .bytes().toCompletableFuture().join();
+        return digest;
+    }
+}
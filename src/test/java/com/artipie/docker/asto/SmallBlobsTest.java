@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.RepoName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SmallBlobs}.
+ *
+ * @since 0.17
+ */
+final class SmallBlobsTest {
+
+    @Test
+    void servesSmallBlobWithoutStorage() {
+        final Storage storage = new InMemoryStorage();
+        final BlobStore blobs = SmallBlobsTest.blobs(storage, new SmallBlobCache(1024));
+        final byte[] data = "config".getBytes();
+        final Digest digest = SmallBlobsTest.put(blobs, data);
+        SmallBlobsTest.read(blobs.blob(digest).toCompletableFuture().join().get());
+        storage.delete(new BlobKey(digest)).join();
+        final Blob blob = blobs.blob(digest).toCompletableFuture().join().get();
+        MatcherAssert.assertThat(SmallBlobsTest.read(blob), new IsEqual<>(data));
+        MatcherAssert.assertThat(
+            blob.size().toCompletableFuture().join(),
+            new IsEqual<>((long) data.length)
+        );
+    }
+
+    @Test
+    void doesNotCacheLargeBlob() {
+        final SmallBlobCache cache = new SmallBlobCache(1024, 4);
+        final BlobStore blobs = SmallBlobsTest.blobs(new InMemoryStorage(), cache);
+        final Digest digest = SmallBlobsTest.put(blobs, "large layer".getBytes());
+        SmallBlobsTest.read(blobs.blob(digest).toCompletableFuture().join().get());
+        MatcherAssert.assertThat(cache.size(), new IsEqual<>(0L));
+    }
+
+    @Test
+    void readsCachedBlobTwice() {
+        final BlobStore blobs = SmallBlobsTest.blobs(
+            new InMemoryStorage(), new SmallBlobCache(1024)
+        );
+        final byte[] data = "twice".getBytes();
+        final Digest digest = SmallBlobsTest.put(blobs, data);
+        SmallBlobsTest.read(blobs.blob(digest).toCompletableFuture().join().get());
+        final Blob blob = blobs.blob(digest).toCompletableFuture().join().get();
+        SmallBlobsTest.read(blob);
+        MatcherAssert.assertThat(SmallBlobsTest.read(blob), new IsEqual<>(data));
+    }
+
+    /**
+     * Create blob store.
+     *
+     * @param storage Storage.
+     * @param cache Cache.
+     * @return Blob store.
+     */
+    private static BlobStore blobs(final Storage storage, final SmallBlobCache cache) {
+        return new SmallBlobs(
+            new AstoBlobs(storage, new DefaultLayout(), new RepoName.Simple("test")), cache
+        );
+    }
+
+    /**
+     * Put blob.
+     *
+     * @param blobs Blob store.
+     * @param data Blob data.
+     * @return Blob digest.
+     */
+    private static Digest put(final BlobStore blobs, final byte[] data) {
+        return blobs.put(new TrustedBlobSource(data)).toCompletableFuture().join().digest();
+    }
+
+    /**
+     * Read blob content.
+     *
+     * @param blob Blob.
+     * @return Content bytes.
+     */
+    private static byte[] read(final Blob blob) {
+        return new PublisherAs(blob.content().toCompletableFuture().join())
+            .bytes().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Blob;
+import com.artipie.docker.Digest;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.fake.SigningStorage;
+import com.artipie.docker.misc.WorkPools;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link TieredBlobs}.
+ *
+ * @since 0.17
+ */
+final class TieredBlobsTest {
+
+    @Test
+    void servesBlobFromTierAfterFirstRead(final @TempDir Path dir) {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "layer".getBytes();
+        final BlobStore blobs = TieredBlobsTest.blobs(storage, dir);
+        final Digest digest = blobs.put(
+            new TrustedBlobSource(new Content.From(data), new Digest.Sha256(data))
+        ).toCompletableFuture().join().digest();
+        TieredBlobsTest.read(blobs.blob(digest).toCompletableFuture().join().get());
+        storage.delete(new BlobKey(digest)).join();
+        MatcherAssert.assertThat(
+            TieredBlobsTest.read(blobs.blob(digest).toCompletableFuture().join().get()),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void fallsBackToOriginWhenEvictedFromDisk(final @TempDir Path dir) throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "evicted".getBytes();
+        final BlobStore blobs = TieredBlobsTest.blobs(storage, dir);
+        final Digest digest = blobs.put(
+            new TrustedBlobSource(new Content.From(data), new Digest.Sha256(data))
+        ).toCompletableFuture().join().digest();
+        TieredBlobsTest.read(blobs.blob(digest).toCompletableFuture().join().get());
+        final Blob blob = blobs.blob(digest).toCompletableFuture().join().get();
+        Files.delete(dir.resolve(digest.alg()).resolve(digest.hex()));
+        MatcherAssert.assertThat(TieredBlobsTest.read(blob), new IsEqual<>(data));
+    }
+
+    @Test
+    void findsNothingForAbsentBlob(final @TempDir Path dir) {
+        MatcherAssert.assertThat(
+            TieredBlobsTest.blobs(new InMemoryStorage(), dir)
+                .blob(new Digest.Sha256("absent".getBytes()))
+                .toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void prefersTierToOriginRedirect(final @TempDir Path dir) {
+        final SigningStorage storage = new SigningStorage();
+        final byte[] data = "signed".getBytes();
+        final BlobStore blobs = new TieredBlobs(
+            new AstoBlobs(
+                storage, new DefaultLayout(), new RepoName.Simple("test"),
+                new BlobSizes(), Optional.of(storage)
+            ),
+            new HotTier(dir, 1024, Runnable::run)
+        );
+        final Digest digest = blobs.put(
+            new TrustedBlobSource(new Content.From(data), new Digest.Sha256(data))
+        ).toCompletableFuture().join().digest();
+        MatcherAssert.assertThat(
+            blobs.blob(digest).toCompletableFuture().join().get()
+                .location().toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void plugsIntoDocker(final @TempDir Path dir) {
+        final byte[] data = "docker".getBytes();
+        final HotTier tier = new HotTier(dir, 100, Runnable::run);
+        final AstoDocker docker = new AstoDocker(
+            new InMemoryStorage(), new DefaultLayout(), new UploadSessions(),
+            blobs -> new TieredBlobs(blobs, tier), new BlobSizes(), new WorkPools(),
+            Optional.empty()
+        );
+        final Digest digest = new Digest.Sha256(data);
+        final RepoName name = new RepoName.Simple("tiered");
+        docker.repo(name).layers()
+            .put(new TrustedBlobSource(new Content.From(data), digest))
+            .toCompletableFuture().join();
+        TieredBlobsTest.read(
+            docker.repo(name).layers().get(digest).toCompletableFuture().join().get()
+        );
+        MatcherAssert.assertThat(tier.size(), new IsEqual<>((long) data.length));
+    }
+
+    /**
+     * Create tiered blob store.
+     *
+     * @param storage Backing storage.
+     * @param dir Tier directory.
+     * @return Blob store.
+     */
+    private static BlobStore blobs(final Storage storage, final Path dir) {
+        return new TieredBlobs(
+            new AstoBlobs(storage, new DefaultLayout(), new RepoName.Simple("test")),
+            new HotTier(dir, 1024, Runnable::run)
+        );
+    }
+
+    /**
+     * Read blob content.
+     *
+     * @param blob Blob.
+     * @return Content bytes.
+     */
+    private static byte[] read(final Blob blob) {
+        return new PublisherAs(blob.content().toCompletableFuture().join())
+            .bytes().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Upload;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link UploadSessions}.
+ *
+ * @since 0.17
+ */
+final class UploadSessionsTest {
+
+    @Test
+    void loadsStateOnlyOnce() {
+        final UploadSessions sessions = new UploadSessions();
+        final AtomicInteger loads = new AtomicInteger();
+        final Key root = new Key.From("upload");
+        for (int idx = 0; idx < 3; idx += 1) {
+            sessions.state(
+                root,
+                () -> {
+                    loads.incrementAndGet();
+                    return CompletableFuture.completedFuture(Optional.of(new UploadState()));
+                }
+            ).toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(loads.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    void doesNotRememberAbsentUpload() {
+        final UploadSessions sessions = new UploadSessions();
+        final AtomicInteger loads = new AtomicInteger();
+        final Key root = new Key.From("absent");
+        for (int idx = 0; idx < 2; idx += 1) {
+            sessions.state(
+                root,
+                () -> {
+                    loads.incrementAndGet();
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+            ).toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(loads.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    void evictsWhenFull() {
+        final UploadSessions sessions = new UploadSessions(1);
+        sessions.update(new Key.From("one"), new UploadState());
+        sessions.update(new Key.From("two"), new UploadState());
+        MatcherAssert.assertThat(
+            sessions.state(
+                new Key.From("one"),
+                () -> CompletableFuture.completedFuture(Optional.empty())
+            ).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void uploadDoesNotListStorageWhenStateIsKnown() {
+        final CountingListStorage storage = new CountingListStorage();
+        final AstoUploads uploads = new AstoUploads(
+            storage, new DefaultLayout(), new RepoName.Simple("test"), new UploadSessions()
+        );
+        final Upload upload = uploads.start().toCompletableFuture().join();
+        uploads.get(upload.uuid()).toCompletableFuture().join().get()
+            .append(new Content.From("abc".getBytes())).toCompletableFuture().join();
+        uploads.get(upload.uuid()).toCompletableFuture().join().get()
+            .offset().toCompletableFuture().join();
+        MatcherAssert.assertThat(storage.lists.get(), new IsEqual<>(0));
+    }
+
+    @Test
+    void restoresStateFromStorage() {
+        final Storage storage = new InMemoryStorage();
+        final RepoName name = new RepoName.Simple("test");
+        final Upload upload = new AstoUploads(storage, new DefaultLayout(), name)
+            .start().toCompletableFuture().join();
+        upload.append(new Content.From("12345".getBytes())).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new AstoUploads(storage, new DefaultLayout(), name, new UploadSessions())
+                .get(upload.uuid()).toCompletableFuture().join().get()
+                .offset().toCompletableFuture().join(),
+            new IsEqual<>(4L)
+        );
+    }
+
+    /**
+     * Storage counting list operations.
+     *
+     * @since 0.17
+     */
+    private static final class CountingListStorage implements Storage {
+
+        /**
+         * Origin storage.
+         */
+        private final Storage origin = new InMemoryStorage();
+
+        /**
+         * Number of list operations.
+         */
+        private final AtomicInteger lists = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<Boolean> exists(final Key key) {
+            return this.origin.exists(key);
+        }
+
+        @Override
+        public CompletableFuture<Collection<Key>> list(final Key prefix) {
+            this.lists.incrementAndGet();
+            return this.origin.list(prefix);
+        }
+
+        @Override
+        public CompletableFuture<Void> save(final Key key, final Content content) {
+            return this.origin.save(key, content);
+        }
+
+        @Override
+        public CompletableFuture<Void> move(final Key source, final Key destination) {
+            return this.origin.move(source, destination);
+        }
+
+        @Override
+        public CompletableFuture<Long> size(final Key key) {
+            return this.origin.size(key);
+        }
+
+        @Override
+        public CompletableFuture<Content> value(final Key key) {
+            return this.origin.value(key);
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(final Key key) {
+            return this.origin.delete(key);
+        }
+
+        @Override
+        public <T> CompletionStage<T> exclusively(
+            final Key key,
+            final Function<Storage, CompletionStage<T>> operation
+        ) {
+            return this.origin.exclusively(key, operation);
+        }
+    }
+}
@@ -6,6 +6,8 @@ package com.artipie.docker.cache;
 
 import com.artipie.docker.Digest;
 import com.artipie.docker.fake.FakeLayers;
+import com.artipie.docker.metrics.CacheMetrics;
+import com.artipie.docker.metrics.Metrics;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -42,4 +44,20 @@ final class CacheLayersTest {
             new IsEqual<>(expected)
         );
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "full,HIT",
+        "empty,MISS",
+        "faulty,MISS"
+    })
+    void shouldRecordCacheEvent(final String cache, final CacheMetrics.Event event) {
+        final CacheMetrics metrics = new CacheMetrics(new Metrics());
+        new CacheLayers(new FakeLayers("full"), new FakeLayers(cache), metrics)
+            .get(new Digest.FromString("123")).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            metrics.count(CacheMetrics.Entity.LAYER, event),
+            new IsEqual<>(1L)
+        );
+    }
 }
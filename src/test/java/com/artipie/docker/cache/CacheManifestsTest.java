@@ -20,6 +20,8 @@ import com.artipie.docker.asto.AstoDocker;
 import com.artipie.docker.fake.FakeManifests;
 import com.artipie.docker.fake.FullTagsManifests;
 import com.artipie.docker.manifest.Manifest;
+import com.artipie.docker.metrics.CacheMetrics;
+import com.artipie.docker.metrics.Metrics;
 import com.artipie.docker.ref.ManifestRef;
 import com.google.common.base.Stopwatch;
 import java.util.Optional;
@@ -101,6 +103,47 @@ final class CacheManifestsTest {
         );
     }
 
+    @Test
+    void shouldRecordCacheEvents() throws Exception {
+        final CacheMetrics metrics = new CacheMetrics(new Metrics());
+        final ManifestRef ref = new ManifestRef.FromTag(new Tag.Valid("1"));
+        final Repo cache = new AstoDocker(new InMemoryStorage())
+            .repo(new RepoName.Simple("my-cache"));
+        new CacheManifests(
+            new RepoName.Simple("cache-test"),
+            new AstoDocker(new ExampleStorage()).repo(new RepoName.Simple("my-alpine")),
+            cache,
+            metrics
+        ).get(ref).toCompletableFuture().join();
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        while (metrics.count(CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.FILL) == 0
+            && stopwatch.elapsed(TimeUnit.SECONDS) < 10) {
+            final int pause = 100;
+            Thread.sleep(pause);
+        }
+        MatcherAssert.assertThat(
+            "Records manifest fill",
+            metrics.count(CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.FILL),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Records config and layer fills",
+            metrics.count(CacheMetrics.Entity.LAYER, CacheMetrics.Event.FILL),
+            new IsEqual<>(2L)
+        );
+        new CacheManifests(
+            new RepoName.Simple("cache-test"),
+            new SimpleRepo(new FakeManifests("empty", "origin")),
+            cache,
+            metrics
+        ).get(ref).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Records hit when origin has no manifest",
+            metrics.count(CacheMetrics.Entity.MANIFEST, CacheMetrics.Event.HIT),
+            new IsEqual<>(1L)
+        );
+    }
+
     @Test
     void loadsTagsFromOriginAndCache() {
         final int limit = 3;
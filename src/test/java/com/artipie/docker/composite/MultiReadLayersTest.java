@@ -4,11 +4,25 @@
  */
 package com.artipie.docker.composite;
 
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.docker.Digest;
+import com.artipie.docker.Layers;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.asto.AstoBlobs;
+import com.artipie.docker.asto.AstoLayers;
+import com.artipie.docker.asto.DefaultLayout;
+import com.artipie.docker.asto.TrustedBlobSource;
+import com.artipie.docker.fake.Conditions;
 import com.artipie.docker.fake.FakeLayers;
+import com.artipie.docker.fake.Latency;
+import com.artipie.docker.fake.SlowStorage;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -16,6 +30,7 @@ import org.junit.jupiter.params.provider.CsvSource;
  * Tests for {@link MultiReadLayers}.
  *
  * @since 0.3
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
 final class MultiReadLayersTest {
     @ParameterizedTest
@@ -41,4 +56,37 @@ final class MultiReadLayersTest {
             new IsEqual<>(present)
         );
     }
+
+    @Test
+    void shouldNotWaitForSlowLayers() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final Layers fast = MultiReadLayersTest.layers(storage);
+        final Digest digest = fast.put(new TrustedBlobSource("layer".getBytes()))
+            .toCompletableFuture().join().digest();
+        MatcherAssert.assertThat(
+            new MultiReadLayers(
+                Arrays.asList(
+                    MultiReadLayersTest.layers(
+                        new SlowStorage(
+                            storage, new Conditions(new Latency.Fixed(Duration.ofMinutes(1)))
+                        )
+                    ),
+                    fast
+                )
+            ).get(digest).toCompletableFuture().get(5, TimeUnit.SECONDS).isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    /**
+     * Layers in storage.
+     *
+     * @param storage Storage.
+     * @return Layers.
+     */
+    private static Layers layers(final Storage storage) {
+        return new AstoLayers(
+            new AstoBlobs(storage, new DefaultLayout(), new RepoName.Simple("any"))
+        );
+    }
 }
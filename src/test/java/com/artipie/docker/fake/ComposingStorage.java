@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.asto.ComposableStorage;
+import java.io.ByteArrayOutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-memory storage composing values from parts on storage side.
+ * Stands in for object store with native compose operation.
+ *
+ * @since 0.17
+ */
+public final class ComposingStorage implements ComposableStorage {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Number of compose operations performed.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Ctor.
+     */
+    public ComposingStorage() {
+        this(new InMemoryStorage());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin storage.
+     */
+    public ComposingStorage(final Storage origin) {
+        this.origin = origin;
+        this.count = new AtomicInteger();
+    }
+
+    @Override
+    public CompletableFuture<Void> compose(final List<Key> parts, final Key target) {
+        this.count.incrementAndGet();
+        CompletableFuture<ByteArrayOutputStream> result = CompletableFuture.completedFuture(
+            new ByteArrayOutputStream()
+        );
+        for (final Key part : parts) {
+            result = result.thenCompose(
+                out -> this.origin.value(part)
+                    .thenApply(PublisherAs::new)
+                    .thenCompose(PublisherAs::bytes)
+                    .thenApply(
+                        bytes -> {
+                            out.write(bytes, 0, bytes.length);
+                            return out;
+                        }
+                    )
+            );
+        }
+        return result.thenCompose(
+            out -> this.origin.save(target, new Content.From(out.toByteArray()))
+        );
+    }
+
+    /**
+     * Number of compose operations performed.
+     *
+     * @return Count.
+     */
+    public int composed() {
+        return this.count.get();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.origin.exists(key);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.origin.save(key, content);
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.origin.move(source, destination);
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.origin.size(key);
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.origin.value(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(key, operation);
+    }
+}
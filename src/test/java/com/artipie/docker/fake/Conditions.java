@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+
+/**
+ * Conditions of slow and unreliable remote service: latency before every call,
+ * bandwidth cap on transferred content, timeout and rate of failed calls.
+ * Calls with drawn latency over the timeout fail with {@link TimeoutException}
+ * when timeout elapses. Random draws are seeded, so runs are repeatable.
+ *
+ * @since 0.17
+ */
+public final class Conditions {
+
+    /**
+     * Latency distribution.
+     */
+    private final Latency latency;
+
+    /**
+     * Bandwidth in bytes per second, not capped if not positive.
+     */
+    private final long bandwidth;
+
+    /**
+     * Timeout in nanoseconds, no timeout if not positive.
+     */
+    private final long timeout;
+
+    /**
+     * Probability of failed call, from 0 to 1.
+     */
+    private final double errors;
+
+    /**
+     * Source of randomness.
+     */
+    private final Random random;
+
+    /**
+     * Ctor.
+     *
+     * @param latency Latency distribution.
+     */
+    public Conditions(final Latency latency) {
+        this(latency, 0, Duration.ZERO, 0, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param latency Latency distribution.
+     * @param bandwidth Bandwidth in bytes per second, not capped if not positive.
+     * @param timeout Timeout, no timeout if zero.
+     * @param errors Probability of failed call, from 0 to 1.
+     * @param seed Random seed.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Conditions(final Latency latency, final long bandwidth, final Duration timeout,
+        final double errors, final long seed) {
+        this.latency = latency;
+        this.bandwidth = bandwidth;
+        this.timeout = timeout.toNanos();
+        this.errors = errors;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Make call after drawn latency, or produce fault instead.
+     *
+     * @param call Call to make.
+     * @param fault Result of failed call.
+     * @param <T> Result type.
+     * @return Future of call or fault result.
+     */
+    public <T> CompletableFuture<T> apply(
+        final Supplier<? extends CompletionStage<T>> call,
+        final Supplier<? extends CompletionStage<T>> fault
+    ) {
+        final long delay = this.latency.nanos(this.random);
+        final boolean failed = this.random.nextDouble() < this.errors;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        if (this.timeout > 0 && delay >= this.timeout) {
+            Schedulers.computation().scheduleDirect(
+                () -> result.completeExceptionally(
+                    new TimeoutException(
+                        String.format("Timed out after %d ms", this.timeout / 1_000_000)
+                    )
+                ),
+                this.timeout, TimeUnit.NANOSECONDS
+            );
+        } else {
+            Schedulers.computation().scheduleDirect(
+                () -> {
+                    final Supplier<? extends CompletionStage<T>> next;
+                    if (failed) {
+                        next = fault;
+                    } else {
+                        next = call;
+                    }
+                    next.get().whenComplete(
+                        (res, err) -> {
+                            if (err == null) {
+                                result.complete(res);
+                            } else {
+                                result.completeExceptionally(err);
+                            }
+                        }
+                    );
+                },
+                Math.max(delay, 0), TimeUnit.NANOSECONDS
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Pace content to bandwidth cap: every buffer is passed on
+     * after the time its transfer takes.
+     *
+     * @param content Content.
+     * @return Content paced to bandwidth.
+     */
+    public Publisher<ByteBuffer> throttled(final Publisher<ByteBuffer> content) {
+        final Publisher<ByteBuffer> result;
+        if (this.bandwidth > 0) {
+            result = Flowable.fromPublisher(content).concatMap(
+                buf -> Flowable.just(buf).delay(
+                    buf.remaining() * TimeUnit.SECONDS.toNanos(1) / this.bandwidth,
+                    TimeUnit.NANOSECONDS
+                )
+            );
+        } else {
+            result = content;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clock which time is moved forward manually.
+ *
+ * @since 0.17
+ */
+public final class FakeClock extends Clock {
+
+    /**
+     * Current time.
+     */
+    private final AtomicReference<Instant> now;
+
+    /**
+     * Ctor.
+     */
+    public FakeClock() {
+        this.now = new AtomicReference<>(Instant.EPOCH);
+    }
+
+    /**
+     * Move time forward.
+     *
+     * @param duration Duration to move by.
+     */
+    public void advance(final Duration duration) {
+        this.now.updateAndGet(time -> time.plus(duration));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return this.now.get();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Distribution of injected latency.
+ *
+ * @since 0.17
+ */
+public interface Latency {
+
+    /**
+     * Draw next latency.
+     *
+     * @param random Source of randomness.
+     * @return Latency in nanoseconds.
+     */
+    long nanos(Random random);
+
+    /**
+     * Same latency every time.
+     *
+     * @since 0.17
+     */
+    final class Fixed implements Latency {
+
+        /**
+         * Latency in nanoseconds.
+         */
+        private final long value;
+
+        /**
+         * Ctor.
+         *
+         * @param value Latency.
+         */
+        public Fixed(final Duration value) {
+            this.value = value.toNanos();
+        }
+
+        @Override
+        public long nanos(final Random random) {
+            return this.value;
+        }
+    }
+
+    /**
+     * Latency uniformly distributed between bounds, like jitter on local network.
+     *
+     * @since 0.17
+     */
+    final class Uniform implements Latency {
+
+        /**
+         * Lower bound in nanoseconds.
+         */
+        private final long min;
+
+        /**
+         * Upper bound in nanoseconds.
+         */
+        private final long max;
+
+        /**
+         * Ctor.
+         *
+         * @param min Lower bound.
+         * @param max Upper bound.
+         */
+        public Uniform(final Duration min, final Duration max) {
+            this.min = min.toNanos();
+            this.max = max.toNanos();
+        }
+
+        @Override
+        public long nanos(final Random random) {
+            return this.min + (long) (random.nextDouble() * (this.max - this.min));
+        }
+    }
+
+    /**
+     * Log-normally distributed latency with long tail,
+     * the way object stores and remote registries respond:
+     * most requests take about median, few take many times longer.
+     *
+     * @since 0.17
+     */
+    final class LogNormal implements Latency {
+
+        /**
+         * Median in nanoseconds.
+         */
+        private final long median;
+
+        /**
+         * Standard deviation of latency logarithm.
+         */
+        private final double sigma;
+
+        /**
+         * Ctor.
+         *
+         * @param median Median latency.
+         * @param sigma Standard deviation of latency logarithm,
+         *  1.0 puts 99th percentile at about ten medians.
+         */
+        public LogNormal(final Duration median, final double sigma) {
+            this.median = median.toNanos();
+            this.sigma = sigma;
+        }
+
+        @Override
+        public long nanos(final Random random) {
+            return (long) (this.median * Math.exp(this.sigma * random.nextGaussian()));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.asto.SignedUrlStorage;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithStatus;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * In-memory storage issuing HMAC-signed URLs for its values.
+ * Stands in for object store with pre-signed URLs:
+ * {@link #slice()} serves values by issued URLs, rejecting expired or tampered ones.
+ *
+ * @since 0.17
+ */
+public final class SigningStorage implements SignedUrlStorage {
+
+    /**
+     * Signed URL path pattern.
+     */
+    private static final Pattern PATH = Pattern.compile(
+        "^/signed/(?<key>[^?]+)\\?expires=(?<expires>\\d+)&signature=(?<signature>[0-9a-f]+)$"
+    );
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Base URI of served URLs.
+     */
+    private final String base;
+
+    /**
+     * Signing secret.
+     */
+    private final byte[] secret;
+
+    /**
+     * Time to live of issued URLs.
+     */
+    private final Duration ttl;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Ctor.
+     */
+    public SigningStorage() {
+        this(new InMemoryStorage(), Duration.ofMinutes(1), Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin storage.
+     * @param ttl Time to live of issued URLs.
+     * @param clock Clock.
+     */
+    public SigningStorage(final Storage origin, final Duration ttl, final Clock clock) {
+        this.origin = origin;
+        this.base = "http://localhost";
+        this.secret = "stand-in-secret".getBytes(StandardCharsets.US_ASCII);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public CompletableFuture<URI> url(final Key key) {
+        final long expires = this.clock.instant().plus(this.ttl).getEpochSecond();
+        return CompletableFuture.completedFuture(
+            URI.create(
+                String.format(
+                    "%s/signed/%s?expires=%d&signature=%s",
+                    this.base, key.string(), expires, this.sign(key.string(), expires)
+                )
+            )
+        );
+    }
+
+    /**
+     * Slice serving values by signed URLs.
+     *
+     * @return Slice.
+     */
+    public Slice slice() {
+        return (line, headers, body) -> {
+            final URI uri = new RequestLineFrom(line).uri();
+            final Matcher matcher = SigningStorage.PATH.matcher(
+                String.format("%s?%s", uri.getPath(), uri.getQuery())
+            );
+            final Response result;
+            if (matcher.matches() && this.valid(matcher)) {
+                result = new AsyncResponse(
+                    this.origin.value(new Key.From(matcher.group("key"))).thenApply(
+                        content -> new RsWithBody(new RsWithStatus(RsStatus.OK), content)
+                    )
+                );
+            } else {
+                result = new RsWithStatus(RsStatus.FORBIDDEN);
+            }
+            return result;
+        };
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.origin.exists(key);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.origin.save(key, content);
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.origin.move(source, destination);
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.origin.size(key);
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.origin.value(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(key, operation);
+    }
+
+    /**
+     * Check signed URL is not expired and signature matches.
+     *
+     * @param matcher Matched URL.
+     * @return True if URL is valid.
+     */
+    private boolean valid(final Matcher matcher) {
+        final long expires = Long.parseLong(matcher.group("expires"));
+        return expires >= this.clock.instant().getEpochSecond()
+            && MessageDigest.isEqual(
+                this.sign(matcher.group("key"), expires).getBytes(StandardCharsets.US_ASCII),
+                matcher.group("signature").getBytes(StandardCharsets.US_ASCII)
+            );
+    }
+
+    /**
+     * Sign key with expiration time.
+     *
+     * @param key Key string.
+     * @param expires Expiration time in epoch seconds.
+     * @return Signature hex.
+     */
+    private String sign(final String key, final long expires) {
+        try {
+            final Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(this.secret, "HmacSHA256"));
+            return Hex.encodeHexString(
+                mac.doFinal(String.format("%s:%d", key, expires).getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+
+/**
+ * Upstream registry reached over slow and unreliable network under given {@link Conditions}:
+ * every response is delayed, may time out or be replaced with 503 status,
+ * response body is received no faster than bandwidth allows.
+ *
+ * @since 0.17
+ */
+public final class SlowSlice implements Slice {
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Conditions.
+     */
+    private final Conditions conditions;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin slice.
+     * @param conditions Conditions.
+     */
+    public SlowSlice(final Slice origin, final Conditions conditions) {
+        this.origin = origin;
+        this.conditions = conditions;
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        return new AsyncResponse(
+            this.conditions.<Response>apply(
+                () -> CompletableFuture.completedFuture(
+                    connection -> this.origin.response(line, headers, body).send(
+                        (status, rsheaders, rsbody) -> connection.accept(
+                            status, rsheaders, this.conditions.throttled(rsbody)
+                        )
+                    )
+                ),
+                () -> CompletableFuture.completedFuture(new RsWithStatus(RsStatus.UNAVAILABLE))
+            )
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.fake;
+
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.asto.Content;
+import com.artipie.asto.FailedCompletionStage;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Storage behaving like remote object store under given {@link Conditions}:
+ * every operation is delayed, may time out or fail with {@link ArtipieIOException},
+ * values are read and saved content is consumed no faster than bandwidth allows.
+ *
+ * @since 0.17
+ */
+public final class SlowStorage implements Storage {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Conditions.
+     */
+    private final Conditions conditions;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin storage.
+     * @param conditions Conditions.
+     */
+    public SlowStorage(final Storage origin, final Conditions conditions) {
+        this.origin = origin;
+        this.conditions = conditions;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.slow(() -> this.origin.exists(key));
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.slow(() -> this.origin.list(prefix));
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.slow(
+            () -> this.origin.save(
+                key, new Content.From(content.size(), this.conditions.throttled(content))
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.slow(() -> this.origin.move(source, destination));
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.slow(() -> this.origin.size(key));
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.slow(
+            () -> this.origin.value(key).thenApply(
+                content -> new Content.From(content.size(), this.conditions.throttled(content))
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.slow(() -> this.origin.delete(key));
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(
+            key, storage -> operation.apply(new SlowStorage(storage, this.conditions))
+        );
+    }
+
+    /**
+     * Call origin storage under conditions.
+     *
+     * @param call Call of origin storage operation.
+     * @param <T> Result type.
+     * @return Future of operation result.
+     */
+    private <T> CompletableFuture<T> slow(final Supplier<CompletableFuture<T>> call) {
+        return this.conditions.apply(
+            call,
+            () -> new FailedCompletionStage<>(new ArtipieIOException("Injected storage fault"))
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link ApiRequest}.
+ *
+ * @since 0.17
+ */
+final class ApiRequestTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "/v2/,BASE",
+        "/v2/_catalog,CATALOG",
+        "/v2/my-repo/manifests/1.0,MANIFEST",
+        "/v2/my-repo/tags/list,TAGS",
+        "/v2/my-repo/blobs/sha256:123,BLOB",
+        "/v2/my-repo/blobs/uploads/,UPLOAD",
+        "/v2/my-repo/blobs/uploads/123,UPLOAD",
+        "/v2/my-repo/blobs/uploads/123/,UPLOAD",
+        "/v2/my-repo/blobs/uploads/123/more,UNKNOWN",
+        "/v2/my-repo/blobs/uploads/123/more/,UNKNOWN",
+        "/v2/blobs/uploads/manifests/x/blobs/y,MANIFEST",
+        "/v2/a/manifests/x/tags/list,MANIFEST",
+        "/v2/a/blobs/x/blobs/uploads/,BLOB",
+        "/v2/my-repo,UNKNOWN",
+        "/v2/manifests/1.0,UNKNOWN",
+        "/v3/my-repo/manifests/1.0,UNKNOWN",
+        "/,UNKNOWN"
+    })
+    void recognizesKind(final String path, final ApiRequest.Kind kind) {
+        MatcherAssert.assertThat(
+            new ApiRequest(new RequestLine(RqMethod.GET, path).toString()).kind(),
+            new IsEqual<>(kind)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/v2/my-repo/manifests/1.0,my-repo,1.0",
+        "/v2/my/deep/repo/manifests/sha256:123,my/deep/repo,sha256:123",
+        "/v2/my-repo/blobs/sha256:123,my-repo,sha256:123",
+        "/v2/my-repo/blobs/uploads/abc-123/,my-repo,abc-123",
+        "/v2/one/two/blobs/uploads/abc,one/two,abc"
+    })
+    void readsNameAndReference(final String path, final String name, final String ref) {
+        final ApiRequest request = new ApiRequest(new RequestLine(RqMethod.GET, path).toString());
+        MatcherAssert.assertThat(
+            "Reads name",
+            request.name().value(),
+            new IsEqual<>(name)
+        );
+        MatcherAssert.assertThat(
+            "Reads reference",
+            request.reference(),
+            new IsEqual<>(ref)
+        );
+    }
+
+    @Test
+    void readsTagsRepoName() {
+        MatcherAssert.assertThat(
+            new ApiRequest(
+                new RequestLine(RqMethod.GET, "/v2/my/repo/tags/list?n=10").toString()
+            ).name().value(),
+            new IsEqual<>("my/repo")
+        );
+    }
+
+    @Test
+    void readsQuery() {
+        MatcherAssert.assertThat(
+            new ApiRequest(
+                new RequestLine(RqMethod.GET, "/v2/_catalog?n=10&last=foo").toString()
+            ).params().value("last").get(),
+            new IsEqual<>("foo")
+        );
+    }
+
+    @Test
+    void failsToReadNameOfUnknownPath() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new ApiRequest(new RequestLine(RqMethod.GET, "/v2/_catalog").toString())
+                    .name()
+            ).getMessage(),
+            new StringContains(false, "Unexpected path")
+        );
+    }
+}
@@ -66,7 +66,8 @@ class BlobEntityGetTest {
                 new BlockingStorage(new ExampleStorage()).value(expected),
                 new Header("Content-Length", "2803255"),
                 new Header("Docker-Content-Digest", digest),
-                new Header("Content-Type", "application/octet-stream")
+                new Header("Content-Type", "application/octet-stream"),
+                new ImmutableHeader()
             )
         );
     }
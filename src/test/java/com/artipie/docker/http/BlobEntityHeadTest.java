@@ -59,7 +59,8 @@ class BlobEntityHeadTest {
                 RsStatus.OK,
                 new Header("Content-Length", "2803255"),
                 new Header("Docker-Content-Digest", digest),
-                new Header("Content-Type", "application/octet-stream")
+                new Header("Content-Type", "application/octet-stream"),
+                new ImmutableHeader()
             )
         );
     }
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.BlobSizes;
+import com.artipie.docker.asto.DefaultLayout;
+import com.artipie.docker.asto.SignedUrlStorage;
+import com.artipie.docker.asto.TrustedBlobSource;
+import com.artipie.docker.asto.UploadSessions;
+import com.artipie.docker.fake.Conditions;
+import com.artipie.docker.fake.Latency;
+import com.artipie.docker.fake.SigningStorage;
+import com.artipie.docker.fake.SlowStorage;
+import com.artipie.docker.misc.WorkPools;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DockerSlice}.
+ * Blob Get endpoint redirecting to signed URLs.
+ *
+ * @since 0.17
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class BlobEntityRedirectTest {
+
+    /**
+     * Blob data.
+     */
+    private static final byte[] DATA = "signed layer".getBytes();
+
+    @Test
+    void redirectsToSignedUrl() {
+        final SigningStorage storage = new SigningStorage();
+        final URI location = BlobEntityRedirectTest.location(storage);
+        MatcherAssert.assertThat(
+            storage.slice().response(
+                new RequestLine(RqMethod.GET, location.toString()).toString(),
+                Headers.EMPTY, Flowable.empty()
+            ),
+            new RsHasBody(BlobEntityRedirectTest.DATA)
+        );
+    }
+
+    @Test
+    void rejectsExpiredUrl() {
+        final SigningStorage storage = new SigningStorage(
+            new InMemoryStorage(), Duration.ofMinutes(-1), Clock.systemUTC()
+        );
+        MatcherAssert.assertThat(
+            storage.slice().response(
+                new RequestLine(
+                    RqMethod.GET, BlobEntityRedirectTest.location(storage).toString()
+                ).toString(),
+                Headers.EMPTY, Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.FORBIDDEN)
+        );
+    }
+
+    @Test
+    void rejectsTamperedUrl() {
+        final SigningStorage storage = new SigningStorage();
+        MatcherAssert.assertThat(
+            storage.slice().response(
+                new RequestLine(
+                    RqMethod.GET,
+                    BlobEntityRedirectTest.location(storage).toString()
+                        .replaceFirst("expires=\\d", "expires=9")
+                ).toString(),
+                Headers.EMPTY, Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.FORBIDDEN)
+        );
+    }
+
+    @Test
+    void redirectsThroughWrappedStorage() {
+        final SigningStorage storage = new SigningStorage();
+        final URI location = BlobEntityRedirectTest.location(
+            new SlowStorage(storage, new Conditions(new Latency.Fixed(Duration.ZERO))), storage
+        );
+        MatcherAssert.assertThat(
+            storage.slice().response(
+                new RequestLine(RqMethod.GET, location.toString()).toString(),
+                Headers.EMPTY, Flowable.empty()
+            ),
+            new RsHasBody(BlobEntityRedirectTest.DATA)
+        );
+    }
+
+    @Test
+    void servesContentWithoutUrlIssuer() {
+        final AstoDocker docker = new AstoDocker(new SigningStorage());
+        final Digest digest = BlobEntityRedirectTest.push(docker);
+        MatcherAssert.assertThat(
+            new DockerSlice(docker).response(
+                new RequestLine(
+                    RqMethod.GET, String.format("/v2/test/blobs/%s", digest.string())
+                ).toString(),
+                Headers.EMPTY,
+                Flowable.empty()
+            ),
+            new RsHasBody(BlobEntityRedirectTest.DATA)
+        );
+    }
+
+    /**
+     * Push blob and request it, expecting redirect.
+     *
+     * @param storage Storage.
+     * @return Redirect location.
+     */
+    private static URI location(final SigningStorage storage) {
+        return BlobEntityRedirectTest.location(storage, storage);
+    }
+
+    /**
+     * Push blob and request it, expecting redirect.
+     *
+     * @param asto Storage blobs are accessed through.
+     * @param urls Issuer of download URLs.
+     * @return Redirect location.
+     */
+    private static URI location(final Storage asto, final SignedUrlStorage urls) {
+        final AstoDocker docker = new AstoDocker(
+            asto, new DefaultLayout(), new UploadSessions(), UnaryOperator.identity(),
+            new BlobSizes(), new WorkPools(), Optional.of(urls)
+        );
+        final Digest digest = BlobEntityRedirectTest.push(docker);
+        final AtomicReference<RsStatus> status = new AtomicReference<>();
+        final AtomicReference<String> location = new AtomicReference<>();
+        new DockerSlice(docker).response(
+            new RequestLine(
+                RqMethod.GET, String.format("/v2/test/blobs/%s", digest.string())
+            ).toString(),
+            Headers.EMPTY,
+            Flowable.empty()
+        ).send(
+            (rsstatus, headers, body) -> {
+                status.set(rsstatus);
+                StreamSupport.stream(headers.spliterator(), false)
+                    .filter(header -> "Location".equalsIgnoreCase(header.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .ifPresent(location::set);
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(status.get(), new IsEqual<>(RsStatus.TEMPORARY_REDIRECT));
+        return URI.create(location.get());
+    }
+
+    /**
+     * Push blob to registry.
+     *
+     * @param docker Registry.
+     * @return Blob digest.
+     */
+    private static Digest push(final AstoDocker docker) {
+        final Digest digest = new Digest.Sha256(BlobEntityRedirectTest.DATA);
+        docker.repo(new RepoName.Simple("test")).layers().put(
+            new TrustedBlobSource(new Content.From(BlobEntityRedirectTest.DATA), digest)
+        ).toCompletableFuture().join();
+        return digest;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.ExampleStorage;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.fake.FakeClock;
+import com.artipie.http.Headers;
+import com.artipie.http.auth.AuthScheme;
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.auth.BasicAuthScheme;
+import com.artipie.http.headers.Authorization;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CachedAuthScheme}.
+ *
+ * @since 0.17
+ */
+final class CachedAuthSchemeTest {
+
+    /**
+     * Authentication scheme counting authentications.
+     */
+    private Counting origin;
+
+    /**
+     * Clock.
+     */
+    private FakeClock clock;
+
+    /**
+     * Scheme being tested.
+     */
+    private CachedAuthScheme scheme;
+
+    @BeforeEach
+    void setUp() {
+        this.origin = new Counting(new BasicAuthScheme(new TestAuthentication()));
+        this.clock = new FakeClock();
+        this.scheme = new CachedAuthScheme(this.origin, Duration.ofMinutes(1), 10, this.clock);
+    }
+
+    @Test
+    void authenticatesLayersPullOnce() {
+        final DockerSlice slice = new DockerSlice(
+            new AstoDocker(new ExampleStorage()),
+            new CachedPermissions((user, action) -> TestAuthentication.ALICE.name().equals(user.name())),
+            this.scheme
+        );
+        final String line = new RequestLine(
+            RqMethod.HEAD,
+            "/v2/test/blobs/sha256:aad63a9339440e7c3e1fff2b988991b9bfb81280042fa7f39a5e327023056819"
+        ).toString();
+        for (int idx = 0; idx < 50; idx += 1) {
+            MatcherAssert.assertThat(
+                slice.response(line, TestAuthentication.ALICE.headers(), Flowable.empty()),
+                new RsHasStatus(RsStatus.OK)
+            );
+        }
+        MatcherAssert.assertThat(this.origin.count.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    void distinguishesCredentials() {
+        this.authenticate(TestAuthentication.ALICE);
+        MatcherAssert.assertThat(
+            this.authenticate(TestAuthentication.BOB),
+            new IsEqual<>(TestAuthentication.BOB.name())
+        );
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        final TestAuthentication.User chuck = new TestAuthentication.User("chuck", "letmein");
+        this.authenticate(chuck);
+        this.authenticate(chuck);
+        MatcherAssert.assertThat(this.origin.count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    void expires() {
+        this.authenticate(TestAuthentication.ALICE);
+        this.clock.advance(Duration.ofMinutes(1));
+        this.authenticate(TestAuthentication.ALICE);
+        MatcherAssert.assertThat(this.origin.count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    void expiresWithToken() throws NoSuchAlgorithmException {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair keys = gen.generateKeyPair();
+        final CachedAuthScheme cached = new CachedAuthScheme(
+            new JwtAuthScheme(keys.getPublic(), "test", "registry", "http://x", this.clock),
+            Duration.ofMinutes(10),
+            10,
+            this.clock
+        );
+        final Headers headers = new Headers.From(
+            new Authorization.Bearer(
+                new JwtIssuer(
+                    keys.getPrivate(), "test", "registry", Duration.ofMinutes(1), this.clock
+                ).token("alice", Collections.emptyList()).getString("token")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Token is not authenticated",
+            cached.authenticate(headers).toCompletableFuture().join().user().isPresent(),
+            new IsEqual<>(true)
+        );
+        this.clock.advance(Duration.ofMinutes(2));
+        MatcherAssert.assertThat(
+            "Expired token is authenticated from cache",
+            cached.authenticate(headers).toCompletableFuture().join().user().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void invalidates() {
+        this.authenticate(TestAuthentication.ALICE);
+        this.scheme.invalidate();
+        this.authenticate(TestAuthentication.ALICE);
+        MatcherAssert.assertThat(this.origin.count.get(), new IsEqual<>(2));
+    }
+
+    /**
+     * Authenticate user with cached scheme.
+     *
+     * @param user User.
+     * @return Authenticated user name, empty if not authenticated.
+     */
+    private String authenticate(final TestAuthentication.User user) {
+        return this.scheme.authenticate(user.headers()).toCompletableFuture().join()
+            .user().map(Authentication.User::name).orElse("");
+    }
+
+    /**
+     * Authentication scheme counting authentications.
+     *
+     * @since 0.17
+     */
+    private static final class Counting implements AuthScheme {
+
+        /**
+         * Origin scheme.
+         */
+        private final AuthScheme origin;
+
+        /**
+         * Number of authentications.
+         */
+        private final AtomicInteger count;
+
+        /**
+         * Ctor.
+         *
+         * @param origin Origin scheme.
+         */
+        Counting(final AuthScheme origin) {
+            this.origin = origin;
+            this.count = new AtomicInteger();
+        }
+
+        @Override
+        public CompletionStage<Result> authenticate(
+            final Iterable<Map.Entry<String, String>> headers
+        ) {
+            this.count.incrementAndGet();
+            return this.origin.authenticate(headers);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.fake.FakeClock;
+import com.artipie.http.auth.Authentication;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CachedPermissions}.
+ *
+ * @since 0.17
+ */
+final class CachedPermissionsTest {
+
+    /**
+     * Alice.
+     */
+    private static final Authentication.User ALICE = new Authentication.User("alice");
+
+    /**
+     * Bob.
+     */
+    private static final Authentication.User BOB = new Authentication.User("bob");
+
+    /**
+     * Checks performed by origin permissions.
+     */
+    private List<String> checks;
+
+    /**
+     * Clock.
+     */
+    private FakeClock clock;
+
+    /**
+     * Permissions being tested.
+     */
+    private CachedPermissions perms;
+
+    @BeforeEach
+    void setUp() {
+        this.checks = new ArrayList<>(0);
+        this.clock = new FakeClock();
+        this.perms = new CachedPermissions(
+            (user, action) -> {
+                this.checks.add(String.format("%s %s", user.name(), action));
+                return "alice".equals(user.name());
+            },
+            Duration.ofMinutes(1),
+            10,
+            this.clock
+        );
+    }
+
+    @Test
+    void remembersDecisions() {
+        for (int idx = 0; idx < 3; idx += 1) {
+            MatcherAssert.assertThat(
+                "Allows Alice",
+                this.perms.allowed(CachedPermissionsTest.ALICE, "pull"),
+                new IsEqual<>(true)
+            );
+            MatcherAssert.assertThat(
+                "Denies Bob",
+                this.perms.allowed(CachedPermissionsTest.BOB, "pull"),
+                new IsEqual<>(false)
+            );
+        }
+        MatcherAssert.assertThat(this.checks, Matchers.contains("alice pull", "bob pull"));
+    }
+
+    @Test
+    void distinguishesActions() {
+        this.perms.allowed(CachedPermissionsTest.ALICE, "pull");
+        this.perms.allowed(CachedPermissionsTest.ALICE, "push");
+        MatcherAssert.assertThat(this.checks, Matchers.contains("alice pull", "alice push"));
+    }
+
+    @Test
+    void expires() {
+        this.perms.allowed(CachedPermissionsTest.ALICE, "pull");
+        this.clock.advance(Duration.ofMinutes(2));
+        this.perms.allowed(CachedPermissionsTest.ALICE, "pull");
+        MatcherAssert.assertThat(this.checks, Matchers.hasSize(2));
+    }
+
+    @Test
+    void invalidatesUser() {
+        this.perms.allowed(CachedPermissionsTest.ALICE, "pull");
+        this.perms.allowed(CachedPermissionsTest.BOB, "pull");
+        this.perms.invalidate("alice");
+        this.perms.allowed(CachedPermissionsTest.ALICE, "pull");
+        this.perms.allowed(CachedPermissionsTest.BOB, "pull");
+        MatcherAssert.assertThat(
+            this.checks, Matchers.contains("alice pull", "bob pull", "alice pull")
+        );
+    }
+
+    @Test
+    void remembersLatestDecisionWhenFull() {
+        for (int idx = 0; idx < 100; idx += 1) {
+            this.perms.allowed(CachedPermissionsTest.ALICE, String.valueOf(idx));
+        }
+        this.checks.clear();
+        this.perms.allowed(CachedPermissionsTest.ALICE, "99");
+        MatcherAssert.assertThat(this.checks, Matchers.empty());
+    }
+}
@@ -6,17 +6,21 @@ package com.artipie.docker.http;
 
 import com.artipie.asto.Content;
 import com.artipie.docker.Catalog;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.http.Headers;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
+import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -45,7 +49,9 @@ class CatalogEntityGetTest {
                     RsStatus.OK,
                     new Headers.From(
                         new ContentLength(catalog.length),
-                        new ContentType("application/json; charset=utf-8")
+                        new ContentType("application/json; charset=utf-8"),
+                        new EtagHeader(new Digest.Sha256(catalog).string()),
+                        new Header("Vary", "Accept-Encoding")
                     ),
                     catalog
                 ),
@@ -54,6 +60,26 @@ class CatalogEntityGetTest {
         );
     }
 
+    @Test
+    void shouldCompressLargeCatalog() {
+        final byte[] catalog = new String(new char[2048]).replace('\0', 'a').getBytes();
+        MatcherAssert.assertThat(
+            new DockerSlice(new FakeDocker(() -> new Content.From(catalog))).response(
+                new RequestLine(RqMethod.GET, "/v2/_catalog").toString(),
+                new Headers.From("Accept-Encoding", "gzip, deflate"),
+                Flowable.empty()
+            ),
+            new RsHasHeaders(
+                new ContentType("application/json; charset=utf-8"),
+                new Header(
+                    "ETag", String.format("W/\"%s\"", new Digest.Sha256(catalog).string())
+                ),
+                new Header("Vary", "Accept-Encoding"),
+                new Header("Content-Encoding", "gzip")
+            )
+        );
+    }
+
     @Test
     void shouldSupportPagination() {
         final String from = "foo";
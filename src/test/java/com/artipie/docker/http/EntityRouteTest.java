@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.slice.SliceSimple;
+import io.reactivex.Flowable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link EntityRoute}.
+ *
+ * @since 0.17
+ */
+final class EntityRouteTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "GET,/v2/,OK",
+        "GET,/v2/my-repo/manifests/1,ACCEPTED",
+        "PUT,/v2/my-repo/manifests/1,CREATED",
+        "HEAD,/v2/my-repo/manifests/1,NOT_FOUND",
+        "GET,/v2/my-repo/blobs/sha256:1,NO_CONTENT",
+        "GET,/v2/my-repo/unknown,NOT_FOUND",
+        "PATCH,/v2/my-repo/blobs/uploads/123,OK",
+        "PATCH,/v2/my-repo/blobs/uploads/123/,OK",
+        "PATCH,/v2/my-repo/blobs/uploads/123/extra,NOT_FOUND"
+    })
+    void routesByKindAndMethod(final RqMethod method, final String path, final RsStatus status) {
+        MatcherAssert.assertThat(
+            new EntityRoute(
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.BASE, RqMethod.GET, new SliceSimple(new RsWithStatus(RsStatus.OK))
+                ),
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.MANIFEST,
+                    RqMethod.GET,
+                    new SliceSimple(new RsWithStatus(RsStatus.ACCEPTED))
+                ),
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.MANIFEST,
+                    RqMethod.PUT,
+                    new SliceSimple(new RsWithStatus(RsStatus.CREATED))
+                ),
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.BLOB,
+                    RqMethod.GET,
+                    new SliceSimple(new RsWithStatus(RsStatus.NO_CONTENT))
+                ),
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.BLOB,
+                    RqMethod.GET,
+                    new SliceSimple(new RsWithStatus(RsStatus.INTERNAL_ERROR))
+                ),
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.UPLOAD,
+                    RqMethod.PATCH,
+                    new SliceSimple(new RsWithStatus(RsStatus.OK))
+                )
+            ).response(
+                new RequestLine(method, path).toString(),
+                Headers.EMPTY,
+                Flowable.empty()
+            ),
+            new RsHasStatus(status)
+        );
+    }
+
+    @Test
+    void rejectsInvalidNameWithoutCallingSlice() {
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Wrong response",
+            new EntityRoute(
+                new EntityRoute.Rule(
+                    ApiRequest.Kind.MANIFEST,
+                    RqMethod.GET,
+                    (line, headers, body) -> {
+                        calls.incrementAndGet();
+                        return new RsWithStatus(RsStatus.OK);
+                    }
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/v2/Bad..Name/manifests/1").toString(),
+                Headers.EMPTY,
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.BAD_REQUEST, "NAME_INVALID")
+        );
+        MatcherAssert.assertThat(
+            "Slice was called",
+            calls.get(),
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void passesParsedRequestToSlice() {
+        final AtomicReference<ApiRequest> parsed = new AtomicReference<>();
+        new EntityRoute(
+            new EntityRoute.Rule(
+                ApiRequest.Kind.BLOB,
+                RqMethod.GET,
+                request -> {
+                    parsed.set(request);
+                    return new SliceSimple(new RsWithStatus(RsStatus.OK));
+                }
+            )
+        ).response(
+            new RequestLine(RqMethod.GET, "/v2/my/repo/blobs/sha256:1").toString(),
+            Headers.EMPTY,
+            Flowable.empty()
+        );
+        MatcherAssert.assertThat(
+            parsed.get().reference(),
+            new IsEqual<>("sha256:1")
+        );
+    }
+}
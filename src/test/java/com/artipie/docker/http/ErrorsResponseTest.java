@@ -6,6 +6,7 @@ package com.artipie.docker.http;
 
 import com.artipie.docker.Digest;
 import com.artipie.docker.error.BlobUnknownError;
+import com.artipie.docker.error.DeniedError;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rs.RsStatus;
@@ -42,4 +43,19 @@ public final class ErrorsResponseTest {
             )
         );
     }
+
+    @Test
+    void shouldReuseBodyOfErrorWithoutDetails() {
+        // @checkstyle LineLengthCheck (1 line)
+        final byte[] body = "{\"errors\":[{\"code\":\"DENIED\",\"message\":\"requested access to the resource is denied\"}]}".getBytes();
+        MatcherAssert.assertThat(
+            new ErrorsResponse(RsStatus.FORBIDDEN, new DeniedError()),
+            new RsHasBody(body)
+        );
+        MatcherAssert.assertThat(
+            "Second response differs",
+            new ErrorsResponse(RsStatus.FORBIDDEN, new DeniedError()),
+            new RsHasBody(body)
+        );
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.fake.FakeClock;
+import java.time.Duration;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ExpiringCache}.
+ *
+ * @since 0.17
+ */
+final class ExpiringCacheTest {
+
+    @Test
+    void getsValueBeforeExpiration() {
+        final FakeClock clock = new FakeClock();
+        final ExpiringCache<String, Integer> cache =
+            new ExpiringCache<>(Duration.ofSeconds(10), 10, clock);
+        cache.put("one", 1);
+        clock.advance(Duration.ofSeconds(9));
+        MatcherAssert.assertThat(cache.get("one"), new IsEqual<>(Optional.of(1)));
+    }
+
+    @Test
+    void doesNotGetExpiredValue() {
+        final FakeClock clock = new FakeClock();
+        final ExpiringCache<String, Integer> cache =
+            new ExpiringCache<>(Duration.ofSeconds(10), 10, clock);
+        cache.put("one", 1);
+        clock.advance(Duration.ofSeconds(10));
+        MatcherAssert.assertThat(cache.get("one").isPresent(), new IsEqual<>(false));
+    }
+
+    @Test
+    void staysBounded() {
+        final ExpiringCache<Integer, Integer> cache =
+            new ExpiringCache<>(Duration.ofSeconds(10), 10, new FakeClock());
+        for (int idx = 0; idx < 100; idx += 1) {
+            cache.put(idx, idx);
+        }
+        MatcherAssert.assertThat(cache.size(), Matchers.lessThanOrEqualTo(10));
+    }
+
+    @Test
+    void removesSelectedKeys() {
+        final ExpiringCache<String, Integer> cache =
+            new ExpiringCache<>(Duration.ofSeconds(10), 10, new FakeClock());
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.remove("one"::equals);
+        MatcherAssert.assertThat(
+            "Removes selected",
+            cache.get("one").isPresent(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Keeps other",
+            cache.get("two"),
+            new IsEqual<>(Optional.of(2))
+        );
+    }
+}
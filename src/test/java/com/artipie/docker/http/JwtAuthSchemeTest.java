@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.docker.RepoName;
+import com.artipie.docker.fake.FakeClock;
+import com.artipie.http.Headers;
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.headers.Authorization;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JwtAuthScheme} and {@link JwtIssuer}.
+ *
+ * @since 0.17
+ */
+final class JwtAuthSchemeTest {
+
+    /**
+     * Key pair.
+     */
+    private KeyPair keys;
+
+    /**
+     * Clock.
+     */
+    private FakeClock clock;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        this.keys = gen.generateKeyPair();
+        this.clock = new FakeClock();
+    }
+
+    @Test
+    void authenticatesWithGrantedScopes() {
+        final Authentication.User user = this.authenticate(
+            this.token("registry"),
+            new JwtAuthScheme(this.keys.getPublic(), "test", "registry", "http://x", this.clock)
+        ).get();
+        MatcherAssert.assertThat(
+            "Reads subject",
+            user.name(),
+            new IsEqual<>("alice")
+        );
+        MatcherAssert.assertThat(
+            "Reads scopes",
+            user.groups(),
+            Matchers.containsInAnyOrder(
+                "repository:my-alpine:pull", "repository:my-alpine:push", "registry:catalog:*"
+            )
+        );
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        final String token = this.token("registry");
+        this.clock.advance(Duration.ofMinutes(5));
+        MatcherAssert.assertThat(
+            this.authenticate(
+                token,
+                new JwtAuthScheme(
+                    this.keys.getPublic(), "test", "registry", "http://x", this.clock
+                )
+            ).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void rejectsTokenForOtherService() {
+        MatcherAssert.assertThat(
+            this.authenticate(
+                this.token("other"),
+                new JwtAuthScheme(
+                    this.keys.getPublic(), "test", "registry", "http://x", this.clock
+                )
+            ).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void rejectsTokenSignedWithOtherKey() throws NoSuchAlgorithmException {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        MatcherAssert.assertThat(
+            this.authenticate(
+                this.token("registry"),
+                new JwtAuthScheme(
+                    gen.generateKeyPair().getPublic(), "test", "registry", "http://x", this.clock
+                )
+            ).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        final String[] parts = this.token("registry").split("\\.");
+        MatcherAssert.assertThat(
+            this.authenticate(
+                String.join(".", parts[0], parts[1].substring(1), parts[2]),
+                new JwtAuthScheme(
+                    this.keys.getPublic(), "test", "registry", "http://x", this.clock
+                )
+            ).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void challengesWithRealm() {
+        MatcherAssert.assertThat(
+            new JwtAuthScheme(this.keys.getPublic(), "test", "registry", "http://x/token")
+                .authenticate(Headers.EMPTY).toCompletableFuture().join().challenge(),
+            new IsEqual<>("Bearer realm=\"http://x/token\",service=\"registry\"")
+        );
+    }
+
+    /**
+     * Issue token.
+     *
+     * @param service Service.
+     * @return Token.
+     */
+    private String token(final String service) {
+        final RepoName name = new RepoName.Simple("my-alpine");
+        return new JwtIssuer(
+            this.keys.getPrivate(), "test", service, Duration.ofMinutes(5), this.clock
+        ).token(
+            "alice",
+            Arrays.asList(
+                new Scope.Repository.Pull(name),
+                new Scope.Repository.Push(name),
+                new Scope.Registry("catalog", "*")
+            )
+        ).getString("token");
+    }
+
+    /**
+     * Authenticate with token.
+     *
+     * @param token Token.
+     * @param scheme Scheme.
+     * @return User.
+     */
+    private Optional<Authentication.User> authenticate(
+        final String token, final JwtAuthScheme scheme
+    ) {
+        return scheme.authenticate(new Headers.From(new Authorization.Bearer(token)))
+            .toCompletableFuture().join().user();
+    }
+}
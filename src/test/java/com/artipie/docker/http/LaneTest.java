@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Lane}.
+ *
+ * @since 0.17
+ */
+final class LaneTest {
+
+    @Test
+    void queuesTasksOverLimit() {
+        final Lane lane = new Lane(1, 1);
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        lane.run(() -> first);
+        final Optional<CompletionStage<String>> queued = lane.run(() -> second);
+        MatcherAssert.assertThat(
+            "Task over limit is not queued",
+            lane.waiting(),
+            new IsEqual<>(1)
+        );
+        first.complete("one");
+        MatcherAssert.assertThat(
+            "Queued task is not started after first completed",
+            lane.waiting() == 0 && lane.running() == 1,
+            new IsEqual<>(true)
+        );
+        second.complete("two");
+        MatcherAssert.assertThat(
+            "Queued task result is lost",
+            queued.get().toCompletableFuture().join(),
+            new IsEqual<>("two")
+        );
+        MatcherAssert.assertThat(
+            "Slot is not released",
+            lane.running(),
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void rejectsTasksOverQueueCapacity() {
+        final Lane lane = new Lane(1, 1);
+        lane.run(CompletableFuture::new);
+        lane.run(CompletableFuture::new);
+        MatcherAssert.assertThat(
+            lane.run(() -> CompletableFuture.completedFuture("rejected")).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void releasesSlotOnFailure() {
+        final Lane lane = new Lane(1, 0);
+        lane.run(
+            () -> {
+                throw new IllegalStateException("fail");
+            }
+        );
+        MatcherAssert.assertThat(
+            lane.run(() -> CompletableFuture.completedFuture("next")).isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void startsManySynchronousTasksWithoutRecursion() {
+        final int count = 100_000;
+        final Lane lane = new Lane(1, count);
+        final CompletableFuture<Integer> first = new CompletableFuture<>();
+        lane.run(() -> first);
+        Optional<CompletionStage<Integer>> last = Optional.empty();
+        for (int idx = 0; idx < count; idx += 1) {
+            final int value = idx;
+            last = lane.run(() -> CompletableFuture.completedFuture(value));
+        }
+        first.complete(-1);
+        final CompletableFuture<Integer> result = last.get().toCompletableFuture();
+        MatcherAssert.assertThat(
+            "Last queued task is not completed",
+            result.isDone(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Last queued task result is lost",
+            result.join(),
+            new IsEqual<>(count - 1)
+        );
+        MatcherAssert.assertThat(
+            "Slot is not released",
+            lane.running(),
+            new IsEqual<>(0)
+        );
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.StandardRs;
+import io.reactivex.Flowable;
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.AllOf;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LanesSlice}.
+ *
+ * @since 0.17
+ */
+final class LanesSliceTest {
+
+    /**
+     * Blob download request line.
+     */
+    private static final String BLOB = new RequestLine(
+        RqMethod.GET, "/v2/test/blobs/sha256:123"
+    ).toString();
+
+    @Test
+    void rejectsBulkOverLimit() {
+        final Slice slice = new LanesSlice(
+            LanesSliceTest.hanging(), new Lane(1, 0), new Lane(1, 0)
+        );
+        slice.response(LanesSliceTest.BLOB, Headers.EMPTY, Flowable.empty())
+            .send((status, headers, body) -> new CompletableFuture<>());
+        MatcherAssert.assertThat(
+            slice.response(LanesSliceTest.BLOB, Headers.EMPTY, Flowable.empty()),
+            new AllOf<>(
+                new IsErrorsResponse(RsStatus.TOO_MANY_REQUESTS, "TOOMANYREQUESTS"),
+                new RsHasHeaders(
+                    new Header("Retry-After", "1"),
+                    new Header("Content-Length", "69"),
+                    new JsonContentType()
+                )
+            )
+        );
+    }
+
+    @Test
+    void servesMetadataWhileBulkIsFull() {
+        final Slice slice = new LanesSlice(
+            LanesSliceTest.hanging(), new Lane(1, 0), new Lane(1, 0)
+        );
+        slice.response(LanesSliceTest.BLOB, Headers.EMPTY, Flowable.empty())
+            .send((status, headers, body) -> new CompletableFuture<>());
+        MatcherAssert.assertThat(
+            slice.response(
+                new RequestLine(RqMethod.HEAD, "/v2/test/blobs/sha256:123").toString(),
+                Headers.EMPTY,
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.OK)
+        );
+    }
+
+    /**
+     * Slice with blob downloads never completing, other requests answered with OK.
+     *
+     * @return Slice.
+     */
+    private static Slice hanging() {
+        return (line, headers, body) -> {
+            final Response response;
+            if (line.startsWith("GET")) {
+                response = connection -> new CompletableFuture<>();
+            } else {
+                response = StandardRs.OK;
+            }
+            return response;
+        };
+    }
+}
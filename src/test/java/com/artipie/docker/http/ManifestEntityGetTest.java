@@ -7,6 +7,7 @@ package com.artipie.docker.http;
 import com.artipie.asto.Key;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.docker.ExampleStorage;
+import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.docker.asto.AstoDocker;
 import com.artipie.http.Response;
 import com.artipie.http.headers.Header;
@@ -17,6 +18,8 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
+import java.util.Map;
+import org.cactoos.list.Joined;
 import org.cactoos.list.ListOf;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
@@ -79,11 +82,71 @@ class ManifestEntityGetTest {
             ),
             new ResponseMatcher(
                 digest,
-                bytes(new Key.From("blobs", "sha256", "cb", hex, "data"))
+                bytes(new Key.From("blobs", "sha256", "cb", hex, "data")),
+                new ImmutableHeader()
             )
         );
     }
 
+    @Test
+    void shouldReturnNotModifiedForKnownDigest() {
+        final String digest =
+            "sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221";
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.GET, String.format("/v2/my-alpine/manifests/%s", digest)
+                ).toString(),
+                new Headers.From(new Header("If-None-Match", String.format("\"%s\"", digest))),
+                Flowable.empty()
+            ),
+            new AllOf<Response>(
+                new ListOf<Matcher<? super Response>>(
+                    new RsHasStatus(RsStatus.NOT_MODIFIED),
+                    new RsHasHeaders(
+                        new EtagHeader(digest),
+                        new Header("Docker-Content-Digest", digest),
+                        new ImmutableHeader()
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void shouldReturnNotFoundForAbsentDigestMatchedByEtag() {
+        final String digest =
+            "sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221";
+        MatcherAssert.assertThat(
+            new DockerSlice(new AstoDocker(new InMemoryStorage())).response(
+                new RequestLine(
+                    RqMethod.GET, String.format("/v2/my-alpine/manifests/%s", digest)
+                ).toString(),
+                new Headers.From(new Header("If-None-Match", String.format("\"%s\"", digest))),
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.NOT_FOUND, "MANIFEST_UNKNOWN")
+        );
+    }
+
+    @Test
+    void shouldReturnNotModifiedForTagWithSameDigest() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(RqMethod.GET, "/v2/my-alpine/manifests/1").toString(),
+                new Headers.From(
+                    new Header(
+                        "If-None-Match",
+                        "\"sha256:0000\", W/\"sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221\""
+                    ),
+                    new Header("Accept", "application/vnd.docker.distribution.manifest.v2+json")
+                ),
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+    }
+
     @Test
     void shouldReturnNotFoundForUnknownTag() {
         MatcherAssert.assertThat(
@@ -114,6 +177,24 @@ class ManifestEntityGetTest {
         );
     }
 
+    @Test
+    void shouldReturnNotFoundForUnknownDigestMatchedByWildcard() {
+        MatcherAssert.assertThat(
+            this.slice.response(
+                new RequestLine(
+                    RqMethod.GET,
+                    String.format(
+                        "/v2/my-alpine/manifests/%s",
+                        "sha256:0123456789012345678901234567890123456789012345678901234567890123"
+                    )
+                ).toString(),
+                new Headers.From(new Header("If-None-Match", "*")),
+                Flowable.empty()
+            ),
+            new IsErrorsResponse(RsStatus.NOT_FOUND, "MANIFEST_UNKNOWN")
+        );
+    }
+
     private static byte[] bytes(final Key key) {
         return new PublisherAs(
             new ExampleStorage().value(key).join()
@@ -147,18 +228,25 @@ class ManifestEntityGetTest {
          * Ctor.
          * @param digest Digest
          * @param content Content
+         * @param extra Extra headers expected
          */
-        ResponseMatcher(final String digest, final byte[] content) {
+        ResponseMatcher(final String digest, final byte[] content, final Header.Wrap... extra) {
             super(
                 new ListOf<Matcher<? super Response>>(
                     new RsHasStatus(RsStatus.OK),
                     new RsHasHeaders(
-                        new Header("Content-Length", String.valueOf(content.length)),
-                        new Header(
-                            "Content-Type",
-                            "application/vnd.docker.distribution.manifest.v2+json"
-                        ),
-                        new Header("Docker-Content-Digest", digest)
+                        new Joined<Map.Entry<String, String>>(
+                            new ListOf<Map.Entry<String, String>>(
+                                new Header("Content-Length", String.valueOf(content.length)),
+                                new Header(
+                                    "Content-Type",
+                                    "application/vnd.docker.distribution.manifest.v2+json"
+                                ),
+                                new Header("Docker-Content-Digest", digest),
+                                new EtagHeader(digest)
+                            ),
+                            new ListOf<Map.Entry<String, String>>(extra)
+                        )
                     ),
                     new RsHasBody(content)
                 )
@@ -14,6 +14,8 @@ import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
+import java.util.Map;
+import org.cactoos.list.Joined;
 import org.cactoos.list.ListOf;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
@@ -73,7 +75,7 @@ class ManifestEntityHeadTest {
                 new Headers(),
                 Flowable.empty()
             ),
-            new ResponseMatcher(digest, 528)
+            new ResponseMatcher(digest, 528, new ImmutableHeader())
         );
     }
 
@@ -134,17 +136,25 @@ class ManifestEntityHeadTest {
          *
          * @param digest Expected `Docker-Content-Digest` header value.
          * @param size Expected `Content-Length` header value.
+         * @param extra Extra headers expected.
          */
-        ResponseMatcher(final String digest, final long size) {
+        ResponseMatcher(final String digest, final long size, final Header.Wrap... extra) {
             super(
                 new ListOf<Matcher<? super Response>>(
                     new RsHasStatus(RsStatus.OK),
                     new RsHasHeaders(
-                        new Header(
-                            "Content-type", "application/vnd.docker.distribution.manifest.v2+json"
-                        ),
-                        new Header("Docker-Content-Digest", digest),
-                        new Header("Content-Length", String.valueOf(size))
+                        new Joined<Map.Entry<String, String>>(
+                            new ListOf<Map.Entry<String, String>>(
+                                new Header(
+                                    "Content-type",
+                                    "application/vnd.docker.distribution.manifest.v2+json"
+                                ),
+                                new Header("Docker-Content-Digest", digest),
+                                new Header("Content-Length", String.valueOf(size)),
+                                new EtagHeader(digest)
+                            ),
+                            new ListOf<Map.Entry<String, String>>(extra)
+                        )
                     )
                 )
             );
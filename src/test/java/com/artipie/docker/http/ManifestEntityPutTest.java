@@ -6,19 +6,28 @@ package com.artipie.docker.http;
 
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.docker.Blob;
+import com.artipie.docker.Catalog;
 import com.artipie.docker.Docker;
+import com.artipie.docker.Repo;
 import com.artipie.docker.RepoName;
 import com.artipie.docker.asto.AstoDocker;
 import com.artipie.docker.asto.TrustedBlobSource;
 import com.artipie.http.Headers;
+import com.artipie.http.auth.BasicAuthScheme;
+import com.artipie.http.auth.Permissions;
 import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
+import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -92,6 +101,44 @@ class ManifestEntityPutTest {
         );
     }
 
+    @Test
+    void shouldNotLookUpManifestBeforeAuthentication() {
+        final AtomicInteger repos = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Requires authentication",
+            new DockerSlice(
+                new Docker() {
+                    @Override
+                    public Repo repo(final RepoName name) {
+                        repos.incrementAndGet();
+                        return ManifestEntityPutTest.this.docker.repo(name);
+                    }
+
+                    @Override
+                    public CompletionStage<Catalog> catalog(
+                        final Optional<RepoName> from, final int limit
+                    ) {
+                        throw new UnsupportedOperationException();
+                    }
+                },
+                new Permissions.Single(
+                    TestAuthentication.ALICE.name(), "repository:my-alpine:push"
+                ),
+                new BasicAuthScheme(new TestAuthentication())
+            ).response(
+                new RequestLine(RqMethod.PUT, "/v2/my-alpine/manifests/1").toString(),
+                Headers.EMPTY,
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.UNAUTHORIZED)
+        );
+        MatcherAssert.assertThat(
+            "Does not look up manifest",
+            repos.get(),
+            new IsEqual<>(0)
+        );
+    }
+
     /**
      * Create manifest content.
      *
@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Catalog;
+import com.artipie.docker.Docker;
+import com.artipie.docker.Layers;
+import com.artipie.docker.Manifests;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Uploads;
+import com.artipie.docker.fake.FakeCatalogDocker;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link MappedDocker}.
+ *
+ * @since 0.17
+ */
+class MappedDockerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "one/alpine,one,alpine",
+        "one/two/alpine,one/two,alpine",
+        "one/three/alpine,one,three/alpine",
+        "library/alpine,'',library/alpine",
+        "one,'',one"
+    })
+    void routesByLongestPrefix(final String name, final String prefix, final String rest) {
+        final Repo repo = new MappedDocker(
+            MappedDockerTest.mappings("one", "/one/two/", "")
+        ).repo(new RepoName.Simple(name));
+        MatcherAssert.assertThat(
+            "Wrong registry",
+            ((NamedRepo) repo).registry,
+            new IsEqual<>(prefix)
+        );
+        MatcherAssert.assertThat(
+            "Wrong name",
+            ((NamedRepo) repo).name(),
+            new IsEqual<>(rest)
+        );
+    }
+
+    @Test
+    void failsIfPrefixNotFound() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MappedDocker(MappedDockerTest.mappings("one", "two/three"))
+                .repo(new RepoName.Simple("two/alpine"))
+        );
+    }
+
+    @Test
+    void joinsCatalogs() {
+        final Map<String, Docker> mappings = new HashMap<>();
+        mappings.put("b", MappedDockerTest.catalog("\"x\",\"y\""));
+        mappings.put("a", MappedDockerTest.catalog("\"z\""));
+        mappings.put("a/y", MappedDockerTest.catalog("\"w\""));
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new MappedDocker(mappings).catalog(Optional.empty(), Integer.MAX_VALUE)
+                    .toCompletableFuture().join().json()
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("{\"repositories\":[\"a/y/w\",\"a/z\",\"b/x\",\"b/y\"]}")
+        );
+    }
+
+    @Test
+    void forwardsFromToMatchingRegistryOnly() {
+        final FakeCatalogDocker first = new FakeCatalogDocker(
+            () -> new Content.From("{\"repositories\":[\"x\"]}".getBytes())
+        );
+        final FakeCatalogDocker second = new FakeCatalogDocker(
+            () -> new Content.From("{\"repositories\":[\"x\"]}".getBytes())
+        );
+        final Map<String, Docker> mappings = new HashMap<>();
+        mappings.put("a", first);
+        mappings.put("b", second);
+        new MappedDocker(mappings)
+            .catalog(Optional.of(new RepoName.Simple("b/m")), 10)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Registry before from was asked",
+            first.from(),
+            new IsEqual<>(null)
+        );
+        MatcherAssert.assertThat(
+            "From is not trimmed",
+            second.from().map(RepoName::value),
+            new IsEqual<>(Optional.of("m"))
+        );
+    }
+
+    /**
+     * Registries returning repositories named with their prefixes.
+     *
+     * @param prefixes Prefixes.
+     * @return Registries by prefix.
+     */
+    private static Map<String, Docker> mappings(final String... prefixes) {
+        final Map<String, Docker> mappings = new HashMap<>();
+        for (final String prefix : prefixes) {
+            mappings.put(
+                prefix,
+                new Docker() {
+                    @Override
+                    public Repo repo(final RepoName name) {
+                        return new NamedRepo(prefix.replaceAll("^/|/$", ""), name);
+                    }
+
+                    @Override
+                    public CompletionStage<Catalog> catalog(
+                        final Optional<RepoName> from, final int limit
+                    ) {
+                        throw new UnsupportedOperationException();
+                    }
+                }
+            );
+        }
+        return mappings;
+    }
+
+    /**
+     * Registry with catalog.
+     *
+     * @param names Repository names JSON.
+     * @return Registry.
+     */
+    private static Docker catalog(final String names) {
+        return new FakeCatalogDocker(
+            () -> new Content.From(
+                String.format("{\"repositories\":[%s]}", names).getBytes()
+            )
+        );
+    }
+
+    /**
+     * Repository remembering registry it came from.
+     *
+     * @since 0.17
+     */
+    private static final class NamedRepo implements Repo {
+
+        /**
+         * Registry prefix.
+         */
+        private final String registry;
+
+        /**
+         * Repository name.
+         */
+        private final RepoName rname;
+
+        /**
+         * Ctor.
+         *
+         * @param registry Registry prefix.
+         * @param rname Repository name.
+         */
+        NamedRepo(final String registry, final RepoName rname) {
+            this.registry = registry;
+            this.rname = rname;
+        }
+
+        @Override
+        public Layers layers() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Manifests manifests() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uploads uploads() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Name of the repo.
+         *
+         * @return Name.
+         */
+        String name() {
+            return this.rname.value();
+        }
+    }
+}
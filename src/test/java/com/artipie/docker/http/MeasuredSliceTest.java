@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.metrics.Metrics;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MeasuredSlice}.
+ *
+ * @since 0.17
+ */
+final class MeasuredSliceTest {
+
+    @Test
+    void recordsRequestsByEndpointAndStatus() {
+        final Metrics metrics = new Metrics();
+        final Slice slice = new MeasuredSlice(
+            new DockerSlice(new AstoDocker(new InMemoryStorage())), metrics
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, "/v2/")
+            )
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/v2/test/manifests/1.0")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Records base request",
+            MeasuredSliceTest.count(metrics, "docker_http", "GET", "base", "200"),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Records missing manifest",
+            MeasuredSliceTest.count(metrics, "docker_http", "GET", "manifest", "404"),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void countsBodyBytes() {
+        final Metrics metrics = new Metrics();
+        final byte[] body = String.join(
+            "",
+            "{\"schemaVersion\":2,\"config\":{\"digest\":\"",
+            new Digest.Sha256("missing".getBytes()).string(),
+            "\"},\"layers\":[]}"
+        ).getBytes();
+        MatcherAssert.assertThat(
+            new MeasuredSlice(
+                new DockerSlice(new AstoDocker(new InMemoryStorage())), metrics, "registry"
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.BAD_REQUEST),
+                new RequestLine(RqMethod.PUT, "/v2/test/manifests/1.0"),
+                Headers.EMPTY,
+                new Content.From(body)
+            )
+        );
+        MatcherAssert.assertThat(
+            "Counts received bytes",
+            metrics.counter(
+                "registry_received_bytes_total", "", "method", "PUT", "entity", "manifest"
+            ).value(),
+            new IsEqual<>((long) body.length)
+        );
+        MatcherAssert.assertThat(
+            "Counts sent bytes",
+            metrics.counter(
+                "registry_sent_bytes_total", "", "method", "PUT", "entity", "manifest"
+            ).value() > 0,
+            new IsEqual<>(true)
+        );
+    }
+
+    /**
+     * Number of recorded requests.
+     *
+     * @param metrics Metrics.
+     * @param prefix Metric names prefix.
+     * @param method Request method.
+     * @param entity Entity kind.
+     * @param status Response status.
+     * @return Count.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static long count(final Metrics metrics, final String prefix, final String method,
+        final String entity, final String status) {
+        return metrics.histogram(
+            String.format("%s_request_duration_seconds", prefix), "",
+            "method", method, "entity", entity, "status", status
+        ).count();
+    }
+}
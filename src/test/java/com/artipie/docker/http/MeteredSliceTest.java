@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.ComposableStorage;
+import com.artipie.docker.asto.StorageMeter;
+import com.artipie.docker.fake.ComposingStorage;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MeteredSlice}.
+ *
+ * @since 0.17
+ */
+final class MeteredSliceTest {
+
+    @Test
+    void accountsOperationsByEndpoint() {
+        final MeteredSlice slice = new MeteredSlice(
+            new InMemoryStorage(), asto -> new DockerSlice(new AstoDocker(asto))
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, "/v2/_catalog")
+            )
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, "/v2/")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Lists requested endpoints",
+            slice.endpoints(),
+            new IsEqual<>(new TreeSet<>(Arrays.asList("GET base", "GET catalog")))
+        );
+        MatcherAssert.assertThat(
+            "Counts requests",
+            slice.requests("GET catalog"),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Attributes storage operations to endpoint",
+            slice.meter("GET catalog").count(StorageMeter.Operation.LIST),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void keepsStorageComposable() {
+        final AtomicBoolean composable = new AtomicBoolean();
+        MatcherAssert.assertThat(
+            "Wrong response",
+            new MeteredSlice(
+                new ComposingStorage(),
+                asto -> {
+                    composable.set(asto instanceof ComposableStorage);
+                    return new DockerSlice(new AstoDocker(asto));
+                }
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, "/v2/")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Metered storage is not composable",
+            composable.get(),
+            new IsEqual<>(true)
+        );
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.Docker;
+import com.artipie.docker.ExampleStorage;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Upload;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.BlobSizes;
+import com.artipie.docker.asto.DefaultLayout;
+import com.artipie.docker.asto.StorageMeter;
+import com.artipie.docker.asto.UploadSessions;
+import com.artipie.docker.misc.WorkPools;
+import com.artipie.docker.ref.ManifestRef;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Budgets of storage operations per request to every Docker API endpoint.
+ * Every test serves one request to endpoint and checks number of storage operations
+ * it made does not exceed the budget, so changes adding storage round trips
+ * to request serving fail the build. Budgets should be lowered when serving gets cheaper.
+ *
+ * @since 0.17
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class StorageBudgetTest {
+
+    /**
+     * Repository name.
+     */
+    private static final String NAME = "my-alpine";
+
+    /**
+     * Manifest digest in example storage.
+     */
+    private static final String MANIFEST =
+        "sha256:cb8a924afdf0229ef7515d9e5b3024e23b3eb03ddbba287f4a19c6ac90b8d221";
+
+    /**
+     * Layer digest in example storage.
+     */
+    private static final String LAYER =
+        "sha256:a187dde48cd289ac374ad8539930628314bc581a481cdb41409c9289419ddb72";
+
+    /**
+     * Accepted manifest type.
+     */
+    private static final Header ACCEPT = new Header(
+        "Accept", "application/vnd.docker.distribution.manifest.v2+json"
+    );
+
+    /**
+     * Registry sharing storage and upload sessions with slice, used to prepare requests.
+     */
+    private Docker docker;
+
+    /**
+     * Slice being tested.
+     */
+    private MeteredSlice slice;
+
+    @BeforeEach
+    void setUp() {
+        final Storage storage = new ExampleStorage();
+        final UploadSessions sessions = new UploadSessions();
+        final BlobSizes sizes = new BlobSizes();
+        this.docker = StorageBudgetTest.docker(storage, sessions, sizes);
+        this.slice = new MeteredSlice(
+            storage,
+            asto -> new DockerSlice(StorageBudgetTest.docker(asto, sessions, sizes))
+        );
+    }
+
+    @Test
+    void getsBase() {
+        this.serve(RqMethod.GET, "/v2/", RsStatus.OK);
+        this.assertBudget("GET base", 0);
+    }
+
+    @Test
+    void getsCatalog() {
+        this.serve(RqMethod.GET, "/v2/_catalog", RsStatus.OK);
+        this.assertBudget("GET catalog", 1);
+    }
+
+    @Test
+    void getsTags() {
+        this.serve(RqMethod.GET, "/v2/my-alpine/tags/list", RsStatus.OK);
+        this.assertBudget("GET tags", 1);
+    }
+
+    @Test
+    void checksManifest() {
+        MatcherAssert.assertThat(
+            this.slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.HEAD, "/v2/my-alpine/manifests/1"),
+                new Headers.From(StorageBudgetTest.ACCEPT),
+                Content.EMPTY
+            )
+        );
+        this.assertBudget("HEAD manifest", 4);
+    }
+
+    @Test
+    void getsManifest() {
+        MatcherAssert.assertThat(
+            this.slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, "/v2/my-alpine/manifests/1"),
+                new Headers.From(StorageBudgetTest.ACCEPT),
+                Content.EMPTY
+            )
+        );
+        this.assertBudget("GET manifest", 4);
+    }
+
+    @Test
+    void putsManifest() {
+        final byte[] manifest = new PublisherAs(
+            this.repo().manifests().get(new ManifestRef.FromString(StorageBudgetTest.MANIFEST))
+                .toCompletableFuture().join().get().content()
+        ).bytes().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.CREATED),
+                new RequestLine(RqMethod.PUT, "/v2/my-alpine/manifests/2"),
+                Headers.EMPTY,
+                new Content.From(manifest)
+            )
+        );
+        this.assertBudget("PUT manifest", 7);
+    }
+
+    @Test
+    void checksBlob() {
+        this.serve(
+            RqMethod.HEAD,
+            String.format("/v2/my-alpine/blobs/%s", StorageBudgetTest.LAYER),
+            RsStatus.OK
+        );
+        this.assertBudget("HEAD blob", 2);
+    }
+
+    @Test
+    void checksMissingBlob() {
+        this.serve(
+            RqMethod.HEAD,
+            String.format(
+                "/v2/my-alpine/blobs/%s",
+                "sha256:0000000000000000000000000000000000000000000000000000000000000000"
+            ),
+            RsStatus.NOT_FOUND
+        );
+        this.assertBudget("HEAD missing blob", 1);
+    }
+
+    @Test
+    void getsBlob() {
+        this.serve(
+            RqMethod.GET,
+            String.format("/v2/my-alpine/blobs/%s", StorageBudgetTest.LAYER),
+            RsStatus.OK
+        );
+        this.assertBudget("GET blob", 2);
+    }
+
+    @Test
+    void startsUpload() {
+        this.serve(RqMethod.POST, "/v2/my-alpine/blobs/uploads/", RsStatus.ACCEPTED);
+        this.assertBudget("POST upload", 1);
+    }
+
+    @Test
+    void appendsUploadChunk() {
+        final Upload upload = this.upload();
+        MatcherAssert.assertThat(
+            this.slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.ACCEPTED),
+                new RequestLine(
+                    RqMethod.PATCH,
+                    String.format("/v2/my-alpine/blobs/uploads/%s", upload.uuid())
+                ),
+                Headers.EMPTY,
+                new Content.From("chunk".getBytes())
+            )
+        );
+        this.assertBudget("PATCH upload", 1);
+    }
+
+    @Test
+    void checksUpload() {
+        final Upload upload = this.upload();
+        this.serve(
+            RqMethod.GET,
+            String.format("/v2/my-alpine/blobs/uploads/%s", upload.uuid()),
+            RsStatus.NO_CONTENT
+        );
+        this.assertBudget("GET upload", 0);
+    }
+
+    @Test
+    void finishesUpload() {
+        final Upload upload = this.upload();
+        upload.append(new Content.From("data".getBytes())).toCompletableFuture().join();
+        this.serve(
+            RqMethod.PUT,
+            String.format(
+                "/v2/my-alpine/blobs/uploads/%s?digest=%s",
+                upload.uuid(),
+                "sha256:3a6eb0790f39ac87c94f3856b2dd2c5d110e6811602261a9a923d3bb23adc8b7"
+            ),
+            RsStatus.CREATED
+        );
+        this.assertBudget("PUT upload", 7);
+    }
+
+    /**
+     * Serve request without body and check response status.
+     *
+     * @param method Request method.
+     * @param path Request path.
+     * @param status Expected response status.
+     */
+    private void serve(final RqMethod method, final String path, final RsStatus status) {
+        MatcherAssert.assertThat(
+            this.slice,
+            new SliceHasResponse(new RsHasStatus(status), new RequestLine(method, path))
+        );
+    }
+
+    /**
+     * Check storage operations made by one request to endpoint fit the budget.
+     *
+     * @param endpoint Endpoint.
+     * @param budget Maximum number of storage operations.
+     */
+    private void assertBudget(final String endpoint, final long budget) {
+        final StorageMeter meter = this.slice.meter(endpoint);
+        MatcherAssert.assertThat(
+            String.format("Storage operations of `%s`: %s", endpoint, meter),
+            meter.operations(),
+            Matchers.lessThanOrEqualTo(budget)
+        );
+    }
+
+    /**
+     * Start upload.
+     *
+     * @return Started upload.
+     */
+    private Upload upload() {
+        return this.repo().uploads().start().toCompletableFuture().join();
+    }
+
+    /**
+     * Repository requests are served from.
+     *
+     * @return Repository.
+     */
+    private Repo repo() {
+        return this.docker.repo(new RepoName.Simple(StorageBudgetTest.NAME));
+    }
+
+    /**
+     * Create registry.
+     *
+     * @param storage Storage.
+     * @param sessions Upload sessions.
+     * @param sizes Known blob sizes.
+     * @return Registry.
+     */
+    private static Docker docker(
+        final Storage storage, final UploadSessions sessions, final BlobSizes sizes
+    ) {
+        return new AstoDocker(
+            storage, new DefaultLayout(), sessions, UnaryOperator.identity(), sizes,
+            new WorkPools(), Optional.empty()
+        );
+    }
+}
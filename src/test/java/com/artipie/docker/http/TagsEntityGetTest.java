@@ -6,6 +6,7 @@ package com.artipie.docker.http;
 
 import com.artipie.asto.Content;
 import com.artipie.docker.Catalog;
+import com.artipie.docker.Digest;
 import com.artipie.docker.Docker;
 import com.artipie.docker.Layers;
 import com.artipie.docker.Manifests;
@@ -17,11 +18,14 @@ import com.artipie.docker.fake.FullTagsManifests;
 import com.artipie.http.Headers;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
+import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -53,7 +57,9 @@ class TagsEntityGetTest {
                     RsStatus.OK,
                     new Headers.From(
                         new ContentLength(tags.length),
-                        new ContentType("application/json; charset=utf-8")
+                        new ContentType("application/json; charset=utf-8"),
+                        new EtagHeader(new Digest.Sha256(tags).string()),
+                        new Header("Vary", "Accept-Encoding")
                     ),
                     tags
                 ),
@@ -67,6 +73,23 @@ class TagsEntityGetTest {
         );
     }
 
+    @Test
+    void shouldReturnNotModifiedForSameTags() {
+        final byte[] tags = "{\"tags\":[]}".getBytes();
+        MatcherAssert.assertThat(
+            new DockerSlice(
+                new FakeDocker(new FullTagsManifests(() -> new Content.From(tags)))
+            ).response(
+                new RequestLine(RqMethod.GET, "/v2/my-alpine/tags/list").toString(),
+                new Headers.From(
+                    "If-None-Match", String.format("\"%s\"", new Digest.Sha256(tags).string())
+                ),
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+    }
+
     @Test
     void shouldSupportPagination() {
         final String from = "1.0";
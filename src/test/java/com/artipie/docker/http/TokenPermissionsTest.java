@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.auth.Permissions;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link TokenPermissions}.
+ *
+ * @since 0.17
+ */
+final class TokenPermissionsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "repository:my-alpine:pull,true",
+        "repository:my-alpine:push,false",
+        "repository:other:pull,false",
+        "registry:catalog:*,true",
+        "registry:base:*,true"
+    })
+    void allowsGrantedActions(final String action, final boolean allowed) {
+        MatcherAssert.assertThat(
+            new TokenPermissions().allowed(
+                new Authentication.User(
+                    "alice", Arrays.asList("repository:my-alpine:pull", "registry:catalog:*")
+                ),
+                action
+            ),
+            new IsEqual<>(allowed)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "registry:base:*",
+        "repository:my-alpine:pull"
+    })
+    void deniesAnonymous(final String action) {
+        MatcherAssert.assertThat(
+            new TokenPermissions().allowed(Permissions.ANY_USER, action),
+            new IsEqual<>(false)
+        );
+    }
+}
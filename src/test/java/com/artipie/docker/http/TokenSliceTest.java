@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.http;
+
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.docker.ExampleStorage;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.auth.BasicAuthScheme;
+import com.artipie.http.auth.Permissions;
+import com.artipie.http.headers.Authorization;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.io.StringReader;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TokenSlice}.
+ *
+ * @since 0.17
+ */
+final class TokenSliceTest {
+
+    /**
+     * Layer path.
+     */
+    private static final String LAYER =
+        "/v2/test/blobs/sha256:aad63a9339440e7c3e1fff2b988991b9bfb81280042fa7f39a5e327023056819";
+
+    /**
+     * Key pair.
+     */
+    private KeyPair keys;
+
+    /**
+     * Token endpoint.
+     */
+    private TokenSlice tokens;
+
+    /**
+     * Registry.
+     */
+    private DockerSlice registry;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        this.keys = gen.generateKeyPair();
+        this.tokens = new TokenSlice(
+            new BasicAuthScheme(new TestAuthentication()),
+            new Permissions.Single(TestAuthentication.ALICE.name(), "repository:test:pull"),
+            new JwtIssuer(this.keys.getPrivate(), "auth", "registry", Duration.ofMinutes(5))
+        );
+        this.registry = new DockerSlice(
+            new AstoDocker(new ExampleStorage()),
+            new TokenPermissions(),
+            new JwtAuthScheme(this.keys.getPublic(), "auth", "registry", "http://auth/token")
+        );
+    }
+
+    @Test
+    void pullsWithIssuedToken() {
+        final String token = this.token(
+            "/token?service=registry&scope=repository%3Atest%3Apull%2Cpush",
+            TestAuthentication.ALICE.headers()
+        );
+        MatcherAssert.assertThat(
+            this.layer(new Headers.From(new Authorization.Bearer(token))),
+            new RsHasStatus(RsStatus.OK)
+        );
+    }
+
+    @Test
+    void doesNotGrantDeniedActions() {
+        final String token = this.token(
+            "/token?service=registry&scope=repository:test:push",
+            TestAuthentication.ALICE.headers()
+        );
+        MatcherAssert.assertThat(
+            this.layer(new Headers.From(new Authorization.Bearer(token))),
+            new RsHasStatus(RsStatus.FORBIDDEN)
+        );
+    }
+
+    @Test
+    void requiresToken() {
+        MatcherAssert.assertThat(
+            this.layer(Headers.EMPTY),
+            new RsHasStatus(RsStatus.UNAUTHORIZED)
+        );
+    }
+
+    @Test
+    void rejectsWrongCredentials() {
+        MatcherAssert.assertThat(
+            this.tokens.response(
+                new RequestLine(RqMethod.GET, "/token?scope=repository:test:pull").toString(),
+                new TestAuthentication.User("chuck", "letmein").headers(),
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.UNAUTHORIZED)
+        );
+    }
+
+    /**
+     * Get token from token endpoint.
+     *
+     * @param path Request path.
+     * @param headers Request headers.
+     * @return Token.
+     */
+    private String token(final String path, final Headers headers) {
+        final AtomicReference<String> body = new AtomicReference<>();
+        this.tokens.response(
+            new RequestLine(RqMethod.GET, path).toString(), headers, Flowable.empty()
+        ).send(
+            (status, hdrs, content) -> new PublisherAs(content).asciiString()
+                .thenAccept(body::set).toCompletableFuture()
+        ).toCompletableFuture().join();
+        return Json.createReader(new StringReader(body.get())).readObject().getString("token");
+    }
+
+    /**
+     * Get layer from registry.
+     *
+     * @param headers Request headers.
+     * @return Response.
+     */
+    private Response layer(final Headers headers) {
+        return this.registry.response(
+            new RequestLine(RqMethod.HEAD, TokenSliceTest.LAYER).toString(),
+            headers,
+            Flowable.empty()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Histogram}.
+ *
+ * @since 0.17
+ */
+final class HistogramTest {
+
+    @Test
+    void exportsCumulativeBuckets() {
+        final Histogram histogram = new Histogram(1_000_000L, 1_000_000_000L);
+        histogram.record(500_000L);
+        histogram.record(1_000_000L);
+        histogram.record(20_000_000L);
+        histogram.record(3_000_000_000L);
+        final StringBuilder out = new StringBuilder();
+        histogram.export("latency_seconds", "op=\"get\"", out);
+        MatcherAssert.assertThat(
+            out.toString(),
+            new IsEqual<>(
+                String.join(
+                    "\n",
+                    "latency_seconds_bucket{op=\"get\",le=\"0.001\"} 2",
+                    "latency_seconds_bucket{op=\"get\",le=\"1.0\"} 3",
+                    "latency_seconds_bucket{op=\"get\",le=\"+Inf\"} 4",
+                    "latency_seconds_sum{op=\"get\"} 3.0215",
+                    "latency_seconds_count{op=\"get\"} 4",
+                    ""
+                )
+            )
+        );
+    }
+
+    @Test
+    void countsRecordedDurations() {
+        final Histogram histogram = new Histogram();
+        histogram.record(1L);
+        histogram.record(Long.MAX_VALUE);
+        MatcherAssert.assertThat(histogram.count(), new IsEqual<>(2L));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.Repo;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Upload;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.TrustedBlobSource;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MeasuredDocker}.
+ *
+ * @since 0.17
+ */
+final class MeasuredDockerTest {
+
+    @Test
+    void countsUploadsInFlight() {
+        final Metrics metrics = new Metrics();
+        final Repo repo = new MeasuredDocker(new AstoDocker(new InMemoryStorage()), metrics)
+            .repo(new RepoName.Valid("test"));
+        final byte[] data = "blob".getBytes();
+        final Upload upload = repo.uploads().start().toCompletableFuture().join();
+        final Gauge flight = metrics.gauge("docker_uploads_in_flight", "");
+        MatcherAssert.assertThat(
+            "Counts started upload",
+            flight.value(),
+            new IsEqual<>(1L)
+        );
+        upload.append(new Content.From(data)).toCompletableFuture().join();
+        repo.uploads().get(upload.uuid()).toCompletableFuture().join().get()
+            .putTo(repo.layers(), new Digest.Sha256(data)).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Does not count completed upload",
+            flight.value(),
+            new IsEqual<>(0L)
+        );
+        MatcherAssert.assertThat(
+            "Records blob put to layers",
+            MeasuredDockerTest.count(metrics, "layers", "put", "ok"),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void doesNotCountFailedUpload() {
+        final Metrics metrics = new Metrics();
+        final Repo repo = new MeasuredDocker(new AstoDocker(new InMemoryStorage()), metrics)
+            .repo(new RepoName.Valid("test"));
+        final Upload upload = repo.uploads().start().toCompletableFuture().join();
+        upload.append(new Content.From("blob".getBytes())).toCompletableFuture().join();
+        Assertions.assertThrows(
+            CompletionException.class,
+            () -> upload.putTo(repo.layers(), new Digest.Sha256("other".getBytes()))
+                .toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            "Counts failed upload",
+            metrics.gauge("docker_uploads_in_flight", "").value(),
+            new IsEqual<>(0L)
+        );
+        MatcherAssert.assertThat(
+            "Records failed put",
+            MeasuredDockerTest.count(metrics, "upload", "put", "error"),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void recordsOperationResults() {
+        final Metrics metrics = new Metrics();
+        final Repo repo = new MeasuredDocker(new AstoDocker(new InMemoryStorage()), metrics)
+            .repo(new RepoName.Valid("test"));
+        final Digest digest = new Digest.Sha256("layer".getBytes());
+        repo.layers().get(digest).toCompletableFuture().join();
+        final Digest put = repo.layers()
+            .put(new TrustedBlobSource("layer".getBytes()))
+            .toCompletableFuture().join().digest();
+        final Optional<?> found = repo.layers().get(put).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Finds layer",
+            found.isPresent(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Records absent layer",
+            MeasuredDockerTest.count(metrics, "layers", "get", "absent"),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Records found layer",
+            MeasuredDockerTest.count(metrics, "layers", "get", "ok"),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Exports operations",
+            metrics.prometheus(),
+            new StringContains(
+                // @checkstyle LineLengthCheck (1 line)
+                "docker_operation_duration_seconds_count{component=\"layers\",operation=\"get\",result=\"absent\"} 1"
+            )
+        );
+    }
+
+    /**
+     * Number of recorded operations.
+     *
+     * @param metrics Metrics.
+     * @param component Component.
+     * @param operation Operation.
+     * @param result Result.
+     * @return Count.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static long count(final Metrics metrics, final String component,
+        final String operation, final String result) {
+        return metrics.histogram(
+            "docker_operation_duration_seconds", "",
+            "component", component, "operation", operation, "result", result
+        ).count();
+    }
+}
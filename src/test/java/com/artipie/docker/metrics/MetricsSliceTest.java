@@ -0,0 +1,48 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.AllOf;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MetricsSlice}.
+ *
+ * @since 0.17
+ */
+final class MetricsSliceTest {
+
+    @Test
+    void servesMetrics() {
+        final Metrics metrics = new Metrics();
+        metrics.gauge("docker_uploads_in_flight", "Uploads").inc();
+        final String text = metrics.prometheus();
+        MatcherAssert.assertThat(
+            new MetricsSlice(metrics),
+            new SliceHasResponse(
+                new AllOf<>(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasHeaders(
+                        new ContentType("text/plain; version=0.0.4; charset=utf-8"),
+                        new ContentLength(String.valueOf(text.length()))
+                    ),
+                    new RsHasBody(text, StandardCharsets.UTF_8)
+                ),
+                new RequestLine(RqMethod.GET, "/metrics")
+            )
+        );
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Metrics}.
+ *
+ * @since 0.17
+ */
+final class MetricsTest {
+
+    @Test
+    void exportsPrometheusText() {
+        final Metrics metrics = new Metrics();
+        metrics.counter("requests_total", "Requests", "method", "GET").add(3);
+        metrics.counter("requests_total", "Requests", "method", "PUT").inc();
+        metrics.gauge("in_flight", "In flight").inc();
+        MatcherAssert.assertThat(
+            metrics.prometheus(),
+            new IsEqual<>(
+                String.join(
+                    "\n",
+                    "# HELP in_flight In flight",
+                    "# TYPE in_flight gauge",
+                    "in_flight 1",
+                    "# HELP requests_total Requests",
+                    "# TYPE requests_total counter",
+                    "requests_total{method=\"GET\"} 3",
+                    "requests_total{method=\"PUT\"} 1",
+                    ""
+                )
+            )
+        );
+    }
+
+    @Test
+    void escapesLabelValues() {
+        final Metrics metrics = new Metrics();
+        metrics.counter("names_total", "Names", "name", "a\"b\\c\nd").inc();
+        MatcherAssert.assertThat(
+            metrics.prometheus().split("\n")[2],
+            new IsEqual<>("names_total{name=\"a\\\"b\\\\c\\nd\"} 1")
+        );
+    }
+
+    @Test
+    void returnsSameInstrument() {
+        final Metrics metrics = new Metrics();
+        MatcherAssert.assertThat(
+            metrics.gauge("uploads", "Uploads", "repo", "a"),
+            new IsSame<>(metrics.gauge("uploads", "Uploads", "repo", "a"))
+        );
+    }
+
+    @Test
+    void rejectsInstrumentOfOtherType() {
+        final Metrics metrics = new Metrics();
+        metrics.counter("events_total", "Events");
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> metrics.gauge("events_total", "Events")
+        );
+    }
+
+    @Test
+    void rejectsInvalidName() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Metrics().counter("bad-name", "Bad")
+        );
+    }
+}
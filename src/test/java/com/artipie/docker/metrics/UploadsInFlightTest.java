@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.metrics;
+
+import com.artipie.docker.fake.FakeClock;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link UploadsInFlight}.
+ *
+ * @since 0.17
+ */
+final class UploadsInFlightTest {
+
+    @Test
+    void countsUploadOnce() {
+        final Gauge gauge = new Gauge();
+        final UploadsInFlight uploads = new UploadsInFlight(gauge);
+        uploads.started("one");
+        uploads.started("two");
+        uploads.finished("one");
+        uploads.finished("one");
+        MatcherAssert.assertThat(
+            gauge.value(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void dropsAbandonedUploads() {
+        final Gauge gauge = new Gauge();
+        final FakeClock clock = new FakeClock();
+        final UploadsInFlight uploads = new UploadsInFlight(
+            gauge, Duration.ofHours(1), 10, clock
+        );
+        uploads.started("abandoned");
+        uploads.started("active");
+        clock.advance(Duration.ofMinutes(40));
+        uploads.active("active");
+        clock.advance(Duration.ofMinutes(40));
+        uploads.started("new");
+        MatcherAssert.assertThat(
+            "Counts abandoned upload",
+            gauge.value(),
+            new IsEqual<>(2L)
+        );
+        uploads.finished("abandoned");
+        MatcherAssert.assertThat(
+            "Uncounts abandoned upload twice",
+            gauge.value(),
+            new IsEqual<>(2L)
+        );
+    }
+
+    @Test
+    void dropsUploadsOverLimit() {
+        final Gauge gauge = new Gauge();
+        final UploadsInFlight uploads = new UploadsInFlight(
+            gauge, Duration.ofHours(1), 2, new FakeClock()
+        );
+        uploads.started("one");
+        uploads.started("two");
+        uploads.started("three");
+        MatcherAssert.assertThat(
+            gauge.value(),
+            new IsEqual<>(2L)
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.http.Headers;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link AcceptEncoding}.
+ *
+ * @since 0.17
+ */
+final class AcceptEncodingTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        value = {
+            "gzip|true",
+            "deflate, gzip|true",
+            "GZIP;q=0.5|true",
+            "*|true",
+            "gzip;q=0|false",
+            "deflate, br|false",
+            "identity|false"
+        }
+    )
+    void checksGzip(final String header, final boolean expected) {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(new Headers.From("Accept-Encoding", header)).accepts("gzip"),
+            new IsEqual<>(expected)
+        );
+    }
+
+    @Test
+    void doesNotAcceptWithoutHeader() {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(Headers.EMPTY).accepts("gzip"),
+            new IsEqual<>(false)
+        );
+    }
+}
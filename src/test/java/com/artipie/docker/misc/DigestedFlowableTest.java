@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DigestedFlowable}.
+ *
+ * @since 0.17
+ */
+final class DigestedFlowableTest {
+
+    /**
+     * SHA-256 of `abc`.
+     */
+    private static final String ABC =
+        "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @Test
+    void calculatesDigest() {
+        final DigestedFlowable digested = new DigestedFlowable(DigestedFlowableTest.abc());
+        digested.blockingSubscribe();
+        MatcherAssert.assertThat(digested.digest().hex(), new IsEqual<>(DigestedFlowableTest.ABC));
+    }
+
+    @Test
+    void hashesOnGivenExecutor() {
+        final ExecutorService exec = Executors.newSingleThreadExecutor(
+            task -> new Thread(task, "hashing")
+        );
+        try {
+            final DigestedFlowable digested = new DigestedFlowable(
+                DigestedFlowableTest.abc(), exec
+            );
+            MatcherAssert.assertThat(
+                "Bytes are passed from executor",
+                digested.map(buf -> Thread.currentThread().getName()).blockingLast(),
+                new IsEqual<>("hashing")
+            );
+            MatcherAssert.assertThat(
+                "Digest is calculated",
+                digested.digest().hex(),
+                new IsEqual<>(DigestedFlowableTest.ABC)
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    /**
+     * Publisher of `abc` in two buffers.
+     *
+     * @return Publisher.
+     */
+    private static Flowable<ByteBuffer> abc() {
+        return Flowable.just(
+            ByteBuffer.wrap("a".getBytes(StandardCharsets.US_ASCII)),
+            ByteBuffer.wrap("bc".getBytes(StandardCharsets.US_ASCII))
+        );
+    }
+}
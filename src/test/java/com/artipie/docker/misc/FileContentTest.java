@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.ext.PublisherAs;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link FileContent}.
+ *
+ * @since 0.17
+ */
+final class FileContentTest {
+
+    @Test
+    void readsFile(final @TempDir Path dir) throws IOException {
+        final byte[] data = new byte[200 * 1024];
+        new Random().nextBytes(data);
+        final Path file = dir.resolve("file");
+        Files.write(file, data);
+        MatcherAssert.assertThat(
+            new PublisherAs(new FileContent(file)).bytes().toCompletableFuture().join(),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void hasSize(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("sized");
+        Files.write(file, "12345".getBytes());
+        MatcherAssert.assertThat(
+            new FileContent(file).size(),
+            new IsEqual<>(Optional.of(5L))
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link FileMapping}.
+ *
+ * @since 0.17
+ */
+final class FileMappingTest {
+
+    @Test
+    void readsMappedFile(final @TempDir Path dir) throws IOException {
+        final byte[] data = new byte[3 * 1024 * 1024 + 7];
+        new Random().nextBytes(data);
+        final Path file = dir.resolve("mapped");
+        Files.write(file, data);
+        MatcherAssert.assertThat(
+            new PublisherAs(new FileMapping(file).content().toCompletableFuture().join())
+                .bytes().toCompletableFuture().join(),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void readsMappingTwice(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("twice");
+        Files.write(file, "twice".getBytes());
+        final Content content = new FileMapping(file).content().toCompletableFuture().join();
+        new PublisherAs(content).bytes().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(content).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("twice")
+        );
+    }
+
+    @Test
+    void hasSize(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("sized");
+        Files.write(file, "123".getBytes());
+        MatcherAssert.assertThat(
+            new FileMapping(file).content().toCompletableFuture().join().size(),
+            new IsEqual<>(Optional.of(3L))
+        );
+    }
+
+    @Test
+    void readsEmptyFile(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("empty");
+        Files.write(file, new byte[0]);
+        MatcherAssert.assertThat(
+            new PublisherAs(new FileMapping(file).content().toCompletableFuture().join())
+                .bytes().toCompletableFuture().join().length,
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void mapsFileNotSmallerThanThreshold(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("large");
+        Files.write(file, "large".getBytes());
+        MatcherAssert.assertThat(
+            new FileMapping(file).content(5).toCompletableFuture().join()
+                .flatMap(Content::size),
+            new IsEqual<>(Optional.of(5L))
+        );
+    }
+
+    @Test
+    void skipsFileSmallerThanThreshold(final @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("small");
+        Files.write(file, "small".getBytes());
+        MatcherAssert.assertThat(
+            new FileMapping(file).content(6).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void skipsAbsentFile(final @TempDir Path dir) {
+        MatcherAssert.assertThat(
+            new FileMapping(dir.resolve("absent")).content(0).toCompletableFuture().join()
+                .isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GzipContent}.
+ *
+ * @since 0.17
+ */
+final class GzipContentTest {
+
+    @Test
+    void compressesChunkedContent() throws IOException {
+        final byte[] data = new byte[100_000];
+        new Random(0).nextBytes(data);
+        MatcherAssert.assertThat(
+            GzipContentTest.gunzip(
+                new PublisherAs(
+                    new GzipContent(
+                        Flowable.range(0, 10).map(
+                            idx -> ByteBuffer.wrap(data, idx * 10_000, 10_000)
+                        )
+                    )
+                ).bytes().toCompletableFuture().join()
+            ),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void compressesEmptyContent() throws IOException {
+        MatcherAssert.assertThat(
+            GzipContentTest.gunzip(
+                new PublisherAs(new GzipContent(Content.EMPTY))
+                    .bytes().toCompletableFuture().join()
+            ),
+            new IsEqual<>(new byte[0])
+        );
+    }
+
+    @Test
+    void canBeSubscribedTwice() throws IOException {
+        final GzipContent content = new GzipContent(new Content.From("[\"a\",\"b\"]".getBytes()));
+        new PublisherAs(content).bytes().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new String(
+                GzipContentTest.gunzip(
+                    new PublisherAs(content).bytes().toCompletableFuture().join()
+                )
+            ),
+            new IsEqual<>("[\"a\",\"b\"]")
+        );
+    }
+
+    /**
+     * Decompress gzip data.
+     *
+     * @param gzip Compressed data.
+     * @return Uncompressed data.
+     * @throws IOException If data is not valid gzip.
+     */
+    private static byte[] gunzip(final byte[] gzip) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            final byte[] buf = new byte[1024];
+            int len = in.read(buf);
+            while (len >= 0) {
+                out.write(buf, 0, len);
+                len = in.read(buf);
+            }
+        }
+        return out.toByteArray();
+    }
+}
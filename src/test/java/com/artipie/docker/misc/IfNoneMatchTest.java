@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link IfNoneMatch}.
+ *
+ * @since 0.17
+ */
+final class IfNoneMatchTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        value = {
+            "\"abc\"|abc|true",
+            "W/\"abc\"|abc|true",
+            "\"xyz\", \"abc\"|abc|true",
+            "*|abc|true",
+            "\"xyz\"|abc|false",
+            "abc|abc|false"
+        }
+    )
+    void matches(final String header, final String etag, final boolean expected) {
+        MatcherAssert.assertThat(
+            new IfNoneMatch(new Headers.From(new Header("If-None-Match", header))).matches(etag),
+            new IsEqual<>(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        value = {
+            "\"abc\"|abc|true",
+            "W/\"abc\"|abc|true",
+            "*|abc|false",
+            "\"xyz\", *|abc|false"
+        }
+    )
+    void lists(final String header, final String etag, final boolean expected) {
+        MatcherAssert.assertThat(
+            new IfNoneMatch(new Headers.From(new Header("If-None-Match", header))).lists(etag),
+            new IsEqual<>(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource("abc")
+    void doesNotMatchWithoutHeader(final String etag) {
+        MatcherAssert.assertThat(
+            new IfNoneMatch(Headers.EMPTY).matches(etag),
+            new IsEqual<>(false)
+        );
+    }
+}
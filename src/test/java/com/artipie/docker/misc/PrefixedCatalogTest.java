@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link PrefixedCatalog}.
+ *
+ * @since 0.17
+ */
+class PrefixedCatalogTest {
+
+    @Test
+    void addsPrefixToNames() {
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new PrefixedCatalog(
+                    () -> new Content.From(
+                        "{\"repositories\":[\"one\",\"two/three\"]}".getBytes()
+                    ),
+                    "my/registry"
+                ).json()
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("{\"repositories\":[\"my/registry/one\",\"my/registry/two/three\"]}")
+        );
+    }
+
+    @Test
+    void keepsOtherFields() {
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new PrefixedCatalog(
+                    () -> new Content.From(
+                        "{\"repositories\":[],\"other\":[\"x\",1,true,null]}".getBytes()
+                    ),
+                    "pre"
+                ).json()
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("{\"repositories\":[],\"other\":[\"x\",1,true,null]}")
+        );
+    }
+
+    @Test
+    void rewritesNamesSplitAcrossChunks() {
+        final String json = "{\"other\":{\"repositories\":[\"x\"]},\"repositories\":[\"a\\\"\",\"b\"]}";
+        final byte[] bytes = json.getBytes();
+        final List<ByteBuffer> chunks = new ArrayList<>(bytes.length);
+        for (final byte single : bytes) {
+            chunks.add(ByteBuffer.wrap(new byte[]{single}));
+        }
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new PrefixedCatalog(
+                    () -> new Content.From(Flowable.fromIterable(chunks)),
+                    "pre"
+                ).json()
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>(
+                "{\"other\":{\"repositories\":[\"x\"]},\"repositories\":[\"pre/a\\\"\",\"pre/b\"]}"
+            )
+        );
+    }
+}
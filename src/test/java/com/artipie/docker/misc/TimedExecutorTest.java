@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.Queue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimedExecutor}.
+ *
+ * @since 0.17
+ */
+final class TimedExecutorTest {
+
+    @Test
+    void countsQueuedTasks() {
+        final Queue<Runnable> queue = new LinkedList<>();
+        final TimedExecutor executor = new TimedExecutor(queue::add);
+        executor.execute(() -> { });
+        executor.execute(() -> { });
+        queue.poll().run();
+        MatcherAssert.assertThat(
+            "Submitted",
+            executor.submitted(),
+            new IsEqual<>(2L)
+        );
+        MatcherAssert.assertThat(
+            "Completed",
+            executor.completed(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void measuresQueueAndRunTime() throws Exception {
+        final Queue<Runnable> queue = new LinkedList<>();
+        final TimedExecutor executor = new TimedExecutor(queue::add);
+        final long pause = 20;
+        executor.execute(() -> TimedExecutorTest.sleep(pause));
+        Thread.sleep(pause);
+        queue.poll().run();
+        MatcherAssert.assertThat(
+            "Queue time",
+            executor.queueTime(),
+            Matchers.greaterThanOrEqualTo(Duration.ofMillis(pause))
+        );
+        MatcherAssert.assertThat(
+            "Run time",
+            executor.runTime(),
+            Matchers.greaterThanOrEqualTo(Duration.ofMillis(pause))
+        );
+    }
+
+    @Test
+    void countsFailedTask() {
+        final TimedExecutor executor = new TimedExecutor(Runnable::run);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> executor.execute(
+                () -> {
+                    throw new IllegalStateException("failed");
+                }
+            )
+        );
+        MatcherAssert.assertThat(executor.completed(), new IsEqual<>(1L));
+    }
+
+    /**
+     * Sleep ignoring interruption.
+     *
+     * @param millis Milliseconds to sleep.
+     */
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
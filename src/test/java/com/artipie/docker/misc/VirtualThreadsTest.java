@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.misc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link VirtualThreads}.
+ *
+ * @since 0.17
+ */
+final class VirtualThreadsTest {
+
+    @Test
+    void runsTask() throws Exception {
+        final CompletableFuture<Boolean> ran = new CompletableFuture<>();
+        new VirtualThreads().execute(() -> ran.complete(true));
+        MatcherAssert.assertThat(ran.get(1, TimeUnit.SECONDS), new IsEqual<>(true));
+    }
+
+    @Test
+    void fallsBackWhenNotSupported() {
+        final AtomicInteger fallen = new AtomicInteger();
+        final VirtualThreads threads = new VirtualThreads(
+            task -> {
+                fallen.incrementAndGet();
+                task.run();
+            }
+        );
+        threads.execute(() -> { });
+        final int expected;
+        if (threads.supported()) {
+            expected = 0;
+        } else {
+            expected = 1;
+        }
+        MatcherAssert.assertThat(fallen.get(), new IsEqual<>(expected));
+    }
+}
@@ -7,15 +7,23 @@ package com.artipie.docker.proxy;
 import com.artipie.docker.Blob;
 import com.artipie.docker.Digest;
 import com.artipie.docker.RepoName;
+import com.artipie.docker.fake.Conditions;
+import com.artipie.docker.fake.Latency;
+import com.artipie.docker.fake.SlowSlice;
 import com.artipie.http.Headers;
 import com.artipie.http.headers.ContentLength;
 import com.artipie.http.rs.RsFull;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import io.reactivex.Flowable;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -69,4 +77,46 @@ class ProxyLayersTest {
         ).get(new Digest.FromString(digest)).toCompletableFuture().join();
         MatcherAssert.assertThat(found.isPresent(), new IsEqual<>(false));
     }
+
+    @Test
+    void shouldFailWhenUpstreamTimesOut() {
+        final CompletionException err = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new ProxyLayers(
+                new SlowSlice(
+                    (line, headers, body) -> new RsWithStatus(RsStatus.NOT_FOUND),
+                    new Conditions(
+                        new Latency.Fixed(Duration.ofMinutes(1)), 0,
+                        Duration.ofMillis(50), 0, 0
+                    )
+                ),
+                new RepoName.Valid("slow")
+            ).get(new Digest.FromString("sha256:123")).toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            err.getCause(),
+            new IsInstanceOf(TimeoutException.class)
+        );
+    }
+
+    @Test
+    void shouldFailWhenUpstreamIsUnavailable() {
+        final CompletionException err = Assertions.assertThrows(
+            CompletionException.class,
+            () -> new ProxyLayers(
+                new SlowSlice(
+                    (line, headers, body) -> new RsWithStatus(RsStatus.NOT_FOUND),
+                    new Conditions(
+                        new Latency.Uniform(Duration.ZERO, Duration.ofMillis(10)), 0,
+                        Duration.ZERO, 1, 0
+                    )
+                ),
+                new RepoName.Valid("faulty")
+            ).get(new Digest.FromString("sha256:123")).toCompletableFuture().join()
+        );
+        MatcherAssert.assertThat(
+            err.getCause(),
+            new IsInstanceOf(IllegalArgumentException.class)
+        );
+    }
 }
@@ -61,6 +61,12 @@ public final class ManifestRefTest {
         );
     }
 
+    @Test
+    void buildsLinkOnce() {
+        final ManifestRef ref = new ManifestRef.FromString("latest");
+        MatcherAssert.assertThat(ref.link(), Matchers.sameInstance(ref.link()));
+    }
+
     @Test
     void resolvesDigestLink() {
         MatcherAssert.assertThat(
@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.spool;
+
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.http.DockerSlice;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link SpoolDocker}.
+ *
+ * @since 0.17
+ */
+final class SpoolDockerTest {
+
+    @Test
+    void createsSpoolUploads(final @TempDir Path dir) {
+        MatcherAssert.assertThat(
+            new SpoolDocker(new AstoDocker(new InMemoryStorage()), dir)
+                .repo(new RepoName.Simple("test")).uploads(),
+            new IsInstanceOf(SpoolUploads.class)
+        );
+    }
+
+    @Test
+    void startsUploadViaHttp(final @TempDir Path dir) {
+        MatcherAssert.assertThat(
+            new DockerSlice(new SpoolDocker(new AstoDocker(new InMemoryStorage()), dir)).response(
+                new RequestLine(RqMethod.POST, "/v2/test/blobs/uploads/").toString(),
+                Headers.EMPTY,
+                Flowable.empty()
+            ),
+            new RsHasStatus(RsStatus.ACCEPTED)
+        );
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/docker-adapter/LICENSE.txt
+ */
+package com.artipie.docker.spool;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.docker.Digest;
+import com.artipie.docker.Layers;
+import com.artipie.docker.RepoName;
+import com.artipie.docker.Upload;
+import com.artipie.docker.Uploads;
+import com.artipie.docker.asto.AstoDocker;
+import com.artipie.docker.asto.UploadSessions;
+import com.artipie.docker.error.InvalidDigestException;
+import io.reactivex.processors.UnicastProcessor;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link SpoolUpload}.
+ *
+ * @since 0.17
+ */
+final class SpoolUploadTest {
+
+    /**
+     * Spool directory.
+     */
+    private Path dir;
+
+    /**
+     * Target layers.
+     */
+    private Layers layers;
+
+    @BeforeEach
+    void setUp(final @TempDir Path tmp) {
+        this.dir = tmp;
+        this.layers = new AstoDocker(new InMemoryStorage())
+            .repo(new RepoName.Simple("test")).layers();
+    }
+
+    @Test
+    void appendsChunksToLocalFile() {
+        final Upload upload = this.started();
+        upload.append(new Content.From("abc".getBytes())).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            upload.append(new Content.From("def".getBytes())).toCompletableFuture().join(),
+            new IsEqual<>(5L)
+        );
+    }
+
+    @Test
+    void shipsBlobOnCommit() {
+        final Upload upload = this.started();
+        upload.append(new Content.From("hello ".getBytes())).toCompletableFuture().join();
+        upload.append(new Content.From("world".getBytes())).toCompletableFuture().join();
+        final Digest digest = new Digest.Sha256("hello world".getBytes());
+        upload.putTo(this.layers, digest).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Blob is saved",
+            this.layers.get(digest).toCompletableFuture().join().get().content()
+                .thenApply(PublisherAs::new)
+                .thenCompose(PublisherAs::asciiString)
+                .toCompletableFuture().join(),
+            new IsEqual<>("hello world")
+        );
+        MatcherAssert.assertThat(
+            "Spooled data is removed",
+            Files.exists(this.dir.resolve("test").resolve(upload.uuid())),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void hashesFileWhenRunningDigestIsUnknown() {
+        final Upload upload = this.started();
+        upload.append(new Content.From("data".getBytes())).toCompletableFuture().join();
+        final Digest digest = new Digest.Sha256("data".getBytes());
+        this.uploads()
+            .get(upload.uuid()).toCompletableFuture().join().get()
+            .putTo(this.layers, digest).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.layers.get(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void failsOnDigestMismatch() {
+        final Upload upload = this.started();
+        upload.append(new Content.From("one".getBytes())).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                CompletionException.class,
+                () -> upload.putTo(this.layers, new Digest.Sha256("two".getBytes()))
+                    .toCompletableFuture().join()
+            ).getCause(),
+            new IsInstanceOf(InvalidDigestException.class)
+        );
+    }
+
+    @Test
+    void doesNotFindUnknownUpload() {
+        MatcherAssert.assertThat(
+            this.uploads()
+                .get("..").toCompletableFuture().join().isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void appendsConcurrentChunksOneAfterAnother() {
+        final Upload upload = this.started();
+        final UnicastProcessor<ByteBuffer> slow = UnicastProcessor.create();
+        final CompletableFuture<Long> first = upload.append(new Content.From(slow))
+            .toCompletableFuture();
+        final CompletableFuture<Long> second = upload.append(
+            new Content.From("def".getBytes())
+        ).toCompletableFuture();
+        slow.onNext(ByteBuffer.wrap("abc".getBytes()));
+        slow.onComplete();
+        MatcherAssert.assertThat(
+            "Wrong offsets",
+            Arrays.asList(first.join(), second.join()),
+            Matchers.contains(2L, 5L)
+        );
+        final Digest digest = new Digest.Sha256("abcdef".getBytes());
+        upload.putTo(this.layers, digest).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Blob is not saved",
+            this.layers.get(digest).toCompletableFuture().join().isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    /**
+     * Start new upload.
+     *
+     * @return Started upload.
+     */
+    private Upload started() {
+        return this.uploads().start().toCompletableFuture().join();
+    }
+
+    /**
+     * Create uploads without known running digests.
+     *
+     * @return Uploads.
+     */
+    private Uploads uploads() {
+        return new SpoolUploads(
+            this.dir, new RepoName.Simple("test"), new ConcurrentHashMap<>(),
+            new UploadSessions()
+        );
+    }
+}